@@ -0,0 +1,60 @@
+package com.flab.sooldama.benchmark;
+
+import com.flab.sooldama.SoolDamAApplication;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/*
+벤치마크에서 사용할 스프링 컨텍스트를 띄웁니다.
+기본 설정(application.yml)의 H2 와 schema.sql/data.sql 을 그대로 사용하고, 웹 서버와 Redis 2차 캐시는 띄우지 않습니다.
+productCount 가 data.sql 의 제품 수보다 많으면 ProductDataGenerator 로 나머지 제품을 채웁니다.
+properties 로 벤치마크마다 필요한 설정을 덮어쓸 수 있습니다.
+설정은 명령행 인자(--key=value)로 넘깁니다. SpringApplicationBuilder.properties 는 기본값으로만 쓰여서 application.yml 의 값을 덮어쓰지 못합니다.
+HTTP 요청까지 측정할 때는 startServer 로 임의의 포트에 Tomcat 을 띄우고, 세션은 서버 메모리에 둡니다.
+ */
+public final class BenchmarkApplication {
+
+	private BenchmarkApplication() {
+	}
+
+	public static ConfigurableApplicationContext start(int productCount, String... properties) {
+		return start(WebApplicationType.NONE, productCount, properties);
+	}
+
+	public static ConfigurableApplicationContext startServer(int productCount,
+		String... properties) {
+		return start(WebApplicationType.SERVLET, productCount, properties);
+	}
+
+	/*
+	startServer 로 띄운 Tomcat 의 포트입니다.
+	 */
+	public static int port(ConfigurableApplicationContext context) {
+		return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+	}
+
+	private static ConfigurableApplicationContext start(WebApplicationType webApplicationType,
+		int productCount, String... properties) {
+		String[] args = Stream.concat(
+				Stream.of(
+					"product.cache.redis.enabled=false",
+					"spring.h2.console.enabled=false",
+					"logging.level.root=WARN",
+					"server.port=0",
+					"spring.session.store-type=none"),
+				Stream.of(properties))
+			.map(property -> "--" + property)
+			.toArray(String[]::new);
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(
+			SoolDamAApplication.class)
+			.web(webApplicationType)
+			.run(args);
+
+		ProductDataGenerator.fill(context.getBean(DataSource.class), productCount);
+
+		return context;
+	}
+}
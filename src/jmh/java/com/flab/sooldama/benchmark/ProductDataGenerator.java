@@ -0,0 +1,71 @@
+package com.flab.sooldama.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/*
+벤치마크용 제품을 product 테이블에 채웁니다.
+한 행씩 INSERT 하면 100만 건을 넣는 데 너무 오래 걸리므로 CHUNK_SIZE 건씩 JDBC 배치로 넣습니다.
+제품 이름은 UNIQUE 이므로 번호를 붙여 만들고, 카테고리는 data.sql 의 카테고리 4개에 번갈아 배정합니다.
+
+H2 가 아닌 DB(예: MySQL)에 채우려면 다음과 같이 실행합니다.
+java -cp <jmh jar> com.flab.sooldama.benchmark.ProductDataGenerator <jdbc url> <username> <password> <제품 수>
+ */
+public final class ProductDataGenerator {
+
+	public static final int DEFAULT_PRODUCT_COUNT = 1_000_000;
+
+	private static final int CHUNK_SIZE = 10_000;
+
+	private static final int CATEGORY_COUNT = 4;
+
+	private static final String INSERT_PRODUCT = "INSERT INTO `product` "
+		+ "(`product_category_id`, `name`, `price`, `image_url`, `description`, `abv`, `capacity`) "
+		+ "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+	private ProductDataGenerator() {
+	}
+
+	public static void main(String[] args) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(args[0], args[1], args[2]);
+		int productCount = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_PRODUCT_COUNT;
+
+		fill(dataSource, productCount);
+	}
+
+	/*
+	이미 productCount 개 이상의 제품이 있으면 아무것도 하지 않습니다.
+	 */
+	public static void fill(DataSource dataSource, int productCount) {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `product`",
+			Integer.class);
+
+		int next = existing == null ? 0 : existing;
+		while (next < productCount) {
+			int chunkEnd = Math.min(next + CHUNK_SIZE, productCount);
+			jdbcTemplate.batchUpdate(INSERT_PRODUCT, chunk(next, chunkEnd));
+			next = chunkEnd;
+		}
+	}
+
+	private static List<Object[]> chunk(int from, int to) {
+		List<Object[]> rows = new ArrayList<>(to - from);
+		for (int i = from; i < to; i++) {
+			rows.add(new Object[]{
+				(long) (i % CATEGORY_COUNT + 1),
+				"벤치마크 막걸리 " + i,
+				1000 + (i % 100) * 500,
+				"https://www.sooldamhwa.com/images/common/mainLogo.png",
+				"벤치마크용으로 생성한 " + i + "번째 제품",
+				(double) (i % 20),
+				375 + (i % 4) * 125
+			});
+		}
+
+		return rows;
+	}
+}
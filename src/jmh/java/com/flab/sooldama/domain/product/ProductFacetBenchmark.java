@@ -0,0 +1,84 @@
+package com.flab.sooldama.domain.product;
+
+import com.flab.sooldama.domain.product.domain.Product;
+import com.flab.sooldama.domain.product.facet.Facet;
+import com.flab.sooldama.domain.product.facet.FacetQuery;
+import com.flab.sooldama.domain.product.facet.FacetRange;
+import com.flab.sooldama.domain.product.facet.FacetResult;
+import com.flab.sooldama.domain.product.facet.ProductFacetIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ProductDataGenerator 와 같은 값으로 만든 제품 productCount 개를 패싯 색인에 넣은 뒤,
+"카테고리 1, 도수 6~8, 10,000원 이하" 조건으로 제품 20개와 패싯별 제품 수를 구하는 시간을 측정합니다.
+linearScan 은 같은 조건을 모든 제품과 비교해 개수를 세는 경우로, 비트맵을 사용했을 때와 비교하기 위한 기준입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProductFacetBenchmark {
+
+	private static final int LIMIT = 20;
+
+	@Param({"1000000"})
+	private int productCount;
+
+	private ProductFacetIndex index;
+
+	private List<Product> products;
+
+	private FacetQuery query;
+
+	@Setup
+	public void setUp() {
+		this.index = new ProductFacetIndex();
+		this.products = new ArrayList<>(productCount);
+		for (int i = 0; i < productCount; i++) {
+			Product product = Product.builder()
+				.id((long) i + 1)
+				.productCategoryId((long) (i % 4 + 1))
+				.name("벤치마크 막걸리 " + i)
+				.price(1000 + (i % 100) * 500)
+				.abv((double) (i % 20))
+				.capacity(375 + (i % 4) * 125)
+				.build();
+			products.add(product);
+			index.index(product);
+		}
+
+		this.query = new FacetQuery(1L)
+			.with(Facet.ABV, FacetRange.of(6, 8))
+			.with(Facet.PRICE, FacetRange.of(null, 10000));
+	}
+
+	@Benchmark
+	public FacetResult bitmapIndex() {
+		return index.filter(query, null, LIMIT);
+	}
+
+	@Benchmark
+	public int linearScan() {
+		int matched = 0;
+		for (Product product : products) {
+			if (product.getProductCategoryId() == 1L
+				&& product.getAbv() >= 6 && product.getAbv() <= 8
+				&& product.getPrice() <= 10000) {
+				matched++;
+			}
+		}
+
+		return matched;
+	}
+}
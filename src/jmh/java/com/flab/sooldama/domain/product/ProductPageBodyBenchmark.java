@@ -0,0 +1,92 @@
+package com.flab.sooldama.domain.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flab.sooldama.domain.product.cache.ProductCacheProperties;
+import com.flab.sooldama.domain.product.cache.ProductPageBody;
+import com.flab.sooldama.domain.product.cache.ProductPageBodyCache;
+import com.flab.sooldama.domain.product.dto.response.ProductPageResponse;
+import com.flab.sooldama.domain.product.dto.response.ProductResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+제품 한 페이지(20개) 응답을 출력 스트림에 쓰는 비용을 측정합니다.
+- jackson: 요청마다 ProductPageResponse 를 Jackson 으로 직렬화하는 경우(MappingJackson2HttpMessageConverter 와 같습니다)
+- cachedBody: ProductPageBodyCache 에서 직렬화해 둔 바이트를 꺼내 그대로 쓰는 경우
+
+요청 하나에 할당하는 양은 gc 프로파일러의 gc.alloc.rate.norm(byte/op)으로 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductPageBodyBenchmark {
+
+	private static final int PAGE_SIZE = 20;
+
+	private static final String KEY = "products:0:1:offset:0:20:snapshot:0";
+
+	// 응답을 쓰는 비용만 남기기 위해 받은 바이트를 버리는 출력 스트림입니다.
+	private static final OutputStream DISCARD = new OutputStream() {
+		@Override
+		public void write(int b) {
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+		}
+	};
+
+	private ObjectMapper objectMapper;
+
+	private ProductPageResponse pageResponse;
+
+	private ProductPageBodyCache bodyCache;
+
+	@Setup
+	public void setUp() {
+		List<ProductResponse> products = new ArrayList<>(PAGE_SIZE);
+		for (long id = 1; id <= PAGE_SIZE; id++) {
+			products.add(ProductResponse.builder()
+				.id(id)
+				.productCategoryId(1L)
+				.name("백련 미스티 살균 막걸리 " + id)
+				.price(4500)
+				.imageUrl("https://www.sooldamhwa.com/images/common/mainLogo.png")
+				.description("연꽃이 들어간 살균 막걸리")
+				.abv(7.0)
+				.capacity(375)
+				.build());
+		}
+
+		this.objectMapper = new ObjectMapper();
+		this.pageResponse = ProductPageResponse.builder()
+			.products(products)
+			.limit(PAGE_SIZE)
+			.hasNext(true)
+			.nextOffset(PAGE_SIZE)
+			.build();
+		this.bodyCache = new ProductPageBodyCache(objectMapper, new ProductCacheProperties());
+		this.bodyCache.get(KEY, () -> pageResponse);
+	}
+
+	@Benchmark
+	public void jackson() throws IOException {
+		objectMapper.writeValue(DISCARD, pageResponse);
+	}
+
+	@Benchmark
+	public void cachedBody() throws IOException {
+		ProductPageBody body = bodyCache.get(KEY, () -> pageResponse);
+		DISCARD.write(body.getJson());
+	}
+}
@@ -0,0 +1,100 @@
+package com.flab.sooldama.domain.product;
+
+import com.flab.sooldama.benchmark.BenchmarkApplication;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/*
+제품 목록 조회(GET /products) 요청 concurrency 개를 동시에 보내고 모두 응답받는 데 걸리는 시간을 측정합니다.
+- blocking: ProductApi 가 Tomcat 워커에서 조회합니다.
+- async: AsyncProductApi 가 조회를 조회 전용 스레드 풀에 맡기고 Tomcat 워커를 바로 반환합니다.
+
+offset 을 무작위로 골라 대부분 캐시에 없는 페이지를 DB 에서 조회하게 하고, Tomcat 워커 수를 동시 요청 수보다 적게 제한합니다.
+조회 대기열은 동시 요청 수만큼 늘려서 503 없이 모든 요청을 처리하게 합니다.
+H2 는 같은 프로세스에서 실행되어 네트워크 대기가 없으므로, 실제 차이는 MySQL 을 사용할 때 더 크게 나타납니다.
+예) ./gradlew jmh -PjmhIncludes=ProductReadBenchmark -Dspring.datasource.url=jdbc:mysql://...
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProductReadBenchmark {
+
+	private static final int LIMIT = 20;
+
+	@Param({"blocking", "async"})
+	private String readMode;
+
+	@Param({"100000"})
+	private int productCount;
+
+	@Param({"500"})
+	private int concurrency;
+
+	@Param({"50"})
+	private int tomcatThreads;
+
+	private ConfigurableApplicationContext context;
+
+	private HttpClient httpClient;
+
+	private String baseUrl;
+
+	@Setup
+	public void setUp() {
+		this.context = BenchmarkApplication.startServer(productCount,
+			"product.read.mode=" + readMode,
+			"product.read.queue-capacity=" + concurrency,
+			"server.tomcat.threads.max=" + tomcatThreads,
+			"admission.enabled=false");
+		this.httpClient = HttpClient.newHttpClient();
+		this.baseUrl = "http://localhost:" + BenchmarkApplication.port(context) + "/products";
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public int getProducts() {
+		List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(concurrency);
+
+		for (int i = 0; i < concurrency; i++) {
+			int offset = ThreadLocalRandom.current().nextInt(productCount - LIMIT);
+			HttpRequest request = HttpRequest.newBuilder(
+					URI.create(baseUrl + "?offset=" + offset + "&limit=" + LIMIT))
+				.GET()
+				.build();
+			responses.add(httpClient.sendAsync(request, BodyHandlers.ofString()));
+		}
+
+		int bytes = 0;
+		for (CompletableFuture<HttpResponse<String>> response : responses) {
+			HttpResponse<String> result = response.join();
+			if (result.statusCode() != 200) {
+				throw new IllegalStateException("제품 조회 실패: " + result.statusCode());
+			}
+			bytes += result.body().length();
+		}
+
+		return bytes;
+	}
+}
@@ -0,0 +1,54 @@
+package com.flab.sooldama.domain.product;
+
+import com.flab.sooldama.domain.product.domain.Product;
+import com.flab.sooldama.domain.product.dto.response.ProductResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+제품 한 페이지(20개)를 응답 DTO 로 변환하는 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductResponseBenchmark {
+
+	private static final int PAGE_SIZE = 20;
+
+	private List<Product> products;
+
+	@Setup
+	public void setUp() {
+		this.products = new ArrayList<>(PAGE_SIZE);
+		for (long id = 1; id <= PAGE_SIZE; id++) {
+			products.add(Product.builder()
+				.id(id)
+				.productCategoryId(1L)
+				.name("백련 미스티 살균 막걸리 " + id)
+				.price(4500)
+				.imageUrl("https://www.sooldamhwa.com/images/common/mainLogo.png")
+				.description("연꽃이 들어간 살균 막걸리")
+				.abv(7.0)
+				.capacity(375)
+				.build());
+		}
+	}
+
+	@Benchmark
+	public List<ProductResponse> productResponseOf() {
+		List<ProductResponse> responses = new ArrayList<>(PAGE_SIZE);
+		for (Product product : products) {
+			responses.add(ProductResponse.of(product));
+		}
+
+		return responses;
+	}
+}
@@ -0,0 +1,95 @@
+package com.flab.sooldama.domain.product;
+
+import com.flab.sooldama.domain.product.domain.Product;
+import com.flab.sooldama.domain.product.search.ProductSearchIndex;
+import com.flab.sooldama.domain.product.search.SearchHit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ProductDataGenerator 와 같은 이름과 설명으로 만든 제품 productCount 개를 색인한 뒤 검색 시간을 측정합니다.
+linearScan 은 LIKE '%검색어%' 처럼 모든 제품의 이름과 설명을 훑는 경우로, 색인을 사용했을 때와 비교하기 위한 기준입니다.
+linearScan 은 점수를 매기지 않고 limit 개를 찾으면 멈추므로, 흔한 검색어에서는 색인보다 빠르게 나올 수 있습니다.
+
+- 막걸리: 모든 제품에 들어 있는 검색어라 모든 문서의 점수를 계산하는 가장 나쁜 경우입니다.
+- 막걸리 12345: 흔한 조각과 드문 조각이 섞인 경우로, 짧은 posting list 기준으로 교집합을 찾습니다.
+- 999999번째: 제품 하나에만 들어 있는 검색어입니다.
+
+색인을 만드는 데 힙을 많이 사용하므로 -Xmx4g 로 실행합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProductSearchBenchmark {
+
+	private static final int LIMIT = 20;
+
+	@Param({"1000000"})
+	private int productCount;
+
+	@Param({"막걸리", "막걸리 12345", "999999번째"})
+	private String query;
+
+	private ProductSearchIndex index;
+
+	private List<Product> products;
+
+	@Setup
+	public void setUp() {
+		this.index = new ProductSearchIndex();
+		this.products = new ArrayList<>(productCount);
+		for (int i = 0; i < productCount; i++) {
+			Product product = Product.builder()
+				.id((long) i + 1)
+				.productCategoryId((long) (i % 4 + 1))
+				.name("벤치마크 막걸리 " + i)
+				.price(1000 + (i % 100) * 500)
+				.description("벤치마크용으로 생성한 " + i + "번째 제품")
+				.build();
+			products.add(product);
+			index.index(product);
+		}
+	}
+
+	@Benchmark
+	public List<SearchHit> invertedIndex() {
+		return index.search(query, LIMIT);
+	}
+
+	@Benchmark
+	public List<Long> linearScan() {
+		String[] words = query.split(" ");
+		List<Long> productIds = new ArrayList<>(LIMIT);
+		for (Product product : products) {
+			if (containsAll(product, words)) {
+				productIds.add(product.getId());
+				if (productIds.size() == LIMIT) {
+					break;
+				}
+			}
+		}
+
+		return productIds;
+	}
+
+	private static boolean containsAll(Product product, String[] words) {
+		for (String word : words) {
+			if (!product.getName().contains(word) && !product.getDescription().contains(word)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,73 @@
+package com.flab.sooldama.domain.product;
+
+import com.flab.sooldama.benchmark.BenchmarkApplication;
+import com.flab.sooldama.benchmark.ProductDataGenerator;
+import com.flab.sooldama.domain.product.cache.ProductPageBody;
+import com.flab.sooldama.domain.product.dao.ProductMapper;
+import com.flab.sooldama.domain.product.domain.Product;
+import com.flab.sooldama.domain.product.service.ProductService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/*
+제품 목록 조회 경로의 응답 시간을 측정합니다.
+- serviceGetProducts: ProductService 를 통한 조회(직렬화한 본문 캐시 적중)
+- mapperSelectProducts: 캐시 없이 OFFSET 으로 조회. offset 이 클수록 건너뛰는 행이 많아 느려집니다.
+- mapperSelectProductsAfter: 캐시 없이 커서(마지막 아이디)로 조회. 인덱스로 바로 찾아가므로 위치와 관계없이 일정해야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductServiceBenchmark {
+
+	private static final int LIMIT = 20;
+
+	@Param({"" + ProductDataGenerator.DEFAULT_PRODUCT_COUNT})
+	private int productCount;
+
+	@Param({"0", "500000", "999000"})
+	private int offset;
+
+	private ConfigurableApplicationContext context;
+
+	private ProductService productService;
+
+	private ProductMapper productMapper;
+
+	@Setup
+	public void setUp() {
+		this.context = BenchmarkApplication.start(productCount);
+		this.productService = context.getBean(ProductService.class);
+		this.productMapper = context.getBean(ProductMapper.class);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public ProductPageBody serviceGetProducts() {
+		return productService.getProductsBody(offset, LIMIT, null, null);
+	}
+
+	@Benchmark
+	public List<Product> mapperSelectProducts() {
+		return productMapper.selectProducts(offset, LIMIT, null);
+	}
+
+	@Benchmark
+	public List<Product> mapperSelectProductsAfter() {
+		return productMapper.selectProductsAfter((long) offset, LIMIT, null);
+	}
+}
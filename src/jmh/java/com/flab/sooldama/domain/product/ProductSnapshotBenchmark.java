@@ -0,0 +1,128 @@
+package com.flab.sooldama.domain.product;
+
+import com.flab.sooldama.domain.product.domain.Product;
+import com.flab.sooldama.domain.product.dto.response.ProductResponse;
+import com.flab.sooldama.domain.product.snapshot.ProductSnapshot;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ProductDataGenerator 와 같은 값으로 만든 제품 productCount 개를 Product 목록과 카탈로그 스냅샷에 각각 담고,
+카테고리 1 의 제품 20개를 커서로 조회해 응답 DTO 로 만드는 시간을 측정합니다.
+objectGraph 는 ProductCache 가 돌려주는 Product 목록을 ProductResponse.of 로 변환하는 경우입니다.
+
+두 방식이 차지하는 메모리는 main 으로 측정합니다.
+java -cp <jmh jar> com.flab.sooldama.domain.product.ProductSnapshotBenchmark <제품 수>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProductSnapshotBenchmark {
+
+	private static final int LIMIT = 20;
+
+	private static final int CATEGORY_COUNT = 4;
+
+	@Param({"1000000"})
+	private int productCount;
+
+	private List<Product> products;
+
+	private ProductSnapshot snapshot;
+
+	private long lastId;
+
+	@Setup
+	public void setUp() {
+		this.products = products(productCount);
+		this.snapshot = snapshot(products);
+		this.lastId = productCount / 2;
+	}
+
+	@Benchmark
+	public List<ProductResponse> snapshot() {
+		return snapshot.pageAfter(lastId, LIMIT, 1L);
+	}
+
+	@Benchmark
+	public ProductResponse snapshotFind() {
+		return snapshot.find(lastId);
+	}
+
+	@Benchmark
+	public List<ProductResponse> objectGraph() {
+		List<ProductResponse> responses = new ArrayList<>(LIMIT);
+		for (int i = (int) lastId; responses.size() < LIMIT && i < products.size(); i++) {
+			Product product = products.get(i);
+			if (product.getProductCategoryId() == 1L) {
+				responses.add(ProductResponse.of(product));
+			}
+		}
+
+		return responses;
+	}
+
+	public static void main(String[] args) {
+		int productCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+		long baseline = usedHeap();
+		List<Product> products = products(productCount);
+		long objectGraphBytes = usedHeap() - baseline;
+
+		ProductSnapshot snapshot = snapshot(products);
+		products = null;
+		long snapshotBytes = usedHeap() - baseline;
+
+		System.out.printf("제품 %d개%n", productCount);
+		System.out.printf("List<Product>   : %,d bytes%n", objectGraphBytes);
+		System.out.printf("ProductSnapshot : %,d bytes (estimatedBytes %,d)%n", snapshotBytes,
+			snapshot.estimatedBytes());
+	}
+
+	private static List<Product> products(int productCount) {
+		List<Product> products = new ArrayList<>(productCount);
+		for (int i = 0; i < productCount; i++) {
+			products.add(Product.builder()
+				.id((long) i + 1)
+				.productCategoryId((long) (i % CATEGORY_COUNT + 1))
+				.name("벤치마크 막걸리 " + i)
+				.price(1000 + (i % 100) * 500)
+				.imageUrl("https://www.sooldamhwa.com/images/common/mainLogo.png")
+				.description("벤치마크용으로 생성한 " + i + "번째 제품")
+				.abv((double) (i % 20))
+				.capacity(375 + (i % 4) * 125)
+				.build());
+		}
+
+		return products;
+	}
+
+	private static ProductSnapshot snapshot(List<Product> products) {
+		ProductSnapshot.Builder builder = ProductSnapshot.builder();
+		for (Product product : products) {
+			builder.add(product);
+		}
+
+		return builder.build();
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,94 @@
+package com.flab.sooldama.domain.user;
+
+import com.flab.sooldama.benchmark.BenchmarkApplication;
+import com.flab.sooldama.domain.user.dao.UserMapper;
+import com.flab.sooldama.domain.user.domain.User;
+import com.flab.sooldama.domain.user.dto.request.JoinUserRequest;
+import com.flab.sooldama.domain.user.dto.response.JoinUserResponse;
+import com.flab.sooldama.domain.user.password.PasswordHasher;
+import com.flab.sooldama.domain.user.service.UserService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/*
+회원가입 처리량(QPS)을 측정합니다.
+- singleRoundTrip: 현재 방식. UNIQUE 제약으로 중복을 확인하고, 생성된 키로 응답을 만들어 INSERT 한 번만 실행합니다.
+- findInsertFind: 이전 방식. 중복 조회, INSERT, 응답을 만들기 위한 재조회까지 쿼리를 세 번 실행합니다.
+
+DB 왕복 횟수의 차이만 보기 위해 해시 반복 횟수를 1로 낮추고, H2 를 MySQL 호환 모드로 띄웁니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class UserRegistrationBenchmark {
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private ConfigurableApplicationContext context;
+
+	private UserService userService;
+
+	private UserMapper userMapper;
+
+	private PasswordHasher passwordHasher;
+
+	@Setup
+	public void setUp() {
+		this.context = BenchmarkApplication.start(0,
+			"spring.datasource.url=jdbc:h2:mem:testdb;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+			"user.password.pbkdf2.iterations=1");
+		this.userService = context.getBean(UserService.class);
+		this.userMapper = context.getBean(UserMapper.class);
+		this.passwordHasher = context.getBean(PasswordHasher.class);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public JoinUserResponse singleRoundTrip() {
+		return userService.insertUser(nextRequest()).join();
+	}
+
+	@Benchmark
+	public User findInsertFind() {
+		JoinUserRequest request = nextRequest();
+
+		if (userMapper.findUserByEmail(request.getEmail()).isPresent()) {
+			throw new IllegalStateException("이메일 주소 중복입니다");
+		}
+
+		userMapper.insertUser(User.builder()
+			.email(request.getEmail())
+			.password(passwordHasher.hash(request.getPassword()))
+			.name(request.getName())
+			.phoneNumber(request.getPhoneNumber())
+			.isAdult(request.getIsAdult())
+			.build());
+
+		return userMapper.findUserByEmail(request.getEmail()).get();
+	}
+
+	private JoinUserRequest nextRequest() {
+		return JoinUserRequest.builder()
+			.email("bench" + sequence.incrementAndGet() + "@fmail.com")
+			.password("abracadabra")
+			.name("bench user")
+			.phoneNumber("010-1010-1010")
+			.isAdult(true)
+			.build();
+	}
+}
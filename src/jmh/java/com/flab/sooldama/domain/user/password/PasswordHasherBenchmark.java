@@ -0,0 +1,79 @@
+package com.flab.sooldama.domain.user.password;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+비밀번호 해시 한 번에 드는 비용을 코어 하나(스레드 1개) 기준으로 측정합니다.
+운영 설정(310000회)의 초당 처리량으로 로그인 요청을 처리할 서버 수를 가늠하고,
+이전 방식(솔트 없는 SHA-256)과 비교해 무차별 대입 공격 비용이 얼마나 늘었는지 확인합니다.
+16진수 변환은 바이트마다 String.format 을 호출하던 이전 방식과 표를 사용하는 PasswordEncoding 을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PasswordHasherBenchmark {
+
+	private static final String PASSWORD = "abracadabra";
+
+	@Param({"310000"})
+	private int iterations;
+
+	private Pbkdf2PasswordHasher pbkdf2PasswordHasher;
+
+	private LegacySha256PasswordHasher legacyPasswordHasher;
+
+	private String pbkdf2Hash;
+
+	private String legacyHash;
+
+	private byte[] digest;
+
+	@Setup
+	public void setUp() {
+		this.pbkdf2PasswordHasher = new Pbkdf2PasswordHasher(iterations, 16, 32);
+		this.legacyPasswordHasher = new LegacySha256PasswordHasher();
+		this.pbkdf2Hash = pbkdf2PasswordHasher.hash(PASSWORD);
+		this.legacyHash = legacyPasswordHasher.hash(PASSWORD);
+		this.digest = PasswordEncoding.fromHex(legacyHash);
+	}
+
+	@Benchmark
+	public String pbkdf2Hash() {
+		return pbkdf2PasswordHasher.hash(PASSWORD);
+	}
+
+	@Benchmark
+	public boolean pbkdf2Matches() {
+		return pbkdf2PasswordHasher.matches(PASSWORD, pbkdf2Hash);
+	}
+
+	@Benchmark
+	public boolean legacySha256Matches() {
+		return legacyPasswordHasher.matches(PASSWORD, legacyHash);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public String hexWithTable() {
+		return PasswordEncoding.toHex(digest);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public String hexWithStringFormat() {
+		StringBuilder result = new StringBuilder();
+		for (byte b : digest) {
+			result.append(String.format("%02x", b));
+		}
+
+		return result.toString();
+	}
+}
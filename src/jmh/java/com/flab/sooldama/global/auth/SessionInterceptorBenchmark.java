@@ -0,0 +1,61 @@
+package com.flab.sooldama.global.auth;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+
+/*
+요청마다 실행되는 세션 인터셉터의 비용을 측정합니다.
+세션 저장소(Redis)를 거치지 않는 인터셉터 자체의 비용만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SessionInterceptorBenchmark {
+
+	private AuthInterceptor authInterceptor;
+
+	private LoginInterceptor loginInterceptor;
+
+	private MockHttpServletRequest loggedInRequest;
+
+	private MockHttpServletRequest anonymousRequest;
+
+	private MockHttpServletResponse response;
+
+	@Setup
+	public void setUp() {
+		AuthService authService = new AuthService();
+		Authenticator authenticator = new SessionAuthenticator(authService);
+		this.authInterceptor = new AuthInterceptor(authenticator);
+		this.loginInterceptor = new LoginInterceptor(authenticator);
+
+		MockHttpSession session = new MockHttpSession();
+		session.setAttribute(authService.getAuthSessionKey(), "sehoon@fmail.com");
+		this.loggedInRequest = new MockHttpServletRequest("GET", "/products/1");
+		this.loggedInRequest.setSession(session);
+
+		this.anonymousRequest = new MockHttpServletRequest("POST", "/users/login");
+		this.anonymousRequest.setSession(new MockHttpSession());
+
+		this.response = new MockHttpServletResponse();
+	}
+
+	@Benchmark
+	public boolean authInterceptor() throws Exception {
+		return authInterceptor.preHandle(loggedInRequest, response, null);
+	}
+
+	@Benchmark
+	public boolean loginInterceptor() throws Exception {
+		return loginInterceptor.preHandle(anonymousRequest, response, null);
+	}
+}
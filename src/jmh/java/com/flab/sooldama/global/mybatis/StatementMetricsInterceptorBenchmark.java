@@ -0,0 +1,69 @@
+package com.flab.sooldama.global.mybatis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+매퍼 구문마다 StatementMetricsInterceptor 가 더하는 비용을 측정합니다.
+- direct: 플러그인 없이 구문을 실행합니다.
+- intercepted: 플러그인을 거쳐 실행 시간과 행 수를 기록합니다.
+DB 를 거치지 않고 미리 만든 결과를 반환하므로, 두 값의 차이가 구문 한 번에 더해지는 비용입니다.
+가장 빠른 구문(캐시된 제품 조회)도 수십 μs 가 걸리므로, 차이가 1μs 보다 작으면 무시할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StatementMetricsInterceptorBenchmark {
+
+	private StatementMetricsInterceptor interceptor;
+
+	private Invocation invocation;
+
+	@Setup
+	public void setUp() throws NoSuchMethodException {
+		this.interceptor = new StatementMetricsInterceptor(new SimpleMeterRegistry(),
+			new StatementMetricsProperties());
+
+		Configuration configuration = new Configuration();
+		MappedStatement statement = new MappedStatement.Builder(configuration,
+			"com.flab.sooldama.domain.product.dao.ProductMapper.selectProducts",
+			parameter -> new BoundSql(configuration, "select 1", List.of(), parameter),
+			SqlCommandType.SELECT).build();
+		Method query = FakeExecutor.class.getMethod("query", MappedStatement.class, Object.class);
+
+		this.invocation = new Invocation(new FakeExecutor(), query, new Object[]{statement, null});
+	}
+
+	@Benchmark
+	public Object direct() throws Throwable {
+		return invocation.proceed();
+	}
+
+	@Benchmark
+	public Object intercepted() throws Throwable {
+		return interceptor.intercept(invocation);
+	}
+
+	public static class FakeExecutor {
+
+		private final List<Integer> rows = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+		public List<Integer> query(MappedStatement statement, Object parameter) {
+			return rows;
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package com.flab.sooldama.global.thread;
+
+import com.flab.sooldama.benchmark.BenchmarkApplication;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/*
+애플리케이션을 띄우고 제품 목록 조회(GET /products) 요청 concurrency 개를 동시에 보내서 모두 응답받는 데 걸리는 시간을 측정합니다.
+- platform: 기본 설정처럼 Tomcat 워커와 조회 스레드 풀을 플랫폼 스레드로 실행합니다.
+- virtual: virtual-threads 프로필로 띄워서 요청마다 가상 스레드를 만들고, 조회 스레드 풀도 가상 스레드로 실행합니다.
+
+조회는 async 모드로 실행하고, offset 을 무작위로 골라 대부분 캐시에 없는 페이지를 DB 에서 조회하게 합니다.
+조회 대기열은 동시 요청 수만큼 늘리고 동시 처리 한도는 꺼서 503 없이 모든 요청을 처리하게 합니다.
+H2 는 같은 프로세스에서 실행되어 네트워크 대기가 없으므로, 실제 차이는 MySQL 을 사용할 때 더 크게 나타납니다.
+
+virtual 은 Java 21 이상에서 실행해야 하고, 그보다 낮은 버전에서는 애플리케이션이 시작되지 않아 측정이 실패합니다.
+예) ./gradlew jmh -PjmhIncludes=RequestExecutionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RequestExecutionBenchmark {
+
+	private static final int LIMIT = 20;
+
+	@Param({"platform", "virtual"})
+	private String threadModel;
+
+	@Param({"100000"})
+	private int productCount;
+
+	@Param({"1000"})
+	private int concurrency;
+
+	private ConfigurableApplicationContext context;
+
+	private HttpClient httpClient;
+
+	private String baseUrl;
+
+	@Setup
+	public void setUp() {
+		// 비워 두면 기본 설정으로 띄웁니다.
+		String profile = "virtual".equals(threadModel) ? "virtual-threads" : "";
+		this.context = BenchmarkApplication.startServer(productCount,
+			"spring.profiles.active=" + profile,
+			"product.read.mode=async",
+			"product.read.queue-capacity=" + concurrency,
+			"admission.enabled=false");
+		this.httpClient = HttpClient.newHttpClient();
+		this.baseUrl = "http://localhost:" + BenchmarkApplication.port(context) + "/products";
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public int getProducts() {
+		List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(concurrency);
+
+		for (int i = 0; i < concurrency; i++) {
+			int offset = ThreadLocalRandom.current().nextInt(productCount - LIMIT);
+			HttpRequest request = HttpRequest.newBuilder(
+					URI.create(baseUrl + "?offset=" + offset + "&limit=" + LIMIT))
+				.GET()
+				.build();
+			responses.add(httpClient.sendAsync(request, BodyHandlers.ofString()));
+		}
+
+		int bytes = 0;
+		for (CompletableFuture<HttpResponse<String>> response : responses) {
+			HttpResponse<String> result = response.join();
+			if (result.statusCode() != 200) {
+				throw new IllegalStateException("제품 조회 실패: " + result.statusCode());
+			}
+			bytes += result.body().length();
+		}
+
+		return bytes;
+	}
+}
@@ -0,0 +1,89 @@
+package com.flab.sooldama.domain.product.api;
+
+import com.flab.sooldama.domain.product.cache.ProductPageBody;
+import com.flab.sooldama.domain.product.dto.response.ProductResponse;
+import com.flab.sooldama.domain.product.service.AsyncProductService;
+import com.flab.sooldama.domain.product.service.ProductDetail;
+import com.flab.sooldama.domain.product.service.ProductService;
+import com.flab.sooldama.global.paging.PageSize;
+import java.util.concurrent.CompletableFuture;
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+product.read.mode 가 async 일 때 ProductApi 대신 /products 조회 요청을 처리합니다. 경로, 파라미터, 응답 JSON 은 ProductApi 와 같습니다.
+
+CompletableFuture 를 반환하면 스프링 MVC 는 요청을 비동기로 전환하고 요청 스레드를 바로 반환합니다.
+조회 스레드에서 CompletableFuture 가 완료되면 결과를 응답으로 보내고, 예외로 완료되면 GlobalExceptionHandler 가 처리합니다.
+
+목록 응답은 ProductApi 와 같이 ProductPageBodyCache 의 본문과 ETag, Cache-Control 로 만들고,
+단건 응답은 ProductApi 와 같이 ProductEtags 의 ETag 와 제품의 마지막 수정 시각(Last-Modified)을 붙입니다.
+응답은 비동기 디스패치에서 쓰이고, 이때 스프링(HttpEntityMethodProcessor)이 응답의 두 헤더로
+ProductApi 와 같은 WebRequest.checkNotModified(etag, lastModified) 를 호출해서, 바뀌지 않았으면 본문 없이 304 로 응답합니다.
+조회 스레드에서는 요청과 응답을 건드리지 않도록 checkNotModified 를 직접 호출하지 않습니다.
+ */
+@RestController
+@RequestMapping("/products")
+@Validated
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.read.mode", havingValue = "async")
+public class AsyncProductApi {
+
+	private final AsyncProductService asyncProductService;
+
+	private final ProductHttpCacheProperties httpCacheProperties;
+
+	@GetMapping("")
+	public CompletableFuture<ResponseEntity<byte[]>> getProducts(
+		@RequestParam(defaultValue = "0") @Min(0) Integer offset,
+		@PageSize(ProductService.PRODUCTS_ENDPOINT) Integer limit,
+		@RequestParam(required = false) Long categoryId,
+		HttpServletRequest request) {
+
+		return asyncProductService.getProductsBody(offset, limit, categoryId,
+				request.getSession(false))
+			.thenApply(this::toResponse);
+	}
+
+	@GetMapping(path = "", params = "after")
+	public CompletableFuture<ResponseEntity<byte[]>> getProductsAfter(
+		@RequestParam(required = false) String after,
+		@PageSize(ProductService.PRODUCTS_AFTER_ENDPOINT) Integer limit,
+		@RequestParam(required = false) Long categoryId,
+		HttpServletRequest request) {
+
+		return asyncProductService.getProductsAfterBody(after, limit, categoryId,
+				request.getSession(false))
+			.thenApply(this::toResponse);
+	}
+
+	@GetMapping("/{productId}")
+	public CompletableFuture<ResponseEntity<ProductResponse>> getProduct(
+		@PathVariable Long productId, HttpServletRequest request) {
+
+		return asyncProductService.getProductById(productId, request.getSession(false))
+			.thenApply(detail -> ResponseEntity.ok()
+				.cacheControl(httpCacheProperties.toCacheControl())
+				.eTag(ProductEtags.of(detail.getProduct()))
+				.lastModified(detail.getLastModified())
+				.body(detail.getProduct()));
+	}
+
+	private ResponseEntity<byte[]> toResponse(ProductPageBody body) {
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.cacheControl(httpCacheProperties.toCacheControl())
+			.eTag(body.getEtag())
+			.body(body.getJson());
+	}
+}
@@ -1,11 +1,16 @@
 package com.flab.sooldama.domain.product.api;
 
+import com.flab.sooldama.domain.product.cache.ProductPageBody;
 import com.flab.sooldama.domain.product.dto.response.ProductResponse;
+import com.flab.sooldama.domain.product.service.ProductDetail;
 import com.flab.sooldama.domain.product.service.ProductService;
-import java.util.List;
-import javax.servlet.http.HttpSession;
+import com.flab.sooldama.global.paging.PageSize;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,6 +18,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /*
 입력 파라미터의 유효성 검증은 컨트롤러에서 최대한 처리해야하는데, 이 때 Spring에서는 AOP 기반으로 메소드의 요청을 가로채서
@@ -21,40 +27,94 @@ import org.springframework.web.bind.annotation.RestController;
 인터셉터하여 처리합니다. @Validated 어노테이션을 다음과 같이 클레스 레벨에 선언하게 되면 해당 클레스에 유효성 검증을 위한
 인터셉터가 등록되며, 해당 클래스의 메소드들이 호출될 때 AOP의 포인트 컷으로써 요청을 가로채고 유효성검증을 진행합니다.
 또한 @Validated 어노테이션은 자바 진영 스펙인 @Valid와 달리 스프링 프레임워크에서 제공하는 어노테이션 기능입니다.
+
+product.read.mode 가 async 이면 이 컨트롤러 대신 AsyncProductApi 가 같은 경로를 처리합니다.
  */
 
 @RestController
 @RequestMapping("/products")
 @Validated
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.read.mode", havingValue = "blocking", matchIfMissing = true)
 public class ProductApi {
 
 	private final ProductService productService;
 
+	private final ProductHttpCacheProperties httpCacheProperties;
+
 	/*
     @RequestParam 어노테이션은 쿼리스트링을 파라미터로 받을 수 있게 도와줍니다.
+    @PageSize 어노테이션은 limit 파라미터에 paging.endpoints 의 페이지 크기 정책(기본값, 최댓값)을 적용합니다.
+    HttpSession 을 파라미터로 받으면 로그인하지 않은 요청에도 세션이 만들어지므로, 이미 있는 세션만 getSession(false) 로 넘깁니다.
      */
 	@GetMapping("")
-	public ResponseEntity<List<ProductResponse>> getProducts(
+	public ResponseEntity<byte[]> getProducts(
 		@RequestParam(defaultValue = "0") @Min(0) Integer offset,
-		@RequestParam(defaultValue = "20") Integer limit,
+		@PageSize(ProductService.PRODUCTS_ENDPOINT) Integer limit,
 		@RequestParam(required = false) Long categoryId,
-		HttpSession session) {
+		HttpServletRequest request) {
 
-		List<ProductResponse> productsResponse =
-			productService.getProducts(offset, limit, categoryId, session);
+		ProductPageBody body =
+			productService.getProductsBody(offset, limit, categoryId, request.getSession(false));
 
-		return ResponseEntity.ok().body(productsResponse);
+		return toResponse(body);
+	}
+
+	/*
+	after 파라미터가 있으면 커서 기반 페이지네이션으로 조회합니다. 첫 페이지는 after 값을 비워서 요청합니다.
+	@GetMapping 의 params 속성은 해당 쿼리스트링이 있는 요청만 이 메서드에 매핑되도록 합니다.
+	after 파라미터가 없는 기존 클라이언트는 위의 offset 기반 조회를 그대로 사용합니다.
+	 */
+	@GetMapping(path = "", params = "after")
+	public ResponseEntity<byte[]> getProductsAfter(
+		@RequestParam(required = false) String after,
+		@PageSize(ProductService.PRODUCTS_AFTER_ENDPOINT) Integer limit,
+		@RequestParam(required = false) Long categoryId,
+		HttpServletRequest request) {
+
+		ProductPageBody body = productService.getProductsAfterBody(after, limit, categoryId,
+			request.getSession(false));
+
+		return toResponse(body);
 	}
 
 	/*
 	@PathVariable 어노테이션은 Url 파라미터를 사용할 수 있도록 도와줍니다.
+
+	ETag 는 응답 내용으로 만들고(ProductEtags), Last-Modified 는 제품의 마지막 수정 시각(updated_at)으로 만듭니다.
+	WebRequest.checkNotModified 는 If-None-Match, If-Modified-Since 와 비교해서 바뀌지 않았으면 304 로 응답하도록 설정하고,
+	바뀌었으면 두 헤더를 응답에 추가합니다. 제품과 마지막 수정 시각은 스냅샷이나 ProductCache 에서 한 번에 가져오므로 DB 를 조회하지 않고,
+	304 로 응답할 때는 직렬화하지 않습니다.
 	 */
 	@GetMapping("/{productId}")
 	public ResponseEntity<ProductResponse> getProduct(@PathVariable Long productId,
-		HttpSession session) {
+		HttpServletRequest request, WebRequest webRequest) {
 
-		ProductResponse productsResponse = productService.getProductById(productId, session);
-		return ResponseEntity.ok().body(productsResponse);
+		ProductDetail product = productService.getProductById(productId, request.getSession(false));
+		ProductResponse productsResponse = product.getProduct();
+		if (webRequest.checkNotModified(ProductEtags.of(productsResponse),
+			product.getLastModified())) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.cacheControl(httpCacheProperties.toCacheControl())
+				.build();
+		}
+
+		return ResponseEntity.ok()
+			.cacheControl(httpCacheProperties.toCacheControl())
+			.body(productsResponse);
+	}
+
+	/*
+	목록 응답은 ProductPageBodyCache 가 미리 직렬화한 JSON 바이트를 ByteArrayHttpMessageConverter 로 그대로 씁니다.
+	응답에 ETag 가 있으면 스프링이 If-None-Match 와 비교해서, 같으면 본문 없이 304 로 응답합니다.
+	ETag 는 본문 내용으로 만들고 본문은 카탈로그 버전별로 캐시되므로, 자주 조회되는 페이지는 304 로 응답할 때도
+	제품을 다시 조회하거나 직렬화하지 않습니다.
+	 */
+	private ResponseEntity<byte[]> toResponse(ProductPageBody body) {
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.cacheControl(httpCacheProperties.toCacheControl())
+			.eTag(body.getEtag())
+			.body(body.getJson());
 	}
 }
@@ -0,0 +1,33 @@
+package com.flab.sooldama.domain.product.api;
+
+import com.flab.sooldama.domain.product.dto.response.ProductResponse;
+import java.nio.charset.StandardCharsets;
+import org.springframework.util.DigestUtils;
+
+/*
+제품 단건 조회 응답의 ETag 를 만듭니다.
+updated_at 은 초 단위로 저장되므로, 같은 초 안에 두 번 수정되면 수정 시각만으로는 두 번째 변경을 구분하지 못합니다.
+그래서 수정 시각 대신 응답에 담기는 값 전체의 MD5 로 ETag 를 만들어, 내용이 바뀌면 언제 바뀌었든 ETag 가 달라지게 합니다.
+내용이 같으면 어느 서버가 만들었든 같은 ETag 가 됩니다.
+ */
+final class ProductEtags {
+
+	private static final char SEPARATOR = '\u001f';
+
+	private ProductEtags() {
+	}
+
+	static String of(ProductResponse product) {
+		String content = String.valueOf(product.getId()) + SEPARATOR
+			+ product.getProductCategoryId() + SEPARATOR
+			+ product.getName() + SEPARATOR
+			+ product.getPrice() + SEPARATOR
+			+ product.getImageUrl() + SEPARATOR
+			+ product.getDescription() + SEPARATOR
+			+ product.getAbv() + SEPARATOR
+			+ product.getCapacity();
+
+		return "W/\"" + product.getId() + "-"
+			+ DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8)) + "\"";
+	}
+}
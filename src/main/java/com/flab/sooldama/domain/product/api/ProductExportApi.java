@@ -0,0 +1,47 @@
+package com.flab.sooldama.domain.product.api;
+
+import com.flab.sooldama.domain.product.exporter.ExportFormat;
+import com.flab.sooldama.domain.product.service.ProductExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/*
+전체 제품 카탈로그를 CSV 또는 JSON lines 파일로 내려받습니다.
+
+StreamingResponseBody 를 반환하면 요청 스레드는 바로 반환되고, 스프링 MVC 의 비동기 작업 스레드가
+응답 스트림에 제품을 쓰는 동안 응답이 조금씩 클라이언트로 전송됩니다.
+응답 전체를 만든 뒤 보내지 않으므로 Content-Length 없이 chunked 로 전송됩니다.
+
+/products/{productId} 보다 /products/export 가 더 구체적인 경로이므로 이 핸들러가 먼저 선택됩니다.
+ */
+@RestController
+@RequestMapping("/products")
+@RequiredArgsConstructor
+public class ProductExportApi {
+
+	private static final String FILE_NAME = "products.";
+
+	private final ProductExportService productExportService;
+
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportProducts(
+		@RequestParam(defaultValue = "ndjson") String format,
+		@RequestParam(required = false) Long categoryId) {
+
+		ExportFormat exportFormat = ExportFormat.of(format);
+		StreamingResponseBody body = outputStream ->
+			productExportService.exportProducts(exportFormat, categoryId, outputStream);
+
+		return ResponseEntity.ok()
+			.contentType(exportFormat.getMediaType())
+			.header(HttpHeaders.CONTENT_DISPOSITION,
+				"attachment; filename=\"" + FILE_NAME + format.toLowerCase() + "\"")
+			.body(body);
+	}
+}
@@ -0,0 +1,37 @@
+package com.flab.sooldama.domain.product.api;
+
+import com.flab.sooldama.domain.product.dto.request.ProductFilterRequest;
+import com.flab.sooldama.domain.product.dto.response.ProductFilterResponse;
+import com.flab.sooldama.domain.product.service.ProductFacetService;
+import com.flab.sooldama.global.paging.PageSize;
+import javax.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+카테고리, 도수, 가격, 용량 범위로 제품을 필터링합니다. 예) /products/filter?categoryId=1&abvMin=6&abvMax=8&priceMax=10000
+응답에는 조건에 맞는 제품과 함께 패싯(도수, 가격, 용량) 구간별 제품 수가 포함됩니다.
+
+@ModelAttribute 는 쿼리스트링을 ProductFilterRequest 의 필드에 바인딩하고, @Valid 는 바인딩한 값의 유효성을 검증합니다.
+ */
+@RestController
+@RequestMapping("/products")
+@Validated
+@RequiredArgsConstructor
+public class ProductFacetApi {
+
+	private final ProductFacetService productFacetService;
+
+	@GetMapping("/filter")
+	public ResponseEntity<ProductFilterResponse> filterProducts(
+		@Valid @ModelAttribute ProductFilterRequest request,
+		@PageSize(ProductFacetService.PRODUCTS_FILTER_ENDPOINT) Integer limit) {
+
+		return ResponseEntity.ok().body(productFacetService.filter(request, limit));
+	}
+}
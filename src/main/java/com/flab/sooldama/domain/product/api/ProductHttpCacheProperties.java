@@ -0,0 +1,34 @@
+package com.flab.sooldama.domain.product.api;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.CacheControl;
+
+/*
+application.yml 의 product.http-cache 하위 설정값을 바인딩합니다. 제품 조회 응답의 Cache-Control 헤더를 만듭니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "product.http-cache")
+public class ProductHttpCacheProperties {
+
+	// 클라이언트가 다시 확인하지 않고 응답을 재사용하는 시간입니다. 0 이면 매번 ETag 로 변경 여부를 확인합니다.
+	private Duration maxAge = Duration.ZERO;
+
+	// max-age 가 지난 뒤에도 이 시간 동안은 캐시된 응답을 먼저 사용하고 뒤에서 다시 확인합니다. 0 이면 보내지 않습니다.
+	private Duration staleWhileRevalidate = Duration.ZERO;
+
+	// true 이면 CDN 같은 공유 캐시도 응답을 저장할 수 있습니다(public). 로그인해야 조회할 수 있으므로 기본값은 private 입니다.
+	private boolean shared = false;
+
+	public CacheControl toCacheControl() {
+		CacheControl cacheControl = CacheControl.maxAge(maxAge);
+		if (!staleWhileRevalidate.isZero()) {
+			cacheControl = cacheControl.staleWhileRevalidate(staleWhileRevalidate);
+		}
+
+		return shared ? cacheControl.cachePublic() : cacheControl.cachePrivate();
+	}
+}
@@ -0,0 +1,55 @@
+package com.flab.sooldama.domain.product.api;
+
+import com.flab.sooldama.domain.product.dto.response.ProductImportResponse;
+import com.flab.sooldama.domain.product.importer.ImportFormat;
+import com.flab.sooldama.domain.product.service.ProductImportService;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+제품과 제품 카테고리를 CSV(text/csv) 또는 JSON lines(application/x-ndjson) 파일로 일괄 등록합니다.
+@PostMapping 의 consumes 속성은 Content-Type 이 일치하는 요청만 매핑하고, 그 밖의 요청에는 415 로 응답합니다.
+
+@RequestBody 로 받으면 파일 전체를 메모리에 올린 뒤 변환하므로, InputStream 을 파라미터로 받아 요청 본문을 읽으면서 저장합니다.
+chunkSize 를 지정하지 않으면 product.import.chunk-size 설정값을 사용합니다.
+ */
+@RestController
+@RequestMapping("/products")
+@RequiredArgsConstructor
+public class ProductImportApi {
+
+	private final ProductImportService productImportService;
+
+	@PostMapping(path = "/import",
+		consumes = {ImportFormat.CSV_VALUE, ImportFormat.JSON_LINES_VALUE})
+	public ResponseEntity<ProductImportResponse> importProducts(
+		@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+		@RequestParam(required = false) Integer chunkSize,
+		InputStream body) {
+
+		ProductImportResponse response = productImportService.importProducts(body,
+			ImportFormat.of(contentType), chunkSize);
+
+		return ResponseEntity.ok().body(response);
+	}
+
+	@PostMapping(path = "/categories/import",
+		consumes = {ImportFormat.CSV_VALUE, ImportFormat.JSON_LINES_VALUE})
+	public ResponseEntity<ProductImportResponse> importProductCategories(
+		@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+		@RequestParam(required = false) Integer chunkSize,
+		InputStream body) {
+
+		ProductImportResponse response = productImportService.importProductCategories(body,
+			ImportFormat.of(contentType), chunkSize);
+
+		return ResponseEntity.ok().body(response);
+	}
+}
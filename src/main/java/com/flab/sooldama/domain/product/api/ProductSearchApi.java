@@ -0,0 +1,38 @@
+package com.flab.sooldama.domain.product.api;
+
+import com.flab.sooldama.domain.product.dto.response.ProductSearchResponse;
+import com.flab.sooldama.domain.product.service.ProductSearchService;
+import com.flab.sooldama.global.paging.PageSize;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+제품 이름과 설명으로 제품을 검색합니다. 검색어의 모든 글자열이 들어 있는 제품을 관련이 높은 순서대로 응답합니다.
+
+/products/{productId} 보다 /products/search 가 더 구체적인 경로이므로 이 핸들러가 먼저 선택됩니다.
+ */
+@RestController
+@RequestMapping("/products")
+@Validated
+@RequiredArgsConstructor
+public class ProductSearchApi {
+
+	private static final int MAX_QUERY_LENGTH = 100;
+
+	private final ProductSearchService productSearchService;
+
+	@GetMapping("/search")
+	public ResponseEntity<ProductSearchResponse> searchProducts(
+		@RequestParam @NotBlank @Size(max = MAX_QUERY_LENGTH) String q,
+		@PageSize(ProductSearchService.PRODUCTS_SEARCH_ENDPOINT) Integer limit) {
+
+		return ResponseEntity.ok().body(productSearchService.search(q, limit));
+	}
+}
@@ -0,0 +1,35 @@
+package com.flab.sooldama.domain.product.cache;
+
+import com.flab.sooldama.domain.product.domain.Product;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+Redis 2차 캐시를 사용하지 않을 때 주입되는 구현체입니다. 아무것도 저장하지 않고, 카탈로그 버전만 서버 안에서 관리합니다.
+ */
+public class NoOpProductRemoteCache implements ProductRemoteCache {
+
+	private final AtomicLong version = new AtomicLong();
+
+	@Override
+	public Optional<List<Product>> get(String key) {
+		return Optional.empty();
+	}
+
+	@Override
+	public void put(String key, List<Product> products, Duration ttl) {
+	}
+
+	@Override
+	public long currentVersion() {
+		return version.get();
+	}
+
+	@Override
+	public long evict(Collection<Long> productIds) {
+		return version.incrementAndGet();
+	}
+}
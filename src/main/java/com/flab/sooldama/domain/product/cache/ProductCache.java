@@ -0,0 +1,293 @@
+package com.flab.sooldama.domain.product.cache;
+
+import com.flab.sooldama.domain.product.dao.ProductMapper;
+import com.flab.sooldama.domain.product.domain.Product;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.stereotype.Component;
+
+/*
+제품 조회 결과를 애플리케이션 메모리(1차 캐시)와 ProductRemoteCache(2차 캐시)에 캐시합니다.
+1차 캐시에 없으면 2차 캐시를, 2차 캐시에도 없으면 ProductMapper 로 조회한 뒤 두 캐시에 모두 담습니다(read-through).
+
+Caffeine 은 W-TinyLFU 정책으로 자주 조회되는 항목을 남기고 나머지를 내보냅니다.
+제품마다 크기가 다르므로 항목 개수가 아니라 대략적인 크기(byte) 합으로 캐시 용량을 제한합니다.
+존재하지 않는 제품 아이디도 짧은 시간 동안 캐시해서, 같은 아이디로 반복 요청이 와도 DB 를 다시 조회하지 않도록 합니다.
+
+제품 목록 페이지의 키에는 카탈로그 버전이 포함됩니다. 제품이 바뀌면 버전이 올라가고, 모든 서버가 무효화 메시지를 받아
+1차 캐시를 비우고 새 버전으로 페이지를 다시 캐시합니다.
+
+캐시를 비울 때마다 ProductsChangedEvent 를 발행해서, 제품 정보를 따로 들고 있는 빈(ProductSearchService)도 다시 만들게 합니다.
+
+MeterBinder 를 구현하면 스프링 부트가 MeterRegistry 에 캐시 적중/실패/제거 횟수를 등록합니다.
+/actuator/metrics/cache.gets 등으로 확인할 수 있습니다.
+ */
+@Component
+public class ProductCache implements MeterBinder, SmartInitializingSingleton,
+	ApplicationEventPublisherAware {
+
+	private static final String CACHE_NAME = "product";
+
+	private static final String PAGE_CACHE_NAME = "product-page";
+
+	private static final int OBJECT_OVERHEAD = 160;
+
+	private final ProductMapper productMapper;
+
+	private final ProductRemoteCache remoteCache;
+
+	private final ProductCacheProperties properties;
+
+	private final LoadingCache<Long, Optional<Product>> products;
+
+	private final Cache<String, List<Product>> pages;
+
+	private final AtomicLong catalogVersion;
+
+	private ApplicationEventPublisher eventPublisher;
+
+	public ProductCache(ProductMapper productMapper, ProductRemoteCache remoteCache,
+		ProductCacheProperties properties) {
+		this.productMapper = productMapper;
+		this.remoteCache = remoteCache;
+		this.properties = properties;
+
+		this.products = Caffeine.newBuilder()
+			.maximumWeight(properties.getMaximumWeight())
+			.weigher((Long productId, Optional<Product> product) -> weigh(product))
+			.expireAfter(new ProductExpiry(properties.getExpireAfterWrite(),
+				properties.getNotFoundExpireAfterWrite()))
+			.recordStats()
+			.build(this::loadProduct);
+
+		this.pages = Caffeine.newBuilder()
+			.maximumWeight(properties.getMaximumWeight())
+			.weigher((String key, List<Product> page) -> weigh(page))
+			.expireAfterWrite(properties.getPageExpireAfterWrite())
+			.recordStats()
+			.build();
+
+		this.catalogVersion = new AtomicLong();
+	}
+
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+		this.eventPublisher = eventPublisher;
+	}
+
+	/*
+	모든 빈이 생성된 뒤 다른 서버들이 사용 중인 카탈로그 버전을 가져옵니다.
+	생성자에서 가져오면 Redis 연결 설정이 끝나기 전에 조회할 수 있습니다.
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+		updateVersion(remoteCache.currentVersion());
+	}
+
+	/*
+	캐시에 없으면 같은 제품을 기다리는 요청은 먼저 온 요청의 조회가 끝날 때까지 기다리고 DB 는 한 번만 조회합니다.
+	Caffeine 은 조회하는 동안 ConcurrentHashMap 의 bin 을 synchronized 로 잠그므로, 가상 스레드에서는 조회가 끝날 때까지
+	캐리어 스레드를 붙잡습니다(pinning). 잠그는 범위가 제품 하나이고 캐시 적중률이 높아 드물게만 일어납니다.
+	 */
+	public Optional<Product> get(Long productId) {
+		return products.get(productId);
+	}
+
+	/*
+	반환된 페이지는 여러 요청이 함께 사용하므로 수정할 수 없습니다.
+	 */
+	public List<Product> getPage(Integer offset, Integer limit, Long categoryId) {
+		String key = ProductCacheKeys.page(catalogVersion.get(), offset, limit, categoryId);
+
+		return pages.get(key,
+			pageKey -> loadPage(pageKey,
+				() -> productMapper.selectProducts(offset, limit, categoryId)));
+	}
+
+	public List<Product> getPageAfter(Long lastId, Integer limit, Long categoryId) {
+		String key = ProductCacheKeys.pageAfter(catalogVersion.get(), lastId, limit, categoryId);
+
+		return pages.get(key,
+			pageKey -> loadPage(pageKey,
+				() -> productMapper.selectProductsAfter(lastId, limit, categoryId)));
+	}
+
+	public long getCatalogVersion() {
+		return catalogVersion.get();
+	}
+
+	/*
+	제품 정보를 변경한 뒤에는 반드시 캐시를 무효화해야 변경 전 정보가 조회되지 않습니다.
+	2차 캐시를 먼저 지워야 1차 캐시를 비운 사이에 2차 캐시의 이전 정보를 다시 읽어오지 않습니다.
+
+	2차 캐시의 버전을 올리지 못하면 이 서버의 버전만 올려서, 2차 캐시에 남은 이전 버전의 페이지를 읽지 않도록 합니다.
+	다른 서버에는 알리지 못하므로 다른 서버의 1차 캐시는 expire-after-write 가 지나야 바뀝니다.
+	Redis 를 다시 시작해서 2차 캐시의 버전이 이 서버의 버전보다 낮아져도 이 서버의 버전은 반드시 올라갑니다.
+	 */
+	public void invalidate(Collection<Long> productIds) {
+		try {
+			advanceVersion(remoteCache.evict(productIds));
+		} finally {
+			evictLocal(productIds);
+		}
+	}
+
+	public void invalidate(Long productId) {
+		invalidate(List.of(productId));
+	}
+
+	public void invalidateAll() {
+		invalidate(List.of());
+	}
+
+	/*
+	다른 서버가 보낸 무효화 메시지를 받았을 때 1차 캐시만 비웁니다.
+	 */
+	public void onInvalidation(long version, Collection<Long> productIds) {
+		advanceVersion(version);
+		evictLocal(productIds);
+	}
+
+	public CacheStats stats() {
+		return products.stats();
+	}
+
+	public CacheStats pageStats() {
+		return pages.stats();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, products, CACHE_NAME);
+		CaffeineCacheMetrics.monitor(registry, pages, PAGE_CACHE_NAME);
+	}
+
+	private Optional<Product> loadProduct(Long productId) {
+		String key = ProductCacheKeys.product(productId);
+
+		Optional<List<Product>> cached = remoteCache.get(key);
+		if (cached.isPresent()) {
+			return cached.get().stream().findFirst();
+		}
+
+		Optional<Product> product = productMapper.selectProductById(productId);
+		if (product.isPresent()) {
+			remoteCache.put(key, List.of(product.get()), properties.getExpireAfterWrite());
+		} else {
+			remoteCache.put(key, List.of(), properties.getNotFoundExpireAfterWrite());
+		}
+
+		return product;
+	}
+
+	private List<Product> loadPage(String key, Supplier<List<Product>> query) {
+		Optional<List<Product>> cached = remoteCache.get(key);
+		if (cached.isPresent()) {
+			return Collections.unmodifiableList(cached.get());
+		}
+
+		List<Product> page = query.get();
+		remoteCache.put(key, page, properties.getPageExpireAfterWrite());
+
+		return Collections.unmodifiableList(page);
+	}
+
+	private void updateVersion(long version) {
+		catalogVersion.accumulateAndGet(version, Math::max);
+	}
+
+	/*
+	받은 버전이 지금 버전보다 높으면 그 버전으로, 아니면(UNKNOWN_VERSION 이거나 Redis 가 초기화되었으면) 1 올립니다.
+	무효화한 뒤에는 항상 새 버전의 페이지 키를 사용하므로, 2차 캐시에 남은 이전 페이지를 다시 읽지 않습니다.
+	 */
+	private void advanceVersion(long version) {
+		catalogVersion.accumulateAndGet(version,
+			(current, received) -> Math.max(current + 1, received));
+	}
+
+	private void evictLocal(Collection<Long> productIds) {
+		if (productIds.isEmpty()) {
+			products.invalidateAll();
+		} else {
+			products.invalidateAll(productIds);
+		}
+
+		pages.invalidateAll();
+
+		if (eventPublisher != null) {
+			eventPublisher.publishEvent(new ProductsChangedEvent(productIds));
+		}
+	}
+
+	/*
+	문자열은 한글이 섞여 있으면 글자당 2byte 로 저장되므로 길이의 두 배로 계산합니다.
+	 */
+	static int weigh(Optional<Product> product) {
+		if (product.isEmpty()) {
+			return OBJECT_OVERHEAD;
+		}
+
+		Product value = product.get();
+		return OBJECT_OVERHEAD
+			+ 2 * (length(value.getName()) + length(value.getImageUrl())
+			+ length(value.getDescription()));
+	}
+
+	static int weigh(List<Product> page) {
+		int weight = OBJECT_OVERHEAD;
+		for (Product product : page) {
+			weight += weigh(Optional.of(product));
+		}
+
+		return weight;
+	}
+
+	private static int length(String value) {
+		return value == null ? 0 : value.length();
+	}
+
+	private static class ProductExpiry implements Expiry<Long, Optional<Product>> {
+
+		private final long expireAfterWriteNanos;
+
+		private final long notFoundExpireAfterWriteNanos;
+
+		ProductExpiry(Duration expireAfterWrite, Duration notFoundExpireAfterWrite) {
+			this.expireAfterWriteNanos = expireAfterWrite.toNanos();
+			this.notFoundExpireAfterWriteNanos = notFoundExpireAfterWrite.toNanos();
+		}
+
+		@Override
+		public long expireAfterCreate(Long productId, Optional<Product> product, long currentTime) {
+			return product.isPresent() ? expireAfterWriteNanos : notFoundExpireAfterWriteNanos;
+		}
+
+		@Override
+		public long expireAfterUpdate(Long productId, Optional<Product> product, long currentTime,
+			long currentDuration) {
+			return expireAfterCreate(productId, product, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(Long productId, Optional<Product> product, long currentTime,
+			long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package com.flab.sooldama.domain.product.cache;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+/*
+Redis pub/sub 으로 전달된 제품 캐시 무효화 메시지를 받아 이 서버의 1차 캐시를 비웁니다.
+메시지를 보낸 서버 자신도 메시지를 받습니다. 그 서버는 무효화할 때 이미 캐시를 비우고 ProductsChangedEvent 를 발행했으므로,
+nodeId 가 같은 메시지는 건너뜁니다.
+ */
+@RequiredArgsConstructor
+public class ProductCacheInvalidationListener implements MessageListener {
+
+	private final ProductCache productCache;
+
+	private final String nodeId;
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		if (nodeId.equals(ProductCacheKeys.originOf(body))) {
+			return;
+		}
+
+		productCache.onInvalidation(ProductCacheKeys.versionOf(body),
+			ProductCacheKeys.productIdsOf(body));
+	}
+}
@@ -0,0 +1,72 @@
+package com.flab.sooldama.domain.product.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/*
+1차 캐시와 2차 캐시가 함께 사용하는 키와 무효화 메시지 형식을 정의합니다.
+목록 페이지 키에는 카탈로그 버전이 포함되어 있어서, 제품이 바뀌어 버전이 올라가면 이전 페이지는 조회되지 않습니다.
+무효화 메시지는 "보낸 서버@버전:제품 아이디,..." 형식입니다.
+ */
+public final class ProductCacheKeys {
+
+	private static final String ALL_CATEGORIES = "all";
+
+	private static final String ORIGIN_DELIMITER = "@";
+
+	private static final String VERSION_DELIMITER = ":";
+
+	private static final String ID_DELIMITER = ",";
+
+	private ProductCacheKeys() {
+	}
+
+	public static String product(Long productId) {
+		return "product:" + productId;
+	}
+
+	public static String page(long version, Integer offset, Integer limit, Long categoryId) {
+		return "products:" + version + ":" + category(categoryId) + ":offset:" + offset + ":" + limit;
+	}
+
+	public static String pageAfter(long version, Long lastId, Integer limit, Long categoryId) {
+		return "products:" + version + ":" + category(categoryId) + ":after:" + lastId + ":" + limit;
+	}
+
+	public static String invalidationMessage(String origin, long version, List<Long> productIds) {
+		return origin + ORIGIN_DELIMITER + version + VERSION_DELIMITER + productIds.stream()
+			.map(String::valueOf)
+			.collect(Collectors.joining(ID_DELIMITER));
+	}
+
+	public static String originOf(String invalidationMessage) {
+		return invalidationMessage.substring(0, invalidationMessage.indexOf(ORIGIN_DELIMITER));
+	}
+
+	public static long versionOf(String invalidationMessage) {
+		return Long.parseLong(invalidationMessage.substring(
+			invalidationMessage.indexOf(ORIGIN_DELIMITER) + 1,
+			invalidationMessage.indexOf(VERSION_DELIMITER)));
+	}
+
+	public static List<Long> productIdsOf(String invalidationMessage) {
+		String ids = invalidationMessage.substring(
+			invalidationMessage.indexOf(VERSION_DELIMITER) + 1);
+
+		List<Long> productIds = new ArrayList<>();
+		if (ids.isEmpty()) {
+			return productIds;
+		}
+
+		for (String id : ids.split(ID_DELIMITER)) {
+			productIds.add(Long.valueOf(id));
+		}
+
+		return productIds;
+	}
+
+	private static String category(Long categoryId) {
+		return categoryId == null ? ALL_CATEGORIES : String.valueOf(categoryId);
+	}
+}
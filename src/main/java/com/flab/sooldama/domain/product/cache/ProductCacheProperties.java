@@ -0,0 +1,30 @@
+package com.flab.sooldama.domain.product.cache;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+@ConfigurationProperties 어노테이션은 application.yml 의 product.cache 하위 설정값을 이 객체의 필드에 바인딩합니다.
+10m, 10s 처럼 작성한 값은 Duration 으로 변환됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "product.cache")
+public class ProductCacheProperties {
+
+	// 캐시에 담을 제품 정보의 대략적인 크기 합(byte)입니다. 단건 캐시와 페이지 캐시에 각각 적용됩니다.
+	private long maximumWeight = 16 * 1024 * 1024;
+
+	// ProductPageBodyCache 에 담을 직렬화한 목록 본문의 크기 합(byte)입니다. 위의 두 캐시와 따로 적용됩니다.
+	private long pageBodyMaximumWeight = 16 * 1024 * 1024;
+
+	private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+	// 존재하지 않는 제품 아이디 조회 결과를 캐시하는 시간입니다.
+	private Duration notFoundExpireAfterWrite = Duration.ofSeconds(10);
+
+	// 제품 목록 페이지는 새 제품이 추가되면 달라지므로 단건보다 짧게 캐시합니다.
+	private Duration pageExpireAfterWrite = Duration.ofMinutes(1);
+}
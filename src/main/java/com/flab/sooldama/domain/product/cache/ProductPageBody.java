@@ -0,0 +1,20 @@
+package com.flab.sooldama.domain.product.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+JSON 으로 직렬화해 둔 제품 목록 응답 본문입니다.
+etag 는 본문 바이트로 계산한 강한(strong) ETag 이고, productCount 는 응답에 담긴 제품 수입니다.
+json 배열은 여러 요청이 함께 사용하므로 수정하면 안 됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductPageBody {
+
+	private final byte[] json;
+
+	private final String etag;
+
+	private final int productCount;
+}
@@ -0,0 +1,79 @@
+package com.flab.sooldama.domain.product.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flab.sooldama.domain.product.dto.response.ProductPageResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.function.Supplier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/*
+제품 목록 응답을 JSON 바이트로 직렬화한 결과(ProductPageBody)를 캐시합니다.
+ProductCache 에 페이지가 있어도 요청마다 같은 ProductPageResponse 를 Jackson 으로 다시 직렬화해야 하는데,
+자주 조회되는 페이지(카테고리별 첫 페이지)는 직렬화한 바이트를 그대로 응답에 쓰면 직렬화 비용과 할당이 없어집니다.
+
+ETag 는 직렬화할 때 한 번만 계산합니다. 스프링의 ShallowEtagHeaderFilter 와 같은 형식("0" + 본문의 MD5)이라
+내용이 같으면 어느 서버가 만들었든 같은 ETag 가 됩니다.
+
+키에는 카탈로그 버전이 들어 있어 제품이 바뀌면 이전 본문은 조회되지 않습니다.
+ProductsChangedEvent 를 받으면 캐시를 비워서 더 이상 쓰지 않는 본문이 메모리를 차지하지 않게 합니다.
+ */
+@Component
+public class ProductPageBodyCache implements MeterBinder {
+
+	private static final String CACHE_NAME = "product-page-body";
+
+	private final ObjectMapper objectMapper;
+
+	private final Cache<String, ProductPageBody> bodies;
+
+	public ProductPageBodyCache(ObjectMapper objectMapper, ProductCacheProperties properties) {
+		this.objectMapper = objectMapper;
+		this.bodies = Caffeine.newBuilder()
+			.maximumWeight(properties.getPageBodyMaximumWeight())
+			.weigher((String key, ProductPageBody body) -> body.getJson().length)
+			.expireAfterWrite(properties.getPageExpireAfterWrite())
+			.recordStats()
+			.build();
+	}
+
+	/*
+	캐시에 없으면 loader 로 응답을 만들어 직렬화합니다. 같은 키를 기다리는 요청은 한 번만 직렬화한 결과를 함께 사용합니다.
+	 */
+	public ProductPageBody get(String key, Supplier<ProductPageResponse> loader) {
+		return bodies.get(key, bodyKey -> serialize(loader.get()));
+	}
+
+	@EventListener
+	public void onProductsChanged(ProductsChangedEvent event) {
+		bodies.invalidateAll();
+	}
+
+	public CacheStats stats() {
+		return bodies.stats();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, bodies, CACHE_NAME);
+	}
+
+	private ProductPageBody serialize(ProductPageResponse response) {
+		byte[] json;
+		try {
+			json = objectMapper.writeValueAsBytes(response);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("제품 목록을 JSON 으로 변환하지 못했습니다.", e);
+		}
+
+		String etag = "\"0" + DigestUtils.md5DigestAsHex(json) + "\"";
+		return new ProductPageBody(json, etag, response.getProducts().size());
+	}
+}
@@ -0,0 +1,160 @@
+package com.flab.sooldama.domain.product.cache;
+
+import com.flab.sooldama.domain.product.domain.Product;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/*
+제품 리스트를 Redis 에 저장하기 위한 바이너리 직렬화기입니다.
+JSON 이나 JDK 직렬화와 달리 필드 이름이나 클래스 정보를 저장하지 않고, 필드 순서대로 값만 기록합니다.
+값이 null 인 필드는 제품마다 앞에 기록하는 비트마스크로 표시하고 값은 생략합니다.
+
+형식: [형식 버전(1byte)] [제품 수(int)] { [null 이 아닌 필드 비트마스크(short)] [필드 값...] } * 제품 수
+ */
+public class ProductRedisSerializer implements RedisSerializer<List<Product>> {
+
+	private static final byte FORMAT_VERSION = 1;
+
+	private static final int ID = 1;
+	private static final int PRODUCT_CATEGORY_ID = 1 << 1;
+	private static final int NAME = 1 << 2;
+	private static final int PRICE = 1 << 3;
+	private static final int IMAGE_URL = 1 << 4;
+	private static final int DESCRIPTION = 1 << 5;
+	private static final int ABV = 1 << 6;
+	private static final int CAPACITY = 1 << 7;
+	private static final int CREATED_AT = 1 << 8;
+	private static final int UPDATED_AT = 1 << 9;
+	private static final int DELETED_AT = 1 << 10;
+
+	@Override
+	public byte[] serialize(List<Product> products) throws SerializationException {
+		if (products == null) {
+			return null;
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + products.size() * 256);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeByte(FORMAT_VERSION);
+			out.writeInt(products.size());
+
+			for (Product product : products) {
+				writeProduct(out, product);
+			}
+		} catch (IOException e) {
+			throw new SerializationException("제품 정보를 직렬화할 수 없습니다", e);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public List<Product> deserialize(byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+			if (in.readByte() != FORMAT_VERSION) {
+				throw new SerializationException("지원하지 않는 제품 직렬화 형식입니다");
+			}
+
+			int size = in.readInt();
+			List<Product> products = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				products.add(readProduct(in));
+			}
+
+			return products;
+		} catch (IOException e) {
+			throw new SerializationException("제품 정보를 역직렬화할 수 없습니다", e);
+		}
+	}
+
+	private void writeProduct(DataOutputStream out, Product product) throws IOException {
+		int mask = (product.getId() != null ? ID : 0)
+			| (product.getProductCategoryId() != null ? PRODUCT_CATEGORY_ID : 0)
+			| (product.getName() != null ? NAME : 0)
+			| (product.getPrice() != null ? PRICE : 0)
+			| (product.getImageUrl() != null ? IMAGE_URL : 0)
+			| (product.getDescription() != null ? DESCRIPTION : 0)
+			| (product.getAbv() != null ? ABV : 0)
+			| (product.getCapacity() != null ? CAPACITY : 0)
+			| (product.getCreatedAt() != null ? CREATED_AT : 0)
+			| (product.getUpdatedAt() != null ? UPDATED_AT : 0)
+			| (product.getDeletedAt() != null ? DELETED_AT : 0);
+
+		out.writeShort(mask);
+		if ((mask & ID) != 0) {
+			out.writeLong(product.getId());
+		}
+		if ((mask & PRODUCT_CATEGORY_ID) != 0) {
+			out.writeLong(product.getProductCategoryId());
+		}
+		if ((mask & NAME) != 0) {
+			out.writeUTF(product.getName());
+		}
+		if ((mask & PRICE) != 0) {
+			out.writeInt(product.getPrice());
+		}
+		if ((mask & IMAGE_URL) != 0) {
+			out.writeUTF(product.getImageUrl());
+		}
+		if ((mask & DESCRIPTION) != 0) {
+			out.writeUTF(product.getDescription());
+		}
+		if ((mask & ABV) != 0) {
+			out.writeDouble(product.getAbv());
+		}
+		if ((mask & CAPACITY) != 0) {
+			out.writeInt(product.getCapacity());
+		}
+		if ((mask & CREATED_AT) != 0) {
+			writeDateTime(out, product.getCreatedAt());
+		}
+		if ((mask & UPDATED_AT) != 0) {
+			writeDateTime(out, product.getUpdatedAt());
+		}
+		if ((mask & DELETED_AT) != 0) {
+			writeDateTime(out, product.getDeletedAt());
+		}
+	}
+
+	private Product readProduct(DataInputStream in) throws IOException {
+		int mask = in.readUnsignedShort();
+
+		return Product.builder()
+			.id((mask & ID) != 0 ? in.readLong() : null)
+			.productCategoryId((mask & PRODUCT_CATEGORY_ID) != 0 ? in.readLong() : null)
+			.name((mask & NAME) != 0 ? in.readUTF() : null)
+			.price((mask & PRICE) != 0 ? in.readInt() : null)
+			.imageUrl((mask & IMAGE_URL) != 0 ? in.readUTF() : null)
+			.description((mask & DESCRIPTION) != 0 ? in.readUTF() : null)
+			.abv((mask & ABV) != 0 ? in.readDouble() : null)
+			.capacity((mask & CAPACITY) != 0 ? in.readInt() : null)
+			.createdAt((mask & CREATED_AT) != 0 ? readDateTime(in) : null)
+			.updatedAt((mask & UPDATED_AT) != 0 ? readDateTime(in) : null)
+			.deletedAt((mask & DELETED_AT) != 0 ? readDateTime(in) : null)
+			.build();
+	}
+
+	private void writeDateTime(DataOutputStream out, LocalDateTime dateTime) throws IOException {
+		out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+		out.writeInt(dateTime.getNano());
+	}
+
+	private LocalDateTime readDateTime(DataInputStream in) throws IOException {
+		long epochSecond = in.readLong();
+		int nano = in.readInt();
+		return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+	}
+}
@@ -0,0 +1,30 @@
+package com.flab.sooldama.domain.product.cache;
+
+import com.flab.sooldama.domain.product.domain.Product;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/*
+여러 서버가 함께 사용하는 2차 캐시입니다.
+단건 조회 결과는 크기가 0 또는 1인 리스트로, 제품 목록 페이지는 조회된 순서대로 저장합니다.
+ */
+public interface ProductRemoteCache {
+
+	// 2차 캐시에서 카탈로그 버전을 올리지 못했을 때 evict 가 반환하는 값입니다.
+	long UNKNOWN_VERSION = -1L;
+
+	Optional<List<Product>> get(String key);
+
+	void put(String key, List<Product> products, Duration ttl);
+
+	long currentVersion();
+
+	/*
+	제품 캐시를 지우고 카탈로그 버전을 올린 뒤, 모든 서버에 1차 캐시를 무효화하라고 알립니다.
+	productIds 가 비어있으면 전체 제품을 무효화합니다. 올라간 카탈로그 버전을 반환합니다.
+	2차 캐시에 장애가 나면 예외를 던지지 않고 UNKNOWN_VERSION 을 반환합니다.
+	 */
+	long evict(Collection<Long> productIds);
+}
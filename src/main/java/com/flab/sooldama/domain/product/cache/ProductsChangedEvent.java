@@ -0,0 +1,20 @@
+package com.flab.sooldama.domain.product.cache;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.Getter;
+
+/*
+제품 캐시를 비울 때 ProductCache 가 발행합니다. 제품을 바꾼 서버뿐 아니라 무효화 메시지를 받은 모든 서버에서 발행되므로,
+캐시처럼 서버마다 따로 들고 있는 제품 정보(검색 색인 등)를 다시 만들 때 사용합니다.
+productIds 가 비어 있으면 어떤 제품이 바뀌었는지 모르는 경우(일괄 등록 등)입니다.
+ */
+@Getter
+public class ProductsChangedEvent {
+
+	private final List<Long> productIds;
+
+	public ProductsChangedEvent(Collection<Long> productIds) {
+		this.productIds = List.copyOf(productIds);
+	}
+}
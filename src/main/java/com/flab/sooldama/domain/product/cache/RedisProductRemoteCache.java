@@ -0,0 +1,99 @@
+package com.flab.sooldama.domain.product.cache;
+
+import com.flab.sooldama.domain.product.domain.Product;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/*
+Redis 를 2차 캐시로 사용합니다.
+Redis 에 장애가 나더라도 제품 조회는 DB 로 계속 처리되어야 하므로, Redis 접근 중 발생한 예외는 로그만 남기고
+캐시에 없는 것으로 처리합니다. 무효화에 실패해도 제품 변경은 실패로 만들지 않습니다.
+
+무효화 메시지에는 이 서버의 nodeId 를 담아서, 메시지를 받은 서버가 자기가 보낸 메시지를 구분할 수 있게 합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisProductRemoteCache implements ProductRemoteCache {
+
+	public static final String INVALIDATION_CHANNEL = "product:cache:invalidation";
+
+	static final String VERSION_KEY = "product:catalog-version";
+
+	private final RedisTemplate<String, List<Product>> productRedisTemplate;
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	private final String nodeId;
+
+	@Override
+	public Optional<List<Product>> get(String key) {
+		try {
+			return Optional.ofNullable(productRedisTemplate.opsForValue().get(key));
+		} catch (DataAccessException e) {
+			log.warn("Redis 제품 캐시 조회에 실패했습니다. key={}", key, e);
+			return Optional.empty();
+		}
+	}
+
+	@Override
+	public void put(String key, List<Product> products, Duration ttl) {
+		try {
+			productRedisTemplate.opsForValue().set(key, products, ttl);
+		} catch (DataAccessException e) {
+			log.warn("Redis 제품 캐시 저장에 실패했습니다. key={}", key, e);
+		}
+	}
+
+	@Override
+	public long currentVersion() {
+		try {
+			String version = stringRedisTemplate.opsForValue().get(VERSION_KEY);
+			return version == null ? 0L : Long.parseLong(version);
+		} catch (DataAccessException e) {
+			log.warn("Redis 카탈로그 버전 조회에 실패했습니다", e);
+			return 0L;
+		}
+	}
+
+	/*
+	목록 페이지는 어떤 제품이 포함되어 있는지 알 수 없으므로 키를 찾아 지우지 않고,
+	카탈로그 버전을 올려서 이전 버전의 페이지 키가 더 이상 조회되지 않도록 합니다. 이전 버전의 키는 TTL 이 지나면 사라집니다.
+	Redis 에서 지우거나 버전을 올리지 못하면 UNKNOWN_VERSION 을 반환합니다.
+	 */
+	@Override
+	public long evict(Collection<Long> productIds) {
+		List<String> keys = productIds.stream()
+			.map(ProductCacheKeys::product)
+			.collect(Collectors.toList());
+
+		Long version;
+		try {
+			if (!keys.isEmpty()) {
+				productRedisTemplate.delete(keys);
+			}
+
+			version = stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+		} catch (DataAccessException e) {
+			log.warn("Redis 제품 캐시 무효화에 실패했습니다. productIds={}", productIds, e);
+			return UNKNOWN_VERSION;
+		}
+
+		try {
+			stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+				ProductCacheKeys.invalidationMessage(nodeId, version, new ArrayList<>(productIds)));
+		} catch (DataAccessException e) {
+			log.warn("Redis 제품 캐시 무효화 메시지 발행에 실패했습니다. version={}", version, e);
+		}
+
+		return version;
+	}
+}
@@ -0,0 +1,19 @@
+package com.flab.sooldama.domain.product.dao;
+
+import com.flab.sooldama.domain.product.dto.request.ProductCategoryImportRow;
+import com.flab.sooldama.domain.product.dto.request.ProductImportRow;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+
+/*
+일괄 등록에 사용하는 매퍼입니다. upsert 는 BATCH 실행기로 실행하므로 반영된 행 수를 반환하지 않습니다.
+ */
+@Mapper
+public interface ProductImportMapper {
+
+	void upsertProduct(ProductImportRow row);
+
+	void upsertProductCategory(ProductCategoryImportRow row);
+
+	List<Long> selectProductCategoryIds();
+}
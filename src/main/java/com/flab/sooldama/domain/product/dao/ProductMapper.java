@@ -1,10 +1,12 @@
 package com.flab.sooldama.domain.product.dao;
 
 import com.flab.sooldama.domain.product.domain.Product;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 @Mapper
 public interface ProductMapper {
@@ -14,5 +16,22 @@ public interface ProductMapper {
 		@Param("limit") Integer limit,
 		@Param("categoryId") Long categoryId);
 
+	List<Product> selectProductsAfter(
+		@Param("lastId") Long lastId,
+		@Param("limit") Integer limit,
+		@Param("categoryId") Long categoryId);
+
     Optional<Product> selectProductById(Long productId);
+
+	/*
+	조회 결과를 한 번에 List 로 만들지 않고, Cursor 를 순회할 때마다 fetchSize 만큼씩 DB 에서 가져옵니다.
+	Cursor 는 조회한 SqlSession 이 열려 있는 동안만 사용할 수 있으므로 트랜잭션 안에서 순회해야 합니다.
+	 */
+	Cursor<Product> selectProductCursor(@Param("categoryId") Long categoryId);
+
+	/*
+	lastId 보다 나중에 추가됐거나 since 이후에 바뀌거나 지워진 제품을 지운 제품까지 포함해서 조회합니다.
+	 */
+	Cursor<Product> selectProductsChangedSince(@Param("lastId") Long lastId,
+		@Param("since") LocalDateTime since);
 }
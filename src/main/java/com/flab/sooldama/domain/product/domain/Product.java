@@ -1,6 +1,7 @@
 package com.flab.sooldama.domain.product.domain;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,4 +22,17 @@ public class Product {
 	private LocalDateTime createdAt;
 	private LocalDateTime updatedAt;
 	private LocalDateTime deletedAt;
+
+	/*
+	HTTP 응답의 Last-Modified 에 사용하는 마지막 수정 시각(epoch millis)입니다.
+	수정한 적이 없으면 등록 시각을 사용하고, 둘 다 없으면 -1 을 반환합니다.
+	 */
+	public long lastModifiedMillis() {
+		LocalDateTime modifiedAt = updatedAt != null ? updatedAt : createdAt;
+		if (modifiedAt == null) {
+			return -1;
+		}
+
+		return modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
 }
\ No newline at end of file
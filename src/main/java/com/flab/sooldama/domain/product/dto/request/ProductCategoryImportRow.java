@@ -0,0 +1,28 @@
+package com.flab.sooldama.domain.product.dto.request;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+제품 카테고리 일괄 등록 파일의 한 행입니다. 카테고리는 이름(product_category.name)으로 구분합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductCategoryImportRow {
+
+	@NotBlank
+	@Size(max = 255)
+	private String name;
+	@NotBlank
+	@Size(max = 2000)
+	private String description;
+	@NotBlank
+	@Size(max = 2000)
+	private String imageUrl;
+}
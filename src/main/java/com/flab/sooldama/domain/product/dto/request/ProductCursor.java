@@ -0,0 +1,65 @@
+package com.flab.sooldama.domain.product.dto.request;
+
+import com.flab.sooldama.domain.product.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+/*
+커서 기반 페이지네이션에서 사용하는 커서입니다.
+마지막으로 조회한 제품의 id와, 카테고리로 필터링한 경우 카테고리 id를 담아 Base64(URL-safe)로 인코딩합니다.
+클라이언트는 커서의 내용을 해석하지 않고 응답으로 받은 nextCursor를 다음 요청의 after 파라미터로 그대로 전달합니다.
+after 파라미터가 비어있으면 첫 페이지를 조회합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductCursor {
+
+	private static final String DELIMITER = ":";
+
+	private final Long lastId;
+	private final Long categoryId;
+
+	public static ProductCursor of(Long lastId, Long categoryId) {
+		return new ProductCursor(lastId, categoryId);
+	}
+
+	public static ProductCursor decode(String after, Long categoryId) {
+		if (!StringUtils.hasText(after)) {
+			return new ProductCursor(null, categoryId);
+		}
+
+		ProductCursor cursor;
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8);
+			String[] tokens = decoded.split(DELIMITER, -1);
+
+			if (tokens.length > 2) {
+				throw new InvalidCursorException("유효하지 않은 커서입니다");
+			}
+
+			Long lastId = Long.valueOf(tokens[0]);
+			Long cursorCategoryId = tokens.length == 2 ? Long.valueOf(tokens[1]) : null;
+			cursor = new ProductCursor(lastId, cursorCategoryId);
+		} catch (IllegalArgumentException e) {
+			throw new InvalidCursorException("유효하지 않은 커서입니다");
+		}
+
+		if (!Objects.equals(cursor.getCategoryId(), categoryId)) {
+			throw new InvalidCursorException("커서와 카테고리가 일치하지 않습니다");
+		}
+
+		return cursor;
+	}
+
+	public String encode() {
+		String raw = categoryId == null ? String.valueOf(lastId) : lastId + DELIMITER + categoryId;
+
+		return Base64.getUrlEncoder().withoutPadding()
+			.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,36 @@
+package com.flab.sooldama.domain.product.dto.request;
+
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/*
+제품 필터 조건입니다. 범위의 최솟값과 최댓값은 모두 포함하고, 비워 두면 그쪽으로는 제한하지 않습니다.
+쿼리스트링을 @ModelAttribute 로 바인딩하므로 setter 가 필요합니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFilterRequest {
+
+	private Long categoryId;
+	@DecimalMin("0.0")
+	private Double abvMin;
+	@DecimalMin("0.0")
+	private Double abvMax;
+	@Min(0)
+	private Integer priceMin;
+	@Min(0)
+	private Integer priceMax;
+	@Min(0)
+	private Integer capacityMin;
+	@Min(0)
+	private Integer capacityMax;
+	private String after;
+}
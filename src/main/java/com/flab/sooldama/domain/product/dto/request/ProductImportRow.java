@@ -0,0 +1,45 @@
+package com.flab.sooldama.domain.product.dto.request;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+제품 일괄 등록 파일의 한 행입니다. CSV 는 첫 줄의 컬럼 이름, JSON lines 는 필드 이름이 이 클래스의 필드 이름과 같아야 합니다.
+제품은 이름(product.name)으로 구분하므로 같은 이름의 제품이 있으면 나머지 정보를 새 값으로 바꿉니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportRow {
+
+	@NotNull
+	private Long productCategoryId;
+	@NotBlank
+	@Size(max = 255)
+	private String name;
+	@NotNull
+	@Min(0)
+	private Integer price;
+	@NotBlank
+	@Size(max = 2000)
+	private String imageUrl;
+	@NotBlank
+	@Size(max = 2000)
+	private String description;
+	@NotNull
+	@DecimalMin("0.0")
+	@DecimalMax("100.0")
+	private Double abv;
+	@NotNull
+	@Min(1)
+	private Integer capacity;
+}
@@ -0,0 +1,16 @@
+package com.flab.sooldama.domain.product.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+패싯 구간 하나와 그 구간에 속한 제품 수입니다. min 은 포함, max 는 포함하지 않으며 null 이면 제한이 없습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class FacetBucketResponse {
+
+	private Integer min;
+	private Integer max;
+	private int count;
+}
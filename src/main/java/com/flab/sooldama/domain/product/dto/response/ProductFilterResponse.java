@@ -0,0 +1,24 @@
+package com.flab.sooldama.domain.product.dto.response;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/*
+제품 필터 응답입니다. total 은 조건에 맞는 전체 제품 수이고, facets 는 패싯 이름(abv, price, capacity)별 구간과 제품 수입니다.
+다음 페이지는 nextCursor 를 after 파라미터로 전달해서 조회합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ProductFilterResponse {
+
+	private List<ProductResponse> products;
+	private Integer limit;
+	private int total;
+	private boolean hasNext;
+	private String nextCursor;
+	private Map<String, List<FacetBucketResponse>> facets;
+}
@@ -0,0 +1,41 @@
+package com.flab.sooldama.domain.product.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/*
+일괄 등록 결과입니다. 청크마다 저장한 행 수와 걸린 시간을, 거절된 행은 줄 번호와 이유를 알려줍니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ProductImportResponse {
+
+	private long totalRows;
+	private long importedRows;
+	private long rejectedRows;
+	private List<Chunk> chunks;
+	private List<Reject> rejects;
+
+	@Getter
+	@Builder
+	@AllArgsConstructor
+	public static class Chunk {
+
+		private int index;
+		private int rows;
+		private boolean committed;
+		private long elapsedMillis;
+	}
+
+	@Getter
+	@Builder
+	@AllArgsConstructor
+	public static class Reject {
+
+		private long line;
+		private String reason;
+	}
+}
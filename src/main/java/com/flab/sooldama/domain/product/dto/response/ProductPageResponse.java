@@ -0,0 +1,22 @@
+package com.flab.sooldama.domain.product.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/*
+제품 목록 조회 응답입니다. limit 은 페이지 크기 정책을 적용한 뒤 실제로 사용한 페이지 크기입니다.
+다음 페이지를 조회할 때 offset 기반 조회는 nextOffset 을, 커서 기반 조회는 nextCursor 를 사용합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ProductPageResponse {
+
+	private List<ProductResponse> products;
+	private Integer limit;
+	private boolean hasNext;
+	private Integer nextOffset;
+	private String nextCursor;
+}
@@ -0,0 +1,19 @@
+package com.flab.sooldama.domain.product.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/*
+제품 검색 응답입니다. products 는 검색어와 관련이 높은 순서대로 정렬되어 있습니다.
+limit 은 페이지 크기 정책을 적용한 뒤 실제로 사용한 개수입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ProductSearchResponse {
+
+	private List<ProductResponse> products;
+	private Integer limit;
+}
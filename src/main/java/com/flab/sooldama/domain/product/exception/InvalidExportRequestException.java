@@ -0,0 +1,8 @@
+package com.flab.sooldama.domain.product.exception;
+
+public class InvalidExportRequestException extends RuntimeException {
+
+	public InvalidExportRequestException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,8 @@
+package com.flab.sooldama.domain.product.exception;
+
+public class InvalidImportRequestException extends RuntimeException {
+
+	public InvalidImportRequestException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,8 @@
+package com.flab.sooldama.domain.product.exception;
+
+public class InvalidProductFilterException extends RuntimeException {
+
+	public InvalidProductFilterException(String message) {
+		super(message);
+	}
+}
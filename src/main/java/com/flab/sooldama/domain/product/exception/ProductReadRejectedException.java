@@ -0,0 +1,7 @@
+package com.flab.sooldama.domain.product.exception;
+
+public class ProductReadRejectedException extends RuntimeException {
+	public ProductReadRejectedException(String message) {
+		super(message);
+	}
+}
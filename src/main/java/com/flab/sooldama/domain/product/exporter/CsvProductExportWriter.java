@@ -0,0 +1,91 @@
+package com.flab.sooldama.domain.product.exporter;
+
+import com.flab.sooldama.domain.product.domain.Product;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/*
+RFC 4180 형식으로 씁니다. 첫 행은 컬럼 이름이고, 행은 CRLF 로 구분합니다.
+쉼표, 큰따옴표, 줄바꿈이 들어 있는 값은 큰따옴표로 감싸고, 값 안의 큰따옴표는 두 번 씁니다.
+컬럼 이름이 일괄 등록 파일과 같으므로 내보낸 파일을 그대로 다시 등록할 수 있습니다(id 컬럼은 무시됩니다).
+ */
+class CsvProductExportWriter implements ProductExportWriter {
+
+	static final String HEADER = "id,productCategoryId,name,price,imageUrl,description,abv,capacity";
+
+	private static final String LINE_SEPARATOR = "\r\n";
+
+	private static final char DELIMITER = ',';
+
+	private static final char QUOTE = '"';
+
+	private final Writer writer;
+
+	CsvProductExportWriter(OutputStream outputStream) throws IOException {
+		this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		this.writer.write(HEADER);
+		this.writer.write(LINE_SEPARATOR);
+	}
+
+	@Override
+	public void write(Product product) throws IOException {
+		writeValue(product.getId());
+		writer.write(DELIMITER);
+		writeValue(product.getProductCategoryId());
+		writer.write(DELIMITER);
+		writeValue(product.getName());
+		writer.write(DELIMITER);
+		writeValue(product.getPrice());
+		writer.write(DELIMITER);
+		writeValue(product.getImageUrl());
+		writer.write(DELIMITER);
+		writeValue(product.getDescription());
+		writer.write(DELIMITER);
+		writeValue(product.getAbv());
+		writer.write(DELIMITER);
+		writeValue(product.getCapacity());
+		writer.write(LINE_SEPARATOR);
+	}
+
+	@Override
+	public void finish() throws IOException {
+		writer.flush();
+	}
+
+	private void writeValue(Object value) throws IOException {
+		if (value == null) {
+			return;
+		}
+
+		String text = String.valueOf(value);
+		if (!needsQuote(text)) {
+			writer.write(text);
+			return;
+		}
+
+		writer.write(QUOTE);
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == QUOTE) {
+				writer.write(QUOTE);
+			}
+			writer.write(c);
+		}
+		writer.write(QUOTE);
+	}
+
+	private static boolean needsQuote(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == DELIMITER || c == QUOTE || c == '\r' || c == '\n') {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,49 @@
+package com.flab.sooldama.domain.product.exporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flab.sooldama.domain.product.exception.InvalidExportRequestException;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.springframework.http.MediaType;
+
+/*
+내보내기 파일 형식입니다. 요청의 format 파라미터(csv, ndjson)로 형식을 정합니다.
+Content-Type 은 일괄 등록 형식과 같고, 클라이언트가 한글을 올바르게 읽도록 charset 을 함께 보냅니다.
+ */
+public enum ExportFormat {
+
+	CSV("csv", "text/csv;charset=UTF-8"),
+	JSON_LINES("ndjson", "application/x-ndjson;charset=UTF-8");
+
+	private final String name;
+
+	private final MediaType mediaType;
+
+	ExportFormat(String name, String mediaType) {
+		this.name = name;
+		this.mediaType = MediaType.parseMediaType(mediaType);
+	}
+
+	public static ExportFormat of(String name) {
+		for (ExportFormat format : values()) {
+			if (format.name.equalsIgnoreCase(name)) {
+				return format;
+			}
+		}
+
+		throw new InvalidExportRequestException("지원하지 않는 파일 형식입니다: " + name);
+	}
+
+	public MediaType getMediaType() {
+		return mediaType;
+	}
+
+	public ProductExportWriter writer(OutputStream outputStream, ObjectMapper objectMapper)
+		throws IOException {
+		if (this == CSV) {
+			return new CsvProductExportWriter(outputStream);
+		}
+
+		return new JsonLinesProductExportWriter(outputStream, objectMapper);
+	}
+}
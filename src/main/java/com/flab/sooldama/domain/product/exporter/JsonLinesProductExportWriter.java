@@ -0,0 +1,37 @@
+package com.flab.sooldama.domain.product.exporter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flab.sooldama.domain.product.domain.Product;
+import com.flab.sooldama.domain.product.dto.response.ProductResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/*
+제품 하나를 ProductResponse 와 같은 모양의 JSON 객체 한 줄로 씁니다.
+JsonGenerator 는 기본적으로 최상위 값 사이에 공백을 넣으므로, 구분자를 없애고 줄바꿈을 직접 씁니다.
+ */
+class JsonLinesProductExportWriter implements ProductExportWriter {
+
+	private static final char LINE_SEPARATOR = '\n';
+
+	private final JsonGenerator generator;
+
+	JsonLinesProductExportWriter(OutputStream outputStream, ObjectMapper objectMapper)
+		throws IOException {
+		this.generator = objectMapper.getFactory().createGenerator(outputStream)
+			.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+			.setRootValueSeparator(null);
+	}
+
+	@Override
+	public void write(Product product) throws IOException {
+		generator.writeObject(ProductResponse.of(product));
+		generator.writeRaw(LINE_SEPARATOR);
+	}
+
+	@Override
+	public void finish() throws IOException {
+		generator.close();
+	}
+}
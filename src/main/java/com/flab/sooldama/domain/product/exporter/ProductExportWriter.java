@@ -0,0 +1,17 @@
+package com.flab.sooldama.domain.product.exporter;
+
+import com.flab.sooldama.domain.product.domain.Product;
+import java.io.IOException;
+
+/*
+제품을 한 행씩 출력 스트림에 씁니다.
+쓴 행을 모아 두지 않고 작은 버퍼를 거쳐 바로 내보내므로, 내보내는 행 수와 관계없이 사용하는 메모리가 일정합니다.
+
+finish 는 버퍼에 남은 내용을 내보내기만 하고 출력 스트림은 닫지 않습니다. 스트림은 연 쪽에서 닫습니다.
+ */
+public interface ProductExportWriter {
+
+	void write(Product product) throws IOException;
+
+	void finish() throws IOException;
+}
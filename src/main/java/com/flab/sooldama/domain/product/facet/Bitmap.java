@@ -0,0 +1,104 @@
+package com.flab.sooldama.domain.product.facet;
+
+import java.util.Arrays;
+
+/*
+문서 번호를 비트 하나로 나타내는 비트맵입니다. 제품 100만 개는 약 122KB 입니다.
+java.util.BitSet 과 달리 두 비트맵을 AND 한 결과를 새로 만들지 않고 개수만 셀 수 있어서(andCardinality),
+필터 조합마다 패싯 개수를 셀 때 메모리를 할당하지 않습니다.
+ */
+public final class Bitmap {
+
+	private static final int WORD_SHIFT = 6;
+
+	private long[] words;
+
+	public Bitmap() {
+		this(new long[1]);
+	}
+
+	private Bitmap(long[] words) {
+		this.words = words;
+	}
+
+	public void set(int bit) {
+		int word = bit >>> WORD_SHIFT;
+		if (word >= words.length) {
+			words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+		}
+		words[word] |= 1L << bit;
+	}
+
+	public void clear(int bit) {
+		int word = bit >>> WORD_SHIFT;
+		if (word < words.length) {
+			words[word] &= ~(1L << bit);
+		}
+	}
+
+	public boolean get(int bit) {
+		int word = bit >>> WORD_SHIFT;
+		return word < words.length && (words[word] & (1L << bit)) != 0;
+	}
+
+	public Bitmap copy() {
+		return new Bitmap(words.clone());
+	}
+
+	public void and(Bitmap other) {
+		int common = Math.min(words.length, other.words.length);
+		for (int i = 0; i < common; i++) {
+			words[i] &= other.words[i];
+		}
+		Arrays.fill(words, common, words.length, 0L);
+	}
+
+	public void or(Bitmap other) {
+		if (other.words.length > words.length) {
+			words = Arrays.copyOf(words, other.words.length);
+		}
+		for (int i = 0; i < other.words.length; i++) {
+			words[i] |= other.words[i];
+		}
+	}
+
+	public int cardinality() {
+		int count = 0;
+		for (long word : words) {
+			count += Long.bitCount(word);
+		}
+
+		return count;
+	}
+
+	public int andCardinality(Bitmap other) {
+		int common = Math.min(words.length, other.words.length);
+		int count = 0;
+		for (int i = 0; i < common; i++) {
+			count += Long.bitCount(words[i] & other.words[i]);
+		}
+
+		return count;
+	}
+
+	/*
+	from 이후(from 포함)에 처음으로 켜진 비트를 찾습니다. 없으면 -1 을 반환합니다.
+	 */
+	public int nextSetBit(int from) {
+		int word = from >>> WORD_SHIFT;
+		if (word >= words.length) {
+			return -1;
+		}
+
+		long remaining = words[word] & (-1L << from);
+		while (true) {
+			if (remaining != 0) {
+				return (word << WORD_SHIFT) + Long.numberOfTrailingZeros(remaining);
+			}
+			if (++word == words.length) {
+				return -1;
+			}
+			remaining = words[word];
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.flab.sooldama.domain.product.facet;
+
+import com.flab.sooldama.domain.product.domain.Product;
+import java.util.function.Function;
+import lombok.Getter;
+
+/*
+제품을 나눠 볼 수 있는 숫자 속성(패싯)과 구간입니다.
+boundaries 의 값을 경계로 구간을 나눕니다. 예) 도수는 3 미만, 3 이상 6 미만, ..., 25 이상의 6개 구간입니다.
+구간은 자주 찾는 범위(막걸리 6~8도, 750ml 이하 등)가 한두 구간 안에 들어오도록 나눴습니다.
+ */
+@Getter
+public enum Facet {
+
+	ABV("abv", new int[]{3, 6, 9, 15, 25}, Product::getAbv),
+	PRICE("price", new int[]{5000, 10000, 20000, 50000}, Product::getPrice),
+	CAPACITY("capacity", new int[]{360, 500, 750, 1000}, Product::getCapacity);
+
+	private final String name;
+
+	private final int[] boundaries;
+
+	private final Function<Product, Number> accessor;
+
+	Facet(String name, int[] boundaries, Function<Product, Number> accessor) {
+		this.name = name;
+		this.boundaries = boundaries;
+		this.accessor = accessor;
+	}
+
+	public int bucketCount() {
+		return boundaries.length + 1;
+	}
+
+	/*
+	값이 없으면 NaN 을 반환합니다.
+	 */
+	public double valueOf(Product product) {
+		Number value = accessor.apply(product);
+		return value == null ? Double.NaN : value.doubleValue();
+	}
+
+	/*
+	값이 속한 구간 번호를 반환합니다. 값이 없으면(NaN) -1 입니다.
+	 */
+	public int bucketOf(double value) {
+		if (Double.isNaN(value)) {
+			return -1;
+		}
+
+		int bucket = 0;
+		while (bucket < boundaries.length && value >= boundaries[bucket]) {
+			bucket++;
+		}
+
+		return bucket;
+	}
+
+	/*
+	구간의 하한(포함)입니다. 첫 구간은 하한이 없어서 null 입니다.
+	 */
+	public Integer lowerBound(int bucket) {
+		return bucket == 0 ? null : boundaries[bucket - 1];
+	}
+
+	/*
+	구간의 상한(미포함)입니다. 마지막 구간은 상한이 없어서 null 입니다.
+	 */
+	public Integer upperBound(int bucket) {
+		return bucket == boundaries.length ? null : boundaries[bucket];
+	}
+}
@@ -0,0 +1,28 @@
+package com.flab.sooldama.domain.product.facet;
+
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Getter;
+
+/*
+카테고리와 패싯별 범위로 이루어진 필터 조건입니다. 범위가 없는 패싯은 필터를 적용하지 않습니다.
+ */
+@Getter
+public class FacetQuery {
+
+	private final Long categoryId;
+
+	private final Map<Facet, FacetRange> ranges = new EnumMap<>(Facet.class);
+
+	public FacetQuery(Long categoryId) {
+		this.categoryId = categoryId;
+	}
+
+	public FacetQuery with(Facet facet, FacetRange range) {
+		if (range != null) {
+			ranges.put(facet, range);
+		}
+
+		return this;
+	}
+}
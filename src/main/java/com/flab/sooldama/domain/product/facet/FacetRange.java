@@ -0,0 +1,58 @@
+package com.flab.sooldama.domain.product.facet;
+
+import com.flab.sooldama.domain.product.exception.InvalidProductFilterException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+필터로 요청한 값의 범위입니다. min, max 모두 포함하며 null 이면 그쪽으로는 제한이 없습니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FacetRange {
+
+	private final Double min;
+	private final Double max;
+
+	/*
+	min, max 가 모두 없으면 필터를 적용하지 않으므로 null 을 반환합니다.
+	 */
+	public static FacetRange of(Number min, Number max) {
+		if (min == null && max == null) {
+			return null;
+		}
+
+		Double lower = min == null ? null : min.doubleValue();
+		Double upper = max == null ? null : max.doubleValue();
+		if (lower != null && upper != null && lower > upper) {
+			throw new InvalidProductFilterException("최솟값이 최댓값보다 큽니다");
+		}
+
+		return new FacetRange(lower, upper);
+	}
+
+	public boolean contains(double value) {
+		return !Double.isNaN(value)
+			&& (min == null || value >= min)
+			&& (max == null || value <= max);
+	}
+
+	/*
+	[lower, upper) 구간의 모든 값이 범위 안에 있는지 확인합니다. null 은 제한이 없다는 뜻입니다.
+	 */
+	public boolean covers(Integer lower, Integer upper) {
+		boolean coversLower = min == null || lower != null && lower >= min;
+		boolean coversUpper = max == null || upper != null && upper <= max;
+
+		return coversLower && coversUpper;
+	}
+
+	/*
+	[lower, upper) 구간에 범위 안의 값이 하나도 없는지 확인합니다.
+	 */
+	public boolean excludes(Integer lower, Integer upper) {
+		return max != null && lower != null && max < lower
+			|| min != null && upper != null && min >= upper;
+	}
+}
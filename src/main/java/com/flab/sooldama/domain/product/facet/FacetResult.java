@@ -0,0 +1,24 @@
+package com.flab.sooldama.domain.product.facet;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+필터 결과입니다.
+- productIds: after 다음부터 조건에 맞는 제품 아이디를 최대 limit + 1 개까지 담습니다. 남는 한 개로 다음 페이지가 있는지 압니다.
+- total: 조건에 맞는 전체 제품 수입니다.
+- counts: 패싯마다 자기 자신을 뺀 나머지 조건에 맞는 제품을 구간별로 센 값입니다. 도수 필터를 바꾸면 몇 개가 나올지
+  미리 보여줄 수 있도록, 도수 구간의 개수에는 도수 필터를 적용하지 않습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class FacetResult {
+
+	private final List<Long> productIds;
+
+	private final int total;
+
+	private final Map<Facet, int[]> counts;
+}
@@ -0,0 +1,394 @@
+package com.flab.sooldama.domain.product.facet;
+
+import com.flab.sooldama.domain.product.domain.Product;
+import com.flab.sooldama.domain.product.index.ProductIndex;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+제품을 카테고리별로 나누고, 카테고리 안에서 패싯(Facet) 구간별 비트맵으로 미리 나눠 둔 색인입니다.
+카테고리마다 제품에 문서 번호를 따로 붙이고, 패싯마다 값이 속한 구간 비트맵의 문서 번호 자리 비트를 켭니다.
+카테고리로 필터링하면 그 카테고리의 비트맵만 사용하므로, 비트맵 연산 비용이 카테고리의 제품 수에 비례합니다.
+
+필터는 패싯마다 범위에 걸친 구간 비트맵을 OR 한 결과를 AND 해서 찾습니다.
+범위가 구간 일부에만 걸치면(예: 도수 6~8 은 6~9 구간의 일부) 그 구간의 문서만 실제 값과 비교합니다.
+SQL 로 같은 조건을 찾으려면 조합마다 인덱스가 필요하고, 패싯 개수를 세려면 조건마다 다시 조회해야 합니다.
+
+- 이미 색인한 제품을 다시 색인하면 같은 문서 번호의 비트를 바꿉니다. 지운 제품은 live 비트만 끄므로,
+  지운 문서가 많아지면 ProductIndexMaintainer 가 색인을 새로 만듭니다. 카테고리가 바뀐 제품도 이전 카테고리에서는 지운 문서가 됩니다.
+- 카테고리 안의 문서 번호 순서가 곧 아이디 순서입니다. 색인을 만들 때와 새 제품을 추가할 때는 아이디 순서로 읽으므로 뒤에 붙이고,
+  다른 카테고리에서 옮겨 온 제품처럼 마지막 문서보다 아이디가 작으면 그 카테고리의 문서 번호를 아이디 순서로 다시 붙입니다.
+  필터 결과도 아이디 순서로 반환합니다.
+
+필터는 읽기 잠금, 색인 변경은 쓰기 잠금을 잡으므로 여러 요청이 동시에 필터링할 수 있습니다.
+ */
+public class ProductFacetIndex implements ProductIndex {
+
+	private static final Facet[] FACETS = Facet.values();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<Long, Long> categoriesByProductId = new HashMap<>();
+
+	private final Map<Long, CategoryPartition> partitions = new HashMap<>();
+
+	@Override
+	public void index(Product product) {
+		Long categoryId = product.getProductCategoryId();
+
+		lock.writeLock().lock();
+		try {
+			if (categoriesByProductId.containsKey(product.getId())) {
+				Long previous = categoriesByProductId.get(product.getId());
+				if (!Objects.equals(previous, categoryId)) {
+					partitions.get(previous).remove(product.getId());
+				}
+			}
+
+			partitions.computeIfAbsent(categoryId, id -> new CategoryPartition()).index(product);
+			categoriesByProductId.put(product.getId(), categoryId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean remove(long productId) {
+		lock.writeLock().lock();
+		try {
+			if (!categoriesByProductId.containsKey(productId)) {
+				return false;
+			}
+
+			return partitions.get(categoriesByProductId.remove(productId)).remove(productId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/*
+	after 는 이전 페이지의 마지막 제품 아이디입니다. 첫 페이지는 null 입니다.
+	카테고리 조건이 없으면 카테고리마다 찾은 결과를 아이디 순서로 합칩니다.
+	 */
+	public FacetResult filter(FacetQuery query, Long after, int limit) {
+		lock.readLock().lock();
+		try {
+			Collection<CategoryPartition> targets = query.getCategoryId() == null
+				? partitions.values()
+				: partitionOf(query.getCategoryId());
+
+			List<Long> ids = new ArrayList<>();
+			int total = 0;
+			Map<Facet, int[]> counts = new EnumMap<>(Facet.class);
+			for (Facet facet : FACETS) {
+				counts.put(facet, new int[facet.bucketCount()]);
+			}
+
+			for (CategoryPartition partition : targets) {
+				total += partition.filter(query, after, limit, ids, counts);
+			}
+
+			if (targets.size() > 1) {
+				ids.sort(null);
+			}
+
+			return new FacetResult(ids.size() > limit + 1 ? ids.subList(0, limit + 1) : ids,
+				total, counts);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public int size() {
+		lock.readLock().lock();
+		try {
+			int size = 0;
+			for (CategoryPartition partition : partitions.values()) {
+				size += partition.liveCount;
+			}
+
+			return size;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public int deletedCount() {
+		lock.readLock().lock();
+		try {
+			int deleted = 0;
+			for (CategoryPartition partition : partitions.values()) {
+				deleted += partition.docCount - partition.liveCount;
+			}
+
+			return deleted;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private Collection<CategoryPartition> partitionOf(Long categoryId) {
+		CategoryPartition partition = partitions.get(categoryId);
+		return partition == null ? List.of() : List.of(partition);
+	}
+
+	/*
+	카테고리 하나에 속한 제품의 비트맵입니다. 잠금은 ProductFacetIndex 가 잡습니다.
+	 */
+	private static final class CategoryPartition {
+
+		private static final int INITIAL_CAPACITY = 64;
+
+		private final Map<Long, Integer> docsByProductId = new HashMap<>();
+
+		private final Bitmap[][] buckets = new Bitmap[FACETS.length][];
+
+		private Bitmap live;
+
+		private long[] productIds;
+
+		private final double[][] values = new double[FACETS.length][];
+
+		private int docCount;
+
+		private int liveCount;
+
+		CategoryPartition() {
+			reset(INITIAL_CAPACITY);
+		}
+
+		void index(Product product) {
+			double[] facetValues = new double[FACETS.length];
+			for (Facet facet : FACETS) {
+				facetValues[facet.ordinal()] = facet.valueOf(product);
+			}
+
+			long productId = product.getId();
+			if (!docsByProductId.containsKey(productId) && docCount > 0
+				&& productId < productIds[docCount - 1]) {
+				renumberWith(productId, facetValues);
+				return;
+			}
+
+			put(productId, facetValues);
+		}
+
+		private void put(long productId, double[] facetValues) {
+			Integer existing = docsByProductId.get(productId);
+			int doc;
+			if (existing == null) {
+				doc = docCount++;
+				ensureCapacity(docCount);
+				docsByProductId.put(productId, doc);
+				productIds[doc] = productId;
+			} else {
+				doc = existing;
+				clearBuckets(doc);
+			}
+
+			for (Facet facet : FACETS) {
+				double value = facetValues[facet.ordinal()];
+				values[facet.ordinal()][doc] = value;
+				int bucket = facet.bucketOf(value);
+				if (bucket >= 0) {
+					buckets[facet.ordinal()][bucket].set(doc);
+				}
+			}
+
+			if (!live.get(doc)) {
+				live.set(doc);
+				liveCount++;
+			}
+		}
+
+		/*
+		마지막 문서보다 아이디가 작은 제품을 뒤에 붙이면 문서 번호 순서가 아이디 순서와 달라져,
+		after 다음 문서를 찾는 이진 탐색과 카테고리별 결과를 합치는 순서가 틀어집니다.
+		살아 있는 문서와 새 제품을 아이디 순서로 다시 번호를 붙여 비트맵을 새로 만들고, 이때 지운 문서도 정리합니다.
+		카테고리가 바뀌는 경우에만 일어나므로 카테고리의 제품 수만큼 드는 비용을 감수합니다.
+		 */
+		private void renumberWith(long productId, double[] facetValues) {
+			long[] liveIds = new long[liveCount + 1];
+			double[][] liveValues = new double[liveCount + 1][];
+			int count = 0;
+			boolean inserted = false;
+			for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+				if (!inserted && productId < productIds[doc]) {
+					liveIds[count] = productId;
+					liveValues[count++] = facetValues;
+					inserted = true;
+				}
+
+				liveIds[count] = productIds[doc];
+				liveValues[count] = new double[FACETS.length];
+				for (Facet facet : FACETS) {
+					liveValues[count][facet.ordinal()] = values[facet.ordinal()][doc];
+				}
+				count++;
+			}
+			if (!inserted) {
+				liveIds[count] = productId;
+				liveValues[count++] = facetValues;
+			}
+
+			reset(Math.max(INITIAL_CAPACITY, count));
+			for (int i = 0; i < count; i++) {
+				put(liveIds[i], liveValues[i]);
+			}
+		}
+
+		private void reset(int capacity) {
+			docsByProductId.clear();
+			for (Facet facet : FACETS) {
+				buckets[facet.ordinal()] = new Bitmap[facet.bucketCount()];
+				for (int bucket = 0; bucket < facet.bucketCount(); bucket++) {
+					buckets[facet.ordinal()][bucket] = new Bitmap();
+				}
+				values[facet.ordinal()] = new double[capacity];
+			}
+
+			live = new Bitmap();
+			productIds = new long[capacity];
+			docCount = 0;
+			liveCount = 0;
+		}
+
+		boolean remove(long productId) {
+			Integer doc = docsByProductId.get(productId);
+			if (doc == null || !live.get(doc)) {
+				return false;
+			}
+
+			live.clear(doc);
+			liveCount--;
+			return true;
+		}
+
+		/*
+		조건에 맞는 제품 아이디를 after 다음부터 limit + 1 개까지 ids 에 더하고, 패싯 개수를 counts 에 더합니다.
+		조건에 맞는 제품 수를 반환합니다.
+		 */
+		int filter(FacetQuery query, Long after, int limit, List<Long> ids,
+			Map<Facet, int[]> counts) {
+			Map<Facet, Bitmap> matches = new EnumMap<>(Facet.class);
+			query.getRanges().forEach((facet, range) -> matches.put(facet, match(facet, range)));
+
+			Bitmap all = live.copy();
+			for (Bitmap match : matches.values()) {
+				all.and(match);
+			}
+
+			int added = 0;
+			for (int doc = all.nextSetBit(startDoc(after)); doc >= 0 && added <= limit;
+				doc = all.nextSetBit(doc + 1)) {
+				ids.add(productIds[doc]);
+				added++;
+			}
+
+			for (Facet facet : FACETS) {
+				count(facet, matches, counts.get(facet));
+			}
+
+			return all.cardinality();
+		}
+
+		/*
+		범위가 구간 전체를 덮으면 구간 비트맵을 그대로 OR 하고, 일부만 걸치면 그 구간의 살아 있는 문서만 실제 값과 비교합니다.
+		 */
+		private Bitmap match(Facet facet, FacetRange range) {
+			Bitmap match = new Bitmap();
+			double[] facetValues = values[facet.ordinal()];
+
+			for (int bucket = 0; bucket < facet.bucketCount(); bucket++) {
+				Integer lower = facet.lowerBound(bucket);
+				Integer upper = facet.upperBound(bucket);
+				Bitmap docs = buckets[facet.ordinal()][bucket];
+
+				if (range.excludes(lower, upper)) {
+					continue;
+				}
+				if (range.covers(lower, upper)) {
+					match.or(docs);
+					continue;
+				}
+
+				Bitmap candidates = docs.copy();
+				candidates.and(live);
+				for (int doc = candidates.nextSetBit(0); doc >= 0;
+					doc = candidates.nextSetBit(doc + 1)) {
+					if (range.contains(facetValues[doc])) {
+						match.set(doc);
+					}
+				}
+			}
+
+			return match;
+		}
+
+		/*
+		패싯 자신을 뺀 나머지 조건에 맞는 문서를 구간별로 셉니다. 비트맵을 새로 만들지 않고 AND 한 개수만 셉니다.
+		 */
+		private void count(Facet facet, Map<Facet, Bitmap> matches, int[] counts) {
+			Bitmap others = live;
+			for (Map.Entry<Facet, Bitmap> match : matches.entrySet()) {
+				if (match.getKey() == facet) {
+					continue;
+				}
+				if (others == live) {
+					others = live.copy();
+				}
+				others.and(match.getValue());
+			}
+
+			for (int bucket = 0; bucket < counts.length; bucket++) {
+				counts[bucket] += others.andCardinality(buckets[facet.ordinal()][bucket]);
+			}
+		}
+
+		/*
+		after 제품이 이 카테고리에 없으면 아이디가 after 보다 큰 첫 문서부터 찾습니다.
+		 */
+		private int startDoc(Long after) {
+			if (after == null) {
+				return 0;
+			}
+
+			Integer doc = docsByProductId.get(after);
+			if (doc != null) {
+				return doc + 1;
+			}
+
+			int index = Arrays.binarySearch(productIds, 0, docCount, after);
+			return index >= 0 ? index + 1 : -index - 1;
+		}
+
+		private void clearBuckets(int doc) {
+			for (Facet facet : FACETS) {
+				int bucket = facet.bucketOf(values[facet.ordinal()][doc]);
+				if (bucket >= 0) {
+					buckets[facet.ordinal()][bucket].clear(doc);
+				}
+			}
+		}
+
+		private void ensureCapacity(int capacity) {
+			if (capacity > productIds.length) {
+				int grown = Math.max(capacity, productIds.length * 2);
+				productIds = Arrays.copyOf(productIds, grown);
+				for (int facet = 0; facet < values.length; facet++) {
+					values[facet] = Arrays.copyOf(values[facet], grown);
+				}
+			}
+		}
+	}
+}
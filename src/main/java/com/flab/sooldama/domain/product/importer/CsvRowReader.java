@@ -0,0 +1,158 @@
+package com.flab.sooldama.domain.product.importer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/*
+첫 줄이 컬럼 이름인 CSV(RFC 4180) 파일을 읽습니다.
+큰따옴표로 감싼 값 안에서는 쉼표와 줄바꿈을 그대로 쓸 수 있고, 큰따옴표는 두 번("") 써서 나타냅니다.
+한 글자씩 읽으며 한 행을 만들고, 컬럼 이름을 키로 하는 Map 을 거쳐 객체로 바꿉니다. 빈 값은 null 로 읽습니다.
+ */
+class CsvRowReader<T> implements ImportRowReader<T> {
+
+	private static final char QUOTE = '"';
+
+	private static final char SEPARATOR = ',';
+
+	private final BufferedReader reader;
+
+	private final ObjectMapper objectMapper;
+
+	private final ObjectReader objectReader;
+
+	private final List<String> header;
+
+	private long line;
+
+	private long recordLine;
+
+	private List<String> nextRecord;
+
+	CsvRowReader(BufferedReader reader, ObjectMapper objectMapper, ObjectReader objectReader) {
+		this.reader = reader;
+		this.objectMapper = objectMapper;
+		this.objectReader = objectReader;
+
+		List<String> columns = readRecord();
+		this.header = new ArrayList<>();
+		if (columns != null) {
+			for (String column : columns) {
+				header.add(column.trim());
+			}
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (nextRecord == null) {
+			List<String> record = readRecord();
+			if (record == null) {
+				return false;
+			}
+
+			if (!(record.size() == 1 && record.get(0).isBlank())) {
+				nextRecord = record;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public ImportRow<T> next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		List<String> record = nextRecord;
+		nextRecord = null;
+
+		if (record.size() != header.size()) {
+			return ImportRow.rejected(recordLine, "컬럼 수가 첫 줄과 다릅니다");
+		}
+
+		Map<String, String> values = new LinkedHashMap<>();
+		for (int i = 0; i < header.size(); i++) {
+			String value = record.get(i);
+			values.put(header.get(i), value.isEmpty() ? null : value);
+		}
+
+		try {
+			JsonNode node = objectMapper.valueToTree(values);
+			return ImportRow.of(recordLine, objectReader.readValue(node));
+		} catch (IOException | IllegalArgumentException e) {
+			return ImportRow.rejected(recordLine, "값의 형식이 올바르지 않습니다");
+		}
+	}
+
+	@Override
+	public void close() {
+		try {
+			reader.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/*
+	파일 끝이면 null 을 반환합니다. recordLine 에는 읽은 행이 시작된 줄 번호를 남깁니다.
+	 */
+	private List<String> readRecord() {
+		try {
+			int c = reader.read();
+			if (c == -1) {
+				return null;
+			}
+
+			recordLine = ++line;
+			List<String> fields = new ArrayList<>();
+			StringBuilder field = new StringBuilder();
+			boolean quoted = false;
+
+			for (; c != -1; c = reader.read()) {
+				char ch = (char) c;
+
+				if (quoted) {
+					if (ch != QUOTE) {
+						if (ch == '\n') {
+							line++;
+						}
+						field.append(ch);
+						continue;
+					}
+
+					reader.mark(1);
+					if (reader.read() == QUOTE) {
+						field.append(QUOTE);
+					} else {
+						reader.reset();
+						quoted = false;
+					}
+				} else if (ch == QUOTE) {
+					quoted = true;
+				} else if (ch == SEPARATOR) {
+					fields.add(field.toString());
+					field.setLength(0);
+				} else if (ch == '\n') {
+					break;
+				} else if (ch != '\r') {
+					field.append(ch);
+				}
+			}
+
+			fields.add(field.toString());
+			return fields;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
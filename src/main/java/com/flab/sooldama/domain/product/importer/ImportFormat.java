@@ -0,0 +1,61 @@
+package com.flab.sooldama.domain.product.importer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.flab.sooldama.domain.product.exception.InvalidImportRequestException;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/*
+일괄 등록 파일 형식입니다. 요청의 Content-Type 으로 형식을 정합니다.
+파일은 UTF-8 로 읽고, 정의되지 않은 컬럼(필드)은 무시합니다.
+ */
+public enum ImportFormat {
+
+	CSV(ImportFormat.CSV_VALUE),
+	JSON_LINES(ImportFormat.JSON_LINES_VALUE);
+
+	public static final String CSV_VALUE = "text/csv";
+
+	public static final String JSON_LINES_VALUE = "application/x-ndjson";
+
+	private final MediaType mediaType;
+
+	ImportFormat(String mediaType) {
+		this.mediaType = MediaType.parseMediaType(mediaType);
+	}
+
+	public static ImportFormat of(String contentType) {
+		try {
+			MediaType requested = MediaType.parseMediaType(contentType);
+			for (ImportFormat format : values()) {
+				if (format.mediaType.equalsTypeAndSubtype(requested)) {
+					return format;
+				}
+			}
+		} catch (InvalidMediaTypeException e) {
+			// 아래에서 지원하지 않는 형식으로 처리합니다.
+		}
+
+		throw new InvalidImportRequestException("지원하지 않는 파일 형식입니다: " + contentType);
+	}
+
+	public <T> ImportRowReader<T> reader(InputStream inputStream, ObjectMapper objectMapper,
+		Class<T> type) {
+		BufferedReader reader = new BufferedReader(
+			new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+		ObjectReader objectReader = objectMapper.readerFor(type)
+			.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+		if (this == CSV) {
+			return new CsvRowReader<>(reader, objectMapper, objectReader);
+		}
+
+		return new JsonLinesRowReader<>(reader, objectReader);
+	}
+}
@@ -0,0 +1,32 @@
+package com.flab.sooldama.domain.product.importer;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+일괄 등록 파일에서 읽은 한 행입니다. 형식이 올바르지 않아 읽지 못한 행은 value 대신 rejectReason 을 가집니다.
+line 은 행이 시작되는 파일의 줄 번호(1부터 시작)입니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ImportRow<T> {
+
+	private final long line;
+
+	private final T value;
+
+	private final String rejectReason;
+
+	public static <T> ImportRow<T> of(long line, T value) {
+		return new ImportRow<>(line, value, null);
+	}
+
+	public static <T> ImportRow<T> rejected(long line, String rejectReason) {
+		return new ImportRow<>(line, null, rejectReason);
+	}
+
+	public boolean isRejected() {
+		return rejectReason != null;
+	}
+}
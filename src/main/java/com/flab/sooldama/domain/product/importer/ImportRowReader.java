@@ -0,0 +1,14 @@
+package com.flab.sooldama.domain.product.importer;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/*
+일괄 등록 파일을 한 행씩 읽습니다. 파일 전체를 메모리에 올리지 않고, next 를 호출할 때마다 필요한 만큼만 읽습니다.
+읽는 중 입출력 오류가 나면 UncheckedIOException 을 던집니다.
+ */
+public interface ImportRowReader<T> extends Iterator<ImportRow<T>>, Closeable {
+
+	@Override
+	void close();
+}
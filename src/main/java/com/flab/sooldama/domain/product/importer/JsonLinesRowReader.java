@@ -0,0 +1,79 @@
+package com.flab.sooldama.domain.product.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+/*
+한 줄에 JSON 객체 하나씩 있는 JSON lines(application/x-ndjson) 파일을 읽습니다.
+줄마다 따로 파싱하므로 한 줄의 형식이 잘못되어도 그 줄만 거절하고 다음 줄을 계속 읽습니다. 빈 줄은 건너뜁니다.
+ */
+class JsonLinesRowReader<T> implements ImportRowReader<T> {
+
+	private final BufferedReader reader;
+
+	private final ObjectReader objectReader;
+
+	private long line;
+
+	private String nextLine;
+
+	JsonLinesRowReader(BufferedReader reader, ObjectReader objectReader) {
+		this.reader = reader;
+		this.objectReader = objectReader;
+	}
+
+	@Override
+	public boolean hasNext() {
+		try {
+			while (nextLine == null) {
+				String read = reader.readLine();
+				if (read == null) {
+					return false;
+				}
+
+				line++;
+				if (!read.isBlank()) {
+					nextLine = read;
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return true;
+	}
+
+	@Override
+	public ImportRow<T> next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		String current = nextLine;
+		nextLine = null;
+
+		try {
+			T value = objectReader.readValue(current);
+			if (value == null) {
+				return ImportRow.rejected(line, "JSON 객체가 아닙니다");
+			}
+
+			return ImportRow.of(line, value);
+		} catch (JsonProcessingException e) {
+			return ImportRow.rejected(line, "JSON 형식이 올바르지 않습니다");
+		}
+	}
+
+	@Override
+	public void close() {
+		try {
+			reader.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package com.flab.sooldama.domain.product.importer;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+application.yml 의 product.import 하위 설정값을 바인딩합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "product.import")
+public class ProductImportProperties {
+
+	// 한 트랜잭션에서 JDBC 배치로 저장할 행 수입니다.
+	private int chunkSize = 1000;
+
+	// 요청에서 지정할 수 있는 청크 크기의 최댓값입니다.
+	private int maxChunkSize = 10000;
+
+	// 응답에 포함할 거절된 행의 최대 개수입니다.
+	private int maxRejects = 1000;
+}
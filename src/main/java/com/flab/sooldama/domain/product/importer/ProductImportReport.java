@@ -0,0 +1,71 @@
+package com.flab.sooldama.domain.product.importer;
+
+import com.flab.sooldama.domain.product.dto.response.ProductImportResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+일괄 등록하는 동안 결과를 모읍니다. 거절된 행은 maxRejects 개까지만 이유를 남기고 나머지는 개수만 셉니다.
+ */
+public class ProductImportReport {
+
+	private final int maxRejects;
+
+	private final List<ProductImportResponse.Chunk> chunks = new ArrayList<>();
+
+	private final List<ProductImportResponse.Reject> rejects = new ArrayList<>();
+
+	private long totalRows;
+
+	private long importedRows;
+
+	private long rejectedRows;
+
+	public ProductImportReport(int maxRejects) {
+		this.maxRejects = maxRejects;
+	}
+
+	public void read() {
+		totalRows++;
+	}
+
+	public void reject(long line, String reason) {
+		rejectedRows++;
+		if (rejects.size() < maxRejects) {
+			rejects.add(ProductImportResponse.Reject.builder()
+				.line(line)
+				.reason(reason)
+				.build());
+		}
+	}
+
+	public ProductImportResponse.Chunk chunk(int rows, boolean committed, long elapsedMillis) {
+		if (committed) {
+			importedRows += rows;
+		}
+
+		ProductImportResponse.Chunk chunk = ProductImportResponse.Chunk.builder()
+			.index(chunks.size())
+			.rows(rows)
+			.committed(committed)
+			.elapsedMillis(elapsedMillis)
+			.build();
+		chunks.add(chunk);
+
+		return chunk;
+	}
+
+	public long getImportedRows() {
+		return importedRows;
+	}
+
+	public ProductImportResponse toResponse() {
+		return ProductImportResponse.builder()
+			.totalRows(totalRows)
+			.importedRows(importedRows)
+			.rejectedRows(rejectedRows)
+			.chunks(chunks)
+			.rejects(rejects)
+			.build();
+	}
+}
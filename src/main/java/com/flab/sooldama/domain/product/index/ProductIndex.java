@@ -0,0 +1,23 @@
+package com.flab.sooldama.domain.product.index;
+
+import com.flab.sooldama.domain.product.domain.Product;
+
+/*
+서버 메모리에 제품 정보를 따로 들고 있는 색인입니다. ProductIndexMaintainer 가 DB 의 제품으로 만들고 최신 상태로 유지합니다.
+ */
+public interface ProductIndex {
+
+	/*
+	이미 색인한 제품이면 이전 내용을 바꿉니다.
+	 */
+	void index(Product product);
+
+	boolean remove(long productId);
+
+	int size();
+
+	/*
+	지웠지만 아직 메모리를 차지하고 있는 문서 수입니다. 너무 많아지면 색인을 새로 만듭니다.
+	 */
+	int deletedCount();
+}
@@ -0,0 +1,158 @@
+package com.flab.sooldama.domain.product.index;
+
+import com.flab.sooldama.domain.product.dao.ProductMapper;
+import com.flab.sooldama.domain.product.domain.Product;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ProductIndex 를 DB 의 제품으로 만들고, 제품이 바뀔 때마다 다시 색인합니다.
+
+- rebuild 는 모든 제품을 Cursor 로 읽어 새 색인을 만든 뒤 바꿔 끼우므로, 만드는 동안에도 이전 색인을 사용할 수 있습니다.
+- refresh 는 바뀐 제품만 다시 색인합니다. 어떤 제품이 바뀌었는지 모르면(일괄 등록 등) 마지막으로 색인한 뒤에
+  추가되거나 바뀌거나 지워진 제품을 찾아 색인합니다.
+- refreshLater 는 refresh 를 색인마다 하나씩 있는 스레드에서 순서대로 처리하므로 요청 스레드가 기다리지 않습니다.
+- 지운 문서가 COMPACTION_THRESHOLD 를 넘고 남은 문서보다 많아지면 색인을 새로 만듭니다.
+
+제품을 관리하는 서비스가 색인마다 하나씩 만들어 사용합니다.
+ */
+@Slf4j
+public class ProductIndexMaintainer<T extends ProductIndex> {
+
+	public static final int COMPACTION_THRESHOLD = 1000;
+
+	private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+	private final String name;
+
+	private final ProductMapper productMapper;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final Supplier<T> factory;
+
+	private final ExecutorService updater;
+
+	private volatile T index;
+
+	// 마지막으로 색인한 제품 아이디와 created_at, updated_at, deleted_at 중 가장 늦은 시각입니다.
+	private long lastId;
+
+	private LocalDateTime since = EPOCH;
+
+	public ProductIndexMaintainer(String name, ProductMapper productMapper,
+		PlatformTransactionManager transactionManager, Supplier<T> factory) {
+		this.name = name;
+		this.productMapper = productMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.factory = factory;
+		this.index = factory.get();
+		this.updater = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, name + "-indexer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public T current() {
+		return index;
+	}
+
+	public synchronized void rebuild() {
+		long startedAt = System.currentTimeMillis();
+
+		T rebuilt = factory.get();
+		lastId = 0L;
+		since = EPOCH;
+		transactionTemplate.executeWithoutResult(status -> {
+			try (Cursor<Product> cursor = productMapper.selectProductCursor(null)) {
+				for (Product product : cursor) {
+					rebuilt.index(product);
+					advanceWatermark(product);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		index = rebuilt;
+
+		log.info("제품 {}개로 {} 색인을 만들었습니다. ({}ms)", rebuilt.size(), name,
+			System.currentTimeMillis() - startedAt);
+	}
+
+	/*
+	productIds 가 비어 있으면 마지막으로 색인한 뒤에 바뀐 제품을 모두 찾아 색인합니다.
+	 */
+	public synchronized void refresh(List<Long> productIds) {
+		if (productIds.isEmpty()) {
+			catchUp();
+		} else {
+			for (Long productId : productIds) {
+				Optional<Product> product = productMapper.selectProductById(productId);
+				if (product.isPresent()) {
+					index.index(product.get());
+				} else {
+					index.remove(productId);
+				}
+			}
+		}
+
+		if (index.deletedCount() > COMPACTION_THRESHOLD && index.deletedCount() > index.size()) {
+			rebuild();
+		}
+	}
+
+	public void refreshLater(List<Long> productIds) {
+		updater.execute(() -> {
+			try {
+				refresh(productIds);
+			} catch (RuntimeException e) {
+				log.warn("{} 색인을 갱신하지 못했습니다. productIds={}", name, productIds, e);
+			}
+		});
+	}
+
+	public void shutdown() {
+		updater.shutdownNow();
+	}
+
+	private void catchUp() {
+		T current = index;
+		transactionTemplate.executeWithoutResult(status -> {
+			try (Cursor<Product> cursor = productMapper.selectProductsChangedSince(lastId, since)) {
+				for (Product product : cursor) {
+					if (product.getDeletedAt() == null) {
+						current.index(product);
+					} else {
+						current.remove(product.getId());
+					}
+					advanceWatermark(product);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+	private void advanceWatermark(Product product) {
+		lastId = Math.max(lastId, product.getId());
+		since = latest(since, product.getCreatedAt());
+		since = latest(since, product.getUpdatedAt());
+		since = latest(since, product.getDeletedAt());
+	}
+
+	private static LocalDateTime latest(LocalDateTime current, LocalDateTime candidate) {
+		return candidate != null && candidate.isAfter(current) ? candidate : current;
+	}
+}
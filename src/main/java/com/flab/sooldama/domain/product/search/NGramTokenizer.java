@@ -0,0 +1,73 @@
+package com.flab.sooldama.domain.product.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/*
+문자열을 글자 두 개씩 겹쳐 자른 조각(bigram)으로 나눕니다. 예) "살균 막걸리" -> [살균, 막걸, 걸리]
+한국어는 "막걸리를", "막걸리와" 처럼 단어 뒤에 조사가 붙으므로 공백으로만 나누면 "막걸리" 로 찾을 수 없습니다.
+bigram 으로 나누면 형태소 분석기 없이도 단어 중간의 글자열을 찾을 수 있습니다.
+
+전각/반각 문자와 대소문자를 통일한 뒤, 글자와 숫자가 아닌 문자를 기준으로 단어를 나누고 단어마다 bigram 을 만듭니다.
+한 글자 단어는 그 글자 하나를 조각으로 사용합니다.
+
+색인할 문서는 tokenizeForIndex 로 나눕니다. bigram 에 더해 글자 하나짜리 조각(unigram)도 만들어 두어야
+"술" 처럼 한 글자 검색어로 "막걸리술" 같은 긴 단어 안의 글자도 찾을 수 있습니다.
+ */
+public final class NGramTokenizer {
+
+	private static final int GRAM = 2;
+
+	private NGramTokenizer() {
+	}
+
+	public static List<String> tokenize(String text) {
+		return tokenize(text, false);
+	}
+
+	public static List<String> tokenizeForIndex(String text) {
+		return tokenize(text, true);
+	}
+
+	private static List<String> tokenize(String text, boolean withUnigrams) {
+		List<String> terms = new ArrayList<>();
+		if (text == null) {
+			return terms;
+		}
+
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC)
+			.toLowerCase(Locale.ROOT);
+		int wordStart = -1;
+		for (int i = 0; i <= normalized.length(); i++) {
+			boolean inWord = i < normalized.length()
+				&& Character.isLetterOrDigit(normalized.charAt(i));
+			if (inWord && wordStart < 0) {
+				wordStart = i;
+			} else if (!inWord && wordStart >= 0) {
+				addGrams(normalized, wordStart, i, withUnigrams, terms);
+				wordStart = -1;
+			}
+		}
+
+		return terms;
+	}
+
+	private static void addGrams(String text, int start, int end, boolean withUnigrams,
+		List<String> terms) {
+		if (end - start < GRAM) {
+			terms.add(text.substring(start, end));
+			return;
+		}
+
+		for (int i = start; i + GRAM <= end; i++) {
+			terms.add(text.substring(i, i + GRAM));
+		}
+		if (withUnigrams) {
+			for (int i = start; i < end; i++) {
+				terms.add(text.substring(i, i + 1));
+			}
+		}
+	}
+}
@@ -0,0 +1,315 @@
+package com.flab.sooldama.domain.product.search;
+
+import com.flab.sooldama.domain.product.domain.Product;
+import com.flab.sooldama.domain.product.index.ProductIndex;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+제품 이름과 설명으로 만든 역색인(inverted index)입니다. 조각(NGramTokenizer 의 bigram 과 unigram)마다 그 조각이 들어 있는
+문서 번호와 등장 횟수를 int 배열(posting list)로 저장합니다.
+
+- 제품을 색인할 때마다 새 문서 번호를 붙이므로 posting list 는 항상 문서 번호 순서로 정렬되어 있습니다.
+- 이미 색인한 제품을 다시 색인하거나 지우면 이전 문서는 deleted 로 표시만 하고 posting list 에서 바로 빼지 않습니다.
+  지운 문서가 많아지면 ProductIndexMaintainer 가 색인을 새로 만듭니다.
+- 검색어의 모든 조각이 들어 있는 제품만 찾습니다(LIKE '%검색어%' 와 비슷한 결과). 가장 짧은 posting list 부터
+  훑으면서 나머지 목록은 건너뛰며(galloping) 찾아가므로, 흔한 조각이 섞여 있어도 짧은 목록의 길이만큼만 비교합니다.
+- 찾은 제품은 BM25 로 점수를 매깁니다. 이름에 있는 조각은 설명보다 NAME_BOOST 배 더 중요하게 셉니다.
+  IDF 는 posting list 의 길이가 아니라 지우지 않은 문서 수(Postings.live)로 계산합니다.
+
+검색은 읽기 잠금, 색인 변경은 쓰기 잠금을 잡으므로 여러 요청이 동시에 검색할 수 있습니다.
+ */
+public class ProductSearchIndex implements ProductIndex {
+
+	static final int NAME_BOOST = 3;
+
+	private static final double K1 = 1.2;
+
+	private static final double B = 0.75;
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private static final Comparator<SearchHit> WORST_FIRST = Comparator
+		.comparingDouble(SearchHit::getScore)
+		.thenComparing(Comparator.comparingLong(SearchHit::getProductId).reversed());
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<String, Postings> postings = new HashMap<>();
+
+	private final Map<Long, Integer> docsByProductId = new HashMap<>();
+
+	private final BitSet deleted = new BitSet();
+
+	private long[] productIds = new long[INITIAL_CAPACITY];
+
+	// 문서마다 그 문서가 들어 있는 posting list 입니다. 문서를 지울 때 조각별 live 수를 줄이는 데 씁니다.
+	private Postings[][] docPostings = new Postings[INITIAL_CAPACITY][];
+
+	private int[] lengths = new int[INITIAL_CAPACITY];
+
+	private int docCount;
+
+	private int liveCount;
+
+	private long totalLength;
+
+	/*
+	이미 색인한 제품이면 이전 내용을 지우고 다시 색인합니다.
+	 */
+	@Override
+	public void index(Product product) {
+		Map<String, Integer> frequencies = new LinkedHashMap<>();
+		for (String term : NGramTokenizer.tokenizeForIndex(product.getName())) {
+			frequencies.merge(term, NAME_BOOST, Integer::sum);
+		}
+		for (String term : NGramTokenizer.tokenizeForIndex(product.getDescription())) {
+			frequencies.merge(term, 1, Integer::sum);
+		}
+
+		int length = 0;
+		for (int frequency : frequencies.values()) {
+			length += frequency;
+		}
+
+		lock.writeLock().lock();
+		try {
+			removeLocked(product.getId());
+
+			int doc = docCount++;
+			ensureCapacity(docCount);
+			productIds[doc] = product.getId();
+			lengths[doc] = length;
+			docsByProductId.put(product.getId(), doc);
+			liveCount++;
+			totalLength += length;
+
+			Postings[] lists = new Postings[frequencies.size()];
+			int i = 0;
+			for (Map.Entry<String, Integer> term : frequencies.entrySet()) {
+				lists[i] = postings.computeIfAbsent(term.getKey(), ignored -> new Postings());
+				lists[i].add(doc, term.getValue());
+				i++;
+			}
+			docPostings[doc] = lists;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean remove(long productId) {
+		lock.writeLock().lock();
+		try {
+			return removeLocked(productId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/*
+	점수가 높은 순서대로 최대 limit 개의 제품을 반환합니다. 점수가 같으면 아이디가 작은 제품이 먼저 옵니다.
+	 */
+	public List<SearchHit> search(String query, int limit) {
+		Map<String, Integer> queryTerms = new LinkedHashMap<>();
+		for (String term : NGramTokenizer.tokenize(query)) {
+			queryTerms.merge(term, 1, Integer::sum);
+		}
+		if (queryTerms.isEmpty() || limit < 1) {
+			return List.of();
+		}
+
+		lock.readLock().lock();
+		try {
+			return searchLocked(queryTerms, limit);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return liveCount;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public int deletedCount() {
+		lock.readLock().lock();
+		try {
+			return docCount - liveCount;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private List<SearchHit> searchLocked(Map<String, Integer> queryTerms, int limit) {
+		int termCount = queryTerms.size();
+		Postings[] lists = new Postings[termCount];
+		int[] weights = new int[termCount];
+
+		int i = 0;
+		for (Map.Entry<String, Integer> term : queryTerms.entrySet()) {
+			Postings list = postings.get(term.getKey());
+			if (list == null) {
+				return List.of();
+			}
+			lists[i] = list;
+			weights[i] = term.getValue();
+			i++;
+		}
+		sortByLength(lists, weights);
+
+		double averageLength = liveCount == 0 ? 1.0 : (double) totalLength / liveCount;
+		double[] idf = new double[termCount];
+		for (int t = 0; t < termCount; t++) {
+			idf[t] = Math.log(1.0 + (liveCount - lists[t].live + 0.5) / (lists[t].live + 0.5));
+		}
+
+		PriorityQueue<SearchHit> top = new PriorityQueue<>(limit, WORST_FIRST);
+		int[] cursors = new int[termCount];
+		Postings shortest = lists[0];
+
+		candidates:
+		for (int c = 0; c < shortest.size; c++) {
+			int doc = shortest.docs[c];
+			if (deleted.get(doc)) {
+				continue;
+			}
+
+			double norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+			double score = weights[0] * idf[0] * bm25(shortest.freqs[c], norm);
+			for (int t = 1; t < termCount; t++) {
+				cursors[t] = lists[t].advance(cursors[t], doc);
+				if (cursors[t] == lists[t].size) {
+					break candidates;
+				}
+				if (lists[t].docs[cursors[t]] != doc) {
+					continue candidates;
+				}
+				score += weights[t] * idf[t] * bm25(lists[t].freqs[cursors[t]], norm);
+			}
+
+			if (top.size() < limit) {
+				top.offer(new SearchHit(productIds[doc], score));
+			} else if (isBetter(score, productIds[doc], top.peek())) {
+				top.poll();
+				top.offer(new SearchHit(productIds[doc], score));
+			}
+		}
+
+		List<SearchHit> hits = new ArrayList<>(top);
+		hits.sort(WORST_FIRST.reversed());
+		return hits;
+	}
+
+	/*
+	상위 limit 개에 들지 못하는 제품은 SearchHit 을 만들지 않고 건너뜁니다.
+	 */
+	private static boolean isBetter(double score, long productId, SearchHit worst) {
+		return score > worst.getScore()
+			|| score == worst.getScore() && productId < worst.getProductId();
+	}
+
+	private static double bm25(int frequency, double norm) {
+		return frequency * (K1 + 1) / (frequency + norm);
+	}
+
+	private static void sortByLength(Postings[] lists, int[] weights) {
+		for (int i = 1; i < lists.length; i++) {
+			for (int j = i; j > 0 && lists[j].size < lists[j - 1].size; j--) {
+				Postings list = lists[j];
+				lists[j] = lists[j - 1];
+				lists[j - 1] = list;
+				int weight = weights[j];
+				weights[j] = weights[j - 1];
+				weights[j - 1] = weight;
+			}
+		}
+	}
+
+	private boolean removeLocked(long productId) {
+		Integer doc = docsByProductId.remove(productId);
+		if (doc == null) {
+			return false;
+		}
+
+		deleted.set(doc);
+		for (Postings list : docPostings[doc]) {
+			list.live--;
+		}
+		docPostings[doc] = null;
+		liveCount--;
+		totalLength -= lengths[doc];
+		return true;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > productIds.length) {
+			int grown = Math.max(capacity, productIds.length * 2);
+			productIds = Arrays.copyOf(productIds, grown);
+			lengths = Arrays.copyOf(lengths, grown);
+			docPostings = Arrays.copyOf(docPostings, grown);
+		}
+	}
+
+	/*
+	조각 하나의 posting list 입니다. docs 는 오름차순이고, freqs[i] 는 docs[i] 문서에서 조각이 등장한 횟수입니다.
+	size 는 지운 문서까지 포함한 길이이고, live 는 그중 지우지 않은 문서 수입니다.
+	 */
+	private static final class Postings {
+
+		private int[] docs = new int[4];
+
+		private int[] freqs = new int[4];
+
+		private int size;
+
+		private int live;
+
+		void add(int doc, int frequency) {
+			if (size == docs.length) {
+				docs = Arrays.copyOf(docs, size * 2);
+				freqs = Arrays.copyOf(freqs, size * 2);
+			}
+			docs[size] = doc;
+			freqs[size] = frequency;
+			size++;
+			live++;
+		}
+
+		/*
+		from 부터 target 이상인 첫 위치를 찾습니다. 간격을 두 배씩 늘리며 건너뛴 뒤 그 구간을 이진 탐색합니다.
+		 */
+		int advance(int from, int target) {
+			if (from >= size || docs[from] >= target) {
+				return from;
+			}
+
+			int low = from;
+			int step = 1;
+			int high = from + step;
+			while (high < size && docs[high] < target) {
+				low = high;
+				step <<= 1;
+				high = from + step;
+			}
+
+			int index = Arrays.binarySearch(docs, low + 1, Math.min(high, size - 1) + 1, target);
+			return index >= 0 ? index : -index - 1;
+		}
+	}
+}
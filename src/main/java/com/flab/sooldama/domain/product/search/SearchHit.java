@@ -0,0 +1,13 @@
+package com.flab.sooldama.domain.product.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SearchHit {
+
+	private final long productId;
+
+	private final double score;
+}
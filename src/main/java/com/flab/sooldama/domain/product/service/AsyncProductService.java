@@ -0,0 +1,35 @@
+package com.flab.sooldama.domain.product.service;
+
+import com.flab.sooldama.domain.product.cache.ProductPageBody;
+import java.util.concurrent.CompletableFuture;
+import javax.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+
+/*
+ProductService 의 조회를 ProductReadExecutor 에서 실행합니다. product.read.mode 가 async 일 때 AsyncProductApi 가 사용합니다.
+조회 로직은 ProductService 를 그대로 사용하므로 blocking 모드와 같은 응답을 만듭니다.
+목록은 blocking 모드처럼 ProductPageBodyCache 를 거친 직렬화된 본문(getProductsBody, getProductsAfterBody)을 반환합니다.
+ */
+@RequiredArgsConstructor
+public class AsyncProductService {
+
+	private final ProductService productService;
+
+	private final ProductReadExecutor productReadExecutor;
+
+	public CompletableFuture<ProductPageBody> getProductsBody(Integer offset, Integer limit,
+		Long categoryId, HttpSession session) {
+		return productReadExecutor.submit(
+			() -> productService.getProductsBody(offset, limit, categoryId, session));
+	}
+
+	public CompletableFuture<ProductPageBody> getProductsAfterBody(String after, Integer limit,
+		Long categoryId, HttpSession session) {
+		return productReadExecutor.submit(
+			() -> productService.getProductsAfterBody(after, limit, categoryId, session));
+	}
+
+	public CompletableFuture<ProductDetail> getProductById(Long productId, HttpSession session) {
+		return productReadExecutor.submit(() -> productService.getProductById(productId, session));
+	}
+}
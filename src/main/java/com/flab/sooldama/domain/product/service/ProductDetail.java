@@ -0,0 +1,17 @@
+package com.flab.sooldama.domain.product.service;
+
+import com.flab.sooldama.domain.product.dto.response.ProductResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+단건 조회 결과입니다. 응답 DTO 와 조건부 요청(If-Modified-Since)에 쓰는 마지막 수정 시각을 한 번의 조회로 함께 가져옵니다.
+두 값을 따로 조회하면 그 사이에 스냅샷이 바뀌거나 캐시에서 지워져서 서로 다른 버전의 값이 섞일 수 있습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductDetail {
+
+	private final ProductResponse product;
+	private final long lastModified;
+}
@@ -0,0 +1,72 @@
+package com.flab.sooldama.domain.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flab.sooldama.domain.product.dao.ProductMapper;
+import com.flab.sooldama.domain.product.domain.Product;
+import com.flab.sooldama.domain.product.exporter.ExportFormat;
+import com.flab.sooldama.domain.product.exporter.ProductExportWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+전체 제품 카탈로그를 CSV 또는 JSON lines 형식으로 내보냅니다.
+
+ProductMapper 의 Cursor 로 제품을 fetchSize 만큼씩 읽으면서 바로 출력 스트림에 쓰므로,
+카탈로그 크기와 관계없이 한 번에 메모리에 올라가는 제품은 fetchSize 개 정도입니다.
+Cursor 는 조회한 SqlSession 이 열려 있는 동안만 읽을 수 있으므로, 읽기 전용 트랜잭션 안에서 끝까지 읽습니다.
+
+내보내기는 많은 행을 읽으므로 ProductCache 를 거치지 않고 DB 에서 바로 읽습니다.
+ */
+@Slf4j
+@Service
+public class ProductExportService {
+
+	private final ProductMapper productMapper;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final ObjectMapper objectMapper;
+
+	public ProductExportService(ProductMapper productMapper,
+		PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+		this.productMapper = productMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.objectMapper = objectMapper;
+	}
+
+	/*
+	내보낸 제품 수를 반환합니다.
+	 */
+	public long exportProducts(ExportFormat format, Long categoryId, OutputStream outputStream) {
+		long startedAt = System.currentTimeMillis();
+
+		Long exported = transactionTemplate.execute(status -> {
+			try (Cursor<Product> cursor = productMapper.selectProductCursor(categoryId)) {
+				ProductExportWriter writer = format.writer(outputStream, objectMapper);
+
+				long rows = 0;
+				for (Product product : cursor) {
+					writer.write(product);
+					rows++;
+				}
+				writer.finish();
+
+				return rows;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+
+		log.info("제품 {}개를 {} 형식으로 내보냈습니다. ({}ms)", exported, format,
+			System.currentTimeMillis() - startedAt);
+
+		return exported == null ? 0L : exported;
+	}
+}
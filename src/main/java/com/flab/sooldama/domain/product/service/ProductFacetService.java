@@ -0,0 +1,127 @@
+package com.flab.sooldama.domain.product.service;
+
+import com.flab.sooldama.domain.product.cache.ProductCache;
+import com.flab.sooldama.domain.product.cache.ProductsChangedEvent;
+import com.flab.sooldama.domain.product.dao.ProductMapper;
+import com.flab.sooldama.domain.product.dto.request.ProductCursor;
+import com.flab.sooldama.domain.product.dto.request.ProductFilterRequest;
+import com.flab.sooldama.domain.product.dto.response.FacetBucketResponse;
+import com.flab.sooldama.domain.product.dto.response.ProductFilterResponse;
+import com.flab.sooldama.domain.product.dto.response.ProductResponse;
+import com.flab.sooldama.domain.product.facet.Facet;
+import com.flab.sooldama.domain.product.facet.FacetQuery;
+import com.flab.sooldama.domain.product.facet.FacetRange;
+import com.flab.sooldama.domain.product.facet.FacetResult;
+import com.flab.sooldama.domain.product.facet.ProductFacetIndex;
+import com.flab.sooldama.domain.product.index.ProductIndexMaintainer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/*
+도수, 가격, 용량 범위로 제품을 필터링하고 패싯별 제품 수를 함께 응답합니다.
+DB 를 조회하지 않고 서버 메모리의 비트맵 색인(ProductFacetIndex)에서 찾습니다.
+
+색인은 ProductSearchService 와 같은 방법으로 애플리케이션이 준비될 때 만들고, ProductsChangedEvent 를 받아 유지합니다.
+ */
+@Service
+public class ProductFacetService {
+
+	// 페이지 크기 정책(paging.endpoints)에서 사용하는 엔드포인트 이름입니다.
+	public static final String PRODUCTS_FILTER_ENDPOINT = "products-filter";
+
+	private final ProductCache productCache;
+
+	private final ProductIndexMaintainer<ProductFacetIndex> maintainer;
+
+	public ProductFacetService(ProductMapper productMapper, ProductCache productCache,
+		PlatformTransactionManager transactionManager) {
+		this.productCache = productCache;
+		this.maintainer = new ProductIndexMaintainer<>("product-facet", productMapper,
+			transactionManager, ProductFacetIndex::new);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		rebuild();
+	}
+
+	@EventListener
+	public void onProductsChanged(ProductsChangedEvent event) {
+		maintainer.refreshLater(event.getProductIds());
+	}
+
+	public ProductFilterResponse filter(ProductFilterRequest request, Integer limit) {
+		ProductCursor cursor = ProductCursor.decode(request.getAfter(), request.getCategoryId());
+		FacetQuery query = new FacetQuery(request.getCategoryId())
+			.with(Facet.ABV, FacetRange.of(request.getAbvMin(), request.getAbvMax()))
+			.with(Facet.PRICE, FacetRange.of(request.getPriceMin(), request.getPriceMax()))
+			.with(Facet.CAPACITY, FacetRange.of(request.getCapacityMin(), request.getCapacityMax()));
+
+		FacetResult result = maintainer.current().filter(query, cursor.getLastId(), limit);
+
+		List<Long> productIds = result.getProductIds();
+		boolean hasNext = productIds.size() > limit;
+		if (hasNext) {
+			productIds = productIds.subList(0, limit);
+		}
+
+		List<ProductResponse> productResponses = new ArrayList<>(productIds.size());
+		for (Long productId : productIds) {
+			productCache.get(productId)
+				.ifPresent(product -> productResponses.add(ProductResponse.of(product)));
+		}
+
+		String nextCursor = null;
+		if (hasNext) {
+			Long lastId = productIds.get(productIds.size() - 1);
+			nextCursor = ProductCursor.of(lastId, request.getCategoryId()).encode();
+		}
+
+		return ProductFilterResponse.builder()
+			.products(productResponses)
+			.limit(limit)
+			.total(result.getTotal())
+			.hasNext(hasNext)
+			.nextCursor(nextCursor)
+			.facets(toFacetResponses(result.getCounts()))
+			.build();
+	}
+
+	public void rebuild() {
+		maintainer.rebuild();
+	}
+
+	public void refresh(List<Long> productIds) {
+		maintainer.refresh(productIds);
+	}
+
+	public int indexedCount() {
+		return maintainer.current().size();
+	}
+
+	public void shutdown() {
+		maintainer.shutdown();
+	}
+
+	private static Map<String, List<FacetBucketResponse>> toFacetResponses(
+		Map<Facet, int[]> counts) {
+		Map<String, List<FacetBucketResponse>> facets = new LinkedHashMap<>();
+
+		counts.forEach((facet, bucketCounts) -> {
+			List<FacetBucketResponse> buckets = new ArrayList<>(bucketCounts.length);
+			for (int bucket = 0; bucket < bucketCounts.length; bucket++) {
+				buckets.add(new FacetBucketResponse(facet.lowerBound(bucket),
+					facet.upperBound(bucket), bucketCounts[bucket]));
+			}
+			facets.put(facet.getName(), buckets);
+		});
+
+		return facets;
+	}
+}
@@ -0,0 +1,196 @@
+package com.flab.sooldama.domain.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flab.sooldama.domain.product.cache.ProductCache;
+import com.flab.sooldama.domain.product.dao.ProductImportMapper;
+import com.flab.sooldama.domain.product.dto.request.ProductCategoryImportRow;
+import com.flab.sooldama.domain.product.dto.request.ProductImportRow;
+import com.flab.sooldama.domain.product.dto.response.ProductImportResponse;
+import com.flab.sooldama.domain.product.exception.InvalidImportRequestException;
+import com.flab.sooldama.domain.product.importer.ImportFormat;
+import com.flab.sooldama.domain.product.importer.ImportRow;
+import com.flab.sooldama.domain.product.importer.ImportRowReader;
+import com.flab.sooldama.domain.product.importer.ProductImportProperties;
+import com.flab.sooldama.domain.product.importer.ProductImportReport;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+CSV 또는 JSON lines 파일로 제품과 제품 카테고리를 일괄 등록합니다.
+
+파일은 한 행씩 읽어서 검증하고, 검증을 통과한 행을 chunkSize 개씩 모아 한 트랜잭션에서 저장합니다.
+저장에는 BATCH 실행기(ExecutorType.BATCH)를 사용하는 SqlSessionTemplate 을 사용하므로,
+청크 안의 upsert 는 하나의 JDBC 배치로 DB 에 전달됩니다.
+이 SqlSessionTemplate 을 빈으로 등록하면 다른 매퍼까지 BATCH 실행기를 사용하게 되므로 이 서비스 안에서만 만들어 사용합니다.
+
+저장에 실패한 청크는 롤백하고 그 청크의 행을 모두 거절한 뒤 다음 청크를 계속 저장합니다.
+제품이 하나라도 저장되면 등록이 끝난 뒤 제품 캐시를 모두 무효화합니다.
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+	private final ProductImportMapper productImportMapper;
+
+	private final ProductImportMapper batchProductImportMapper;
+
+	private final SqlSessionTemplate batchSqlSession;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final ProductCache productCache;
+
+	private final ProductImportProperties properties;
+
+	private final Validator validator;
+
+	private final ObjectMapper objectMapper;
+
+	public ProductImportService(ProductImportMapper productImportMapper,
+		SqlSessionFactory sqlSessionFactory, PlatformTransactionManager transactionManager,
+		ProductCache productCache, ProductImportProperties properties, Validator validator,
+		ObjectMapper objectMapper) {
+		this.productImportMapper = productImportMapper;
+		this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+		this.batchProductImportMapper = batchSqlSession.getMapper(ProductImportMapper.class);
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.productCache = productCache;
+		this.properties = properties;
+		this.validator = validator;
+		this.objectMapper = objectMapper;
+	}
+
+	public ProductImportResponse importProducts(InputStream inputStream, ImportFormat format,
+		Integer chunkSize) {
+		int size = chunkSize(chunkSize);
+		Set<Long> categoryIds = new HashSet<>(productImportMapper.selectProductCategoryIds());
+		ProductImportReport report = new ProductImportReport(properties.getMaxRejects());
+
+		try (ImportRowReader<ProductImportRow> reader = format.reader(inputStream, objectMapper,
+			ProductImportRow.class)) {
+			importChunks(reader, size,
+				row -> categoryIds.contains(row.getProductCategoryId()) ? null
+					: "존재하지 않는 카테고리입니다",
+				batchProductImportMapper::upsertProduct, report);
+		} finally {
+			if (report.getImportedRows() > 0) {
+				productCache.invalidateAll();
+			}
+		}
+
+		return report.toResponse();
+	}
+
+	public ProductImportResponse importProductCategories(InputStream inputStream,
+		ImportFormat format, Integer chunkSize) {
+		int size = chunkSize(chunkSize);
+		ProductImportReport report = new ProductImportReport(properties.getMaxRejects());
+
+		try (ImportRowReader<ProductCategoryImportRow> reader = format.reader(inputStream,
+			objectMapper, ProductCategoryImportRow.class)) {
+			importChunks(reader, size, row -> null,
+				batchProductImportMapper::upsertProductCategory, report);
+		}
+
+		return report.toResponse();
+	}
+
+	/*
+	check 는 Bean Validation 외에 추가로 확인할 내용을 검사하고, 문제가 있으면 거절 이유를 반환합니다.
+	 */
+	private <T> void importChunks(ImportRowReader<T> reader, int chunkSize,
+		Function<T, String> check, Consumer<T> upsert, ProductImportReport report) {
+		List<ImportRow<T>> chunk = new ArrayList<>(chunkSize);
+
+		while (reader.hasNext()) {
+			ImportRow<T> row = reader.next();
+			report.read();
+
+			String rejectReason = row.isRejected() ? row.getRejectReason()
+				: validate(row.getValue(), check);
+			if (rejectReason != null) {
+				report.reject(row.getLine(), rejectReason);
+				continue;
+			}
+
+			chunk.add(row);
+			if (chunk.size() == chunkSize) {
+				writeChunk(chunk, upsert, report);
+				chunk.clear();
+			}
+		}
+
+		if (!chunk.isEmpty()) {
+			writeChunk(chunk, upsert, report);
+		}
+	}
+
+	private <T> String validate(T value, Function<T, String> check) {
+		Set<ConstraintViolation<T>> violations = validator.validate(value);
+		if (!violations.isEmpty()) {
+			return violations.stream()
+				.map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+				.sorted()
+				.collect(Collectors.joining(", "));
+		}
+
+		return check.apply(value);
+	}
+
+	private <T> void writeChunk(List<ImportRow<T>> chunk, Consumer<T> upsert,
+		ProductImportReport report) {
+		long startedAt = System.nanoTime();
+		boolean committed = false;
+
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				for (ImportRow<T> row : chunk) {
+					upsert.accept(row.getValue());
+				}
+				batchSqlSession.flushStatements();
+			});
+			committed = true;
+		} catch (DataAccessException | TransactionException e) {
+			log.warn("일괄 등록 청크 저장에 실패했습니다", e);
+			for (ImportRow<T> row : chunk) {
+				report.reject(row.getLine(), "청크 저장에 실패했습니다");
+			}
+		}
+
+		ProductImportResponse.Chunk result = report.chunk(chunk.size(), committed,
+			TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+		log.info("일괄 등록 청크 {}: {}행, 저장 {}, {}ms", result.getIndex(), result.getRows(),
+			result.isCommitted() ? "성공" : "실패", result.getElapsedMillis());
+	}
+
+	private int chunkSize(Integer requested) {
+		if (requested == null) {
+			return properties.getChunkSize();
+		}
+
+		if (requested < 1 || requested > properties.getMaxChunkSize()) {
+			throw new InvalidImportRequestException(
+				"청크 크기는 1 이상 " + properties.getMaxChunkSize() + " 이하여야 합니다");
+		}
+
+		return requested;
+	}
+}
@@ -0,0 +1,47 @@
+package com.flab.sooldama.domain.product.service;
+
+import com.flab.sooldama.domain.product.exception.ProductReadRejectedException;
+import com.flab.sooldama.global.thread.BoundedExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.Supplier;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/*
+제품 조회(캐시, DB)를 요청 스레드(Tomcat 워커)가 아닌 조회 전용 스레드 풀에서 실행합니다.
+요청 스레드는 조회를 맡긴 뒤 바로 반환되므로, DB 응답을 기다리는 요청이 많아도 Tomcat 워커가 묶이지 않습니다.
+
+조회는 커넥션 하나를 사용하므로 스레드 수는 커넥션 풀 크기에 맞추고, 대기열 길이도 제한합니다.
+대기열이 가득 차면 기다리게 하지 않고 바로 ProductReadRejectedException 을 던져 503 으로 응답합니다.
+요청 정보(RequestContextHolder)는 조회 스레드로 넘겨서, 로그인하지 않은 클라이언트를 IP 로 구분할 수 있게 합니다.
+virtual-threads 프로필에서는 같은 수의 가상 스레드로 조회합니다. 커넥션을 기다리는 동안 캐리어 스레드를 놓아줍니다.
+지표는 product.read 이름으로 등록합니다. (BoundedExecutor 참고)
+ */
+public class ProductReadExecutor extends BoundedExecutor {
+
+	private static final String NAME = "product.read";
+
+	public ProductReadExecutor(int poolSize, int queueCapacity, MeterRegistry registry) {
+		this(poolSize, queueCapacity, false, registry);
+	}
+
+	public ProductReadExecutor(int poolSize, int queueCapacity, boolean virtualThreads,
+		MeterRegistry registry) {
+		super(NAME, poolSize, queueCapacity, virtualThreads,
+			() -> new ProductReadRejectedException("요청이 많아 잠시 후 다시 시도해주세요"), registry);
+	}
+
+	@Override
+	protected <T> Supplier<T> decorate(Supplier<T> task) {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		return () -> {
+			RequestContextHolder.setRequestAttributes(attributes);
+			try {
+				return task.get();
+			} finally {
+				RequestContextHolder.resetRequestAttributes();
+			}
+		};
+	}
+}
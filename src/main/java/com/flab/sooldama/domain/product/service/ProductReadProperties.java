@@ -0,0 +1,31 @@
+package com.flab.sooldama.domain.product.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+application.yml 의 product.read 하위 설정값을 바인딩합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "product.read")
+public class ProductReadProperties {
+
+	// blocking 은 요청 스레드에서 조회하고, async 는 조회 전용 스레드 풀에서 조회하는 동안 요청 스레드를 반환합니다.
+	private Mode mode = Mode.BLOCKING;
+
+	// 조회 전용 스레드 수입니다. 조회는 커넥션을 하나씩 사용하므로 커넥션 풀 크기보다 크게 잡아도 빨라지지 않습니다.
+	private int poolSize = 10;
+
+	// 대기열이 가득 차면 503 으로 바로 응답합니다.
+	private int queueCapacity = 256;
+
+	// true 이면 조회 스레드를 가상 스레드로 만듭니다. Java 21 이상에서만 켤 수 있고, virtual-threads 프로필이 켭니다.
+	private boolean virtualThreads = false;
+
+	public enum Mode {
+		BLOCKING,
+		ASYNC
+	}
+}
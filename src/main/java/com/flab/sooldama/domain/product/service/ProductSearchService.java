@@ -0,0 +1,87 @@
+package com.flab.sooldama.domain.product.service;
+
+import com.flab.sooldama.domain.product.cache.ProductCache;
+import com.flab.sooldama.domain.product.cache.ProductsChangedEvent;
+import com.flab.sooldama.domain.product.dao.ProductMapper;
+import com.flab.sooldama.domain.product.dto.response.ProductResponse;
+import com.flab.sooldama.domain.product.dto.response.ProductSearchResponse;
+import com.flab.sooldama.domain.product.index.ProductIndexMaintainer;
+import com.flab.sooldama.domain.product.search.ProductSearchIndex;
+import com.flab.sooldama.domain.product.search.SearchHit;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/*
+제품 이름과 설명으로 제품을 검색합니다. LIKE '%검색어%' 는 인덱스를 쓰지 못해 모든 행을 읽으므로,
+서버마다 메모리에 역색인(ProductSearchIndex)을 만들어 두고 검색합니다.
+
+- 애플리케이션이 준비되면(ApplicationReadyEvent) 모든 제품으로 색인을 만듭니다.
+  이 이벤트가 끝난 뒤에 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌므로, 색인이 만들어지기 전에는 트래픽을 받지 않습니다.
+- ProductCache 가 캐시를 비울 때 발행하는 ProductsChangedEvent 를 받아 바뀐 제품을 백그라운드에서 다시 색인합니다.
+  그동안 검색 결과에 바뀌기 전 제품이 잠깐 나올 수 있습니다.
+
+색인을 만들고 유지하는 방법은 ProductIndexMaintainer 에 있습니다.
+검색 결과는 점수 순서대로 ProductCache 에서 제품을 가져와 응답하므로, 색인보다 먼저 지워진 제품은 응답에서 빠집니다.
+ */
+@Service
+public class ProductSearchService {
+
+	// 페이지 크기 정책(paging.endpoints)에서 사용하는 엔드포인트 이름입니다.
+	public static final String PRODUCTS_SEARCH_ENDPOINT = "products-search";
+
+	private final ProductCache productCache;
+
+	private final ProductIndexMaintainer<ProductSearchIndex> maintainer;
+
+	public ProductSearchService(ProductMapper productMapper, ProductCache productCache,
+		PlatformTransactionManager transactionManager) {
+		this.productCache = productCache;
+		this.maintainer = new ProductIndexMaintainer<>("product-search", productMapper,
+			transactionManager, ProductSearchIndex::new);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		rebuild();
+	}
+
+	@EventListener
+	public void onProductsChanged(ProductsChangedEvent event) {
+		maintainer.refreshLater(event.getProductIds());
+	}
+
+	public ProductSearchResponse search(String query, Integer limit) {
+		List<SearchHit> hits = maintainer.current().search(query, limit);
+
+		List<ProductResponse> productResponses = new ArrayList<>(hits.size());
+		for (SearchHit hit : hits) {
+			productCache.get(hit.getProductId())
+				.ifPresent(product -> productResponses.add(ProductResponse.of(product)));
+		}
+
+		return ProductSearchResponse.builder()
+			.products(productResponses)
+			.limit(limit)
+			.build();
+	}
+
+	public void rebuild() {
+		maintainer.rebuild();
+	}
+
+	public void refresh(List<Long> productIds) {
+		maintainer.refresh(productIds);
+	}
+
+	public int indexedCount() {
+		return maintainer.current().size();
+	}
+
+	public void shutdown() {
+		maintainer.shutdown();
+	}
+}
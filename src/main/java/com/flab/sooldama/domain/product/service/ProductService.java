@@ -1,38 +1,155 @@
 package com.flab.sooldama.domain.product.service;
 
-import com.flab.sooldama.domain.product.dao.ProductMapper;
+import com.flab.sooldama.domain.product.cache.ProductCache;
+import com.flab.sooldama.domain.product.cache.ProductCacheKeys;
+import com.flab.sooldama.domain.product.cache.ProductPageBody;
+import com.flab.sooldama.domain.product.cache.ProductPageBodyCache;
 import com.flab.sooldama.domain.product.domain.Product;
+import com.flab.sooldama.domain.product.dto.request.ProductCursor;
+import com.flab.sooldama.domain.product.dto.response.ProductPageResponse;
 import com.flab.sooldama.domain.product.dto.response.ProductResponse;
 import com.flab.sooldama.domain.product.exception.ProductNotFoundException;
+import com.flab.sooldama.domain.product.snapshot.ProductSnapshot;
+import com.flab.sooldama.domain.product.snapshot.ProductSnapshotHolder;
+import com.flab.sooldama.global.paging.RowsServedRecorder;
 import java.util.ArrayList;
 import java.util.List;
 import javax.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+/*
+카탈로그 스냅샷(product.snapshot.enabled)을 사용하면 DB 나 ProductCache 를 거치지 않고 스냅샷에서 바로 응답 DTO 를 만듭니다.
+스냅샷은 제품이 바뀐 뒤 잠시 후에 새로 만들어지므로, 스냅샷에 아직 없는 제품은 ProductCache 에서 찾습니다.
+
+...Body 메서드는 목록 응답을 JSON 으로 직렬화한 본문과 ETag 를 반환합니다. 캐시된 본문을 반환해도 조회한 행 수는 기록합니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
-    private final ProductMapper productMapper;
+	// 페이지 크기 정책(paging.endpoints)과 조회한 행 수를 기록할 때 사용하는 엔드포인트 이름입니다.
+	public static final String PRODUCTS_ENDPOINT = "products";
 
-	public List<ProductResponse> getProducts(Integer offset, Integer limit, Long categoryId, HttpSession session) {
+	public static final String PRODUCTS_AFTER_ENDPOINT = "products-after";
 
-		List<Product> products = productMapper.selectProducts(offset, limit, categoryId);
-		List<ProductResponse> productResponses = new ArrayList<>();
+	private final ProductCache productCache;
 
-		for (Product product : products) {
-			productResponses.add(ProductResponse.of(product));
-		}
+	private final RowsServedRecorder rowsServedRecorder;
+
+	private final ProductSnapshotHolder productSnapshotHolder;
+
+	private final ProductPageBodyCache productPageBodyCache;
+
+	/*
+	offset 기반 목록 응답을 JSON 으로 직렬화한 본문을 반환합니다. 같은 페이지는 ProductPageBodyCache 에서 가져옵니다.
+	 */
+	public ProductPageBody getProductsBody(Integer offset, Integer limit, Long categoryId,
+		HttpSession session) {
 
-        return productResponses;
-    }
+		String key = ProductCacheKeys.page(productCache.getCatalogVersion(), offset, limit,
+			categoryId);
+		ProductPageBody body = productPageBodyCache.get(bodyKey(key),
+			() -> loadProducts(offset, limit, categoryId));
+		rowsServedRecorder.record(session, PRODUCTS_ENDPOINT, body.getProductCount());
 
-    public ProductResponse getProductById(Long productId, HttpSession session) {
+		return body;
+	}
 
-		Product product = productMapper.selectProductById(productId)
+	/*
+	커서 기반 목록 응답을 JSON 으로 직렬화한 본문을 반환합니다.
+	커서를 먼저 해석하므로, 잘못된 커서는 캐시를 조회하기 전에 InvalidCursorException 으로 거절합니다.
+	 */
+	public ProductPageBody getProductsAfterBody(String after, Integer limit, Long categoryId,
+		HttpSession session) {
+
+		ProductCursor cursor = ProductCursor.decode(after, categoryId);
+		String key = ProductCacheKeys.pageAfter(productCache.getCatalogVersion(),
+			cursor.getLastId(), limit, categoryId);
+		ProductPageBody body = productPageBodyCache.get(bodyKey(key),
+			() -> loadProductsAfter(cursor.getLastId(), limit, categoryId));
+		rowsServedRecorder.record(session, PRODUCTS_AFTER_ENDPOINT, body.getProductCount());
+
+		return body;
+	}
+
+	/*
+	제품과 마지막 수정 시각을 같은 곳(스냅샷이나 ProductCache)에서 한 번에 가져옵니다.
+	조건부 요청(If-None-Match, If-Modified-Since)을 확인할 때도 DB 를 조회하지 않습니다.
+	 */
+	public ProductDetail getProductById(Long productId, HttpSession session) {
+
+		ProductSnapshot snapshot = productSnapshotHolder.current();
+		if (snapshot != null && snapshot.contains(productId)) {
+			return new ProductDetail(snapshot.find(productId), snapshot.lastModified(productId));
+		}
+
+		Product product = productCache.get(productId)
 			.orElseThrow(() -> new ProductNotFoundException("제품이 존재하지 않습니다."));
 
-        return ProductResponse.of(product);
-    }
+		return new ProductDetail(ProductResponse.of(product), product.lastModifiedMillis());
+	}
+
+	/*
+	offset 기반 조회도 커서 기반 조회와 같은 방법으로 다음 페이지가 있는지(hasNext) 계산합니다.
+	 */
+	private ProductPageResponse loadProducts(Integer offset, Integer limit, Long categoryId) {
+		ProductSnapshot snapshot = productSnapshotHolder.current();
+		List<ProductResponse> page = snapshot != null
+			? snapshot.page(offset, limit + 1, categoryId)
+			: toResponses(productCache.getPage(offset, limit + 1, categoryId));
+
+		boolean hasNext = page.size() > limit;
+
+		return ProductPageResponse.builder()
+			.products(hasNext ? page.subList(0, limit) : page)
+			.limit(limit)
+			.hasNext(hasNext)
+			.nextOffset(hasNext ? offset + limit : null)
+			.build();
+	}
+
+	/*
+	커서 기반 페이지네이션으로 제품을 조회합니다.
+	다음 페이지가 있는지 알기 위해 limit 보다 한 개 더 조회하고, 남는 한 개는 응답에 포함하지 않습니다.
+	 */
+	private ProductPageResponse loadProductsAfter(Long lastId, Integer limit, Long categoryId) {
+		ProductSnapshot snapshot = productSnapshotHolder.current();
+		List<ProductResponse> page = snapshot != null
+			? snapshot.pageAfter(lastId, limit + 1, categoryId)
+			: toResponses(productCache.getPageAfter(lastId, limit + 1, categoryId));
+
+		boolean hasNext = page.size() > limit;
+		List<ProductResponse> productResponses = hasNext ? page.subList(0, limit) : page;
+
+		String nextCursor = null;
+		if (hasNext) {
+			Long nextLastId = productResponses.get(productResponses.size() - 1).getId();
+			nextCursor = ProductCursor.of(nextLastId, categoryId).encode();
+		}
+
+		return ProductPageResponse.builder()
+			.products(productResponses)
+			.limit(limit)
+			.hasNext(hasNext)
+			.nextCursor(nextCursor)
+			.build();
+	}
+
+	/*
+	스냅샷 세대를 키에 넣어서, 스냅샷이 새로 만들어지면 이전 스냅샷으로 직렬화한 본문을 사용하지 않습니다.
+	 */
+	private String bodyKey(String pageKey) {
+		return pageKey + ":snapshot:" + productSnapshotHolder.generation();
+	}
+
+	private static List<ProductResponse> toResponses(List<Product> products) {
+		List<ProductResponse> productResponses = new ArrayList<>(products.size());
+
+		for (Product product : products) {
+			productResponses.add(ProductResponse.of(product));
+		}
+
+		return productResponses;
+	}
 }
@@ -0,0 +1,301 @@
+package com.flab.sooldama.domain.product.snapshot;
+
+import com.flab.sooldama.domain.product.domain.Product;
+import com.flab.sooldama.domain.product.dto.response.ProductResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+제품 카탈로그를 열(column)마다 기본형 배열에 나눠 담은 읽기 전용 스냅샷입니다.
+
+Product 객체로 들고 있으면 제품마다 객체 헤더와 Long/Integer/Double 박싱 객체, 문자열 참조가 따로 생기지만,
+열 배열로 담으면 제품 하나가 배열마다 칸 하나씩만 차지합니다. 문자열은 중복을 없앤 사전(dictionary)에 한 번만 담고
+열에는 사전의 번호만 저장하므로, 모든 제품이 같은 값을 쓰는 image_url 같은 열은 거의 메모리를 쓰지 않습니다.
+
+행은 아이디 순서로 정렬되어 있습니다. 아이디로 찾을 때는 이진 탐색을, 카테고리로 필터링할 때는
+카테고리별로 미리 모아 둔 행 번호 배열을 사용합니다. 값이 없는 숫자 열은 NULL_INT, NaN 으로 나타냅니다.
+
+만든 뒤에는 바뀌지 않으므로 잠금 없이 여러 스레드가 함께 읽습니다. 제품이 바뀌면 새 스냅샷을 만들어 통째로 바꿔 끼웁니다.
+ */
+public final class ProductSnapshot {
+
+	static final int NULL_INT = Integer.MIN_VALUE;
+
+	static final long NULL_LONG = Long.MIN_VALUE;
+
+	private static final int[] NO_ROWS = new int[0];
+
+	// 배열 하나와 객체 하나의 헤더, 문자열 하나의 대략적인 크기(byte)입니다.
+	private static final int ARRAY_HEADER = 16;
+
+	private static final int OBJECT_HEADER = 16;
+
+	private static final int STRING_OVERHEAD = 40;
+
+	private final long[] ids;
+
+	private final long[] categoryIds;
+
+	private final int[] prices;
+
+	private final double[] abvs;
+
+	private final int[] capacities;
+
+	private final int[] names;
+
+	private final int[] imageUrls;
+
+	private final int[] descriptions;
+
+	private final long[] lastModifieds;
+
+	private final String[] dictionary;
+
+	private final Map<Long, int[]> rowsByCategory;
+
+	private ProductSnapshot(Builder builder) {
+		int size = builder.size;
+		this.ids = Arrays.copyOf(builder.ids, size);
+		this.categoryIds = Arrays.copyOf(builder.categoryIds, size);
+		this.prices = Arrays.copyOf(builder.prices, size);
+		this.abvs = Arrays.copyOf(builder.abvs, size);
+		this.capacities = Arrays.copyOf(builder.capacities, size);
+		this.names = Arrays.copyOf(builder.names, size);
+		this.imageUrls = Arrays.copyOf(builder.imageUrls, size);
+		this.descriptions = Arrays.copyOf(builder.descriptions, size);
+		this.lastModifieds = Arrays.copyOf(builder.lastModifieds, size);
+		this.dictionary = builder.dictionary.toArray(new String[0]);
+
+		Map<Long, Integer> categorySizes = new HashMap<>();
+		for (int row = 0; row < size; row++) {
+			categorySizes.merge(categoryIds[row], 1, Integer::sum);
+		}
+		Map<Long, int[]> rows = new HashMap<>();
+		Map<Long, Integer> filled = new HashMap<>();
+		for (int row = 0; row < size; row++) {
+			long categoryId = categoryIds[row];
+			int[] categoryRows = rows.computeIfAbsent(categoryId,
+				id -> new int[categorySizes.get(id)]);
+			int next = filled.merge(categoryId, 1, Integer::sum) - 1;
+			categoryRows[next] = row;
+		}
+		this.rowsByCategory = rows;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public int size() {
+		return ids.length;
+	}
+
+	/*
+	제품이 없으면 null 을 반환합니다.
+	 */
+	public ProductResponse find(long productId) {
+		int row = Arrays.binarySearch(ids, productId);
+		return row < 0 ? null : response(row);
+	}
+
+	public boolean contains(long productId) {
+		return Arrays.binarySearch(ids, productId) >= 0;
+	}
+
+	/*
+	제품의 마지막 수정 시각(Product.lastModifiedMillis)을 반환합니다. 스냅샷에 없는 제품이면 -1 을 반환합니다.
+	 */
+	public long lastModified(long productId) {
+		int row = Arrays.binarySearch(ids, productId);
+		return row < 0 ? -1 : lastModifieds[row];
+	}
+
+	/*
+	ProductMapper.selectProducts 와 같은 결과를 반환합니다.
+	 */
+	public List<ProductResponse> page(int offset, int limit, Long categoryId) {
+		if (categoryId == null) {
+			int end = (int) Math.min((long) offset + limit, ids.length);
+			List<ProductResponse> responses = new ArrayList<>(Math.max(end - offset, 0));
+			for (int row = offset; row < end; row++) {
+				responses.add(response(row));
+			}
+			return responses;
+		}
+
+		int[] rows = rowsByCategory.getOrDefault(categoryId, NO_ROWS);
+		return responses(rows, offset, limit);
+	}
+
+	/*
+	ProductMapper.selectProductsAfter 와 같은 결과를 반환합니다.
+	 */
+	public List<ProductResponse> pageAfter(Long lastId, int limit, Long categoryId) {
+		if (categoryId == null) {
+			int from = lastId == null ? 0 : firstRowAfter(lastId);
+			return page(from, limit, null);
+		}
+
+		int[] rows = rowsByCategory.getOrDefault(categoryId, NO_ROWS);
+		int from = lastId == null ? 0 : firstIndexAfter(rows, lastId);
+		return responses(rows, from, limit);
+	}
+
+	/*
+	스냅샷이 차지하는 대략적인 메모리 크기(byte)입니다.
+	 */
+	public long estimatedBytes() {
+		long bytes = OBJECT_HEADER;
+		bytes += ARRAY_HEADER * 9L + (long) ids.length * (8 + 8 + 4 + 8 + 4 + 4 + 4 + 4 + 8);
+
+		bytes += ARRAY_HEADER + (long) dictionary.length * 4;
+		for (String value : dictionary) {
+			bytes += STRING_OVERHEAD + 2L * value.length();
+		}
+
+		for (int[] rows : rowsByCategory.values()) {
+			bytes += OBJECT_HEADER * 3 + ARRAY_HEADER + 4L * rows.length;
+		}
+
+		return bytes;
+	}
+
+	private List<ProductResponse> responses(int[] rows, int from, int limit) {
+		int end = (int) Math.min((long) from + limit, rows.length);
+		List<ProductResponse> responses = new ArrayList<>(Math.max(end - from, 0));
+		for (int i = from; i < end; i++) {
+			responses.add(response(rows[i]));
+		}
+
+		return responses;
+	}
+
+	private int firstRowAfter(long lastId) {
+		int row = Arrays.binarySearch(ids, lastId);
+		return row >= 0 ? row + 1 : -row - 1;
+	}
+
+	private int firstIndexAfter(int[] rows, long lastId) {
+		int low = 0;
+		int high = rows.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (ids[rows[mid]] <= lastId) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+
+		return low;
+	}
+
+	private ProductResponse response(int row) {
+		return ProductResponse.builder()
+			.id(ids[row])
+			.productCategoryId(categoryIds[row] == NULL_LONG ? null : categoryIds[row])
+			.name(string(names[row]))
+			.price(prices[row] == NULL_INT ? null : prices[row])
+			.imageUrl(string(imageUrls[row]))
+			.description(string(descriptions[row]))
+			.abv(Double.isNaN(abvs[row]) ? null : abvs[row])
+			.capacity(capacities[row] == NULL_INT ? null : capacities[row])
+			.build();
+	}
+
+	private String string(int code) {
+		return code == NULL_INT ? null : dictionary[code];
+	}
+
+	/*
+	아이디 순서로 제품을 추가해야 합니다. 순서가 어긋나면 IllegalArgumentException 이 발생합니다.
+	 */
+	public static final class Builder {
+
+		private static final int INITIAL_CAPACITY = 1024;
+
+		private final Map<String, Integer> codes = new HashMap<>();
+
+		private final List<String> dictionary = new ArrayList<>();
+
+		private long[] ids = new long[INITIAL_CAPACITY];
+
+		private long[] categoryIds = new long[INITIAL_CAPACITY];
+
+		private int[] prices = new int[INITIAL_CAPACITY];
+
+		private double[] abvs = new double[INITIAL_CAPACITY];
+
+		private int[] capacities = new int[INITIAL_CAPACITY];
+
+		private int[] names = new int[INITIAL_CAPACITY];
+
+		private int[] imageUrls = new int[INITIAL_CAPACITY];
+
+		private int[] descriptions = new int[INITIAL_CAPACITY];
+
+		private long[] lastModifieds = new long[INITIAL_CAPACITY];
+
+		private int size;
+
+		private Builder() {
+		}
+
+		public Builder add(Product product) {
+			if (size > 0 && product.getId() <= ids[size - 1]) {
+				throw new IllegalArgumentException("제품은 아이디 순서로 추가해야 합니다");
+			}
+
+			ensureCapacity(size + 1);
+			ids[size] = product.getId();
+			categoryIds[size] = product.getProductCategoryId() == null
+				? NULL_LONG : product.getProductCategoryId();
+			prices[size] = product.getPrice() == null ? NULL_INT : product.getPrice();
+			abvs[size] = product.getAbv() == null ? Double.NaN : product.getAbv();
+			capacities[size] = product.getCapacity() == null ? NULL_INT : product.getCapacity();
+			names[size] = encode(product.getName());
+			imageUrls[size] = encode(product.getImageUrl());
+			descriptions[size] = encode(product.getDescription());
+			lastModifieds[size] = product.lastModifiedMillis();
+			size++;
+
+			return this;
+		}
+
+		public ProductSnapshot build() {
+			return new ProductSnapshot(this);
+		}
+
+		private int encode(String value) {
+			if (value == null) {
+				return NULL_INT;
+			}
+
+			return codes.computeIfAbsent(value, key -> {
+				dictionary.add(key);
+				return dictionary.size() - 1;
+			});
+		}
+
+		private void ensureCapacity(int capacity) {
+			if (capacity <= ids.length) {
+				return;
+			}
+
+			int grown = Math.max(capacity, ids.length * 2);
+			ids = Arrays.copyOf(ids, grown);
+			categoryIds = Arrays.copyOf(categoryIds, grown);
+			prices = Arrays.copyOf(prices, grown);
+			abvs = Arrays.copyOf(abvs, grown);
+			capacities = Arrays.copyOf(capacities, grown);
+			names = Arrays.copyOf(names, grown);
+			imageUrls = Arrays.copyOf(imageUrls, grown);
+			descriptions = Arrays.copyOf(descriptions, grown);
+			lastModifieds = Arrays.copyOf(lastModifieds, grown);
+		}
+	}
+}
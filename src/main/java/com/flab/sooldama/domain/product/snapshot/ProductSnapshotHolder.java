@@ -0,0 +1,148 @@
+package com.flab.sooldama.domain.product.snapshot;
+
+import com.flab.sooldama.domain.product.cache.ProductsChangedEvent;
+import com.flab.sooldama.domain.product.dao.ProductMapper;
+import com.flab.sooldama.domain.product.domain.Product;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+현재 제품 카탈로그 스냅샷(ProductSnapshot)을 들고 있다가, 새 스냅샷을 만들면 volatile 참조 하나를 바꿔 통째로 교체합니다.
+읽는 쪽은 current() 로 받은 스냅샷 하나만 사용하므로, 교체하는 도중에도 이전 스냅샷이나 새 스냅샷 중 하나를 온전히 읽습니다.
+
+- 애플리케이션이 준비되면(ApplicationReadyEvent) 모든 제품을 Cursor 로 읽어 첫 스냅샷을 만듭니다.
+- ProductsChangedEvent 를 받으면 refresh-delay 뒤에 새로 만듭니다. 그 사이에 들어온 변경은 한 번에 반영합니다.
+- 이벤트를 놓치는 경우에 대비해 refresh-interval 마다 새로 만듭니다.
+
+product.snapshot.enabled 가 false 이면 스냅샷을 만들지 않고 current() 가 null 을 반환합니다.
+스냅샷 크기는 product.snapshot.products, product.snapshot.bytes 지표로 확인합니다.
+ */
+@Slf4j
+public class ProductSnapshotHolder implements MeterBinder {
+
+	private final ProductMapper productMapper;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final ProductSnapshotProperties properties;
+
+	private final ScheduledExecutorService refresher;
+
+	private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+	private volatile ProductSnapshot snapshot;
+
+	private volatile long generation;
+
+	public ProductSnapshotHolder(ProductMapper productMapper,
+		PlatformTransactionManager transactionManager, ProductSnapshotProperties properties) {
+		this.productMapper = productMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.properties = properties;
+		this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "product-snapshot-refresher");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/*
+	스냅샷을 사용하지 않거나 아직 만들지 않았으면 null 을 반환합니다.
+	 */
+	public ProductSnapshot current() {
+		return snapshot;
+	}
+
+	/*
+	스냅샷을 바꿔 끼울 때마다 1씩 늘어납니다. 스냅샷으로 만든 결과를 캐시할 때 키에 넣으면, 새 스냅샷이 만들어진 뒤에는
+	이전 스냅샷으로 만든 결과가 조회되지 않습니다. 스냅샷을 먼저 바꾸고 나서 늘리므로, 늘어난 값으로는 이전 스냅샷을 읽지 않습니다.
+	 */
+	public long generation() {
+		return generation;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		if (!properties.isEnabled()) {
+			return;
+		}
+
+		rebuild();
+		long interval = properties.getRefreshInterval().toMillis();
+		refresher.scheduleWithFixedDelay(this::rebuildQuietly, interval, interval,
+			TimeUnit.MILLISECONDS);
+	}
+
+	@EventListener
+	public void onProductsChanged(ProductsChangedEvent event) {
+		if (!properties.isEnabled() || !refreshScheduled.compareAndSet(false, true)) {
+			return;
+		}
+
+		refresher.schedule(() -> {
+			refreshScheduled.set(false);
+			rebuildQuietly();
+		}, properties.getRefreshDelay().toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	public synchronized void rebuild() {
+		long startedAt = System.currentTimeMillis();
+
+		ProductSnapshot.Builder builder = ProductSnapshot.builder();
+		transactionTemplate.executeWithoutResult(status -> {
+			try (Cursor<Product> cursor = productMapper.selectProductCursor(null)) {
+				for (Product product : cursor) {
+					builder.add(product);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		ProductSnapshot rebuilt = builder.build();
+		snapshot = rebuilt;
+		generation++;
+
+		log.info("제품 {}개로 카탈로그 스냅샷을 만들었습니다. (약 {}KB, {}ms)", rebuilt.size(),
+			rebuilt.estimatedBytes() / 1024, System.currentTimeMillis() - startedAt);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("product.snapshot.products", this,
+				holder -> holder.snapshot == null ? 0 : holder.snapshot.size())
+			.register(registry);
+		Gauge.builder("product.snapshot.bytes", this,
+				holder -> holder.snapshot == null ? 0 : holder.snapshot.estimatedBytes())
+			.baseUnit("bytes")
+			.register(registry);
+	}
+
+	public void shutdown() {
+		refresher.shutdownNow();
+	}
+
+	/*
+	새로 만들지 못하면 이전 스냅샷을 계속 사용합니다.
+	 */
+	private void rebuildQuietly() {
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			log.warn("카탈로그 스냅샷을 새로 만들지 못했습니다.", e);
+		}
+	}
+}
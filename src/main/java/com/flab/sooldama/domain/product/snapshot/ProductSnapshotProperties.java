@@ -0,0 +1,24 @@
+package com.flab.sooldama.domain.product.snapshot;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+application.yml 의 product.snapshot 하위 설정값을 바인딩합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "product.snapshot")
+public class ProductSnapshotProperties {
+
+	// true 이면 제품 목록과 단건 조회를 DB 나 캐시 대신 메모리의 카탈로그 스냅샷에서 응답합니다.
+	private boolean enabled = false;
+
+	// 제품 변경 이벤트를 놓쳐도 이 주기마다 스냅샷을 새로 만듭니다.
+	private Duration refreshInterval = Duration.ofMinutes(5);
+
+	// 제품이 바뀐 뒤 이 시간 동안 들어온 변경을 모아서 스냅샷을 한 번만 새로 만듭니다.
+	private Duration refreshDelay = Duration.ofSeconds(1);
+}
@@ -3,11 +3,14 @@ package com.flab.sooldama.domain.user.api;
 import com.flab.sooldama.domain.user.dto.request.JoinUserRequest;
 import com.flab.sooldama.domain.user.dto.request.LoginUserRequest;
 import com.flab.sooldama.domain.user.dto.response.JoinUserResponse;
+import com.flab.sooldama.domain.user.dto.response.LoginUserResponse;
 import com.flab.sooldama.domain.user.exception.NoSuchUserException;
 import com.flab.sooldama.domain.user.service.UserService;
-import javax.servlet.http.HttpSession;
+import java.util.concurrent.CompletableFuture;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -26,6 +29,9 @@ public class UserApi {
 
 	private final UserService userService;
 
+	// 스프링 MVC 의 비동기 요청 처리에 쓰이는 실행기입니다. virtual-threads 프로필에서는 가상 스레드에서 실행합니다.
+	private final AsyncTaskExecutor applicationTaskExecutor;
+
     /*
     @GetMapping 어노테이션은 HTTP GET 요청을 처리하는 메서드를 맵핑(@RequestMapping) 하는 어노테이션 입니다.
     Url 에 따라서 어떤 정보를 보여줄지 결정합니다.
@@ -40,26 +46,37 @@ public class UserApi {
 	@RequestBody 어노테이션은 클라이언트(예를 들어 Postman)로부터 전달받은 입력을 Java 객체로 변환해줍니다.
 	이 어노테이션을 붙이지 않은 채로 클라이언트에서 JSON 형식 데이터를 전달하면 DTO 객체로 변환되지 않아
 	api가 올바르게 작동하지 않습니다.
+
+	회원가입과 로그인은 비밀번호 해시가 끝날 때까지 요청 스레드를 붙잡지 않도록 CompletableFuture 를 반환합니다.
+	스프링 MVC 는 요청 스레드를 반납했다가 CompletableFuture 가 완료되면 그 결과로 응답합니다.
+	예외로 완료되면 CompletionException 을 벗겨낸 원래 예외를 GlobalExceptionHandler 가 처리합니다.
+
+	로그인은 해시 스레드에서 비밀번호만 확인합니다. 확인 결과(VerifiedLogin)로 재해시한 비밀번호를 저장하고 세션을 만들거나
+	토큰을 발급하는 일은 해시 스레드를 붙잡지 않도록 applicationTaskExecutor 에서 이어서 처리합니다.
+	로그인 처리까지 끝나야 CompletableFuture 가 완료되므로, 응답을 쓰기 전에 로그인이 끝나 있고
+	DB 저장이 실패하면 GlobalExceptionHandler 가 오류로 응답합니다. 세션 쿠키도 같은 응답에 담깁니다.
 	 */
 	@PostMapping(path = "")
-	public ResponseEntity<JoinUserResponse> joinUser(@Valid @RequestBody JoinUserRequest request) {
-		JoinUserResponse response = userService.insertUser(request);
+	public CompletableFuture<ResponseEntity<JoinUserResponse>> joinUser(
+		@Valid @RequestBody JoinUserRequest request) {
 
-		return ResponseEntity.status(HttpStatus.CREATED).body(response);
+		return userService.insertUser(request)
+			.thenApply(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
 	}
 
 	@PostMapping(path = "/login")
-	public ResponseEntity<Void> loginUser(@RequestBody LoginUserRequest request, HttpSession session) {
+	public CompletableFuture<LoginUserResponse> loginUser(@RequestBody LoginUserRequest request,
+		HttpServletRequest httpRequest) {
 
-		userService.loginUser(request, session);
-
-		return ResponseEntity.status(HttpStatus.OK).build();
+		return userService.loginUser(request)
+			.thenApplyAsync(login -> userService.completeLogin(login, httpRequest),
+				applicationTaskExecutor);
 	}
 
 	@PostMapping(path = "/logout")
-	public ResponseEntity<Void> logoutUser(HttpSession session) {
+	public ResponseEntity<Void> logoutUser(HttpServletRequest httpRequest) {
 
-		userService.logoutUser(session);
+		userService.logoutUser(httpRequest);
 
 		return ResponseEntity.status(HttpStatus.OK).build();
 	}
@@ -3,6 +3,7 @@ package com.flab.sooldama.domain.user.dao;
 import com.flab.sooldama.domain.user.domain.User;
 import java.util.Optional;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 @Mapper // Mybatis 매핑 xml 에 기재된 sql 을 호출하기 위한 인터페이스임을 의미합니다. 인터페이스를 매퍼로 등록합니다.
 public interface UserMapper {
@@ -13,5 +14,7 @@ public interface UserMapper {
 
 	Optional<User> findUserByEmail(String email);
 
+	void updatePassword(@Param("id") Long id, @Param("password") String password);
+
 	void deleteAllUsers();
 }
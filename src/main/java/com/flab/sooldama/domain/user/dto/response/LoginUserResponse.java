@@ -0,0 +1,27 @@
+package com.flab.sooldama.domain.user.dto.response;
+
+import com.flab.sooldama.global.auth.AuthToken;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/*
+토큰 방식(auth.mode: token)으로 로그인하면 응답으로 토큰을 보냅니다.
+클라이언트는 이후 요청의 Authorization 헤더에 "Bearer {token}" 으로 전달합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class LoginUserResponse {
+
+	private String token;
+	private Instant expiresAt;
+
+	public static LoginUserResponse of(AuthToken authToken) {
+		return LoginUserResponse.builder()
+			.token(authToken.getValue())
+			.expiresAt(authToken.getExpiresAt())
+			.build();
+	}
+}
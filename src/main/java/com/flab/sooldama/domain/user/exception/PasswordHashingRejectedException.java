@@ -0,0 +1,7 @@
+package com.flab.sooldama.domain.user.exception;
+
+public class PasswordHashingRejectedException extends RuntimeException {
+	public PasswordHashingRejectedException(String message) {
+		super(message);
+	}
+}
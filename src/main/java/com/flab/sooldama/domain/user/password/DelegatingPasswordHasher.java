@@ -0,0 +1,50 @@
+package com.flab.sooldama.domain.user.password;
+
+import java.util.List;
+
+/*
+새 비밀번호는 current 로 해시하고, 저장된 해시는 형식을 지원하는 구현체를 찾아 검증합니다.
+current 가 아닌 구현체로 만든 해시나 current 의 설정보다 약한 해시는 다시 해시해야 합니다.
+ */
+public class DelegatingPasswordHasher implements PasswordHasher {
+
+	private final PasswordHasher current;
+
+	private final List<PasswordHasher> legacies;
+
+	public DelegatingPasswordHasher(PasswordHasher current, List<PasswordHasher> legacies) {
+		this.current = current;
+		this.legacies = List.copyOf(legacies);
+	}
+
+	@Override
+	public String hash(String rawPassword) {
+		return current.hash(rawPassword);
+	}
+
+	@Override
+	public boolean matches(String rawPassword, String encodedPassword) {
+		if (current.supports(encodedPassword)) {
+			return current.matches(rawPassword, encodedPassword);
+		}
+
+		for (PasswordHasher legacy : legacies) {
+			if (legacy.supports(encodedPassword)) {
+				return legacy.matches(rawPassword, encodedPassword);
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public boolean supports(String encodedPassword) {
+		return current.supports(encodedPassword)
+			|| legacies.stream().anyMatch(legacy -> legacy.supports(encodedPassword));
+	}
+
+	@Override
+	public boolean needsRehash(String encodedPassword) {
+		return !current.supports(encodedPassword) || current.needsRehash(encodedPassword);
+	}
+}
@@ -0,0 +1,65 @@
+package com.flab.sooldama.domain.user.password;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/*
+이전에 사용하던 솔트 없는 SHA-256 해시(16진수 64자리)를 검증합니다.
+새 비밀번호를 이 방식으로 저장하지는 않으며, 로그인에 성공하면 현재 방식으로 다시 해시해서 저장합니다.
+MessageDigest 는 스레드 안전하지 않으므로 스레드마다 하나씩 만들어 재사용합니다.
+ */
+public class LegacySha256PasswordHasher implements PasswordHasher {
+
+	private static final String ALGORITHM = "SHA-256";
+
+	private static final int HEX_LENGTH = 64;
+
+	private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance(ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("비밀번호 암호화에 실패했습니다", e);
+		}
+	});
+
+	@Override
+	public String hash(String rawPassword) {
+		return PasswordEncoding.toHex(digest(rawPassword));
+	}
+
+	@Override
+	public boolean matches(String rawPassword, String encodedPassword) {
+		if (!supports(encodedPassword)) {
+			return false;
+		}
+
+		return MessageDigest.isEqual(digest(rawPassword), PasswordEncoding.fromHex(encodedPassword));
+	}
+
+	@Override
+	public boolean supports(String encodedPassword) {
+		if (encodedPassword == null || encodedPassword.length() != HEX_LENGTH) {
+			return false;
+		}
+
+		for (int i = 0; i < HEX_LENGTH; i++) {
+			if (Character.digit(encodedPassword.charAt(i), 16) < 0) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public boolean needsRehash(String encodedPassword) {
+		return true;
+	}
+
+	private byte[] digest(String rawPassword) {
+		MessageDigest digest = DIGEST.get();
+		digest.reset();
+		return digest.digest(rawPassword.getBytes(StandardCharsets.UTF_8));
+	}
+}
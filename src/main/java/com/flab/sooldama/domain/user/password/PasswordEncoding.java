@@ -0,0 +1,57 @@
+package com.flab.sooldama.domain.user.password;
+
+import java.util.Base64;
+
+/*
+해시 값을 문자열로 바꿉니다.
+16진수 변환은 바이트마다 String.format 을 호출하지 않고, 미리 만들어 둔 문자 표에서 바로 찾아 결과 배열을 채웁니다.
+Base64 는 JDK 의 Encoder/Decoder 를 한 번만 만들어 재사용합니다.
+ */
+public final class PasswordEncoding {
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder().withoutPadding();
+
+	private static final Base64.Decoder BASE64_DECODER = Base64.getDecoder();
+
+	private PasswordEncoding() {
+	}
+
+	public static String toHex(byte[] bytes) {
+		char[] hex = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			int value = bytes[i] & 0xff;
+			hex[i * 2] = HEX_DIGITS[value >>> 4];
+			hex[i * 2 + 1] = HEX_DIGITS[value & 0x0f];
+		}
+
+		return new String(hex);
+	}
+
+	public static byte[] fromHex(String hex) {
+		if (hex.length() % 2 != 0) {
+			throw new IllegalArgumentException("16진수 문자열의 길이가 올바르지 않습니다");
+		}
+
+		byte[] bytes = new byte[hex.length() / 2];
+		for (int i = 0; i < bytes.length; i++) {
+			int high = Character.digit(hex.charAt(i * 2), 16);
+			int low = Character.digit(hex.charAt(i * 2 + 1), 16);
+			if (high < 0 || low < 0) {
+				throw new IllegalArgumentException("16진수 문자열이 아닙니다");
+			}
+			bytes[i] = (byte) ((high << 4) | low);
+		}
+
+		return bytes;
+	}
+
+	public static String toBase64(byte[] bytes) {
+		return BASE64_ENCODER.encodeToString(bytes);
+	}
+
+	public static byte[] fromBase64(String base64) {
+		return BASE64_DECODER.decode(base64);
+	}
+}
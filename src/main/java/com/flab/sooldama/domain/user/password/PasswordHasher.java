@@ -0,0 +1,18 @@
+package com.flab.sooldama.domain.user.password;
+
+/*
+비밀번호를 해시하고, 입력한 비밀번호가 저장된 해시와 일치하는지 확인합니다.
+저장된 해시에는 알고리즘과 파라미터가 함께 기록되어 있어서, 해시 방식을 바꾸더라도 이전 해시를 계속 검증할 수 있습니다.
+ */
+public interface PasswordHasher {
+
+	String hash(String rawPassword);
+
+	boolean matches(String rawPassword, String encodedPassword);
+
+	// 이 구현체가 검증할 수 있는 형식의 해시인지 확인합니다.
+	boolean supports(String encodedPassword);
+
+	// 현재 설정보다 약한 알고리즘이나 파라미터로 만든 해시라면 true 를 반환합니다.
+	boolean needsRehash(String encodedPassword);
+}
@@ -0,0 +1,30 @@
+package com.flab.sooldama.domain.user.password;
+
+import com.flab.sooldama.domain.user.exception.PasswordHashingRejectedException;
+import com.flab.sooldama.global.thread.BoundedExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/*
+비밀번호 해시처럼 CPU 를 오래 사용하는 작업을 요청 스레드(Tomcat 워커)가 아닌 별도의 스레드 풀에서 실행합니다.
+로그인 요청이 몰려도 해시 작업은 이 풀의 스레드만 사용하므로, 제품 조회 같은 다른 요청을 처리할 Tomcat 워커가 남습니다.
+
+CPU 작업이므로 스레드 수는 코어 수를 넘지 않게 하고, 대기열 길이도 제한합니다.
+대기열이 가득 차면 기다리게 하지 않고 바로 PasswordHashingRejectedException 을 던져 503 으로 응답합니다.
+virtual-threads 프로필에서는 가상 스레드로 해시합니다. 이때 스레드 수를 캐리어 스레드 수보다 하나 적게 잡아야
+해시가 캐리어 스레드를 모두 차지하지 않고 다른 요청의 가상 스레드가 실행될 자리가 남습니다. (PasswordHasherConfig 참고)
+지표는 password.hashing 이름으로 등록합니다. (BoundedExecutor 참고)
+ */
+public class PasswordHashingExecutor extends BoundedExecutor {
+
+	private static final String NAME = "password.hashing";
+
+	public PasswordHashingExecutor(int poolSize, int queueCapacity, MeterRegistry registry) {
+		this(poolSize, queueCapacity, false, registry);
+	}
+
+	public PasswordHashingExecutor(int poolSize, int queueCapacity, boolean virtualThreads,
+		MeterRegistry registry) {
+		super(NAME, poolSize, queueCapacity, virtualThreads,
+			() -> new PasswordHashingRejectedException("요청이 많아 잠시 후 다시 시도해주세요"), registry);
+	}
+}
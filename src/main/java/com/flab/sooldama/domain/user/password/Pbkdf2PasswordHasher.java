@@ -0,0 +1,173 @@
+package com.flab.sooldama.domain.user.password;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+
+/*
+PBKDF2-HMAC-SHA256(RFC 8018)으로 비밀번호를 해시합니다.
+비밀번호마다 임의의 솔트를 만들고, iterations 만큼 HMAC 을 반복해서 무차별 대입 공격 비용을 높입니다.
+
+저장 형식: $pbkdf2-sha256$i=<반복 횟수>$<솔트(Base64)>$<해시(Base64)>
+반복 횟수가 해시에 함께 저장되므로, 설정을 올려도 이전 해시를 검증할 수 있고 로그인할 때 새 설정으로 다시 해시합니다.
+
+SecretKeyFactory 는 호출마다 내부 객체를 새로 만들기 때문에, HMAC 을 직접 반복 계산하고 Mac 은 스레드마다 하나씩 재사용합니다.
+ */
+public class Pbkdf2PasswordHasher implements PasswordHasher {
+
+	public static final String ID = "pbkdf2-sha256";
+
+	private static final String PREFIX = "$" + ID + "$";
+
+	private static final String DELIMITER = "\\$";
+
+	private static final String ITERATIONS_PREFIX = "i=";
+
+	private static final String MAC_ALGORITHM = "HmacSHA256";
+
+	private static final int MAC_LENGTH = 32;
+
+	private static final ThreadLocal<Mac> MAC = ThreadLocal.withInitial(() -> {
+		try {
+			return Mac.getInstance(MAC_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("비밀번호 암호화에 실패했습니다", e);
+		}
+	});
+
+	private final SecureRandom secureRandom = new SecureRandom();
+
+	private final int iterations;
+
+	private final int saltLength;
+
+	private final int hashLength;
+
+	public Pbkdf2PasswordHasher(int iterations, int saltLength, int hashLength) {
+		if (iterations < 1 || saltLength < 1 || hashLength < 1 || hashLength > MAC_LENGTH) {
+			throw new IllegalArgumentException("PBKDF2 설정값이 올바르지 않습니다");
+		}
+
+		this.iterations = iterations;
+		this.saltLength = saltLength;
+		this.hashLength = hashLength;
+	}
+
+	@Override
+	public String hash(String rawPassword) {
+		byte[] salt = new byte[saltLength];
+		secureRandom.nextBytes(salt);
+
+		byte[] hash = derive(rawPassword, salt, iterations, hashLength);
+
+		return PREFIX + ITERATIONS_PREFIX + iterations
+			+ "$" + PasswordEncoding.toBase64(salt)
+			+ "$" + PasswordEncoding.toBase64(hash);
+	}
+
+	@Override
+	public boolean matches(String rawPassword, String encodedPassword) {
+		if (!supports(encodedPassword)) {
+			return false;
+		}
+
+		String[] tokens = encodedPassword.split(DELIMITER);
+		int storedIterations = parseIterations(tokens[2]);
+		byte[] salt = PasswordEncoding.fromBase64(tokens[3]);
+		byte[] expected = PasswordEncoding.fromBase64(tokens[4]);
+
+		if (expected.length < 1 || expected.length > MAC_LENGTH) {
+			return false;
+		}
+
+		byte[] actual = derive(rawPassword, salt, storedIterations, expected.length);
+
+		return MessageDigest.isEqual(expected, actual);
+	}
+
+	/*
+	split 결과는 ["", "pbkdf2-sha256", "i=310000", 솔트, 해시] 입니다.
+	 */
+	@Override
+	public boolean supports(String encodedPassword) {
+		if (encodedPassword == null || !encodedPassword.startsWith(PREFIX)) {
+			return false;
+		}
+
+		String[] tokens = encodedPassword.split(DELIMITER);
+		return tokens.length == 5 && tokens[2].startsWith(ITERATIONS_PREFIX)
+			&& tokens[2].length() > ITERATIONS_PREFIX.length()
+			&& tokens[2].substring(ITERATIONS_PREFIX.length()).chars().allMatch(Character::isDigit);
+	}
+
+	@Override
+	public boolean needsRehash(String encodedPassword) {
+		if (!supports(encodedPassword)) {
+			return true;
+		}
+
+		String[] tokens = encodedPassword.split(DELIMITER);
+		return parseIterations(tokens[2]) < iterations
+			|| PasswordEncoding.fromBase64(tokens[3]).length < saltLength
+			|| PasswordEncoding.fromBase64(tokens[4]).length < hashLength;
+	}
+
+	private int parseIterations(String token) {
+		return Integer.parseInt(token.substring(ITERATIONS_PREFIX.length()));
+	}
+
+	/*
+	출력 길이가 HMAC 출력 길이(32byte) 이하이므로 RFC 8018 의 첫 번째 블록만 계산합니다.
+	U1 = HMAC(P, S || INT(1)), Uj = HMAC(P, Uj-1), T = U1 ^ U2 ^ ... ^ Uc
+	 */
+	static byte[] derive(String rawPassword, byte[] salt, int iterations, int length) {
+		Mac mac = MAC.get();
+		try {
+			mac.init(new SecretKeySpec(passwordKey(rawPassword), MAC_ALGORITHM));
+		} catch (InvalidKeyException e) {
+			throw new IllegalStateException("비밀번호 암호화에 실패했습니다", e);
+		}
+
+		mac.update(salt);
+		mac.update(new byte[]{0, 0, 0, 1});
+
+		byte[] u = new byte[MAC_LENGTH];
+		byte[] t = new byte[MAC_LENGTH];
+		try {
+			mac.doFinal(u, 0);
+			System.arraycopy(u, 0, t, 0, MAC_LENGTH);
+
+			for (int i = 1; i < iterations; i++) {
+				mac.update(u);
+				mac.doFinal(u, 0);
+				for (int j = 0; j < MAC_LENGTH; j++) {
+					t[j] ^= u[j];
+				}
+			}
+		} catch (ShortBufferException e) {
+			throw new IllegalStateException("비밀번호 암호화에 실패했습니다", e);
+		}
+
+		if (length == MAC_LENGTH) {
+			return t;
+		}
+
+		byte[] derived = new byte[length];
+		System.arraycopy(t, 0, derived, 0, length);
+		return derived;
+	}
+
+	/*
+	HMAC 은 블록 크기보다 짧은 키를 0으로 채워서 사용하므로 빈 비밀번호는 0 한 바이트와 같은 키가 됩니다.
+	SecretKeySpec 은 빈 키를 허용하지 않아서 이 경우에만 0 한 바이트를 키로 사용합니다.
+	 */
+	private static byte[] passwordKey(String rawPassword) {
+		byte[] key = rawPassword.getBytes(StandardCharsets.UTF_8);
+		return key.length == 0 ? new byte[]{0} : key;
+	}
+}
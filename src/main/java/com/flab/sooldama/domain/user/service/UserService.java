@@ -5,15 +5,23 @@ import com.flab.sooldama.domain.user.domain.User;
 import com.flab.sooldama.domain.user.dto.request.JoinUserRequest;
 import com.flab.sooldama.domain.user.dto.request.LoginUserRequest;
 import com.flab.sooldama.domain.user.dto.response.JoinUserResponse;
+import com.flab.sooldama.domain.user.dto.response.LoginUserResponse;
 import com.flab.sooldama.domain.user.exception.NoSuchUserException;
 import com.flab.sooldama.domain.user.exception.DuplicateEmailExistsException;
 import com.flab.sooldama.domain.user.exception.PasswordNotMatchException;
-import com.flab.sooldama.global.auth.AuthService;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import javax.servlet.http.HttpSession;
+import com.flab.sooldama.domain.user.password.PasswordHasher;
+import com.flab.sooldama.domain.user.password.PasswordHashingExecutor;
+import com.flab.sooldama.global.auth.AuthToken;
+import com.flab.sooldama.global.auth.Authenticator;
+import com.flab.sooldama.global.ratelimit.LoginRateLimiter;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import javax.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
 // @Service 어노테이션은 핵심 비즈니스 로직을 담은 서비스 클래스를 빈으로 등록시켜주기 위한 어노테이션입니다.
@@ -22,39 +30,57 @@ import org.springframework.stereotype.Service;
 public class UserService {
 
 	private final UserMapper userMapper;
-	private final AuthService authService;
-	private static final String ENCRYPTION_ALGORITHM = "SHA-256";
-
-	public JoinUserResponse insertUser(JoinUserRequest request) {
-		userMapper.findUserByEmail(request.getEmail()).ifPresent(user -> {
-			throw new DuplicateEmailExistsException("이메일 주소 중복입니다");
-		});
+	private final Authenticator authenticator;
+	private final PasswordHasher passwordHasher;
+	private final PasswordHashingExecutor passwordHashingExecutor;
+	private final LoginRateLimiter loginRateLimiter;
+
+	// 가입하지 않은 이메일로 로그인할 때 비교하는 해시입니다. 처음 필요할 때 현재 해시 설정으로 한 번 만듭니다.
+	private volatile String dummyPasswordHash;
+
+	/*
+	비밀번호 해시는 PasswordHashingExecutor 의 스레드에서 계산하고, 요청 스레드는 결과를 기다리지 않고 반환됩니다.
+
+	이메일 중복은 미리 조회하지 않고 user.email 의 UNIQUE 제약으로 확인해서, 회원가입 한 번에 쿼리를 한 번만 실행합니다.
+	중복이면 반환된 CompletableFuture 가 DuplicateEmailExistsException 으로 완료됩니다.
+	 */
+	public CompletableFuture<JoinUserResponse> insertUser(JoinUserRequest request) {
+		return passwordHashingExecutor.submit(() -> passwordHasher.hash(request.getPassword()))
+			.thenApply(encryptedPassword -> joinUser(request, encryptedPassword));
+	}
 
-		String encryptedPassword = encryptPassword(request.getPassword());
-		User user = JoinUserRequest.builder()
+	/*
+	응답은 다시 조회하지 않고 만듭니다. 아이디는 useGeneratedKeys 로 insertUser 가 채워주고,
+	가입 시각은 서버에서 정해 함께 저장합니다. DB 의 datetime 은 초 단위까지만 저장하므로 초 단위로 자릅니다.
+	 */
+	private JoinUserResponse joinUser(JoinUserRequest request, String encryptedPassword) {
+		User user = User.builder()
 			.email(request.getEmail())
 			.password(encryptedPassword)
 			.name(request.getName())
 			.phoneNumber(request.getPhoneNumber())
 			.nickname(request.getNickname())
 			.isAdult(request.getIsAdult())
-			.build()
-			.toUser();
+			.createdAt(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS))
+			.build();
 
-		userMapper.insertUser(user);
-		User userByEmail = userMapper.findUserByEmail(request.getEmail()).get();
+		try {
+			userMapper.insertUser(user);
+		} catch (DuplicateKeyException e) {
+			throw new DuplicateEmailExistsException("이메일 주소 중복입니다");
+		}
 
 		return JoinUserResponse.builder()
-			.id(userByEmail.getId())
-			.email(userByEmail.getEmail())
-			.password(userByEmail.getPassword())
-			.name(userByEmail.getName())
-			.phoneNumber(userByEmail.getPhoneNumber())
-			.nickname(userByEmail.getNickname())
-			.isAdult(userByEmail.isAdult())
-			.createdAt(userByEmail.getCreatedAt())
-			.updatedAt(userByEmail.getUpdatedAt())
-			.deletedAt(userByEmail.getDeletedAt())
+			.id(user.getId())
+			.email(user.getEmail())
+			.password(user.getPassword())
+			.name(user.getName())
+			.phoneNumber(user.getPhoneNumber())
+			.nickname(user.getNickname())
+			.isAdult(user.isAdult())
+			.createdAt(user.getCreatedAt())
+			.updatedAt(user.getUpdatedAt())
+			.deletedAt(user.getDeletedAt())
 			.build();
 	}
 
@@ -77,44 +103,68 @@ public class UserService {
 			.build();
 	}
 
-	public void loginUser(LoginUserRequest request, HttpSession session) {
-		User user = userMapper.findUserByEmail(request.getEmail()).orElseThrow(() -> {
-			throw new NoSuchUserException("등록된 사용자가 아닙니다");
+	/*
+	비밀번호가 다르면 반환된 CompletableFuture 가 PasswordNotMatchException 으로 완료됩니다.
+	해시 스레드에서는 비밀번호 비교와 (필요하면) 재해시만 계산하고, 세션이나 DB 처럼 요청에 묶인 작업은 completeLogin 에서 처리합니다.
+	한 이메일로 시도한 횟수가 제한을 넘으면 사용자를 조회하지 않고 LoginThrottledException 을 던집니다.
+
+	가입하지 않은 이메일이어도 바로 실패하지 않고 같은 비용의 해시 비교를 거친 뒤 NoSuchUserException 으로 완료됩니다.
+	비교를 건너뛰면 응답 시간만으로 가입한 이메일인지 알아낼 수 있기 때문입니다.
+	 */
+	public CompletableFuture<VerifiedLogin> loginUser(LoginUserRequest request) {
+		loginRateLimiter.acquireForEmail(request.getEmail());
+
+		Optional<User> matchedUser = userMapper.findUserByEmail(request.getEmail());
+
+		return passwordHashingExecutor.submit(() -> {
+			String storedPassword = matchedUser.map(User::getPassword)
+				.orElseGet(this::dummyPasswordHash);
+			boolean passwordMatches = passwordHasher.matches(request.getPassword(), storedPassword);
+			if (matchedUser.isEmpty()) {
+				throw new NoSuchUserException("등록된 사용자가 아닙니다");
+			}
+			if (!passwordMatches) {
+				throw new PasswordNotMatchException("비밀번호가 다릅니다");
+			}
+
+			User user = matchedUser.get();
+
+			// 이전 방식이나 낮은 비용으로 저장된 비밀번호는 평문을 알고 있는 로그인 시점에 다시 해시합니다.
+			String rehashedPassword = passwordHasher.needsRehash(user.getPassword())
+				? passwordHasher.hash(request.getPassword()) : null;
+
+			return new VerifiedLogin(user.getId(), user.getEmail(), rehashedPassword);
 		});
-
-		if (!encryptPassword(request.getPassword()).equals(user.getPassword())) {
-			throw new PasswordNotMatchException("비밀번호가 다릅니다");
-		}
-
-		session.setAttribute(authService.getAuthSessionKey(), request.getEmail());
 	}
 
-	public void logoutUser(HttpSession session) {
+	/*
+	비밀번호를 확인한 뒤 UserApi 가 해시 스레드가 아닌 applicationTaskExecutor 에서 호출합니다.
+	DB 에 쓰거나 세션 저장소를 기다리는 동안 해시 스레드를 붙잡지 않도록, 재해시한 비밀번호 저장과 로그인 처리는 여기서 합니다.
+	세션은 비밀번호가 일치했을 때만 만들어서, 로그인에 실패한 요청이 세션 저장소에 세션을 남기지 않도록 합니다.
+	토큰 방식이면 발급한 토큰을, 세션 방식이면 null 을 반환합니다.
+	 */
+	public LoginUserResponse completeLogin(VerifiedLogin login, HttpServletRequest httpRequest) {
+		if (login.getRehashedPassword() != null) {
+			userMapper.updatePassword(login.getUserId(), login.getRehashedPassword());
+		}
 
-		session.invalidate();
+		AuthToken token = authenticator.signIn(httpRequest, login.getUserId(), login.getEmail());
+		return token == null ? null : LoginUserResponse.of(token);
 	}
 
-	private String encryptPassword(String password) {
-		MessageDigest digest = null;
-		try {
-			digest = MessageDigest.getInstance(ENCRYPTION_ALGORITHM);
-		} catch (NoSuchAlgorithmException e) {
-			throw new RuntimeException("비밀번호 암호화에 실패했습니다");
+	private String dummyPasswordHash() {
+		String hash = dummyPasswordHash;
+		if (hash == null) {
+			hash = passwordHasher.hash(UUID.randomUUID().toString());
+			dummyPasswordHash = hash;
 		}
 
-		digest.update(password.getBytes(StandardCharsets.UTF_8));
-		byte[] hash = digest.digest();
-
-		return formatInHex(hash);
+		return hash;
 	}
 
-	private String formatInHex(byte[] bytes) {
-		StringBuilder result = new StringBuilder();
-		for (byte b : bytes) {
-			result.append(String.format("%02x", b));
-		}
+	public void logoutUser(HttpServletRequest httpRequest) {
 
-		return result.toString();
+		authenticator.signOut(httpRequest);
 	}
 
 }
@@ -0,0 +1,21 @@
+package com.flab.sooldama.domain.user.service;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+해시 스레드에서 비밀번호를 확인한 결과입니다. 세션 생성과 재해시한 비밀번호 저장은 이 결과로 UserService.completeLogin 이 처리합니다.
+응답 본문으로 그대로 쓰이지 않도록 getter 를 공개하지 않습니다.
+ */
+@Getter(AccessLevel.PACKAGE)
+@AllArgsConstructor
+public class VerifiedLogin {
+
+	private final Long userId;
+
+	private final String email;
+
+	// 비밀번호를 다시 해시해야 할 때 해시 스레드에서 계산한 새 해시입니다. 필요 없으면 null 입니다.
+	private final String rehashedPassword;
+}
@@ -0,0 +1,84 @@
+package com.flab.sooldama.global.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+동시에 처리하는 요청 수를 제한하고, 처리 시간을 보고 한도를 조정합니다(AIMD).
+처리 시간이 latencyThreshold 를 넘으면 한도에 backoffRatio 를 곱해 줄이고,
+넘지 않으면서 한도의 절반 이상을 사용하고 있는 완료가 한도만큼 쌓이면 한도를 1 늘립니다.
+완료될 때마다 늘리면 한도만큼의 요청이 한 번 끝나는 동안(한 주기) 한도가 몇 배로 뛰어 maxLimit 에 바로 닿으므로,
+한 주기에 한 번만 늘립니다.
+한도를 조금만 사용하고 있을 때 늘리지 않는 이유는, 부하가 없을 때 한도가 maxLimit 까지 올라가 있으면
+갑자기 요청이 몰렸을 때 줄어들 때까지 시간이 걸리기 때문입니다.
+
+거절할 때는 기다리지 않으므로, 한도를 넘은 요청은 Tomcat 의 대기열이나 DB 커넥션 풀에서 기다리지 않고 바로 503 으로 응답합니다.
+ */
+public class AdaptiveConcurrencyLimit {
+
+	private final AtomicInteger inflight = new AtomicInteger();
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final long latencyThresholdNanos;
+
+	private final double backoffRatio;
+
+	private final double anonymousShare;
+
+	private volatile double limit;
+
+	// 마지막으로 한도를 바꾼 뒤, 한도를 늘릴 조건을 만족하며 끝난 요청 수입니다. adjust 안에서만 바꿉니다.
+	private int successesSinceChange;
+
+	public AdaptiveConcurrencyLimit(AdmissionProperties.Route route) {
+		this.minLimit = route.getMinLimit();
+		this.maxLimit = route.getMaxLimit();
+		this.latencyThresholdNanos = route.getLatencyThreshold().toNanos();
+		this.backoffRatio = route.getBackoffRatio();
+		this.anonymousShare = route.getAnonymousShare();
+		this.limit = Math.max(minLimit, Math.min(maxLimit, route.getInitialLimit()));
+	}
+
+	/*
+	priority 가 true 이면(로그인한 사용자이면) 한도까지, 아니면 한도의 anonymousShare 비율까지 허용합니다.
+	허용했으면 처리가 끝난 뒤 반드시 release 를 호출해야 합니다.
+	 */
+	public boolean tryAcquire(boolean priority) {
+		int allowed = priority ? (int) limit : Math.max(1, (int) (limit * anonymousShare));
+
+		while (true) {
+			int current = inflight.get();
+			if (current >= allowed) {
+				return false;
+			}
+			if (inflight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	public void release(long latencyNanos) {
+		int inflightBeforeRelease = inflight.getAndDecrement();
+		adjust(latencyNanos, inflightBeforeRelease);
+	}
+
+	public int getLimit() {
+		return (int) limit;
+	}
+
+	public int getInflight() {
+		return inflight.get();
+	}
+
+	private synchronized void adjust(long latencyNanos, int inflightBeforeRelease) {
+		if (latencyNanos > latencyThresholdNanos) {
+			limit = Math.max(minLimit, limit * backoffRatio);
+			successesSinceChange = 0;
+		} else if (inflightBeforeRelease * 2 >= limit && ++successesSinceChange >= (int) limit) {
+			limit = Math.min(maxLimit, limit + 1);
+			successesSinceChange = 0;
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package com.flab.sooldama.global.admission;
+
+import com.flab.sooldama.global.auth.Authenticator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+경로(route)마다 동시에 처리하는 요청 수를 AdaptiveConcurrencyLimit 으로 제한합니다.
+한도를 넘은 요청은 컨트롤러를 실행하지 않고 바로 503 과 Retry-After 로 응답해서, 과부하가 Tomcat 대기열과
+DB 커넥션 풀의 대기 시간으로 번지지 않도록 합니다. 로그인한 사용자는 Authenticator 로 확인해서 먼저 받습니다.
+
+비동기 요청(제품 내보내기)은 첫 디스패치가 끝나도 처리가 끝나지 않았으므로, 비동기 처리가 끝날 때 자리를 반납합니다.
+허용/거절한 요청 수는 admission.requests 카운터에, 한도와 처리 중인 요청 수는 admission.limit, admission.inflight 게이지에 기록합니다.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+	private static final String METRIC_PREFIX = "admission.";
+
+	private static final String RETRY_AFTER_SECONDS = "1";
+
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+	private final List<Route> routes = new ArrayList<>();
+
+	private final Authenticator authenticator;
+
+	public AdmissionControlFilter(AdmissionProperties properties, Authenticator authenticator,
+		MeterRegistry meterRegistry) {
+		this.authenticator = authenticator;
+
+		for (Map.Entry<String, AdmissionProperties.Route> entry : properties.getRoutes().entrySet()) {
+			routes.add(new Route(entry.getKey(), entry.getValue(), meterRegistry));
+		}
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+		FilterChain filterChain) throws ServletException, IOException {
+		Route route = routeOf(request.getRequestURI().substring(request.getContextPath().length()));
+		if (route == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		if (!route.limit.tryAcquire(authenticator.isAuthenticated(request))) {
+			route.shed.increment();
+			response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+			response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+			return;
+		}
+
+		route.admitted.increment();
+		long start = System.nanoTime();
+		boolean async = false;
+		try {
+			filterChain.doFilter(request, response);
+			async = request.isAsyncStarted();
+		} finally {
+			if (async) {
+				request.getAsyncContext().addListener(new ReleaseOnComplete(route.limit, start));
+			} else {
+				route.limit.release(System.nanoTime() - start);
+			}
+		}
+	}
+
+	private Route routeOf(String path) {
+		for (Route route : routes) {
+			for (String pattern : route.patterns) {
+				if (pathMatcher.match(pattern, path)) {
+					return route;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	private static class Route {
+
+		private final List<String> patterns;
+
+		private final AdaptiveConcurrencyLimit limit;
+
+		private final Counter admitted;
+
+		private final Counter shed;
+
+		Route(String name, AdmissionProperties.Route properties, MeterRegistry meterRegistry) {
+			this.patterns = properties.getPatterns();
+			this.limit = new AdaptiveConcurrencyLimit(properties);
+			this.admitted = Counter.builder(METRIC_PREFIX + "requests")
+				.tag("route", name)
+				.tag("outcome", "admitted")
+				.register(meterRegistry);
+			this.shed = Counter.builder(METRIC_PREFIX + "requests")
+				.tag("route", name)
+				.tag("outcome", "shed")
+				.register(meterRegistry);
+			Gauge.builder(METRIC_PREFIX + "limit", limit, AdaptiveConcurrencyLimit::getLimit)
+				.tag("route", name)
+				.register(meterRegistry);
+			Gauge.builder(METRIC_PREFIX + "inflight", limit, AdaptiveConcurrencyLimit::getInflight)
+				.tag("route", name)
+				.register(meterRegistry);
+		}
+	}
+
+	private static class ReleaseOnComplete implements AsyncListener {
+
+		private final AdaptiveConcurrencyLimit limit;
+
+		private final long start;
+
+		ReleaseOnComplete(AdaptiveConcurrencyLimit limit, long start) {
+			this.limit = limit;
+			this.start = start;
+		}
+
+		/*
+		시간 초과나 오류로 끝나도 onComplete 가 호출되므로 onComplete 에서만 반납합니다.
+		 */
+		@Override
+		public void onComplete(AsyncEvent event) {
+			limit.release(System.nanoTime() - start);
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.flab.sooldama.global.admission;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+application.yml 의 admission 하위 설정값을 바인딩합니다.
+routes 는 적은 순서대로 요청 경로와 비교하므로, 좁은 경로(/products/export)를 넓은 경로(/products/*)보다 먼저 적어야 합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionProperties {
+
+	private boolean enabled = true;
+
+	private Map<String, Route> routes = new LinkedHashMap<>();
+
+	@Getter
+	@Setter
+	public static class Route {
+
+		// AntPathMatcher 형식의 경로입니다.
+		private List<String> patterns = new ArrayList<>();
+
+		private int initialLimit = 20;
+
+		private int minLimit = 1;
+
+		private int maxLimit = 200;
+
+		// 처리 시간이 이 값을 넘으면 과부하로 보고 동시 처리 한도를 줄입니다.
+		private Duration latencyThreshold = Duration.ofMillis(200);
+
+		// 과부하일 때 동시 처리 한도에 곱하는 값입니다.
+		private double backoffRatio = 0.9;
+
+		// 로그인하지 않은 요청은 동시 처리 한도의 이 비율까지만 받아서, 남은 자리를 로그인한 사용자에게 남겨둡니다.
+		private double anonymousShare = 0.8;
+	}
+}
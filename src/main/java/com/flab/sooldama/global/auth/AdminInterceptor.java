@@ -0,0 +1,36 @@
+package com.flab.sooldama.global.auth;
+
+import com.flab.sooldama.global.exception.AuthenticationFailException;
+import com.flab.sooldama.global.exception.AuthorizationFailException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/*
+관리자만 사용할 수 있는 요청을 확인합니다. 로그인한 사용자의 이메일은 auth.mode 에 따라 선택된 Authenticator 로 찾으므로,
+세션 방식과 토큰 방식 모두 같은 기준(auth.admin.emails)으로 확인합니다.
+로그인하지 않은 요청은 AuthInterceptor 와 같이 거절하고, 로그인했지만 관리자가 아니면 403 으로 거절합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminInterceptor implements HandlerInterceptor {
+
+	private final Authenticator authenticator;
+
+	private final AdminProperties adminProperties;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+		Object handler) throws Exception {
+		String email = authenticator.currentEmail(request)
+			.orElseThrow(() -> new AuthenticationFailException("로그인이 필요한 서비스입니다"));
+
+		if (!adminProperties.getEmails().contains(email)) {
+			throw new AuthorizationFailException("관리자만 사용할 수 있는 서비스입니다");
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,19 @@
+package com.flab.sooldama.global.auth;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+application.yml 의 auth.admin 하위 설정값을 바인딩합니다.
+emails 에 있는 이메일로 로그인한 사용자만 관리자 기능(제품 일괄 등록)을 사용할 수 있습니다. 비어 있으면 아무도 사용할 수 없습니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.admin")
+public class AdminProperties {
+
+	private Set<String> emails = new LinkedHashSet<>();
+}
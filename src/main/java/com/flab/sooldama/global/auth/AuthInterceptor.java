@@ -3,23 +3,24 @@ package com.flab.sooldama.global.auth;
 import com.flab.sooldama.global.exception.AuthenticationFailException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import javax.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+/*
+로그인 여부는 auth.mode 에 따라 선택된 Authenticator 로 확인합니다.
+세션 방식에서도 로그인하지 않은 요청은 세션 저장소(Redis)에 세션을 만들지 않고 바로 거절합니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class AuthInterceptor implements HandlerInterceptor {
 
-	private final AuthService authService;
+	private final Authenticator authenticator;
 
 	@Override
 	public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
 		Object handler) throws Exception {
-		HttpSession session = request.getSession();
-
-		if (session.getAttribute(authService.getAuthSessionKey()) == null) {
+		if (!authenticator.isAuthenticated(request)) {
 			throw new AuthenticationFailException("로그인이 필요한 서비스입니다");
 		}
 
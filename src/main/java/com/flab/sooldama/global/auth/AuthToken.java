@@ -0,0 +1,20 @@
+package com.flab.sooldama.global.auth;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+AuthTokenCodec 이 발급하거나 검증한 토큰입니다. value 는 클라이언트에게 전달하는 문자열입니다.
+tokenId 는 토큰마다 다른 임의의 값으로, 로그아웃한 토큰을 거절할 때 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class AuthToken {
+
+	private final String value;
+	private final Long userId;
+	private final String email;
+	private final String tokenId;
+	private final Instant expiresAt;
+}
@@ -0,0 +1,135 @@
+package com.flab.sooldama.global.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/*
+사용자 아이디, 이메일, 만료 시각을 담은 토큰을 HMAC-SHA256 으로 서명하고 검증합니다.
+토큰 형식은 "키 아이디.내용.서명" 이고, 내용과 서명은 Base64(URL-safe)로 인코딩합니다.
+내용은 "사용자 아이디:만료 시각(epoch 초):토큰 아이디:이메일" 입니다. 이메일에는 ':' 가 올 수 있으므로 마지막에 둡니다.
+
+검증은 DB 나 Redis 를 조회하지 않고 서버 안에서 끝납니다.
+서명은 MessageDigest.isEqual 로 비교해서, 비교에 걸린 시간으로 서명을 추측할 수 없도록 합니다.
+Mac 은 스레드 안전하지 않으므로 서명할 때마다 새로 만듭니다.
+ */
+public class AuthTokenCodec {
+
+	private static final String ALGORITHM = "HmacSHA256";
+
+	private static final String DELIMITER = ".";
+
+	private static final String PAYLOAD_DELIMITER = ":";
+
+	private static final int MIN_KEY_LENGTH = 32;
+
+	private static final int TOKEN_ID_LENGTH = 12;
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private final Map<String, SecretKeySpec> keys;
+
+	private final String activeKeyId;
+
+	private final Duration ttl;
+
+	private final Clock clock;
+
+	private final SecureRandom random = new SecureRandom();
+
+	public AuthTokenCodec(Map<String, byte[]> keys, String activeKeyId, Duration ttl, Clock clock) {
+		if (!keys.containsKey(activeKeyId)) {
+			throw new IllegalStateException("서명 키가 없습니다: " + activeKeyId);
+		}
+
+		this.keys = new HashMap<>();
+		keys.forEach((keyId, key) -> {
+			if (keyId.contains(DELIMITER) || key.length < MIN_KEY_LENGTH) {
+				throw new IllegalStateException("사용할 수 없는 서명 키입니다: " + keyId);
+			}
+			this.keys.put(keyId, new SecretKeySpec(key, ALGORITHM));
+		});
+		this.activeKeyId = activeKeyId;
+		this.ttl = ttl;
+		this.clock = clock;
+	}
+
+	public AuthToken issue(Long userId, String email) {
+		Instant expiresAt = clock.instant().plus(ttl);
+		byte[] tokenId = new byte[TOKEN_ID_LENGTH];
+		random.nextBytes(tokenId);
+		String encodedTokenId = ENCODER.encodeToString(tokenId);
+
+		String payload = userId + PAYLOAD_DELIMITER + expiresAt.getEpochSecond()
+			+ PAYLOAD_DELIMITER + encodedTokenId + PAYLOAD_DELIMITER + email;
+		String unsigned = activeKeyId + DELIMITER
+			+ ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+		String value = unsigned + DELIMITER + ENCODER.encodeToString(
+			sign(keys.get(activeKeyId), unsigned));
+
+		return new AuthToken(value, userId, email, encodedTokenId, expiresAt);
+	}
+
+	/*
+	형식이 잘못되었거나, 모르는 키로 서명했거나, 서명이 다르거나, 만료된 토큰이면 빈 값을 반환합니다.
+	 */
+	public Optional<AuthToken> verify(String value) {
+		int keyEnd = value.indexOf(DELIMITER);
+		int payloadEnd = value.lastIndexOf(DELIMITER);
+		if (keyEnd <= 0 || payloadEnd <= keyEnd) {
+			return Optional.empty();
+		}
+
+		SecretKeySpec key = keys.get(value.substring(0, keyEnd));
+		if (key == null) {
+			return Optional.empty();
+		}
+
+		try {
+			String unsigned = value.substring(0, payloadEnd);
+			byte[] signature = DECODER.decode(value.substring(payloadEnd + 1));
+			if (!MessageDigest.isEqual(sign(key, unsigned), signature)) {
+				return Optional.empty();
+			}
+
+			String payload = new String(DECODER.decode(value.substring(keyEnd + 1, payloadEnd)),
+				StandardCharsets.UTF_8);
+			String[] tokens = payload.split(PAYLOAD_DELIMITER, 4);
+			if (tokens.length != 4) {
+				return Optional.empty();
+			}
+
+			Instant expiresAt = Instant.ofEpochSecond(Long.parseLong(tokens[1]));
+			if (!clock.instant().isBefore(expiresAt)) {
+				return Optional.empty();
+			}
+
+			return Optional.of(new AuthToken(value, Long.valueOf(tokens[0]), tokens[3], tokens[2],
+				expiresAt));
+		} catch (IllegalArgumentException e) {
+			return Optional.empty();
+		}
+	}
+
+	private static byte[] sign(SecretKeySpec key, String unsigned) {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(key);
+			return mac.doFinal(unsigned.getBytes(StandardCharsets.US_ASCII));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("토큰을 서명할 수 없습니다", e);
+		}
+	}
+}
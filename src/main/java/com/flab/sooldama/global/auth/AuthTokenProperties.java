@@ -0,0 +1,31 @@
+package com.flab.sooldama.global.auth;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+application.yml 의 auth.token 하위 설정값을 바인딩합니다.
+
+keys 는 키 아이디와 Base64 로 인코딩한 서명 키(32byte 이상)의 목록이고, 새 토큰은 active-key-id 의 키로 서명합니다.
+키를 바꿀 때는 새 키를 keys 에 추가하고 active-key-id 를 바꾼 뒤, ttl 이 지나 이전 키로 서명한 토큰이 모두 만료되면
+이전 키를 지웁니다. 그동안 이전 키로 서명한 토큰도 계속 검증됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.token")
+public class AuthTokenProperties {
+
+	private String activeKeyId;
+
+	private Map<String, String> keys = new LinkedHashMap<>();
+
+	// 토큰의 유효 시간입니다. 로그아웃하지 않은 토큰은 이 시간 동안 사용할 수 있습니다.
+	private Duration ttl = Duration.ofHours(1);
+
+	// 로그아웃한 토큰을 기억하는 최대 개수입니다.
+	private int maxRevokedTokens = 100000;
+}
@@ -0,0 +1,26 @@
+package com.flab.sooldama.global.auth;
+
+import java.util.Optional;
+import javax.servlet.http.HttpServletRequest;
+
+/*
+로그인 정보를 어디에 두는지에 따라 구현이 나뉩니다. auth.mode 설정으로 하나를 선택합니다.
+- session(기본값): SessionAuthenticator. 세션(dev 프로필에서는 Redis)에 사용자 이메일을 저장합니다.
+- token: TokenAuthenticator. HMAC 으로 서명한 토큰을 발급하고, 요청마다 서버 안에서 서명만 검증합니다.
+ */
+public interface Authenticator {
+
+	boolean isAuthenticated(HttpServletRequest request);
+
+	/*
+	요청을 보낸 로그인 사용자의 이메일입니다. 로그인하지 않은 요청이면 비어 있습니다.
+	 */
+	Optional<String> currentEmail(HttpServletRequest request);
+
+	/*
+	로그인에 성공한 사용자를 인증된 상태로 만듭니다. 토큰 방식이면 발급한 토큰을, 세션 방식이면 null 을 반환합니다.
+	 */
+	AuthToken signIn(HttpServletRequest request, Long userId, String email);
+
+	void signOut(HttpServletRequest request);
+}
@@ -1,9 +1,9 @@
 package com.flab.sooldama.global.auth;
 
 import com.flab.sooldama.global.exception.AuthenticationFailException;
+import javax.servlet.DispatcherType;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import javax.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
@@ -12,14 +12,23 @@ import org.springframework.web.servlet.HandlerInterceptor;
 @RequiredArgsConstructor
 public class LoginInterceptor implements HandlerInterceptor {
 
-	private final AuthService authService;
+	private final Authenticator authenticator;
 
 	@Override
 	public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
 		Object handler) throws Exception {
-		HttpSession session = request.getSession();
+		/*
+		로그인 api 는 비동기로 응답하므로, 비밀번호 확인이 끝나면 같은 요청이 ASYNC 로 한 번 더 디스패치됩니다.
+		이미 처음 디스패치에서 검사했고, 이 디스패치에서 로그인 정보를 저장하므로 다시 검사하지 않습니다.
+		 */
+		if (request.getDispatcherType() == DispatcherType.ASYNC) {
+			return true;
+		}
 
-		if (session.getAttribute(authService.getAuthSessionKey()) != null) {
+		/*
+		세션 방식에서 세션이 없으면 세션을 만들지 않고 통과시킵니다. 세션은 로그인에 성공했을 때만 만듭니다.
+		 */
+		if (authenticator.isAuthenticated(request)) {
 			throw new AuthenticationFailException("이미 로그인한 사용자입니다");
 		}
 
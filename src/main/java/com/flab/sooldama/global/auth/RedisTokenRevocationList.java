@@ -0,0 +1,53 @@
+package com.flab.sooldama.global.auth;
+
+import java.time.Clock;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/*
+로그아웃한 토큰을 이 서버의 목록에 추가하고, Redis pub/sub 으로 토큰 아이디와 만료 시각을 알려서
+다른 서버도 같은 토큰을 거절하도록 합니다. 메시지는 TokenRevocationListener 가 받습니다.
+
+pub/sub 은 메시지를 저장하지 않으므로, 메시지를 보낼 때 연결이 끊긴 서버나 나중에 시작한 서버는 알지 못합니다.
+그런 서버에서는 토큰이 만료될 때까지 사용할 수 있으므로 토큰 유효 시간(auth.token.ttl)은 짧게 유지합니다.
+ */
+@Slf4j
+public class RedisTokenRevocationList extends TokenRevocationList {
+
+	public static final String REVOCATION_CHANNEL = "auth:token:revocation";
+
+	private static final String SEPARATOR = ":";
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	public RedisTokenRevocationList(int maximumSize, Clock clock,
+		StringRedisTemplate stringRedisTemplate) {
+		super(maximumSize, clock);
+		this.stringRedisTemplate = stringRedisTemplate;
+	}
+
+	@Override
+	public void revoke(AuthToken token) {
+		super.revoke(token);
+
+		try {
+			stringRedisTemplate.convertAndSend(REVOCATION_CHANNEL,
+				message(token.getTokenId(), token.getExpiresAt()));
+		} catch (DataAccessException e) {
+			log.warn("토큰 로그아웃 메시지 발행에 실패했습니다. tokenId={}", token.getTokenId(), e);
+		}
+	}
+
+	// 메시지는 "만료 시각(epoch millis):토큰 아이디" 형식입니다.
+	public static String message(String tokenId, Instant expiresAt) {
+		return expiresAt.toEpochMilli() + SEPARATOR + tokenId;
+	}
+
+	public static void apply(TokenRevocationList revocationList, String message) {
+		int separator = message.indexOf(SEPARATOR);
+		revocationList.revokeLocal(message.substring(separator + 1),
+			Instant.ofEpochMilli(Long.parseLong(message.substring(0, separator))));
+	}
+}
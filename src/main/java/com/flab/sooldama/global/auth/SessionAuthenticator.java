@@ -0,0 +1,54 @@
+package com.flab.sooldama.global.auth;
+
+import java.util.Optional;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/*
+세션에 로그인한 사용자의 이메일을 저장합니다.
+로그인하지 않은 요청이 세션 저장소에 세션을 만들지 않도록, 세션은 로그인할 때만 만들고 나머지는 getSession(false) 로 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.mode", havingValue = "session", matchIfMissing = true)
+public class SessionAuthenticator implements Authenticator {
+
+	private final AuthService authService;
+
+	@Override
+	public boolean isAuthenticated(HttpServletRequest request) {
+		HttpSession session = request.getSession(false);
+
+		return session != null && session.getAttribute(authService.getAuthSessionKey()) != null;
+	}
+
+	@Override
+	public Optional<String> currentEmail(HttpServletRequest request) {
+		HttpSession session = request.getSession(false);
+		if (session == null) {
+			return Optional.empty();
+		}
+
+		return Optional.ofNullable(session.getAttribute(authService.getAuthSessionKey()))
+			.map(String::valueOf);
+	}
+
+	@Override
+	public AuthToken signIn(HttpServletRequest request, Long userId, String email) {
+		request.getSession().setAttribute(authService.getAuthSessionKey(), email);
+
+		return null;
+	}
+
+	@Override
+	public void signOut(HttpServletRequest request) {
+		HttpSession session = request.getSession(false);
+
+		if (session != null) {
+			session.invalidate();
+		}
+	}
+}
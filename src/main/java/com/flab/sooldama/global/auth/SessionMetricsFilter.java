@@ -0,0 +1,68 @@
+package com.flab.sooldama.global.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+요청 수(session.requests)와 그 요청들이 새로 만든 세션 수(session.created)를 셉니다.
+두 값의 비율로 세션 저장소(Redis)에 쓰는 세션이 요청에 비해 얼마나 되는지 확인할 수 있습니다.
+
+Spring Session 의 SessionRepositoryFilter 보다 뒤에 실행되어야 Redis 세션을 조회할 수 있습니다.
+비동기 요청(로그인)은 처리가 끝난 뒤 ASYNC 로 다시 디스패치될 때 세션이 만들어졌는지 확인합니다.
+ */
+public class SessionMetricsFilter extends OncePerRequestFilter {
+
+	private final Counter requests;
+
+	private final Counter created;
+
+	public SessionMetricsFilter(MeterRegistry meterRegistry) {
+		this.requests = Counter.builder("session.requests")
+			.description("Requests that passed through the session layer")
+			.register(meterRegistry);
+		this.created = Counter.builder("session.created")
+			.description("Sessions created while handling a request")
+			.register(meterRegistry);
+	}
+
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+		FilterChain filterChain) throws ServletException, IOException {
+		if (!isAsyncDispatch(request)) {
+			requests.increment();
+		}
+
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			if (!isAsyncStarted(request) && isNewSession(request.getSession(false))) {
+				created.increment();
+			}
+		}
+	}
+
+	private static boolean isNewSession(HttpSession session) {
+		if (session == null) {
+			return false;
+		}
+
+		try {
+			return session.isNew();
+		} catch (IllegalStateException e) {
+			// 요청을 처리하는 동안 무효화된(로그아웃한) 세션입니다.
+			return false;
+		}
+	}
+}
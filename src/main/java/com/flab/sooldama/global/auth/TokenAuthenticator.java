@@ -0,0 +1,51 @@
+package com.flab.sooldama.global.auth;
+
+import java.util.Optional;
+import javax.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+
+/*
+로그인하면 서명한 토큰을 발급하고, 요청의 Authorization: Bearer 헤더로 받은 토큰을 서버 안에서 검증합니다.
+세션을 사용하지 않으므로 로그인이 필요한 요청도 Redis 를 조회하지 않습니다.
+로그아웃한 토큰은 TokenRevocationList 에 추가해서 만료될 때까지 거절합니다.
+ */
+@RequiredArgsConstructor
+public class TokenAuthenticator implements Authenticator {
+
+	private static final String BEARER_PREFIX = "Bearer ";
+
+	private final AuthTokenCodec codec;
+
+	private final TokenRevocationList revocationList;
+
+	@Override
+	public boolean isAuthenticated(HttpServletRequest request) {
+		return currentToken(request).isPresent();
+	}
+
+	@Override
+	public Optional<String> currentEmail(HttpServletRequest request) {
+		return currentToken(request).map(AuthToken::getEmail);
+	}
+
+	@Override
+	public AuthToken signIn(HttpServletRequest request, Long userId, String email) {
+		return codec.issue(userId, email);
+	}
+
+	@Override
+	public void signOut(HttpServletRequest request) {
+		currentToken(request).ifPresent(revocationList::revoke);
+	}
+
+	private Optional<AuthToken> currentToken(HttpServletRequest request) {
+		String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+		if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+			return Optional.empty();
+		}
+
+		return codec.verify(authorization.substring(BEARER_PREFIX.length()).trim())
+			.filter(token -> !revocationList.isRevoked(token));
+	}
+}
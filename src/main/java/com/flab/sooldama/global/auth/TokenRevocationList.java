@@ -0,0 +1,63 @@
+package com.flab.sooldama.global.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/*
+로그아웃한 토큰의 아이디를 토큰이 만료될 때까지 기억합니다.
+만료된 토큰은 서명 검증에서 거절되므로, 항목마다 토큰 만료 시각이 지나면 지워서 목록을 작게 유지합니다.
+
+목록은 서버마다 따로 가집니다. auth.token.redis.enabled 가 true 이면 RedisTokenRevocationList 가 로그아웃을
+다른 서버에도 알리고, 그렇지 않으면 로그아웃한 서버 외의 서버에서는 토큰이 만료될 때까지 사용할 수 있습니다.
+ */
+public class TokenRevocationList {
+
+	private final Cache<String, Instant> revoked;
+
+	private final Clock clock;
+
+	public TokenRevocationList(int maximumSize, Clock clock) {
+		this.clock = clock;
+		this.revoked = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfter(new UntilTokenExpires())
+			.build();
+	}
+
+	public void revoke(AuthToken token) {
+		revokeLocal(token.getTokenId(), token.getExpiresAt());
+	}
+
+	// 다른 서버가 알려준 로그아웃을 이 서버의 목록에만 추가합니다.
+	public void revokeLocal(String tokenId, Instant expiresAt) {
+		revoked.put(tokenId, expiresAt);
+	}
+
+	public boolean isRevoked(AuthToken token) {
+		return revoked.getIfPresent(token.getTokenId()) != null;
+	}
+
+	private class UntilTokenExpires implements Expiry<String, Instant> {
+
+		@Override
+		public long expireAfterCreate(String tokenId, Instant expiresAt, long currentTime) {
+			return Math.max(0L, Duration.between(clock.instant(), expiresAt).toNanos());
+		}
+
+		@Override
+		public long expireAfterUpdate(String tokenId, Instant expiresAt, long currentTime,
+			long currentDuration) {
+			return expireAfterCreate(tokenId, expiresAt, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String tokenId, Instant expiresAt, long currentTime,
+			long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.flab.sooldama.global.auth;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+/*
+Redis pub/sub 으로 전달된 로그아웃 메시지를 받아 이 서버의 로그아웃 목록에 추가합니다.
+로그아웃한 서버 자신도 메시지를 받지만, 이미 추가한 토큰을 한 번 더 추가할 뿐입니다.
+ */
+@RequiredArgsConstructor
+public class TokenRevocationListener implements MessageListener {
+
+	private final TokenRevocationList revocationList;
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		RedisTokenRevocationList.apply(revocationList,
+			new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+}
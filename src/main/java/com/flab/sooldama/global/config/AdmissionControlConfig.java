@@ -0,0 +1,33 @@
+package com.flab.sooldama.global.config;
+
+import com.flab.sooldama.global.admission.AdmissionControlFilter;
+import com.flab.sooldama.global.admission.AdmissionProperties;
+import com.flab.sooldama.global.auth.Authenticator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.web.http.SessionRepositoryFilter;
+
+/*
+AdmissionControlFilter 를 등록합니다. 로그인한 사용자를 구분하려면 세션을 조회해야 하므로
+SessionRepositoryFilter(Spring Session) 바로 다음 순서로 등록합니다.
+인터셉터(InterceptorConfig)보다 앞에서 실행되므로 거절한 요청은 인증 확인과 컨트롤러를 거치지 않습니다.
+ */
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+@ConditionalOnProperty(name = "admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig {
+
+	@Bean
+	public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+		AdmissionProperties properties, Authenticator authenticator, MeterRegistry meterRegistry) {
+		FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(
+			new AdmissionControlFilter(properties, authenticator, meterRegistry));
+		registration.setOrder(SessionRepositoryFilter.DEFAULT_ORDER + 1);
+
+		return registration;
+	}
+}
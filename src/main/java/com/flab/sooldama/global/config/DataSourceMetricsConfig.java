@@ -0,0 +1,67 @@
+package com.flab.sooldama.global.config;
+
+import com.flab.sooldama.global.datasource.PoolAdvisorProperties;
+import com.flab.sooldama.global.datasource.PoolSizeAdvisor;
+import com.flab.sooldama.global.datasource.PoolSizeEndpoint;
+import com.flab.sooldama.global.mybatis.StatementMetricsEndpoint;
+import com.flab.sooldama.global.mybatis.StatementMetricsInterceptor;
+import com.flab.sooldama.global.mybatis.StatementMetricsProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+DB 접근을 관찰하는 빈을 등록합니다.
+- Hikari 커넥션 풀 지표(hikaricp.connections.active/idle/pending, hikaricp.connections.acquire)는 스프링 부트가 등록합니다.
+- StatementMetricsInterceptor 는 매퍼 구문마다 실행 시간과 행 수를 기록하고 느린 구문을 로그로 남깁니다(/actuator/statements).
+- datasource.pool.advisor.enabled 가 true 이면 PoolSizeAdvisor 가 풀 사용량을 기록해서 최대 풀 크기를 추천합니다.
+ */
+@Configuration
+@EnableConfigurationProperties({PoolAdvisorProperties.class, StatementMetricsProperties.class})
+public class DataSourceMetricsConfig {
+
+	/*
+	MeterRegistry 는 ObjectProvider 로 받아서 구문을 처음 실행할 때 꺼냅니다. (StatementMetricsInterceptor 참고)
+	 */
+	@Bean
+	public StatementMetricsInterceptor statementMetricsInterceptor(
+		ObjectProvider<MeterRegistry> meterRegistry, StatementMetricsProperties properties) {
+		return new StatementMetricsInterceptor(meterRegistry::getObject, properties);
+	}
+
+	@Bean
+	public StatementMetricsEndpoint statementMetricsEndpoint(
+		StatementMetricsInterceptor statementMetricsInterceptor) {
+		return new StatementMetricsEndpoint(statementMetricsInterceptor);
+	}
+
+	/*
+	Hikari 가 아닌 DataSource 를 사용하면 아무것도 기록하지 않습니다.
+	destroyMethod 를 지정하지 않아도 스프링이 shutdown 메서드를 찾아 컨텍스트 종료 시 호출합니다.
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "datasource.pool.advisor.enabled", havingValue = "true",
+		matchIfMissing = true)
+	public PoolSizeAdvisor poolSizeAdvisor(DataSource dataSource,
+		PoolAdvisorProperties properties) {
+		if (!(dataSource instanceof HikariDataSource)) {
+			return new PoolSizeAdvisor(() -> null, 0, properties);
+		}
+
+		HikariDataSource hikari = (HikariDataSource) dataSource;
+		return new PoolSizeAdvisor(hikari::getHikariPoolMXBean, hikari.getMaximumPoolSize(),
+			properties);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "datasource.pool.advisor.enabled", havingValue = "true",
+		matchIfMissing = true)
+	public PoolSizeEndpoint poolSizeEndpoint(PoolSizeAdvisor poolSizeAdvisor) {
+		return new PoolSizeEndpoint(poolSizeAdvisor);
+	}
+}
@@ -1,26 +1,47 @@
 package com.flab.sooldama.global.config;
 
+import com.flab.sooldama.global.auth.AdminInterceptor;
+import com.flab.sooldama.global.auth.AdminProperties;
 import com.flab.sooldama.global.auth.AuthInterceptor;
 import com.flab.sooldama.global.auth.LoginInterceptor;
+import com.flab.sooldama.global.ratelimit.LoginRateLimitInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+/*
+인터셉터는 등록한 순서대로 실행됩니다. 로그인 시도 제한(LoginRateLimitInterceptor)은 RateLimitConfig 가 등록하므로,
+그 설정을 읽지 않는 테스트(@WebMvcTest)에서는 빈이 없을 수 있어 ObjectProvider 로 받습니다.
+
+제품과 카테고리 일괄 등록(POST /products/import, /products/categories/import)은 카탈로그 전체를 바꿀 수 있으므로
+로그인만으로는 부족하고, AdminInterceptor 가 auth.admin.emails 에 있는 관리자인지 확인합니다.
+ */
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties(AdminProperties.class)
 @ComponentScan(basePackages = {"com.flab.sooldama.global.auth"})
 public class InterceptorConfig implements WebMvcConfigurer {
 
 	private final AuthInterceptor authInterceptor;
 
+	private final AdminInterceptor adminInterceptor;
+
 	private final LoginInterceptor loginInterceptor;
 
+	private final ObjectProvider<LoginRateLimitInterceptor> loginRateLimitInterceptor;
+
 	@Override
 	public void addInterceptors(InterceptorRegistry registry) {
 		registry.addInterceptor(authInterceptor)
-			.addPathPatterns("/products/*", "/users/logout");
+			.addPathPatterns("/products/*", "/products/categories/*", "/users/logout");
+		registry.addInterceptor(adminInterceptor)
+			.addPathPatterns("/products/import", "/products/categories/import");
+		loginRateLimitInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+			.addPathPatterns("/users/login"));
 		registry.addInterceptor(loginInterceptor)
 			.addPathPatterns("/users/login");
 	}
@@ -0,0 +1,27 @@
+package com.flab.sooldama.global.config;
+
+import java.util.Properties;
+import org.apache.ibatis.mapping.DatabaseIdProvider;
+import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+DatabaseIdProvider 빈을 등록하면 마이바티스 스프링 부트 스타터가 이를 사용해 연결된 DB 의 종류를 알아냅니다.
+매퍼 XML 에 databaseId 를 지정한 구문은 DB 종류가 같을 때만 사용되므로, DB 마다 문법이 다른 구문을 나눠 쓸 수 있습니다.
+databaseId 를 지정하지 않은 구문은 지금처럼 모든 DB 에서 사용됩니다.
+ */
+@Configuration
+public class MyBatisConfig {
+
+	@Bean
+	public DatabaseIdProvider databaseIdProvider() {
+		Properties properties = new Properties();
+		properties.setProperty("MySQL", "mysql");
+		properties.setProperty("H2", "h2");
+
+		VendorDatabaseIdProvider databaseIdProvider = new VendorDatabaseIdProvider();
+		databaseIdProvider.setProperties(properties);
+		return databaseIdProvider;
+	}
+}
@@ -0,0 +1,26 @@
+package com.flab.sooldama.global.config;
+
+import com.flab.sooldama.global.paging.PageSizeArgumentResolver;
+import com.flab.sooldama.global.paging.PagingProperties;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/*
+페이지 크기 정책(paging)을 PagingProperties 빈으로 등록하고, @PageSize 파라미터를 처리하는 ArgumentResolver 를 등록합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(PagingProperties.class)
+public class PagingConfig implements WebMvcConfigurer {
+
+	private final PagingProperties pagingProperties;
+
+	@Override
+	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+		resolvers.add(new PageSizeArgumentResolver(pagingProperties));
+	}
+}
@@ -0,0 +1,58 @@
+package com.flab.sooldama.global.config;
+
+import com.flab.sooldama.domain.user.password.DelegatingPasswordHasher;
+import com.flab.sooldama.domain.user.password.LegacySha256PasswordHasher;
+import com.flab.sooldama.domain.user.password.PasswordHasher;
+import com.flab.sooldama.domain.user.password.PasswordHashingExecutor;
+import com.flab.sooldama.domain.user.password.Pbkdf2PasswordHasher;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+비밀번호 해시 방식과 비용을 설정합니다.
+반복 횟수를 올리면 이후 로그인에 성공한 사용자부터 새 반복 횟수로 다시 해시됩니다.
+해시 스레드 수를 0 으로 설정하면 사용 가능한 코어 수만큼 스레드를 만듭니다.
+가상 스레드로 해시할 때는 캐리어 스레드(기본값은 코어 수) 하나를 다른 요청에 남겨 두도록 코어 수보다 하나 적게 만듭니다.
+ */
+@Configuration
+public class PasswordHasherConfig {
+
+	@Value("${user.password.pbkdf2.iterations}")
+	private int iterations;
+
+	@Value("${user.password.pbkdf2.salt-length}")
+	private int saltLength;
+
+	@Value("${user.password.pbkdf2.hash-length}")
+	private int hashLength;
+
+	@Value("${user.password.hashing.pool-size}")
+	private int poolSize;
+
+	@Value("${user.password.hashing.queue-capacity}")
+	private int queueCapacity;
+
+	@Value("${user.password.hashing.virtual-threads}")
+	private boolean virtualThreads;
+
+	@Bean
+	public PasswordHasher passwordHasher() {
+		return new DelegatingPasswordHasher(
+			new Pbkdf2PasswordHasher(iterations, saltLength, hashLength),
+			List.of(new LegacySha256PasswordHasher()));
+	}
+
+	/*
+	destroyMethod 를 지정하지 않아도 스프링이 shutdown 메서드를 찾아 컨텍스트 종료 시 호출합니다.
+	 */
+	@Bean
+	public PasswordHashingExecutor passwordHashingExecutor(MeterRegistry meterRegistry) {
+		int cores = Runtime.getRuntime().availableProcessors();
+		int threads = poolSize > 0 ? poolSize : virtualThreads ? Math.max(1, cores - 1) : cores;
+
+		return new PasswordHashingExecutor(threads, queueCapacity, virtualThreads, meterRegistry);
+	}
+}
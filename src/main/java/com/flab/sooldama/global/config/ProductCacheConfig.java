@@ -0,0 +1,77 @@
+package com.flab.sooldama.global.config;
+
+import com.flab.sooldama.domain.product.cache.NoOpProductRemoteCache;
+import com.flab.sooldama.domain.product.cache.ProductCache;
+import com.flab.sooldama.domain.product.cache.ProductCacheInvalidationListener;
+import com.flab.sooldama.domain.product.cache.ProductCacheProperties;
+import com.flab.sooldama.domain.product.cache.ProductRedisSerializer;
+import com.flab.sooldama.domain.product.cache.ProductRemoteCache;
+import com.flab.sooldama.domain.product.cache.RedisProductRemoteCache;
+import com.flab.sooldama.domain.product.domain.Product;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/*
+@EnableConfigurationProperties
+@ConfigurationProperties 가 붙은 클래스를 스프링 빈으로 등록하고 설정값을 바인딩합니다.
+
+@ConditionalOnProperty
+설정값이 havingValue 와 같을 때만 빈을 등록합니다. matchIfMissing 이 true 이면 설정값이 없을 때도 빈을 등록합니다.
+product.cache.redis.enabled 가 true 인 profile 에서만 Redis 를 제품 2차 캐시로 사용하고,
+그렇지 않으면 서버 메모리의 1차 캐시만 사용합니다.
+nodeId 는 서버가 뜰 때마다 새로 만드는 값으로, 무효화 메시지를 보낸 서버가 자기 메시지를 건너뛰는 데 씁니다.
+ */
+@Configuration
+@EnableConfigurationProperties(ProductCacheProperties.class)
+public class ProductCacheConfig {
+
+	private static final String REDIS_ENABLED = "product.cache.redis.enabled";
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	@Bean
+	@ConditionalOnProperty(name = REDIS_ENABLED, havingValue = "true")
+	public RedisTemplate<String, List<Product>> productRedisTemplate(
+		RedisConnectionFactory redisConnectionFactory) {
+		RedisTemplate<String, List<Product>> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(redisConnectionFactory);
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(new ProductRedisSerializer());
+		return redisTemplate;
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = REDIS_ENABLED, havingValue = "true")
+	public ProductRemoteCache redisProductRemoteCache(RedisConnectionFactory redisConnectionFactory,
+		StringRedisTemplate stringRedisTemplate) {
+		return new RedisProductRemoteCache(productRedisTemplate(redisConnectionFactory),
+			stringRedisTemplate, nodeId);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = REDIS_ENABLED, havingValue = "false", matchIfMissing = true)
+	public ProductRemoteCache noOpProductRemoteCache() {
+		return new NoOpProductRemoteCache();
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = REDIS_ENABLED, havingValue = "true")
+	public RedisMessageListenerContainer productCacheListenerContainer(
+		RedisConnectionFactory redisConnectionFactory, ProductCache productCache) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(new ProductCacheInvalidationListener(productCache, nodeId),
+			new ChannelTopic(RedisProductRemoteCache.INVALIDATION_CHANNEL));
+		return container;
+	}
+}
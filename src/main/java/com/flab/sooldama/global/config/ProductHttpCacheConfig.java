@@ -0,0 +1,14 @@
+package com.flab.sooldama.global.config;
+
+import com.flab.sooldama.domain.product.api.ProductHttpCacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/*
+제품 조회 응답의 Cache-Control 설정(product.http-cache)을 ProductHttpCacheProperties 빈으로 등록합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(ProductHttpCacheProperties.class)
+public class ProductHttpCacheConfig {
+
+}
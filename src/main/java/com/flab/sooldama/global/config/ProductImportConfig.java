@@ -0,0 +1,14 @@
+package com.flab.sooldama.global.config;
+
+import com.flab.sooldama.domain.product.importer.ProductImportProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/*
+제품 일괄 등록 설정값(product.import)을 ProductImportProperties 빈으로 등록합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(ProductImportProperties.class)
+public class ProductImportConfig {
+
+}
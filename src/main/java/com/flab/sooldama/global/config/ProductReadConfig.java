@@ -0,0 +1,37 @@
+package com.flab.sooldama.global.config;
+
+import com.flab.sooldama.domain.product.service.AsyncProductService;
+import com.flab.sooldama.domain.product.service.ProductReadExecutor;
+import com.flab.sooldama.domain.product.service.ProductReadProperties;
+import com.flab.sooldama.domain.product.service.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+product.read.mode 가 async 일 때 제품 조회 전용 스레드 풀과 AsyncProductService 를 등록합니다.
+blocking(기본값)이면 아무것도 등록하지 않고 ProductApi 가 요청 스레드에서 조회합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(ProductReadProperties.class)
+@ConditionalOnProperty(name = "product.read.mode", havingValue = "async")
+public class ProductReadConfig {
+
+	/*
+	destroyMethod 를 지정하지 않아도 스프링이 shutdown 메서드를 찾아 컨텍스트 종료 시 호출합니다.
+	 */
+	@Bean
+	public ProductReadExecutor productReadExecutor(ProductReadProperties properties,
+		MeterRegistry meterRegistry) {
+		return new ProductReadExecutor(properties.getPoolSize(), properties.getQueueCapacity(),
+			properties.isVirtualThreads(), meterRegistry);
+	}
+
+	@Bean
+	public AsyncProductService asyncProductService(ProductService productService,
+		ProductReadExecutor productReadExecutor) {
+		return new AsyncProductService(productService, productReadExecutor);
+	}
+}
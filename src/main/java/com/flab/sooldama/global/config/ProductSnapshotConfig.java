@@ -0,0 +1,27 @@
+package com.flab.sooldama.global.config;
+
+import com.flab.sooldama.domain.product.dao.ProductMapper;
+import com.flab.sooldama.domain.product.snapshot.ProductSnapshotHolder;
+import com.flab.sooldama.domain.product.snapshot.ProductSnapshotProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/*
+제품 카탈로그 스냅샷을 등록합니다. product.snapshot.enabled 가 false(기본값)여도 빈은 등록하지만 스냅샷은 만들지 않으므로,
+ProductService 는 지금처럼 ProductCache 에서 조회합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(ProductSnapshotProperties.class)
+public class ProductSnapshotConfig {
+
+	/*
+	destroyMethod 를 지정하지 않아도 스프링이 shutdown 메서드를 찾아 컨텍스트 종료 시 호출합니다.
+	 */
+	@Bean
+	public ProductSnapshotHolder productSnapshotHolder(ProductMapper productMapper,
+		PlatformTransactionManager transactionManager, ProductSnapshotProperties properties) {
+		return new ProductSnapshotHolder(productMapper, transactionManager, properties);
+	}
+}
@@ -0,0 +1,63 @@
+package com.flab.sooldama.global.config;
+
+import com.flab.sooldama.global.ratelimit.InMemoryRateLimiter;
+import com.flab.sooldama.global.ratelimit.LoginRateLimitInterceptor;
+import com.flab.sooldama.global.ratelimit.LoginRateLimitProperties;
+import com.flab.sooldama.global.ratelimit.LoginRateLimiter;
+import com.flab.sooldama.global.ratelimit.RateLimiter;
+import com.flab.sooldama.global.ratelimit.RedisRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/*
+login.rate-limit.redis.enabled 가 true 인 프로필(dev, local)에서는 모든 서버가 Redis 에서 로그인 시도를 함께 세고,
+그렇지 않은 프로필(test)에서는 서버 메모리에서 셉니다.
+ */
+@Configuration
+@EnableConfigurationProperties(LoginRateLimitProperties.class)
+public class RateLimitConfig {
+
+	private static final String REDIS_ENABLED = "login.rate-limit.redis.enabled";
+
+	@Bean
+	@ConditionalOnProperty(name = REDIS_ENABLED, havingValue = "true")
+	public RateLimiter redisRateLimiter(StringRedisTemplate stringRedisTemplate,
+		LoginRateLimitProperties properties) {
+		return new RedisRateLimiter(stringRedisTemplate, inMemoryRateLimiter(properties));
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = REDIS_ENABLED, havingValue = "false", matchIfMissing = true)
+	public RateLimiter localRateLimiter(LoginRateLimitProperties properties) {
+		return inMemoryRateLimiter(properties);
+	}
+
+	@Bean
+	public LoginRateLimiter loginRateLimiter(RateLimiter rateLimiter,
+		LoginRateLimitProperties properties, MeterRegistry meterRegistry) {
+		return new LoginRateLimiter(rateLimiter, properties, meterRegistry);
+	}
+
+	@Bean
+	public LoginRateLimitInterceptor loginRateLimitInterceptor(LoginRateLimiter loginRateLimiter) {
+		return new LoginRateLimitInterceptor(loginRateLimiter);
+	}
+
+	/*
+	가장 긴 윈도 동안 시도가 없는 키는 더 이상 제한에 영향을 주지 않으므로 지웁니다.
+	 */
+	private static InMemoryRateLimiter inMemoryRateLimiter(LoginRateLimitProperties properties) {
+		Duration retention = properties.getPerIp().getWindow()
+			.compareTo(properties.getPerEmail().getWindow()) > 0
+			? properties.getPerIp().getWindow() : properties.getPerEmail().getWindow();
+
+		return new InMemoryRateLimiter(properties.getMaxTrackedKeys(), retention,
+			Clock.systemUTC());
+	}
+}
@@ -1,14 +1,30 @@
 package com.flab.sooldama.global.config;
 
+import com.flab.sooldama.global.session.CachingSessionRepository;
+import com.flab.sooldama.global.session.SessionCacheInvalidationListener;
+import com.flab.sooldama.global.session.CompactSessionSerializer;
+import com.flab.sooldama.global.session.SessionCacheProperties;
+import com.flab.sooldama.global.session.SessionExpiryProperties;
+import com.flab.sooldama.global.session.SessionSizeEndpoint;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.session.FlushMode;
+import org.springframework.session.Session;
+import org.springframework.session.config.SessionRepositoryCustomizer;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
 import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
 
 /*
@@ -30,21 +46,31 @@ import org.springframework.session.data.redis.config.annotation.web.http.EnableR
 @EnableRedisHttpSession
 @EnableRedisHttpSession을 @Configuration 클래스에 붙이면 세션 데이터를 Redis에 저장합니다.
 이 어노테이션을 쓰려면 RedisConnectionFactory가 반드시 있어야 합니다.
+flushMode 가 ON_SAVE 이면 세션의 변경 내용을 요청이 끝나고 저장할 때 한 번에 Redis 에 씁니다.
+세션 만료 시간은 어노테이션 대신 SessionRepositoryCustomizer 로 session.expiry.timeout 값을 적용해서 프로필마다 바꿀 수 있습니다.
+springSessionDefaultRedisSerializer 라는 이름의 빈이 있으면 세션 속성을 JDK 직렬화 대신 그 빈으로 직렬화합니다.
+압축 형식으로 쓸지는 session.serializer.write-compact 로 정하고, 배포 순서는 CompactSessionSerializer 에 적어 두었습니다.
+
+@Primary
+같은 타입의 빈이 여러 개일 때 먼저 주입할 빈을 정합니다. Spring Session 의 SessionRepositoryFilter 가
+RedisIndexedSessionRepository 대신 서버마다 세션을 캐시하는 CachingSessionRepository 를 사용하도록 합니다.
  */
 
 @Profile("dev")
 @Configuration
-@EnableRedisHttpSession(maxInactiveIntervalInSeconds = RedisConfig.EXPIRE_TIME)
+@EnableConfigurationProperties({SessionCacheProperties.class, SessionExpiryProperties.class})
+@EnableRedisHttpSession(flushMode = FlushMode.ON_SAVE)
 public class RedisConfig {
 
-	static final int EXPIRE_TIME = 60;
-
 	@Value("${spring.redis.host}")
 	private String host;
 
 	@Value("${spring.redis.port}")
 	private int port;
 
+	@Value("${session.serializer.write-compact}")
+	private boolean writeCompactSession;
+
 	@Bean
 	public RedisConnectionFactory redisConnectionFactory() {
 		return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
@@ -58,4 +84,47 @@ public class RedisConfig {
 		redisTemplate.setValueSerializer(new StringRedisSerializer());
 		return redisTemplate;
 	}
+
+	@Bean
+	public SessionRepositoryCustomizer<RedisIndexedSessionRepository> sessionExpiryCustomizer(
+		SessionExpiryProperties sessionExpiryProperties) {
+		return sessionRepository -> sessionRepository.setDefaultMaxInactiveInterval(
+			(int) sessionExpiryProperties.getTimeout().getSeconds());
+	}
+
+	@Bean
+	public RedisSerializer<Object> springSessionDefaultRedisSerializer() {
+		return new CompactSessionSerializer(writeCompactSession);
+	}
+
+	@Bean
+	@Primary
+	public CachingSessionRepository<? extends Session> cachingSessionRepository(
+		RedisIndexedSessionRepository sessionRepository, StringRedisTemplate stringRedisTemplate,
+		SessionCacheProperties sessionCacheProperties,
+		SessionExpiryProperties sessionExpiryProperties) {
+		if (sessionCacheProperties.getFlushInterval()
+			.compareTo(sessionExpiryProperties.getTimeout()) >= 0) {
+			throw new IllegalStateException("session.cache.flush-interval 은 세션 만료 시간보다 짧아야 합니다");
+		}
+
+		return new CachingSessionRepository<>(sessionRepository, stringRedisTemplate,
+			sessionCacheProperties, sessionExpiryProperties);
+	}
+
+	@Bean
+	public SessionSizeEndpoint sessionSizeEndpoint() {
+		return new SessionSizeEndpoint(redisConnectionFactory(),
+			RedisIndexedSessionRepository.DEFAULT_NAMESPACE);
+	}
+
+	@Bean
+	public RedisMessageListenerContainer sessionCacheListenerContainer(
+		CachingSessionRepository<?> cachingSessionRepository) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory());
+		container.addMessageListener(new SessionCacheInvalidationListener(cachingSessionRepository),
+			new ChannelTopic(CachingSessionRepository.INVALIDATION_CHANNEL));
+		return container;
+	}
 }
@@ -0,0 +1,28 @@
+package com.flab.sooldama.global.config;
+
+import com.flab.sooldama.global.auth.SessionMetricsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.servlet.DispatcherType;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/*
+SessionMetricsFilter 를 등록합니다. SessionRepositoryFilter(Spring Session)가 요청을 감싼 뒤에 세션을 조회하도록
+가장 낮은 우선순위로 등록하고, 비동기 요청이 다시 디스패치될 때도 실행되도록 ASYNC 를 포함합니다.
+ */
+@Configuration
+public class SessionMetricsConfig {
+
+	@Bean
+	public FilterRegistrationBean<SessionMetricsFilter> sessionMetricsFilter(
+		MeterRegistry meterRegistry) {
+		FilterRegistrationBean<SessionMetricsFilter> registration = new FilterRegistrationBean<>(
+			new SessionMetricsFilter(meterRegistry));
+		registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+		registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+
+		return registration;
+	}
+}
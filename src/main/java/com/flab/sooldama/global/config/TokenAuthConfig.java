@@ -0,0 +1,80 @@
+package com.flab.sooldama.global.config;
+
+import com.flab.sooldama.global.auth.AuthTokenCodec;
+import com.flab.sooldama.global.auth.AuthTokenProperties;
+import com.flab.sooldama.global.auth.Authenticator;
+import com.flab.sooldama.global.auth.RedisTokenRevocationList;
+import com.flab.sooldama.global.auth.TokenAuthenticator;
+import com.flab.sooldama.global.auth.TokenRevocationList;
+import com.flab.sooldama.global.auth.TokenRevocationListener;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.util.StringUtils;
+
+/*
+auth.mode 가 token 일 때 세션 대신 서명한 토큰으로 인증합니다. token 프로필(application-token.yml)에서 사용합니다.
+값이 비어 있는 키는 사용하지 않고, 서명에 사용할 키가 없거나 너무 짧으면 애플리케이션이 시작되지 않습니다.
+auth.token.redis.enabled 가 true 이면 로그아웃을 Redis pub/sub 으로 모든 서버에 알리고,
+그렇지 않으면 로그아웃한 토큰은 로그아웃을 처리한 서버에서만 거절합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "auth.mode", havingValue = "token")
+@EnableConfigurationProperties(AuthTokenProperties.class)
+public class TokenAuthConfig {
+
+	private static final String REDIS_ENABLED = "auth.token.redis.enabled";
+
+	@Bean
+	public AuthTokenCodec authTokenCodec(AuthTokenProperties properties) {
+		Map<String, byte[]> keys = new LinkedHashMap<>();
+		properties.getKeys().forEach((keyId, secret) -> {
+			if (StringUtils.hasText(secret)) {
+				keys.put(keyId, Base64.getDecoder().decode(secret));
+			}
+		});
+
+		return new AuthTokenCodec(keys, properties.getActiveKeyId(), properties.getTtl(),
+			Clock.systemUTC());
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = REDIS_ENABLED, havingValue = "false", matchIfMissing = true)
+	public TokenRevocationList tokenRevocationList(AuthTokenProperties properties) {
+		return new TokenRevocationList(properties.getMaxRevokedTokens(), Clock.systemUTC());
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = REDIS_ENABLED, havingValue = "true")
+	public TokenRevocationList redisTokenRevocationList(AuthTokenProperties properties,
+		StringRedisTemplate stringRedisTemplate) {
+		return new RedisTokenRevocationList(properties.getMaxRevokedTokens(), Clock.systemUTC(),
+			stringRedisTemplate);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = REDIS_ENABLED, havingValue = "true")
+	public RedisMessageListenerContainer tokenRevocationListenerContainer(
+		RedisConnectionFactory redisConnectionFactory, TokenRevocationList tokenRevocationList) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(new TokenRevocationListener(tokenRevocationList),
+			new ChannelTopic(RedisTokenRevocationList.REVOCATION_CHANNEL));
+		return container;
+	}
+
+	@Bean
+	public Authenticator tokenAuthenticator(AuthTokenCodec authTokenCodec,
+		TokenRevocationList tokenRevocationList) {
+		return new TokenAuthenticator(authTokenCodec, tokenRevocationList);
+	}
+}
@@ -0,0 +1,48 @@
+package com.flab.sooldama.global.config;
+
+import com.flab.sooldama.global.thread.VirtualThreads;
+import java.util.concurrent.ExecutorService;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+/*
+virtual-threads 프로필(application-virtual-threads.yml)에서 요청을 가상 스레드로 처리합니다. Java 21 이상에서 실행해야 하고,
+그보다 낮은 버전에서는 애플리케이션이 시작되지 않습니다. 예) --spring.profiles.active=dev,virtual-threads
+
+- Tomcat 은 요청마다 가상 스레드를 만들어 처리하므로 server.tomcat.threads.max 에 막히지 않습니다.
+- 스프링 MVC 의 비동기 응답(StreamingResponseBody 등)과 @Async 도 applicationTaskExecutor 를 통해 가상 스레드에서 실행합니다.
+- 제품 조회(ProductReadExecutor)와 비밀번호 해시(PasswordHashingExecutor)도 같은 크기의 가상 스레드 풀에서 실행합니다.
+  (product.read.virtual-threads, user.password.hashing.virtual-threads)
+  해시는 CPU 작업이라 캐리어 스레드를 오래 차지하므로, 해시 스레드 수를 코어 수보다 하나 적게 잡아 다른 요청이 실행될 캐리어를 남깁니다.
+
+동시에 처리하는 요청 수는 더 이상 스레드 수로 제한되지 않으므로, 커넥션 풀과 AdmissionControlFilter 의 한도가 실제 상한이 됩니다.
+단, Java 21~23 에서는 mysql-connector-j 8.0.33 의 synchronized 때문에 JDBC 호출이 캐리어 스레드를 고정하므로,
+동시에 실행되는 쿼리 수가 캐리어 스레드 수로 더 좁게 제한됩니다. 확인 방법과 해결책은 application-virtual-threads.yml 에 적어 두었습니다.
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadConfig {
+
+	private static final String TOMCAT_THREAD_PREFIX = "tomcat-virtual-";
+
+	private static final String TASK_THREAD_PREFIX = "task-virtual-";
+
+	@Bean
+	public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+		ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor(TOMCAT_THREAD_PREFIX);
+
+		return protocolHandler -> protocolHandler.setExecutor(executor);
+	}
+
+	@Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+		AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+	public AsyncTaskExecutor applicationTaskExecutor() {
+		return new TaskExecutorAdapter(VirtualThreads.newThreadPerTaskExecutor(TASK_THREAD_PREFIX));
+	}
+}
@@ -0,0 +1,28 @@
+package com.flab.sooldama.global.datasource;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+application.yml 의 datasource.pool.advisor 하위 설정값을 바인딩합니다.
+sample-interval 마다 커넥션 풀 사용량을 기록하고, 최근 window 동안의 기록으로 적당한 풀 크기를 계산합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.pool.advisor")
+public class PoolAdvisorProperties {
+
+	private boolean enabled = true;
+
+	private Duration sampleInterval = Duration.ofSeconds(1);
+
+	private Duration window = Duration.ofMinutes(5);
+
+	// 관찰한 동시 사용량에 곱하는 여유분입니다.
+	private double headroom = 1.2;
+
+	// 추천할 수 있는 풀 크기의 최댓값입니다. DB 의 max_connections 를 서버 수로 나눈 값보다 작게 잡습니다.
+	private int maxPoolSize = 50;
+}
@@ -0,0 +1,26 @@
+package com.flab.sooldama.global.datasource;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+/actuator/poolsize 의 응답입니다.
+demand 는 한 시점에 커넥션을 사용 중이거나 기다리던 스레드 수(active + pending)입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PoolSizeAdvice {
+
+	private final int configuredMaximumPoolSize;
+
+	private final int samples;
+
+	private final int peakDemand;
+
+	private final int p95Demand;
+
+	// 커넥션을 기다린 스레드가 있던 기록의 비율(0 ~ 1)입니다.
+	private final double pendingRatio;
+
+	private final int recommendedMaximumPoolSize;
+}
@@ -0,0 +1,120 @@
+package com.flab.sooldama.global.datasource;
+
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/*
+커넥션 풀 사용량을 주기적으로 기록해서 적당한 최대 풀 크기를 추천합니다. 풀 크기를 직접 바꾸지는 않습니다(advisory).
+
+풀 크기가 동시 사용량보다 작으면 커넥션을 기다리는 스레드(pending)가 생기고 응답이 느려지며,
+너무 크면 DB 가 처리할 수 있는 것보다 많은 쿼리를 동시에 받아 오히려 느려집니다.
+최근 window 동안 기록한 동시 사용량(active + pending)의 95 번째 백분위수에 headroom 을 곱한 값을 추천하고,
+max-pool-size 를 넘지 않게 합니다. 추천값은 /actuator/poolsize 와 datasource.pool.recommended 지표로 확인합니다.
+
+Hikari 는 첫 커넥션을 요청할 때 풀을 만들므로, 그 전에는 pool 이 null 을 반환하고 기록하지 않습니다.
+ */
+public class PoolSizeAdvisor implements MeterBinder {
+
+	private static final double PERCENTILE = 0.95;
+
+	private final Supplier<HikariPoolMXBean> pool;
+
+	private final int configuredMaximumPoolSize;
+
+	private final double headroom;
+
+	private final int maxPoolSize;
+
+	private final int capacity;
+
+	private final Deque<int[]> samples;
+
+	private final ScheduledExecutorService sampler;
+
+	public PoolSizeAdvisor(Supplier<HikariPoolMXBean> pool, int configuredMaximumPoolSize,
+		PoolAdvisorProperties properties) {
+		long interval = properties.getSampleInterval().toMillis();
+		if (interval < 1 || properties.getWindow().toMillis() < interval
+			|| properties.getHeadroom() < 1.0 || properties.getMaxPoolSize() < 1) {
+			throw new IllegalArgumentException("커넥션 풀 추천 설정값이 올바르지 않습니다");
+		}
+
+		this.pool = pool;
+		this.configuredMaximumPoolSize = configuredMaximumPoolSize;
+		this.headroom = properties.getHeadroom();
+		this.maxPoolSize = properties.getMaxPoolSize();
+		this.capacity = (int) (properties.getWindow().toMillis() / interval);
+		this.samples = new ArrayDeque<>(capacity);
+
+		this.sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "datasource-pool-sampler");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.sampler.scheduleAtFixedRate(this::sample, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	public void sample() {
+		HikariPoolMXBean mxBean = pool.get();
+		if (mxBean == null) {
+			return;
+		}
+
+		int[] sample = {mxBean.getActiveConnections(), mxBean.getThreadsAwaitingConnection()};
+		synchronized (samples) {
+			if (samples.size() == capacity) {
+				samples.removeFirst();
+			}
+			samples.addLast(sample);
+		}
+	}
+
+	public PoolSizeAdvice advise() {
+		int[][] recorded;
+		synchronized (samples) {
+			recorded = samples.toArray(new int[0][]);
+		}
+
+		if (recorded.length == 0) {
+			return new PoolSizeAdvice(configuredMaximumPoolSize, 0, 0, 0, 0.0,
+				configuredMaximumPoolSize);
+		}
+
+		int[] demands = new int[recorded.length];
+		int waiting = 0;
+		for (int i = 0; i < recorded.length; i++) {
+			demands[i] = recorded[i][0] + recorded[i][1];
+			if (recorded[i][1] > 0) {
+				waiting++;
+			}
+		}
+		Arrays.sort(demands);
+
+		int peak = demands[demands.length - 1];
+		int p95 = demands[(int) Math.ceil(PERCENTILE * demands.length) - 1];
+		int recommended = Math.max(1, Math.min(maxPoolSize, (int) Math.ceil(p95 * headroom)));
+
+		return new PoolSizeAdvice(configuredMaximumPoolSize, recorded.length, peak, p95,
+			(double) waiting / recorded.length, recommended);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("datasource.pool.recommended", this,
+				advisor -> advisor.advise().getRecommendedMaximumPoolSize())
+			.register(registry);
+	}
+
+	public void shutdown() {
+		sampler.shutdownNow();
+	}
+}
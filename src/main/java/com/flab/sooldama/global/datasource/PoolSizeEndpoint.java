@@ -0,0 +1,21 @@
+package com.flab.sooldama.global.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/*
+/actuator/poolsize 로 관찰한 커넥션 풀 사용량과 추천하는 최대 풀 크기를 확인합니다.
+커넥션을 얻는 데 걸린 시간은 /actuator/metrics/hikaricp.connections.acquire 로 확인합니다.
+ */
+@Endpoint(id = "poolsize")
+@RequiredArgsConstructor
+public class PoolSizeEndpoint {
+
+	private final PoolSizeAdvisor poolSizeAdvisor;
+
+	@ReadOperation
+	public PoolSizeAdvice poolSize() {
+		return poolSizeAdvisor.advise();
+	}
+}
@@ -0,0 +1,8 @@
+package com.flab.sooldama.global.exception;
+
+public class AuthorizationFailException extends RuntimeException {
+
+	public AuthorizationFailException(String message) {
+		super(message);
+	}
+}
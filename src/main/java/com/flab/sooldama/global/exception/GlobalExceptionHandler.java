@@ -1,9 +1,16 @@
 package com.flab.sooldama.global.exception;
 
+import com.flab.sooldama.domain.product.exception.InvalidCursorException;
+import com.flab.sooldama.domain.product.exception.InvalidExportRequestException;
+import com.flab.sooldama.domain.product.exception.InvalidImportRequestException;
+import com.flab.sooldama.domain.product.exception.InvalidProductFilterException;
 import com.flab.sooldama.domain.product.exception.ProductNotFoundException;
+import com.flab.sooldama.domain.product.exception.ProductReadRejectedException;
 import com.flab.sooldama.domain.user.exception.DuplicateEmailExistsException;
 import com.flab.sooldama.domain.user.exception.NoSuchUserException;
+import com.flab.sooldama.domain.user.exception.PasswordHashingRejectedException;
 import com.flab.sooldama.domain.user.exception.PasswordNotMatchException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -62,8 +69,71 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
     }
 
+	@ExceptionHandler(InvalidCursorException.class)
+	public ResponseEntity<Void> handleInvalidCursorException(InvalidCursorException e) {
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+	}
+
+	@ExceptionHandler(InvalidImportRequestException.class)
+	public ResponseEntity<Void> handleInvalidImportRequestException(InvalidImportRequestException e) {
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+	}
+
+	@ExceptionHandler(InvalidExportRequestException.class)
+	public ResponseEntity<Void> handleInvalidExportRequestException(InvalidExportRequestException e) {
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+	}
+
+	@ExceptionHandler(InvalidProductFilterException.class)
+	public ResponseEntity<Void> handleInvalidProductFilterException(InvalidProductFilterException e) {
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+	}
+
+	@ExceptionHandler(InvalidPageSizeException.class)
+	public ResponseEntity<Void> handleInvalidPageSizeException(InvalidPageSizeException e) {
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+	}
+
 	@ExceptionHandler(AuthenticationFailException.class)
 	public ResponseEntity<Void> handleAuthenticationFailException(AuthenticationFailException e) {
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
 	}
+
+	@ExceptionHandler(AuthorizationFailException.class)
+	public ResponseEntity<Void> handleAuthorizationFailException(AuthorizationFailException e) {
+		return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+	}
+
+	/*
+	비밀번호 해시 대기열이 가득 찬 경우입니다. 잠시 후 다시 요청하도록 Retry-After 헤더(초)를 함께 보냅니다.
+	 */
+	@ExceptionHandler(PasswordHashingRejectedException.class)
+	public ResponseEntity<Void> handlePasswordHashingRejectedException(
+		PasswordHashingRejectedException e) {
+		log.warn(e.getMessage());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+			.header(HttpHeaders.RETRY_AFTER, "1")
+			.build();
+	}
+
+	/*
+	제품 조회 대기열(product.read.mode 가 async 일 때)이 가득 찬 경우입니다.
+	 */
+	@ExceptionHandler(ProductReadRejectedException.class)
+	public ResponseEntity<Void> handleProductReadRejectedException(ProductReadRejectedException e) {
+		log.warn(e.getMessage());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+			.header(HttpHeaders.RETRY_AFTER, "1")
+			.build();
+	}
+
+	/*
+	로그인 시도가 너무 많은 경우입니다. 다시 시도할 수 있을 때까지 남은 시간(초)을 Retry-After 헤더로 보냅니다.
+	 */
+	@ExceptionHandler(LoginThrottledException.class)
+	public ResponseEntity<Void> handleLoginThrottledException(LoginThrottledException e) {
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+			.build();
+	}
 }
@@ -0,0 +1,8 @@
+package com.flab.sooldama.global.exception;
+
+public class InvalidPageSizeException extends RuntimeException {
+
+	public InvalidPageSizeException(String message) {
+		super(message);
+	}
+}
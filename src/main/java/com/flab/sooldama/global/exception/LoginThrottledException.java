@@ -0,0 +1,15 @@
+package com.flab.sooldama.global.exception;
+
+import lombok.Getter;
+
+@Getter
+public class LoginThrottledException extends RuntimeException {
+
+	// 다시 로그인을 시도할 수 있을 때까지 남은 시간(초)입니다.
+	private final long retryAfterSeconds;
+
+	public LoginThrottledException(String message, long retryAfterSeconds) {
+		super(message);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+}
@@ -0,0 +1,89 @@
+package com.flab.sooldama.global.mybatis;
+
+import com.flab.sooldama.global.mybatis.StatementMetricsInterceptor.StatementMeters;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/*
+/actuator/statements 로 매퍼 구문마다 실행 횟수, 실행 시간 백분위수, 행 수, 느린 실행 횟수를 확인합니다.
+p99 가 큰 구문부터 보여주므로 꼬리 지연 시간의 원인이 되는 구문을 바로 찾을 수 있습니다.
+백분위수는 최근 몇 분 동안의 실행만으로 계산하고, 횟수와 합계는 애플리케이션이 시작된 뒤부터 셉니다.
+ */
+@Endpoint(id = "statements")
+@RequiredArgsConstructor
+public class StatementMetricsEndpoint {
+
+	private final StatementMetricsInterceptor statementMetricsInterceptor;
+
+	@ReadOperation
+	public Map<String, StatementReport> statements() {
+		Map<String, StatementReport> reports = new LinkedHashMap<>();
+
+		statementMetricsInterceptor.statements().values().stream()
+			.map(StatementMetricsEndpoint::report)
+			.sorted(Comparator.comparingDouble(StatementReport::getP99Millis).reversed())
+			.forEach(report -> reports.put(report.getStatement(), report));
+
+		return reports;
+	}
+
+	private static StatementReport report(StatementMeters meters) {
+		HistogramSnapshot snapshot = meters.getTimer().takeSnapshot();
+
+		return new StatementReport(
+			meters.getTimer().getId().getTag("statement"),
+			meters.getTimer().getId().getTag("type"),
+			snapshot.count(),
+			snapshot.mean(TimeUnit.MILLISECONDS),
+			percentile(snapshot, 0.5),
+			percentile(snapshot, 0.95),
+			percentile(snapshot, 0.99),
+			snapshot.max(TimeUnit.MILLISECONDS),
+			(long) meters.getRows().totalAmount(),
+			(long) meters.getSlow().count());
+	}
+
+	private static double percentile(HistogramSnapshot snapshot, double percentile) {
+		for (ValueAtPercentile value : snapshot.percentileValues()) {
+			if (value.percentile() == percentile) {
+				return value.value(TimeUnit.MILLISECONDS);
+			}
+		}
+
+		return 0.0;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class StatementReport {
+
+		private final String statement;
+
+		private final String type;
+
+		private final long count;
+
+		private final double meanMillis;
+
+		private final double p50Millis;
+
+		private final double p95Millis;
+
+		private final double p99Millis;
+
+		private final double maxMillis;
+
+		private final long rows;
+
+		private final long slowCount;
+	}
+}
@@ -0,0 +1,194 @@
+package com.flab.sooldama.global.mybatis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+/*
+매퍼 구문(ProductMapper.selectProducts 등)마다 실행 시간과 조회/변경한 행 수를 기록합니다.
+Interceptor 빈을 등록하면 마이바티스 스프링 부트 스타터가 SqlSessionFactory 에 플러그인으로 추가합니다.
+
+- mybatis.statement: 실행 시간. 최근 시간 구간의 p50/p95/p99 를 HdrHistogram 으로 계산합니다.
+- mybatis.statement.rows: select 는 조회한 행 수, insert/update/delete 는 변경한 행 수
+- mybatis.statement.slow: slow-threshold 보다 오래 걸린 횟수
+
+Executor 의 query, update 를 가로채므로 커넥션을 얻는 시간과 결과를 객체로 바꾸는 시간도 포함됩니다.
+커넥션을 얻는 시간만 따로 보려면 hikaricp.connections.acquire 타이머를 함께 봅니다.
+Cursor 로 조회하는 구문(제품 내보내기)은 응답을 쓰는 동안 계속 읽으므로 기록하지 않습니다.
+
+요청마다 실행되는 경로이므로, 지표는 구문마다 한 번만 만들어 두고 실행할 때는 기록만 합니다.
+느린 구문의 SQL 은 느린 경우에만 만들고, 바인딩한 값은 개인 정보(이메일 등)일 수 있으므로 파라미터 이름만 남깁니다.
+ */
+@Slf4j
+@Intercepts({
+	@Signature(type = Executor.class, method = "query",
+		args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+	@Signature(type = Executor.class, method = "query",
+		args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class,
+			CacheKey.class, BoundSql.class}),
+	@Signature(type = Executor.class, method = "update",
+		args = {MappedStatement.class, Object.class})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+
+	static final String METRIC_NAME = "mybatis.statement";
+
+	private static final int BOUND_SQL_ARG = 5;
+
+	private final Supplier<MeterRegistry> meterRegistry;
+
+	private final long slowThresholdNanos;
+
+	private final Map<String, StatementMeters> meters = new ConcurrentHashMap<>();
+
+	public StatementMetricsInterceptor(MeterRegistry meterRegistry,
+		StatementMetricsProperties properties) {
+		this(() -> meterRegistry, properties);
+	}
+
+	/*
+	MeterRegistry 는 구문을 처음 실행할 때 가져옵니다.
+	MeterRegistry 를 만들 때 MeterBinder 빈(ProductCache 등)을 함께 만드는데, 그 빈들이 매퍼를 통해 이 인터셉터에 의존하므로
+	생성자에서 MeterRegistry 를 받으면 빈 사이에 순환 참조가 생깁니다.
+	 */
+	public StatementMetricsInterceptor(Supplier<MeterRegistry> meterRegistry,
+		StatementMetricsProperties properties) {
+		this.meterRegistry = meterRegistry;
+		this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+	}
+
+	@Override
+	public Object intercept(Invocation invocation) throws Throwable {
+		MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+		long start = System.nanoTime();
+		Object result = null;
+
+		try {
+			result = invocation.proceed();
+			return result;
+		} finally {
+			long elapsed = System.nanoTime() - start;
+			StatementMeters statementMeters = metersOf(statement);
+			statementMeters.timer.record(elapsed, TimeUnit.NANOSECONDS);
+
+			int rows = rowsOf(result);
+			if (rows >= 0) {
+				statementMeters.rows.record(rows);
+			}
+			if (elapsed >= slowThresholdNanos) {
+				statementMeters.slow.increment();
+				logSlowStatement(invocation, statement, elapsed, rows);
+			}
+		}
+	}
+
+	/*
+	지금까지 실행한 구문들의 지표입니다. StatementMetricsEndpoint 가 사용합니다.
+	 */
+	public Map<String, StatementMeters> statements() {
+		return Map.copyOf(meters);
+	}
+
+	private StatementMeters metersOf(MappedStatement statement) {
+		StatementMeters statementMeters = meters.get(statement.getId());
+		if (statementMeters != null) {
+			return statementMeters;
+		}
+
+		return meters.computeIfAbsent(statement.getId(),
+			id -> new StatementMeters(meterRegistry.get(), shortName(id),
+				statement.getSqlCommandType().name().toLowerCase()));
+	}
+
+	/*
+	배치로 실행한 update 는 실제 행 수 대신 음수를 반환하므로 기록하지 않습니다.
+	 */
+	private static int rowsOf(Object result) {
+		if (result instanceof Collection) {
+			return ((Collection<?>) result).size();
+		}
+		if (result instanceof Integer) {
+			return (Integer) result;
+		}
+
+		return -1;
+	}
+
+	private static void logSlowStatement(Invocation invocation, MappedStatement statement,
+		long elapsedNanos, int rows) {
+		Object[] args = invocation.getArgs();
+		BoundSql boundSql = args.length > BOUND_SQL_ARG
+			? (BoundSql) args[BOUND_SQL_ARG] : statement.getBoundSql(args[1]);
+
+		log.warn("느린 구문 {} {}ms rows={} sql=[{}] parameters={}", shortName(statement.getId()),
+			TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rows, compact(boundSql.getSql()),
+			redact(boundSql.getParameterMappings()));
+	}
+
+	private static String compact(String sql) {
+		return sql.replaceAll("\\s+", " ").trim();
+	}
+
+	static String redact(List<ParameterMapping> parameterMappings) {
+		return parameterMappings.stream()
+			.map(mapping -> mapping.getProperty() + "=?")
+			.collect(Collectors.joining(", ", "[", "]"));
+	}
+
+	/*
+	com.flab.sooldama.domain.product.dao.ProductMapper.selectProducts 를 ProductMapper.selectProducts 로 줄입니다.
+	 */
+	static String shortName(String statementId) {
+		int method = statementId.lastIndexOf('.');
+		int mapper = method > 0 ? statementId.lastIndexOf('.', method - 1) : -1;
+
+		return statementId.substring(mapper + 1);
+	}
+
+	@Getter
+	public static class StatementMeters {
+
+		private final Timer timer;
+
+		private final DistributionSummary rows;
+
+		private final Counter slow;
+
+		StatementMeters(MeterRegistry registry, String statement, String type) {
+			this.timer = Timer.builder(METRIC_NAME)
+				.tag("statement", statement)
+				.tag("type", type)
+				.publishPercentiles(0.5, 0.95, 0.99)
+				.register(registry);
+			this.rows = DistributionSummary.builder(METRIC_NAME + ".rows")
+				.tag("statement", statement)
+				.tag("type", type)
+				.register(registry);
+			this.slow = Counter.builder(METRIC_NAME + ".slow")
+				.tag("statement", statement)
+				.tag("type", type)
+				.register(registry);
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.flab.sooldama.global.mybatis;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+application.yml 의 datasource.statement 하위 설정값을 바인딩합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.statement")
+public class StatementMetricsProperties {
+
+	// 이 시간보다 오래 걸린 구문은 SQL 과 함께 로그로 남깁니다.
+	private Duration slowThreshold = Duration.ofMillis(500);
+}
@@ -0,0 +1,21 @@
+package com.flab.sooldama.global.paging;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+페이지 크기 파라미터에 붙이면 PageSizeArgumentResolver 가 요청 파라미터를 읽어 페이지 크기 정책을 적용한 값을 넘겨줍니다.
+value 는 application.yml 의 paging.endpoints 아래에 정의한 정책 이름입니다. 정의하지 않은 이름이면 paging.defaults 를 사용합니다.
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PageSize {
+
+	String value();
+
+	String param() default "limit";
+}
@@ -0,0 +1,44 @@
+package com.flab.sooldama.global.paging;
+
+import com.flab.sooldama.global.exception.InvalidPageSizeException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/*
+@PageSize 가 붙은 파라미터에 페이지 크기 정책을 적용한 값을 넘겨줍니다.
+컨트롤러마다 @Max 로 최댓값을 검증하면 엔드포인트마다 값이 흩어지고 설정으로 바꿀 수 없으므로,
+정책은 PagingProperties 에 모아 두고 여기에서 한 번에 적용합니다.
+ */
+@RequiredArgsConstructor
+public class PageSizeArgumentResolver implements HandlerMethodArgumentResolver {
+
+	private final PagingProperties properties;
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return parameter.hasParameterAnnotation(PageSize.class);
+	}
+
+	@Override
+	public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+		NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+		PageSize pageSize = parameter.getParameterAnnotation(PageSize.class);
+		String value = webRequest.getParameter(pageSize.param());
+
+		Integer requested = null;
+		if (StringUtils.hasText(value)) {
+			try {
+				requested = Integer.valueOf(value.trim());
+			} catch (NumberFormatException e) {
+				throw new InvalidPageSizeException("페이지 크기는 숫자여야 합니다: " + value);
+			}
+		}
+
+		return properties.policyOf(pageSize.value()).resolve(requested);
+	}
+}
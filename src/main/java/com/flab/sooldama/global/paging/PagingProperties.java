@@ -0,0 +1,72 @@
+package com.flab.sooldama.global.paging;
+
+import com.flab.sooldama.global.exception.InvalidPageSizeException;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+application.yml 의 paging 하위 설정값을 바인딩합니다.
+엔드포인트마다 기본 페이지 크기, 최대 페이지 크기, 최대 크기를 넘었을 때의 처리 방법을 정할 수 있습니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "paging")
+public class PagingProperties {
+
+	// paging.endpoints 에 정의하지 않은 엔드포인트에 적용하는 정책입니다.
+	private Policy defaults = new Policy();
+
+	private Map<String, Policy> endpoints = new HashMap<>();
+
+	// 조회한 행 수를 기록하는 클라이언트 수의 최댓값입니다. 넘으면 적게 사용한 클라이언트부터 지웁니다.
+	private int maxTrackedClients = 10000;
+
+	public Policy policyOf(String endpoint) {
+		return endpoints.getOrDefault(endpoint, defaults);
+	}
+
+	public enum Overflow {
+		// 최대 페이지 크기로 줄여서 조회합니다.
+		CLAMP,
+		// 400 으로 응답합니다.
+		REJECT
+	}
+
+	@Getter
+	@Setter
+	public static class Policy {
+
+		private int defaultSize = 20;
+
+		private int maxSize = 100;
+
+		private Overflow overflow = Overflow.CLAMP;
+
+		/*
+		요청한 페이지 크기가 없으면 기본 크기를, 최대 크기를 넘으면 overflow 설정에 따라 최대 크기 또는 예외를 반환합니다.
+		1 보다 작은 크기는 항상 잘못된 요청입니다.
+		 */
+		public int resolve(Integer requested) {
+			if (requested == null) {
+				return defaultSize;
+			}
+
+			if (requested < 1) {
+				throw new InvalidPageSizeException("페이지 크기는 1 이상이어야 합니다: " + requested);
+			}
+
+			if (requested > maxSize) {
+				if (overflow == Overflow.REJECT) {
+					throw new InvalidPageSizeException(
+						"페이지 크기는 " + maxSize + " 이하여야 합니다: " + requested);
+				}
+				return maxSize;
+			}
+
+			return requested;
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.flab.sooldama.global.paging;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/*
+/actuator/rowsserved 로 목록 조회 행 수가 많은 클라이언트를 확인합니다. limit 파라미터로 개수를 정합니다.
+ */
+@Component
+@Endpoint(id = "rowsserved")
+@RequiredArgsConstructor
+public class RowsServedEndpoint {
+
+	private static final int DEFAULT_LIMIT = 20;
+
+	private final RowsServedRecorder rowsServedRecorder;
+
+	@ReadOperation
+	public Map<String, Long> topClients(@Nullable Integer limit) {
+		return rowsServedRecorder.top(limit == null ? DEFAULT_LIMIT : limit);
+	}
+}
@@ -0,0 +1,100 @@
+package com.flab.sooldama.global.paging;
+
+import com.flab.sooldama.global.auth.AuthService;
+import com.flab.sooldama.global.auth.Authenticator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.Optional;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/*
+클라이언트마다 목록 조회로 가져간 행 수를 셉니다. 어떤 클라이언트가 데이터를 가장 많이 가져가는지 확인할 때 사용합니다.
+로그인한 사용자는 이메일로, 로그인하지 않은 사용자는 IP 로 구분합니다.
+요청 안에서 기록하면 auth.mode 에 따라 선택된 Authenticator 로 이메일을 찾으므로, 토큰으로 로그인한 사용자도 이메일로 셉니다.
+요청 밖에서 기록하면(요청 정보가 없으면) 넘겨받은 세션의 이메일을 사용합니다.
+
+클라이언트 아이디를 Micrometer 태그로 붙이면 클라이언트 수만큼 시계열이 생기므로,
+엔드포인트별 합계만 paging.rows.served 카운터로 기록하고 클라이언트별 값은 크기를 제한한 Caffeine 캐시에 모읍니다.
+클라이언트별 값은 /actuator/rowsserved 로 확인할 수 있습니다.
+ */
+@Component
+public class RowsServedRecorder {
+
+	static final String ANONYMOUS = "anonymous";
+
+	private static final String METRIC_NAME = "paging.rows.served";
+
+	private final AuthService authService;
+
+	private final Authenticator authenticator;
+
+	private final MeterRegistry meterRegistry;
+
+	private final Cache<String, LongAdder> rowsByClient;
+
+	public RowsServedRecorder(AuthService authService, Authenticator authenticator,
+		MeterRegistry meterRegistry, PagingProperties properties) {
+		this.authService = authService;
+		this.authenticator = authenticator;
+		this.meterRegistry = meterRegistry;
+		this.rowsByClient = Caffeine.newBuilder()
+			.maximumSize(properties.getMaxTrackedClients())
+			.build();
+	}
+
+	public void record(HttpSession session, String endpoint, int rows) {
+		Counter.builder(METRIC_NAME)
+			.tag("endpoint", endpoint)
+			.register(meterRegistry)
+			.increment(rows);
+
+		rowsByClient.get(clientOf(session), client -> new LongAdder()).add(rows);
+	}
+
+	/*
+	가져간 행 수가 많은 순서대로 limit 개의 클라이언트를 반환합니다.
+	 */
+	public Map<String, Long> top(int limit) {
+		Map<String, Long> top = new LinkedHashMap<>();
+
+		rowsByClient.asMap().entrySet().stream()
+			.map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+			.sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+			.limit(limit)
+			.forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+
+		return top;
+	}
+
+	private String clientOf(HttpSession session) {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (!(attributes instanceof ServletRequestAttributes)) {
+			return emailOf(session).orElse(ANONYMOUS);
+		}
+
+		HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+
+		return authenticator.currentEmail(request)
+			.orElseGet(() -> ANONYMOUS + ":" + request.getRemoteAddr());
+	}
+
+	private Optional<String> emailOf(HttpSession session) {
+		if (session == null) {
+			return Optional.empty();
+		}
+
+		return Optional.ofNullable(session.getAttribute(authService.getAuthSessionKey()))
+			.map(String::valueOf);
+	}
+}
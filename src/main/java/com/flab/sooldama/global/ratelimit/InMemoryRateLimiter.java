@@ -0,0 +1,48 @@
+package com.flab.sooldama.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/*
+서버 메모리에 키마다 허용한 시각을 저장합니다. 서버마다 따로 세므로 서버가 여러 대이면 서버 수만큼 더 허용합니다.
+Redis 를 사용하지 않는 프로필(test)에서 사용하고, Redis 에 장애가 났을 때 RedisRateLimiter 가 대신 사용합니다.
+키 수는 maximumSize 로 제한하고, retention 동안 시도가 없는 키는 지웁니다.
+ */
+public class InMemoryRateLimiter implements RateLimiter {
+
+	private final Cache<String, Deque<Long>> attempts;
+
+	private final Clock clock;
+
+	public InMemoryRateLimiter(long maximumSize, Duration retention, Clock clock) {
+		this.attempts = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterAccess(retention)
+			.build();
+		this.clock = clock;
+	}
+
+	@Override
+	public long tryAcquire(String key, int limit, Duration window) {
+		long now = clock.millis();
+		long windowMillis = window.toMillis();
+		Deque<Long> acquired = attempts.get(key, ignored -> new ArrayDeque<>());
+
+		synchronized (acquired) {
+			while (!acquired.isEmpty() && acquired.peekFirst() <= now - windowMillis) {
+				acquired.pollFirst();
+			}
+
+			if (acquired.size() < limit) {
+				acquired.addLast(now);
+				return 0L;
+			}
+
+			return Math.max(1L, acquired.peekFirst() + windowMillis - now);
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package com.flab.sooldama.global.ratelimit;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/*
+로그인 요청 본문을 읽기 전에 클라이언트 IP 마다 로그인 시도를 제한합니다. LoginInterceptor 보다 먼저 실행됩니다.
+로그인이 끝나고 ASYNC 로 다시 디스패치될 때는 이미 센 시도이므로 세지 않습니다.
+ */
+@RequiredArgsConstructor
+public class LoginRateLimitInterceptor implements HandlerInterceptor {
+
+	private final LoginRateLimiter loginRateLimiter;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+		Object handler) {
+		if (request.getDispatcherType() != DispatcherType.ASYNC) {
+			loginRateLimiter.acquireForClient(request.getRemoteAddr());
+		}
+
+		return true;
+	}
+}
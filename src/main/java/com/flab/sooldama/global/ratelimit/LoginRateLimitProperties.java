@@ -0,0 +1,52 @@
+package com.flab.sooldama.global.ratelimit;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+application.yml 의 login.rate-limit 하위 설정값을 바인딩합니다.
+per-ip 는 한 클라이언트(IP)가 여러 이메일로 시도하는 경우를, per-email 은 여러 IP 에서 한 계정으로 시도하는 경우를 막습니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "login.rate-limit")
+public class LoginRateLimitProperties {
+
+	private boolean enabled = true;
+
+	private Limit perIp = new Limit(30, Duration.ofMinutes(1));
+
+	private Limit perEmail = new Limit(5, Duration.ofMinutes(1));
+
+	// 서버 메모리로 셀 때 기록하는 키(IP, 이메일) 수의 최댓값입니다.
+	private long maxTrackedKeys = 100_000L;
+
+	private Redis redis = new Redis();
+
+	@Getter
+	@Setter
+	public static class Limit {
+
+		private int limit;
+
+		private Duration window;
+
+		public Limit() {
+		}
+
+		public Limit(int limit, Duration window) {
+			this.limit = limit;
+			this.window = window;
+		}
+	}
+
+	@Getter
+	@Setter
+	public static class Redis {
+
+		// true 이면 모든 서버가 Redis 에서 함께 셉니다.
+		private boolean enabled = false;
+	}
+}
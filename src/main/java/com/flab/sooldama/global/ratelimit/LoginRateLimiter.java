@@ -0,0 +1,84 @@
+package com.flab.sooldama.global.ratelimit;
+
+import com.flab.sooldama.global.exception.LoginThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/*
+로그인 시도를 클라이언트 IP 와 이메일마다 제한합니다.
+IP 는 요청 본문을 읽기 전에 LoginRateLimitInterceptor 가, 이메일은 사용자를 조회하기 전에 UserService 가 확인하므로
+제한을 넘은 시도는 DB 조회와 비밀번호 해시를 하지 않습니다.
+
+허용한 시도와 거절한 시도는 login.attempts 카운터에 scope(ip, email)와 outcome(allowed, throttled) 태그로 기록합니다.
+ */
+public class LoginRateLimiter {
+
+	static final String KEY_PREFIX = "rate-limit:login:";
+
+	private static final String METRIC_NAME = "login.attempts";
+
+	private static final String IP = "ip";
+
+	private static final String EMAIL = "email";
+
+	private final RateLimiter rateLimiter;
+
+	private final LoginRateLimitProperties properties;
+
+	private final Counter ipAllowed;
+
+	private final Counter ipThrottled;
+
+	private final Counter emailAllowed;
+
+	private final Counter emailThrottled;
+
+	public LoginRateLimiter(RateLimiter rateLimiter, LoginRateLimitProperties properties,
+		MeterRegistry meterRegistry) {
+		this.rateLimiter = rateLimiter;
+		this.properties = properties;
+		this.ipAllowed = counter(meterRegistry, IP, "allowed");
+		this.ipThrottled = counter(meterRegistry, IP, "throttled");
+		this.emailAllowed = counter(meterRegistry, EMAIL, "allowed");
+		this.emailThrottled = counter(meterRegistry, EMAIL, "throttled");
+	}
+
+	public void acquireForClient(String clientIp) {
+		acquire(IP + ":" + clientIp, properties.getPerIp(), ipAllowed, ipThrottled);
+	}
+
+	/*
+	대소문자만 다른 이메일로 제한을 피하지 못하도록 소문자로 바꿔서 셉니다.
+	 */
+	public void acquireForEmail(String email) {
+		acquire(EMAIL + ":" + String.valueOf(email).toLowerCase(Locale.ROOT),
+			properties.getPerEmail(), emailAllowed, emailThrottled);
+	}
+
+	private void acquire(String key, LoginRateLimitProperties.Limit limit, Counter allowed,
+		Counter throttled) {
+		if (!properties.isEnabled()) {
+			return;
+		}
+
+		long waitMillis = rateLimiter.tryAcquire(KEY_PREFIX + key, limit.getLimit(),
+			limit.getWindow());
+		if (waitMillis > 0) {
+			throttled.increment();
+			throw new LoginThrottledException("로그인 시도가 너무 많습니다",
+				TimeUnit.MILLISECONDS.toSeconds(waitMillis + 999));
+		}
+
+		allowed.increment();
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, String scope, String outcome) {
+		return Counter.builder(METRIC_NAME)
+			.description("Login attempts checked by the login rate limiter")
+			.tag("scope", scope)
+			.tag("outcome", outcome)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,13 @@
+package com.flab.sooldama.global.ratelimit;
+
+import java.time.Duration;
+
+/*
+키마다 window 동안 limit 번까지 허용하는 슬라이딩 윈도 방식의 요청 제한입니다.
+허용하면 0 을, 거절하면 다시 시도할 수 있을 때까지 기다려야 하는 시간(밀리초)을 반환합니다.
+거절한 시도는 횟수에 포함하지 않습니다.
+ */
+public interface RateLimiter {
+
+	long tryAcquire(String key, int limit, Duration window);
+}
@@ -0,0 +1,49 @@
+package com.flab.sooldama.global.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/*
+키마다 허용한 시각을 Redis 의 sorted set 에 저장해서 모든 서버가 함께 셉니다.
+오래된 시각을 지우고, 개수를 세고, 새 시각을 추가하는 과정을 Lua 스크립트 하나로 실행하므로
+여러 서버가 동시에 같은 키를 세어도 limit 을 넘겨 허용하지 않습니다.
+
+Redis 에 장애가 나더라도 로그인은 계속 처리되어야 하므로, Redis 접근 중 발생한 예외는 로그만 남기고
+이 서버의 메모리로 세는 fallback 으로 처리합니다.
+ */
+@Slf4j
+public class RedisRateLimiter implements RateLimiter {
+
+	private static final RedisScript<Long> SLIDING_WINDOW = RedisScript.of(
+		new ClassPathResource("redis/sliding-window-rate-limit.lua"), Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	private final RateLimiter fallback;
+
+	public RedisRateLimiter(StringRedisTemplate stringRedisTemplate, RateLimiter fallback) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.fallback = fallback;
+	}
+
+	@Override
+	public long tryAcquire(String key, int limit, Duration window) {
+		try {
+			Long waitMillis = stringRedisTemplate.execute(SLIDING_WINDOW, List.of(key),
+				String.valueOf(System.currentTimeMillis()), String.valueOf(window.toMillis()),
+				String.valueOf(limit), UUID.randomUUID().toString());
+
+			return waitMillis == null ? 0L : waitMillis;
+		} catch (DataAccessException e) {
+			log.warn("Redis 요청 제한 확인에 실패해서 서버 메모리로 셉니다. key={}", key, e);
+			return fallback.tryAcquire(key, limit, window);
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package com.flab.sooldama.global.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+
+/*
+CachingSessionRepository 가 요청마다 돌려주는 세션입니다.
+캐시한 세션을 복사한 MapSession 에 읽고 쓰고, 바뀐 속성 이름을 기록해두었다가 저장할 때 원래 저장소의 세션에 반영합니다.
+원래 저장소의 세션(target)은 새로 만든 세션이거나 저장소에서 조회한 세션이면 함께 갖고 있고,
+캐시에서 꺼낸 세션이면 속성을 저장하거나 아이디를 바꿀 때 처음으로 조회합니다.
+ */
+public class CachedSession<S extends Session> implements Session {
+
+	private final MapSession snapshot;
+
+	private final Function<String, S> loader;
+
+	private final Set<String> changedAttributes = new HashSet<>();
+
+	private boolean isNew;
+
+	private String originalId;
+
+	private S target;
+
+	private boolean idChanged;
+
+	private boolean maxInactiveIntervalChanged;
+
+	CachedSession(MapSession snapshot, S target, Function<String, S> loader, boolean isNew) {
+		this.snapshot = snapshot;
+		this.target = target;
+		this.loader = loader;
+		this.isNew = isNew;
+		this.originalId = snapshot.getId();
+	}
+
+	@Override
+	public String getId() {
+		return snapshot.getId();
+	}
+
+	@Override
+	public String changeSessionId() {
+		String newId = target().changeSessionId();
+		snapshot.setId(newId);
+		idChanged = true;
+
+		return newId;
+	}
+
+	@Override
+	public <T> T getAttribute(String attributeName) {
+		return snapshot.getAttribute(attributeName);
+	}
+
+	@Override
+	public Set<String> getAttributeNames() {
+		return snapshot.getAttributeNames();
+	}
+
+	@Override
+	public void setAttribute(String attributeName, Object attributeValue) {
+		snapshot.setAttribute(attributeName, attributeValue);
+		changedAttributes.add(attributeName);
+	}
+
+	@Override
+	public void removeAttribute(String attributeName) {
+		setAttribute(attributeName, null);
+	}
+
+	@Override
+	public Instant getCreationTime() {
+		return snapshot.getCreationTime();
+	}
+
+	@Override
+	public void setLastAccessedTime(Instant lastAccessedTime) {
+		snapshot.setLastAccessedTime(lastAccessedTime);
+	}
+
+	@Override
+	public Instant getLastAccessedTime() {
+		return snapshot.getLastAccessedTime();
+	}
+
+	@Override
+	public void setMaxInactiveInterval(Duration interval) {
+		snapshot.setMaxInactiveInterval(interval);
+		maxInactiveIntervalChanged = true;
+	}
+
+	@Override
+	public Duration getMaxInactiveInterval() {
+		return snapshot.getMaxInactiveInterval();
+	}
+
+	@Override
+	public boolean isExpired() {
+		return snapshot.isExpired();
+	}
+
+	/*
+	마지막 접근 시각만 바뀐 세션은 바로 저장하지 않고 모아서 저장하므로, 그 밖의 변경이 있는지 확인합니다.
+	 */
+	boolean isDirty() {
+		return isNew || idChanged || maxInactiveIntervalChanged || !changedAttributes.isEmpty();
+	}
+
+	boolean isNew() {
+		return isNew;
+	}
+
+	String getOriginalId() {
+		return originalId;
+	}
+
+	/*
+	바뀐 내용을 원래 저장소의 세션에 반영해서 돌려줍니다. 저장한 뒤에는 다시 바뀐 내용을 기록합니다.
+	touch 가 false 이면(만료 시각을 늘리지 않는 정책이면) 마지막 접근 시각은 반영하지 않습니다.
+	 */
+	S applyChanges(boolean touch) {
+		S session = target();
+		for (String attributeName : changedAttributes) {
+			session.setAttribute(attributeName, snapshot.getAttribute(attributeName));
+		}
+		if (maxInactiveIntervalChanged) {
+			session.setMaxInactiveInterval(snapshot.getMaxInactiveInterval());
+		}
+		if (touch) {
+			session.setLastAccessedTime(snapshot.getLastAccessedTime());
+		}
+
+		changedAttributes.clear();
+		isNew = false;
+		idChanged = false;
+		maxInactiveIntervalChanged = false;
+		originalId = snapshot.getId();
+
+		return session;
+	}
+
+	private S target() {
+		if (target == null) {
+			target = loader.apply(originalId);
+		}
+		if (target == null) {
+			throw new IllegalStateException("세션 저장소에 세션이 없습니다: " + originalId);
+		}
+
+		return target;
+	}
+}
@@ -0,0 +1,227 @@
+package com.flab.sooldama.global.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+/*
+세션 저장소(Redis) 앞에 서버마다 짧게 유지하는 세션 캐시를 둡니다.
+Spring Session 은 요청마다 세션을 Redis 에서 조회하고, 마지막 접근 시각을 바꿔서 다시 저장합니다.
+제품 조회처럼 세션을 읽기만 하는 요청이 대부분이므로, 이 저장소는
+
+1) 캐시에 있는 세션은 Redis 를 조회하지 않고 돌려주고,
+2) 마지막 접근 시각만 바뀐 세션은 바로 저장하지 않고 세션마다 가장 최근 시각만 모아두었다가 flush-interval 마다 한 번 저장하며(write-behind),
+3) 속성이 바뀌거나 새로 만든 세션만 그 자리에서 저장합니다.
+
+만료 정책이 fixed 이면 마지막 접근 시각은 모으지도 저장하지도 않습니다.
+
+로그아웃(deleteById)하거나 속성을 바꾸면 Redis pub/sub 으로 세션 아이디를 알려서 모든 서버가 캐시한 세션을 지웁니다.
+메시지에는 보낸 서버의 아이디를 함께 실어서(서버 아이디@세션 아이디), 자신이 보낸 메시지를 받으면 방금 저장하고 캐시한 세션을 지우지 않도록 건너뜁니다.
+메시지를 놓친 서버도 ttl 이 지나면 Redis 에서 다시 조회합니다.
+ */
+@Slf4j
+public class CachingSessionRepository<S extends Session>
+	implements SessionRepository<CachedSession<S>>, MeterBinder {
+
+	public static final String INVALIDATION_CHANNEL = "session:cache:invalidation";
+
+	private static final String CACHE_NAME = "session";
+
+	private static final String ORIGIN_DELIMITER = "@";
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final SessionRepository<S> delegate;
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	private final Cache<String, MapSession> sessions;
+
+	private final Map<String, Instant> pendingAccessTimes = new ConcurrentHashMap<>();
+
+	private final boolean slidingExpiry;
+
+	private final ScheduledExecutorService flusher;
+
+	public CachingSessionRepository(SessionRepository<S> delegate,
+		StringRedisTemplate stringRedisTemplate, SessionCacheProperties properties,
+		SessionExpiryProperties expiryProperties) {
+		this.delegate = delegate;
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.slidingExpiry = expiryProperties.isSliding();
+		this.sessions = Caffeine.newBuilder()
+			.maximumSize(properties.getMaximumSize())
+			.expireAfterWrite(properties.getTtl())
+			.recordStats()
+			.build();
+
+		this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "session-access-flusher");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = properties.getFlushInterval().toMillis();
+		this.flusher.scheduleWithFixedDelay(this::flush, interval, interval,
+			TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public CachedSession<S> createSession() {
+		S session = delegate.createSession();
+
+		return new CachedSession<>(new MapSession(session), session, delegate::findById, true);
+	}
+
+	@Override
+	public void save(CachedSession<S> session) {
+		if (!session.isDirty()) {
+			if (slidingExpiry) {
+				deferAccessTime(session.getId(), session.getLastAccessedTime());
+			}
+			return;
+		}
+
+		boolean isNew = session.isNew();
+		String originalId = session.getOriginalId();
+
+		S saved = session.applyChanges(slidingExpiry);
+		delegate.save(saved);
+		pendingAccessTimes.remove(originalId);
+		sessions.invalidate(originalId);
+		sessions.put(saved.getId(), new MapSession(saved));
+
+		if (!isNew) {
+			publish(originalId);
+		}
+	}
+
+	@Override
+	public CachedSession<S> findById(String id) {
+		MapSession cached = sessions.getIfPresent(id);
+		if (cached != null && !cached.isExpired()) {
+			return new CachedSession<>(new MapSession(cached), null, delegate::findById, false);
+		}
+
+		sessions.invalidate(id);
+		S session = delegate.findById(id);
+		if (session == null) {
+			return null;
+		}
+
+		MapSession snapshot = new MapSession(session);
+		Instant pending = pendingAccessTimes.get(id);
+		if (pending != null && pending.isAfter(snapshot.getLastAccessedTime())) {
+			snapshot.setLastAccessedTime(pending);
+		}
+		sessions.put(id, new MapSession(snapshot));
+
+		return new CachedSession<>(snapshot, session, delegate::findById, false);
+	}
+
+	@Override
+	public void deleteById(String id) {
+		pendingAccessTimes.remove(id);
+		delegate.deleteById(id);
+		sessions.invalidate(id);
+		publish(id);
+	}
+
+	/*
+	다른 서버가 보낸 무효화 메시지를 받았을 때 이 서버의 캐시만 지웁니다.
+	모아둔 마지막 접근 시각은 지우지 않습니다. 세션이 삭제되었다면 flush 할 때 저장소에서 찾지 못해 건너뜁니다.
+	 */
+	public void evictLocal(String id) {
+		sessions.invalidate(id);
+	}
+
+	/*
+	무효화 메시지에서 보낸 서버의 아이디를 떼어내고, 다른 서버가 보낸 메시지일 때만 캐시에서 지웁니다.
+	서버 아이디가 없는 메시지(이전 버전 서버가 보낸 메시지)는 다른 서버가 보낸 것으로 봅니다.
+	 */
+	public void onInvalidation(String message) {
+		int delimiter = message.indexOf(ORIGIN_DELIMITER);
+		if (delimiter >= 0 && nodeId.equals(message.substring(0, delimiter))) {
+			return;
+		}
+
+		evictLocal(message.substring(delimiter + 1));
+	}
+
+	/*
+	모아둔 마지막 접근 시각을 세션마다 한 번씩 저장합니다.
+	저장소의 시각이 더 최근이면(다른 서버가 먼저 저장했으면) 저장하지 않습니다.
+	 */
+	public void flush() {
+		for (String id : pendingAccessTimes.keySet()) {
+			Instant lastAccessedTime = pendingAccessTimes.remove(id);
+			if (lastAccessedTime == null) {
+				continue;
+			}
+
+			try {
+				S session = delegate.findById(id);
+				if (session != null && session.getLastAccessedTime().isBefore(lastAccessedTime)) {
+					session.setLastAccessedTime(lastAccessedTime);
+					delegate.save(session);
+				}
+			} catch (DataAccessException e) {
+				log.warn("세션 마지막 접근 시각 저장에 실패했습니다. id={}", id, e);
+			}
+		}
+	}
+
+	public int pendingCount() {
+		return pendingAccessTimes.size();
+	}
+
+	/*
+	destroyMethod 를 지정하지 않아도 스프링이 shutdown 메서드를 찾아 컨텍스트 종료 시 호출합니다.
+	종료하기 전에 모아둔 마지막 접근 시각을 저장해서, 서버를 내려도 사용자의 세션이 일찍 만료되지 않도록 합니다.
+	 */
+	public void shutdown() {
+		flusher.shutdown();
+		flush();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, sessions, CACHE_NAME);
+		Gauge.builder("session.access.pending", pendingAccessTimes, Map::size)
+			.description("Sessions whose last accessed time has not been flushed yet")
+			.register(registry);
+	}
+
+	private void deferAccessTime(String id, Instant lastAccessedTime) {
+		pendingAccessTimes.merge(id, lastAccessedTime,
+			(previous, current) -> current.isAfter(previous) ? current : previous);
+
+		MapSession cached = sessions.getIfPresent(id);
+		if (cached != null && lastAccessedTime.isAfter(cached.getLastAccessedTime())) {
+			cached.setLastAccessedTime(lastAccessedTime);
+		}
+	}
+
+	private void publish(String id) {
+		try {
+			stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + ORIGIN_DELIMITER + id);
+		} catch (DataAccessException e) {
+			log.warn("세션 캐시 무효화 메시지 발행에 실패했습니다. id={}", id, e);
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package com.flab.sooldama.global.session;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/*
+Spring Session 이 세션 해시에 저장하는 값을 직렬화합니다.
+기본 직렬화(JDK)는 값마다 클래스 정보를 함께 저장해서, 세션마다 저장하는 생성 시각(Long) 하나가 80byte 가 넘습니다.
+세션에 저장하는 값은 대부분 문자열과 숫자이므로 타입을 나타내는 1byte 뒤에 값만 저장하고,
+그 밖의 타입은 JDK 직렬화로 저장합니다.
+
+JDK 직렬화 결과는 항상 0xACED 로 시작하므로 타입 byte 와 겹치지 않습니다.
+따라서 이 직렬화를 적용하기 전에 JDK 직렬화로 저장된 세션도 그대로 읽을 수 있습니다.
+
+반대로 이 직렬화가 없는 이전 버전 서버는 압축 형식을 읽지 못합니다. 생성 시각, 마지막 접근 시각, 만료 시간처럼
+모든 세션에 있는 값이 압축 형식으로 저장되므로, 두 버전이 함께 실행되는 동안 압축 형식으로 쓰면 이전 버전 서버로 간 요청은 세션을 읽지 못합니다.
+그래서 writeCompact 가 false 이면 읽기만 두 형식을 지원하고 쓰기는 JDK 직렬화로 하며, 다음 두 단계로 배포합니다.
+1. session.serializer.write-compact: false 로 모든 서버를 배포합니다. 모든 서버가 두 형식을 읽을 수 있게 됩니다.
+2. 모든 서버가 바뀐 뒤 session.serializer.write-compact: true 로 다시 배포합니다.
+되돌릴 때도 같은 순서를 거꾸로 밟아, write-compact 를 먼저 false 로 바꾼 뒤 이 직렬화가 없는 버전으로 내립니다.
+ */
+public class CompactSessionSerializer implements RedisSerializer<Object> {
+
+	private static final byte[] EMPTY = new byte[0];
+
+	private static final byte STRING = 1;
+
+	private static final byte LONG = 2;
+
+	private static final byte INTEGER = 3;
+
+	private static final byte BOOLEAN = 4;
+
+	private final JdkSerializationRedisSerializer fallback = new JdkSerializationRedisSerializer();
+
+	private final boolean writeCompact;
+
+	public CompactSessionSerializer() {
+		this(true);
+	}
+
+	public CompactSessionSerializer(boolean writeCompact) {
+		this.writeCompact = writeCompact;
+	}
+
+	@Override
+	public byte[] serialize(Object value) throws SerializationException {
+		if (value == null) {
+			return EMPTY;
+		}
+		if (!writeCompact) {
+			return fallback.serialize(value);
+		}
+		if (value instanceof String) {
+			byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+			return ByteBuffer.allocate(1 + bytes.length).put(STRING).put(bytes).array();
+		}
+		if (value instanceof Long) {
+			return ByteBuffer.allocate(1 + Long.BYTES).put(LONG).putLong((Long) value).array();
+		}
+		if (value instanceof Integer) {
+			return ByteBuffer.allocate(1 + Integer.BYTES).put(INTEGER).putInt((Integer) value)
+				.array();
+		}
+		if (value instanceof Boolean) {
+			return new byte[]{BOOLEAN, (byte) ((Boolean) value ? 1 : 0)};
+		}
+
+		return fallback.serialize(value);
+	}
+
+	@Override
+	public Object deserialize(byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+
+		ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+		switch (bytes[0]) {
+			case STRING:
+				return new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+			case LONG:
+				return buffer.getLong();
+			case INTEGER:
+				return buffer.getInt();
+			case BOOLEAN:
+				return buffer.get() != 0;
+			default:
+				return fallback.deserialize(bytes);
+		}
+	}
+}
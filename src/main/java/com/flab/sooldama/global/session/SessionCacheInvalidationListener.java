@@ -0,0 +1,21 @@
+package com.flab.sooldama.global.session;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+/*
+Redis pub/sub 으로 전달된 세션 아이디를 받아 이 서버의 세션 캐시에서 지웁니다.
+로그아웃하거나 로그인 정보를 바꾼 서버 자신도 메시지를 받으므로, 자신이 보낸 메시지는 CachingSessionRepository 가 건너뜁니다.
+ */
+@RequiredArgsConstructor
+public class SessionCacheInvalidationListener implements MessageListener {
+
+	private final CachingSessionRepository<?> sessionRepository;
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		sessionRepository.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,23 @@
+package com.flab.sooldama.global.session;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+application.yml 의 session.cache 하위 설정값을 바인딩합니다.
+ttl 은 다른 서버의 무효화 메시지를 놓쳤을 때 이전 세션 정보를 읽을 수 있는 최대 시간이고,
+flush-interval 은 마지막 접근 시각을 모아서 저장하는 주기입니다. 둘 다 세션 만료 시간보다 충분히 짧아야 합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "session.cache")
+public class SessionCacheProperties {
+
+	private Duration ttl = Duration.ofSeconds(5);
+
+	private long maximumSize = 10_000L;
+
+	private Duration flushInterval = Duration.ofSeconds(10);
+}
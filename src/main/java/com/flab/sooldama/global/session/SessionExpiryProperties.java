@@ -0,0 +1,29 @@
+package com.flab.sooldama.global.session;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+application.yml 의 session.expiry 하위 설정값을 바인딩합니다. 프로필마다 다르게 설정할 수 있습니다.
+sliding 은 요청이 올 때마다 만료 시각이 timeout 만큼 늘어나고, fixed 는 로그인한 뒤 timeout 이 지나면 요청과 상관없이 만료됩니다.
+fixed 는 마지막 접근 시각을 저장하지 않으므로 세션 저장소에 쓰는 횟수가 더 적습니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "session.expiry")
+public class SessionExpiryProperties {
+
+	private Duration timeout = Duration.ofMinutes(30);
+
+	private Policy policy = Policy.SLIDING;
+
+	public boolean isSliding() {
+		return policy == Policy.SLIDING;
+	}
+
+	public enum Policy {
+		SLIDING, FIXED
+	}
+}
@@ -0,0 +1,85 @@
+package com.flab.sooldama.global.session;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.lang.Nullable;
+
+/*
+/actuator/sessionsize 로 Redis 에 저장된 세션 해시의 크기를 확인합니다.
+sample 개의 세션 키를 SCAN 으로 찾아 키, 필드, 값의 byte 수를 더하고, users 파라미터를 주면 평균 크기로
+동시 사용자 수만큼의 세션에 필요한 메모리를 계산합니다.
+Redis 가 키마다 추가로 사용하는 메모리와 만료 시각을 관리하는 키는 포함하지 않으므로, 실제 사용량은 이보다 조금 큽니다.
+ */
+@Endpoint(id = "sessionsize")
+@RequiredArgsConstructor
+public class SessionSizeEndpoint {
+
+	private static final int DEFAULT_SAMPLE = 100;
+
+	private static final String EXPIRES_KEY = ":expires:";
+
+	private final RedisConnectionFactory redisConnectionFactory;
+
+	private final String redisNamespace;
+
+	@ReadOperation
+	public SessionSizeReport sessionSize(@Nullable Integer sample, @Nullable Long users) {
+		int limit = sample == null ? DEFAULT_SAMPLE : sample;
+		ScanOptions options = ScanOptions.scanOptions()
+			.match(redisNamespace + ":sessions:*")
+			.count(limit)
+			.build();
+
+		int sessions = 0;
+		long totalBytes = 0;
+		long maxBytes = 0;
+		try (RedisConnection connection = redisConnectionFactory.getConnection();
+			Cursor<byte[]> keys = connection.keyCommands().scan(options)) {
+			while (sessions < limit && keys.hasNext()) {
+				byte[] key = keys.next();
+				if (new String(key, StandardCharsets.UTF_8).contains(EXPIRES_KEY)) {
+					continue;
+				}
+
+				long bytes = sizeOf(key, connection.hashCommands().hGetAll(key));
+				sessions++;
+				totalBytes += bytes;
+				maxBytes = Math.max(maxBytes, bytes);
+			}
+		}
+
+		long averageBytes = sessions == 0 ? 0 : totalBytes / sessions;
+		return new SessionSizeReport(sessions, averageBytes, maxBytes,
+			users == null ? null : averageBytes * users);
+	}
+
+	private static long sizeOf(byte[] key, Map<byte[], byte[]> hash) {
+		long bytes = key.length;
+		if (hash != null) {
+			for (Map.Entry<byte[], byte[]> field : hash.entrySet()) {
+				bytes += field.getKey().length + field.getValue().length;
+			}
+		}
+
+		return bytes;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class SessionSizeReport {
+
+		private final int sampledSessions;
+		private final long averageBytes;
+		private final long maxBytes;
+		private final Long estimatedBytes;
+	}
+}
@@ -0,0 +1,105 @@
+package com.flab.sooldama.global.thread;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/*
+스레드 수와 대기열 길이가 고정된 스레드 풀에서 작업을 실행합니다.
+대기열이 가득 차면 기다리게 하지 않고, rejection 이 만든 예외를 호출한 스레드에서 바로 던집니다.
+
+name 이 password.hashing 이면 스레드 이름은 password-hashing-1 처럼 만들고, 다음 지표를 MeterRegistry 에 등록합니다.
+- {name}.queue.size: 대기열에서 기다리는 작업 수
+- {name}.active: 작업을 실행 중인 스레드 수
+- {name}.wait: 작업이 대기열에 들어간 뒤 실행되기까지 기다린 시간
+- {name}.rejected: 대기열이 가득 차 거절한 작업 수
+
+virtualThreads 가 true 이면 같은 수의 스레드를 가상 스레드로 만듭니다. (Java 21 이상)
+스레드 수와 대기열 길이 제한은 그대로이므로, 동시에 실행되는 작업 수와 거절 기준은 플랫폼 스레드일 때와 같습니다.
+ */
+public class BoundedExecutor {
+
+	private final ThreadPoolExecutor executor;
+
+	private final Supplier<? extends RuntimeException> rejection;
+
+	private final Timer waitTimer;
+
+	private final Counter rejectedCounter;
+
+	public BoundedExecutor(String name, int poolSize, int queueCapacity,
+		Supplier<? extends RuntimeException> rejection, MeterRegistry registry) {
+		this(name, poolSize, queueCapacity, false, rejection, registry);
+	}
+
+	public BoundedExecutor(String name, int poolSize, int queueCapacity, boolean virtualThreads,
+		Supplier<? extends RuntimeException> rejection, MeterRegistry registry) {
+		if (poolSize < 1 || queueCapacity < 1) {
+			throw new IllegalArgumentException(name + " 스레드 풀 설정값이 올바르지 않습니다");
+		}
+
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			threadFactory(name.replace('.', '-') + "-", virtualThreads),
+			new ThreadPoolExecutor.AbortPolicy());
+		this.rejection = rejection;
+
+		Gauge.builder(name + ".queue.size", executor, pool -> pool.getQueue().size())
+			.register(registry);
+		Gauge.builder(name + ".active", executor, ThreadPoolExecutor::getActiveCount)
+			.register(registry);
+		this.waitTimer = Timer.builder(name + ".wait").register(registry);
+		this.rejectedCounter = Counter.builder(name + ".rejected").register(registry);
+	}
+
+	private static ThreadFactory threadFactory(String namePrefix, boolean virtualThreads) {
+		if (virtualThreads) {
+			return VirtualThreads.newThreadFactory(namePrefix);
+		}
+
+		return new CustomizableThreadFactory(namePrefix);
+	}
+
+	/*
+	task 는 풀의 스레드에서 실행되고, 반환된 CompletableFuture 는 task 의 결과나 예외로 완료됩니다.
+	대기열이 가득 차면 task 를 실행하지 않고 호출한 스레드에서 바로 예외를 던집니다.
+	 */
+	public <T> CompletableFuture<T> submit(Supplier<T> task) {
+		long submittedAt = System.nanoTime();
+		Supplier<T> decorated = decorate(task);
+
+		try {
+			return CompletableFuture.supplyAsync(() -> {
+				waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+				return decorated.get();
+			}, executor);
+		} catch (RejectedExecutionException e) {
+			rejectedCounter.increment();
+			throw rejection.get();
+		}
+	}
+
+	/*
+	호출한 스레드에서 불립니다. 호출한 스레드의 상태를 풀의 스레드로 넘겨야 하면 재정의합니다.
+	 */
+	protected <T> Supplier<T> decorate(Supplier<T> task) {
+		return task;
+	}
+
+	public int getQueueSize() {
+		return executor.getQueue().size();
+	}
+
+	public void shutdown() {
+		executor.shutdown();
+	}
+}
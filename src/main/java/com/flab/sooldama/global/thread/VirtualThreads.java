@@ -0,0 +1,90 @@
+package com.flab.sooldama.global.thread;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/*
+작업마다 가상 스레드를 하나씩 만들어 실행하는 ExecutorService 를 만듭니다.
+가상 스레드는 Java 21 부터 사용할 수 있고 프로젝트는 Java 17 로 컴파일하므로, Thread.ofVirtual() 을 리플렉션으로 호출합니다.
+Java 21 미만에서 실행하면 IllegalStateException 을 던집니다.
+
+가상 스레드는 소켓 응답을 기다리는 동안 캐리어(플랫폼) 스레드를 놓아주므로, 요청 수만큼 플랫폼 스레드를 만들지 않아도 됩니다.
+단, Java 21~23 에서는 synchronized 블록 안에서 기다리면 캐리어 스레드를 붙잡은 채(pinning) 기다립니다.
+지금 쓰는 MySQL 드라이버(8.0.33)의 JDBC 호출이 그런 경우입니다. (application-virtual-threads.yml 참고)
+ */
+public final class VirtualThreads {
+
+	private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+
+	private static final Method IS_VIRTUAL = findMethod(Thread.class, "isVirtual");
+
+	private VirtualThreads() {
+	}
+
+	public static boolean isSupported() {
+		return OF_VIRTUAL != null;
+	}
+
+	/*
+	스레드 이름은 namePrefix 뒤에 0 부터 1씩 늘어나는 번호를 붙입니다. 예) tomcat-virtual-0
+	 */
+	public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+		ThreadFactory factory = newThreadFactory(namePrefix);
+
+		try {
+			return (ExecutorService) Executors.class
+				.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+				.invoke(null, factory);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("가상 스레드 실행기를 만들 수 없습니다", unwrap(e));
+		}
+	}
+
+	/*
+	가상 스레드를 만드는 ThreadFactory 입니다. 크기가 정해진 스레드 풀(BoundedExecutor)이 가상 스레드를 쓸 때 사용합니다.
+	 */
+	public static ThreadFactory newThreadFactory(String namePrefix) {
+		if (!isSupported()) {
+			throw new IllegalStateException(
+				"가상 스레드는 Java 21 이상에서 사용할 수 있습니다. 현재 버전: " + Runtime.version());
+		}
+
+		try {
+			Object builder = OF_VIRTUAL.invoke(null);
+			Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+			builder = builderType.getMethod("name", String.class, long.class)
+				.invoke(builder, namePrefix, 0L);
+
+			return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("가상 스레드 실행기를 만들 수 없습니다", unwrap(e));
+		}
+	}
+
+	public static boolean isVirtual(Thread thread) {
+		if (IS_VIRTUAL == null) {
+			return false;
+		}
+
+		try {
+			return (boolean) IS_VIRTUAL.invoke(thread);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("가상 스레드 여부를 확인할 수 없습니다", unwrap(e));
+		}
+	}
+
+	private static Method findMethod(Class<?> type, String name) {
+		try {
+			return type.getMethod(name);
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	private static Throwable unwrap(ReflectiveOperationException e) {
+		return e instanceof InvocationTargetException ? e.getCause() : e;
+	}
+}
@@ -0,0 +1,18 @@
+-- 슬라이딩 윈도 요청 제한입니다. RedisRateLimiter 가 실행합니다.
+-- KEYS[1]: 허용한 시각(밀리초)을 저장하는 sorted set
+-- ARGV[1]: 현재 시각(밀리초), ARGV[2]: 윈도 길이(밀리초), ARGV[3]: 윈도 안에서 허용할 횟수, ARGV[4]: 이번 시도의 고유 값
+-- 허용하면 0 을, 거절하면 가장 오래된 시도가 윈도를 벗어날 때까지 남은 시간(밀리초)을 반환합니다.
+local now = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local limit = tonumber(ARGV[3])
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+
+if redis.call('ZCARD', KEYS[1]) < limit then
+  redis.call('ZADD', KEYS[1], now, ARGV[4])
+  redis.call('PEXPIRE', KEYS[1], window)
+  return 0
+end
+
+local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+return math.max(1, tonumber(oldest[2]) + window - now)
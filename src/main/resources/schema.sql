@@ -80,7 +80,7 @@ CREATE TABLE `product` (
 
 CREATE TABLE `product_category` (
   `id` bigint PRIMARY KEY NOT NULL AUTO_INCREMENT,
-  `name` varchar(255) NOT NULL,
+  `name` varchar(255) UNIQUE NOT NULL,
   `description` varchar(2000) NOT NULL,
   `image_url` varchar(2000) NOT NULL
 );
@@ -104,3 +104,5 @@ ALTER TABLE `review` ADD FOREIGN KEY (`user_id`) REFERENCES `user` (`id`);
 ALTER TABLE `product` ADD FOREIGN KEY (`product_category_id`) REFERENCES `product_category` (`id`);
 ALTER TABLE `subscription_product_box_product` ADD FOREIGN KEY (`product_id`) REFERENCES `product` (`id`);
 ALTER TABLE `subscription_product_box_product` ADD FOREIGN KEY (`subscription_product_box_id`) REFERENCES `subscription_product_box` (`id`);
+
+CREATE INDEX `idx_product_category_id_id` ON `product` (`product_category_id`, `id`);
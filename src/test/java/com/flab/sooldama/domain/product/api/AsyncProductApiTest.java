@@ -0,0 +1,282 @@
+package com.flab.sooldama.domain.product.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flab.sooldama.domain.product.cache.ProductPageBody;
+import com.flab.sooldama.domain.product.dto.response.ProductPageResponse;
+import com.flab.sooldama.domain.product.dto.response.ProductResponse;
+import com.flab.sooldama.domain.product.exception.ProductNotFoundException;
+import com.flab.sooldama.domain.product.exception.ProductReadRejectedException;
+import com.flab.sooldama.domain.product.service.AsyncProductService;
+import com.flab.sooldama.domain.product.service.ProductDetail;
+import com.flab.sooldama.global.config.ProductHttpCacheConfig;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.servlet.http.HttpSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/*
+product.read.mode 가 async 일 때 /products 요청을 AsyncProductApi 가 처리하고, ProductApi 와 같은 JSON 으로 응답하는지 검증합니다.
+ */
+@WebMvcTest(controllers = AsyncProductApi.class, properties = "product.read.mode=async")
+@Import(ProductHttpCacheConfig.class)
+public class AsyncProductApiTest {
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@MockBean
+	AsyncProductService asyncProductService;
+
+	private ProductResponse product;
+
+	private MockHttpSession session;
+
+	private static final Integer DEFAULT_OFFSET = 0;
+
+	private static final Integer DEFAULT_LIMIT = 20;
+
+	private static final Long PRODUCT_ID = 1L;
+
+	private static final String SESSION_ATTR_KEY_FOR_AUTH = "USER_EMAIL";
+
+	private static final String SESSION_ATTR_VALUE_FOR_AUTH = "test@tester.com";
+
+	private static final String ETAG = "\"0123abc\"";
+
+	private static final long LAST_MODIFIED = 1664582400000L;
+
+	@BeforeEach
+	public void setUp() {
+		this.product = ProductResponse.builder()
+			.id(PRODUCT_ID)
+			.productCategoryId(1L)
+			.name("백련 미스티 살균 막걸리")
+			.price(4500)
+			.imageUrl("https://www.sooldamhwa.com/images/common/mainLogo.png")
+			.description("연꽃이 들어간 살균 막걸리")
+			.abv(7.0)
+			.capacity(375)
+			.build();
+
+		this.session = new MockHttpSession();
+		this.session.setAttribute(SESSION_ATTR_KEY_FOR_AUTH, SESSION_ATTR_VALUE_FOR_AUTH);
+	}
+
+	@Test
+	@DisplayName("조회가 끝나면 ProductApi 와 같은 JSON 과 ETag 로 응답한다")
+	public void testGetProductsRespondsWithSameJson() throws Exception {
+		ProductPageResponse pageResponse = ProductPageResponse.builder()
+			.products(List.of(product))
+			.limit(DEFAULT_LIMIT)
+			.hasNext(false)
+			.build();
+
+		when(asyncProductService.getProductsBody(DEFAULT_OFFSET, DEFAULT_LIMIT, null, this.session))
+			.thenReturn(CompletableFuture.completedFuture(body(pageResponse)));
+
+		MvcResult result = this.mockMvc
+			.perform(get("/products")
+				.session(this.session))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		this.mockMvc.perform(asyncDispatch(result))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+			.andExpect(header().string(HttpHeaders.ETAG, ETAG))
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, private"))
+			.andExpect(content().json(objectMapper.writeValueAsString(pageResponse), true));
+	}
+
+	@Test
+	@DisplayName("If-None-Match 가 목록 본문의 ETag 와 같으면 본문 없이 304 로 응답")
+	public void testGetProductsReturnsNotModifiedWhenEtagMatches() throws Exception {
+		ProductPageResponse pageResponse = ProductPageResponse.builder()
+			.products(List.of(product))
+			.limit(DEFAULT_LIMIT)
+			.hasNext(false)
+			.build();
+
+		when(asyncProductService.getProductsBody(DEFAULT_OFFSET, DEFAULT_LIMIT, null, this.session))
+			.thenReturn(CompletableFuture.completedFuture(body(pageResponse)));
+
+		MvcResult result = this.mockMvc
+			.perform(get("/products")
+				.header(HttpHeaders.IF_NONE_MATCH, ETAG)
+				.session(this.session))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		this.mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.ETAG, ETAG))
+			.andExpect(content().string(""));
+	}
+
+	@Test
+	@DisplayName("after 파라미터가 있으면 커서 기반 페이지네이션으로 조회")
+	public void testGetProductsAfter() throws Exception {
+		ProductPageResponse pageResponse = ProductPageResponse.builder()
+			.products(List.of(product))
+			.limit(DEFAULT_LIMIT)
+			.hasNext(true)
+			.nextCursor("MQ")
+			.build();
+
+		when(asyncProductService.getProductsAfterBody("", DEFAULT_LIMIT, null, this.session))
+			.thenReturn(CompletableFuture.completedFuture(body(pageResponse)));
+
+		MvcResult result = this.mockMvc
+			.perform(get("/products")
+				.param("after", "")
+				.session(this.session))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		this.mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, ETAG))
+			.andExpect(content().json(objectMapper.writeValueAsString(pageResponse), true));
+	}
+
+	@Test
+	@DisplayName("요청 파라미터 값이 유효하지 않으면 조회를 맡기지 않고 실패")
+	public void testGetProductsFailWithInvalidParameter() throws Exception {
+		this.mockMvc
+			.perform(get("/products")
+				.param("offset", "-1")
+				.session(this.session))
+			.andExpect(status().isBadRequest());
+
+		verify(asyncProductService, never()).getProductsBody(any(Integer.class), any(Integer.class),
+			any(), any(HttpSession.class));
+	}
+
+	@Test
+	@DisplayName("아이디로 제품 조회 성공 테스트")
+	public void testGetProductWithProductId() throws Exception {
+		when(asyncProductService.getProductById(PRODUCT_ID, this.session))
+			.thenReturn(CompletableFuture.completedFuture(
+				new ProductDetail(product, LAST_MODIFIED)));
+
+		MvcResult result = this.mockMvc
+			.perform(get("/products/{PRODUCT_ID}", PRODUCT_ID)
+				.session(this.session))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		this.mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andExpect(content().json(objectMapper.writeValueAsString(product), true));
+	}
+
+	@Test
+	@DisplayName("아이디로 조회한 제품의 ETag 로 다시 요청하면 본문 없이 304 로 응답")
+	public void testGetProductReturnsNotModifiedWhenEtagMatches() throws Exception {
+		when(asyncProductService.getProductById(PRODUCT_ID, this.session))
+			.thenReturn(CompletableFuture.completedFuture(
+				new ProductDetail(product, LAST_MODIFIED)));
+
+		MvcResult first = this.mockMvc
+			.perform(get("/products/{PRODUCT_ID}", PRODUCT_ID)
+				.session(this.session))
+			.andReturn();
+		String etag = this.mockMvc.perform(asyncDispatch(first))
+			.andExpect(status().isOk())
+			.andExpect(header().exists(HttpHeaders.ETAG))
+			.andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, LAST_MODIFIED))
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+
+		MvcResult second = this.mockMvc
+			.perform(get("/products/{PRODUCT_ID}", PRODUCT_ID)
+				.header(HttpHeaders.IF_NONE_MATCH, etag)
+				.session(this.session))
+			.andReturn();
+		this.mockMvc.perform(asyncDispatch(second))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, private"))
+			.andExpect(content().string(""));
+	}
+
+	@Test
+	@DisplayName("마지막 수정 시각 이후로 바뀌지 않았으면 ProductApi 와 같이 본문 없이 304 로 응답")
+	public void testGetProductReturnsNotModifiedSinceLastModified() throws Exception {
+		when(asyncProductService.getProductById(PRODUCT_ID, this.session))
+			.thenReturn(CompletableFuture.completedFuture(
+				new ProductDetail(product, LAST_MODIFIED)));
+
+		MvcResult result = this.mockMvc
+			.perform(get("/products/{PRODUCT_ID}", PRODUCT_ID)
+				.header(HttpHeaders.IF_MODIFIED_SINCE, LAST_MODIFIED)
+				.session(this.session))
+			.andReturn();
+
+		this.mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isNotModified())
+			.andExpect(content().string(""));
+	}
+
+	@Test
+	@DisplayName("조회 스레드에서 던진 예외도 같은 상태 코드로 응답한다")
+	public void testGetProductFailWhenIdNotExists() throws Exception {
+		when(asyncProductService.getProductById(PRODUCT_ID, this.session))
+			.thenReturn(CompletableFuture.failedFuture(
+				new ProductNotFoundException("제품이 존재하지 않습니다.")));
+
+		MvcResult result = this.mockMvc
+			.perform(get("/products/{PRODUCT_ID}", PRODUCT_ID)
+				.session(this.session))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		this.mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isNotFound());
+	}
+
+	@Test
+	@DisplayName("조회 대기열이 가득 차면 503 으로 바로 응답한다")
+	public void testGetProductsFailWhenReadRejected() throws Exception {
+		when(asyncProductService.getProductsBody(DEFAULT_OFFSET, DEFAULT_LIMIT, null, this.session))
+			.thenThrow(new ProductReadRejectedException("요청이 많아 잠시 후 다시 시도해주세요"));
+
+		this.mockMvc
+			.perform(get("/products")
+				.session(this.session))
+			.andExpect(status().isServiceUnavailable())
+			.andExpect(header().string("Retry-After", "1"));
+	}
+
+	private ProductPageBody body(ProductPageResponse pageResponse) throws Exception {
+		return new ProductPageBody(objectMapper.writeValueAsBytes(pageResponse), ETAG,
+			pageResponse.getProducts().size());
+	}
+}
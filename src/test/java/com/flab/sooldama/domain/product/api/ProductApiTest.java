@@ -7,11 +7,19 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flab.sooldama.domain.product.cache.ProductPageBody;
+import com.flab.sooldama.domain.product.dto.response.ProductPageResponse;
 import com.flab.sooldama.domain.product.dto.response.ProductResponse;
 import com.flab.sooldama.domain.product.exception.ProductNotFoundException;
+import com.flab.sooldama.domain.product.service.ProductDetail;
 import com.flab.sooldama.domain.product.service.ProductService;
+import com.flab.sooldama.global.config.ProductHttpCacheConfig;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -23,10 +31,14 @@ import org.mockito.InjectMocks;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(controllers = ProductApi.class)
+@Import(ProductHttpCacheConfig.class)
 public class ProductApiTest {
 
 	@Autowired
@@ -38,6 +50,9 @@ public class ProductApiTest {
 	@MockBean
 	ProductService productService;
 
+	@Autowired
+	ObjectMapper objectMapper;
+
 	private List<ProductResponse> products;
 
 	private MockHttpSession session;
@@ -46,12 +61,16 @@ public class ProductApiTest {
 
 	private static final Integer DEFAULT_LIMIT = 20;
 
+	private static final Integer MAX_LIMIT = 100;
+
 	private static final Long DEFAULT_CATEGORY_ID = null;
 
 	private static final String SESSION_ATTR_KEY_FOR_AUTH = "USER_EMAIL";
 
 	private static final String SESSION_ATTR_VALUE_FOR_AUTH = "test@tester.com";
 
+	private static final String ETAG = "\"0123abc\"";
+
 	@BeforeEach
 	public void setUp() {
 		ProductResponse product1 = ProductResponse.builder()
@@ -95,9 +114,14 @@ public class ProductApiTest {
 	@DisplayName("한 번에 여러 제품 조회 시 기본값 적용")
 	public void testGetProductsWithDefaultParameters() throws Exception {
 		// 테스트 데이터 및 동작 정의
-		when(productService.getProducts(DEFAULT_OFFSET, DEFAULT_LIMIT, DEFAULT_CATEGORY_ID,
+		ProductPageResponse pageResponse = ProductPageResponse.builder()
+			.products(this.products)
+			.limit(DEFAULT_LIMIT)
+			.build();
+
+		when(productService.getProductsBody(DEFAULT_OFFSET, DEFAULT_LIMIT, DEFAULT_CATEGORY_ID,
 			this.session))
-			.thenReturn(this.products);
+			.thenReturn(body(pageResponse));
 
 		// 실행
 		this.mockMvc
@@ -106,10 +130,13 @@ public class ProductApiTest {
 				.param("limit", DEFAULT_LIMIT.toString())
 				.session(this.session))
 			.andDo(print())
-			.andExpect(status().isOk());
+			.andExpect(status().isOk())
+			.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+			.andExpect(header().string(HttpHeaders.ETAG, ETAG))
+			.andExpect(jsonPath("$.products.length()").value(this.products.size()));
 
 		// 행위 검증
-		verify(productService).getProducts(DEFAULT_OFFSET, DEFAULT_LIMIT, DEFAULT_CATEGORY_ID,
+		verify(productService).getProductsBody(DEFAULT_OFFSET, DEFAULT_LIMIT, DEFAULT_CATEGORY_ID,
 			this.session);
 	}
 
@@ -129,6 +156,87 @@ public class ProductApiTest {
 			.andExpect(status().isBadRequest());
 	}
 
+	@Test
+	@DisplayName("If-None-Match 가 목록 본문의 ETag 와 같으면 본문 없이 304 로 응답")
+	public void testGetProductsReturnsNotModifiedWhenEtagMatches() throws Exception {
+		// 테스트 데이터 및 동작 정의
+		ProductPageResponse pageResponse = ProductPageResponse.builder()
+			.products(this.products)
+			.limit(DEFAULT_LIMIT)
+			.build();
+
+		when(productService.getProductsBody(DEFAULT_OFFSET, DEFAULT_LIMIT, DEFAULT_CATEGORY_ID,
+			this.session))
+			.thenReturn(body(pageResponse));
+
+		// 실행
+		this.mockMvc
+			.perform(get("/products")
+				.header(HttpHeaders.IF_NONE_MATCH, ETAG)
+				.session(this.session))
+			.andDo(print())
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.ETAG, ETAG))
+			.andExpect(content().string(""));
+	}
+
+	@Test
+	@DisplayName("limit 이 최대 페이지 크기를 넘으면 최대 크기로 줄여서 조회")
+	public void testGetProductsClampsLimitToMaxSize() throws Exception {
+		// 테스트 데이터 및 동작 정의
+		when(productService.getProductsBody(any(Integer.class), any(Integer.class), any(),
+			any(HttpSession.class)))
+			.thenReturn(body(ProductPageResponse.builder().products(this.products).build()));
+
+		// 실행
+		this.mockMvc
+			.perform(get("/products")
+				.param("limit", "10000000")
+				.session(this.session))
+			.andDo(print())
+			.andExpect(status().isOk());
+
+		// 행위 검증
+		verify(productService).getProductsBody(DEFAULT_OFFSET, MAX_LIMIT, DEFAULT_CATEGORY_ID,
+			this.session);
+	}
+
+	@Test
+	@DisplayName("limit 이 1 보다 작거나 숫자가 아니면 제품 조회 실패")
+	public void testGetProductsFailWithInvalidLimit() throws Exception {
+		// 실행
+		this.mockMvc
+			.perform(get("/products")
+				.param("limit", "0")
+				.session(this.session))
+			.andExpect(status().isBadRequest());
+		this.mockMvc
+			.perform(get("/products")
+				.param("limit", "many")
+				.session(this.session))
+			.andExpect(status().isBadRequest());
+
+		// 행위 검증
+		verify(productService, never()).getProductsBody(any(Integer.class), any(Integer.class),
+			any(), any(HttpSession.class));
+	}
+
+	@Test
+	@DisplayName("커서 기반 조회는 limit 이 최대 페이지 크기를 넘으면 실패")
+	public void testGetProductsAfterFailWhenLimitExceedsMaxSize() throws Exception {
+		// 실행
+		this.mockMvc
+			.perform(get("/products")
+				.param("after", "")
+				.param("limit", String.valueOf(MAX_LIMIT + 1))
+				.session(this.session))
+			.andExpect(status().isBadRequest());
+
+		// 행위 검증
+		verify(productService, never()).getProductsAfterBody(any(), any(Integer.class), any(),
+			any(HttpSession.class));
+	}
+
 	@Test
 	@DisplayName("아이디로 제품 조회 성공 테스트")
 	public void testGetProductWithProductId() throws Exception {
@@ -136,7 +244,7 @@ public class ProductApiTest {
 		Long PRODUCT_ID = 1L;
 
 		when(productService.getProductById(PRODUCT_ID, this.session)).thenReturn(
-			this.products.get(0));
+			new ProductDetail(this.products.get(0), 0L));
 
 		// 실행
 		this.mockMvc
@@ -149,6 +257,77 @@ public class ProductApiTest {
 		verify(productService).getProductById(PRODUCT_ID, this.session);
 	}
 
+	@Test
+	@DisplayName("제품이 바뀌지 않았으면 본문 없이 304 로 응답")
+	public void testGetProductReturnsNotModifiedWhenUnchanged() throws Exception {
+		// 테스트 데이터 및 동작 정의
+		Long PRODUCT_ID = 1L;
+		long LAST_MODIFIED = 1664582400000L;
+
+		when(productService.getProductById(PRODUCT_ID, this.session)).thenReturn(
+			new ProductDetail(this.products.get(0), LAST_MODIFIED));
+
+		// 실행
+		String etag = this.mockMvc
+			.perform(get("/products/{PRODUCT_ID}", PRODUCT_ID)
+				.session(this.session))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, private"))
+			.andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, LAST_MODIFIED))
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+
+		this.mockMvc
+			.perform(get("/products/{PRODUCT_ID}", PRODUCT_ID)
+				.header(HttpHeaders.IF_NONE_MATCH, etag)
+				.session(this.session))
+			.andDo(print())
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, private"))
+			.andExpect(content().string(""));
+	}
+
+	@Test
+	@DisplayName("수정 시각이 같은 초 안에 있어도 내용이 바뀌면 ETag 가 달라져 새 본문으로 응답")
+	public void testGetProductEtagChangesWithinSameSecond() throws Exception {
+		// 테스트 데이터 및 동작 정의
+		Long PRODUCT_ID = 1L;
+		long LAST_MODIFIED = 1664582400000L;
+		ProductResponse before = this.products.get(0);
+		ProductResponse after = ProductResponse.builder()
+			.id(before.getId())
+			.productCategoryId(before.getProductCategoryId())
+			.name(before.getName())
+			.price(5000)
+			.imageUrl(before.getImageUrl())
+			.description(before.getDescription())
+			.abv(before.getAbv())
+			.capacity(before.getCapacity())
+			.build();
+
+		when(productService.getProductById(PRODUCT_ID, this.session)).thenReturn(
+			new ProductDetail(before, LAST_MODIFIED), new ProductDetail(after, LAST_MODIFIED));
+
+		// 실행
+		String etag = this.mockMvc
+			.perform(get("/products/{PRODUCT_ID}", PRODUCT_ID)
+				.session(this.session))
+			.andExpect(status().isOk())
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+
+		this.mockMvc
+			.perform(get("/products/{PRODUCT_ID}", PRODUCT_ID)
+				.header(HttpHeaders.IF_NONE_MATCH, etag)
+				.session(this.session))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, LAST_MODIFIED))
+			.andExpect(jsonPath("$.price").value(5000));
+	}
+
 	@Test
 	@DisplayName("존재하지 않는 제품 아이디로 제품 조회 불가")
 	public void testGetProductFailWhenIdNotExists() throws Exception {
@@ -186,4 +365,37 @@ public class ProductApiTest {
 		// 행위 검증
 		verify(productService, never()).getProductById(any(Long.class), any(HttpSession.class));
 	}
+
+	@Test
+	@DisplayName("after 파라미터가 있으면 커서 기반 페이지네이션으로 조회")
+	public void testGetProductsAfter() throws Exception {
+		// 테스트 데이터 및 동작 정의
+		ProductPageResponse pageResponse = ProductPageResponse.builder()
+			.products(this.products)
+			.nextCursor("Mw")
+			.build();
+
+		when(productService.getProductsAfterBody("", DEFAULT_LIMIT, DEFAULT_CATEGORY_ID,
+			this.session))
+			.thenReturn(body(pageResponse));
+
+		// 실행
+		this.mockMvc
+			.perform(get("/products")
+				.param("after", "")
+				.session(this.session))
+			.andDo(print())
+			.andExpect(status().isOk());
+
+		// 행위 검증
+		verify(productService).getProductsAfterBody("", DEFAULT_LIMIT, DEFAULT_CATEGORY_ID,
+			this.session);
+		verify(productService, never()).getProductsBody(any(Integer.class), any(Integer.class),
+			any(), any(HttpSession.class));
+	}
+
+	private ProductPageBody body(ProductPageResponse pageResponse) throws Exception {
+		return new ProductPageBody(objectMapper.writeValueAsBytes(pageResponse), ETAG,
+			pageResponse.getProducts().size());
+	}
 }
@@ -0,0 +1,56 @@
+package com.flab.sooldama.domain.product.cache;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCacheInvalidationListenerTest {
+
+	private static final String NODE_ID = "this-node";
+
+	@Mock
+	private ProductCache productCache;
+
+	private ProductCacheInvalidationListener listener;
+
+	@BeforeEach
+	public void setUp() {
+		this.listener = new ProductCacheInvalidationListener(productCache, NODE_ID);
+	}
+
+	@Test
+	@DisplayName("다른 서버가 보낸 메시지를 받으면 1차 캐시를 비운다")
+	public void testOnMessageFromAnotherNode() {
+		listener.onMessage(message("another-node", 3L, List.of(1L, 2L)), null);
+
+		verify(productCache).onInvalidation(3L, List.of(1L, 2L));
+	}
+
+	@Test
+	@DisplayName("자기가 보낸 메시지는 건너뛴다")
+	public void testOnMessageSkipsOwnMessage() {
+		listener.onMessage(message(NODE_ID, 3L, List.of(1L)), null);
+
+		verify(productCache, never()).onInvalidation(anyLong(), anyCollection());
+	}
+
+	private static Message message(String origin, long version, List<Long> productIds) {
+		return new DefaultMessage(
+			RedisProductRemoteCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+			ProductCacheKeys.invalidationMessage(origin, version, productIds)
+				.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,148 @@
+package com.flab.sooldama.domain.product.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flab.sooldama.domain.product.dao.ProductMapper;
+import com.flab.sooldama.domain.product.domain.Product;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.context.ActiveProfiles;
+
+/*
+EmbeddedRedisConfig 가 띄운 내장 Redis 를 2차 캐시로 사용해서, 여러 서버가 캐시를 공유하는 상황을 검증합니다.
+다른 서버는 같은 Redis 를 바라보는 ProductCache 를 하나 더 생성해서 흉내냅니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class ProductCacheRedisTest {
+
+	@Autowired
+	private ProductCache productCache;
+
+	@Autowired
+	private ProductRemoteCache productRemoteCache;
+
+	@Autowired
+	private ProductCacheProperties productCacheProperties;
+
+	@Autowired
+	@Qualifier("productRedisTemplate")
+	private RedisTemplate<String, List<Product>> productRedisTemplate;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	private static final Long VALID_PRODUCT_ID = 1L;
+
+	private static final long INVALIDATION_TIMEOUT_MILLIS = 5000L;
+
+	private static final String ANOTHER_NODE_ID = "another-node";
+
+	// 아무것도 듣고 있지 않은 포트입니다. 연결하면 바로 거절되어 Redis 장애처럼 동작합니다.
+	private static final int UNREACHABLE_PORT = 1;
+
+	@Test
+	@DisplayName("조회한 제품은 바이너리로 직렬화되어 Redis 에 저장된다")
+	public void testGetStoresProductInRedis() {
+		productCache.get(VALID_PRODUCT_ID);
+
+		List<Product> cached = productRedisTemplate.opsForValue()
+			.get(ProductCacheKeys.product(VALID_PRODUCT_ID));
+
+		assertEquals(1, cached.size());
+		assertEquals(VALID_PRODUCT_ID, cached.get(0).getId());
+	}
+
+	@Test
+	@DisplayName("다른 서버가 Redis 에 캐시한 제품은 DB 를 조회하지 않고 가져온다")
+	public void testAnotherNodeReadsFromRedis() {
+		productCache.get(VALID_PRODUCT_ID);
+
+		ProductMapper anotherNodeMapper = mock(ProductMapper.class);
+		ProductCache anotherNodeCache = new ProductCache(anotherNodeMapper, productRemoteCache,
+			productCacheProperties);
+
+		Optional<Product> product = anotherNodeCache.get(VALID_PRODUCT_ID);
+
+		assertTrue(product.isPresent());
+		verify(anotherNodeMapper, never()).selectProductById(VALID_PRODUCT_ID);
+	}
+
+	@Test
+	@DisplayName("무효화하면 Redis 의 제품을 지우고 모든 서버에 카탈로그 버전을 알린다")
+	public void testInvalidatePublishesToEveryNode() throws InterruptedException {
+		productCache.get(VALID_PRODUCT_ID);
+		long version = productCache.getCatalogVersion();
+
+		productCache.invalidate(VALID_PRODUCT_ID);
+
+		assertEquals(Boolean.FALSE,
+			productRedisTemplate.hasKey(ProductCacheKeys.product(VALID_PRODUCT_ID)));
+		assertTrue(productRemoteCache.currentVersion() > version);
+
+		long nextVersion = Math.max(productRemoteCache.currentVersion(),
+			productCache.getCatalogVersion()) + 1;
+		stringRedisTemplate.convertAndSend(RedisProductRemoteCache.INVALIDATION_CHANNEL,
+			ProductCacheKeys.invalidationMessage(ANOTHER_NODE_ID, nextVersion,
+				List.of(VALID_PRODUCT_ID)));
+
+		long deadline = System.currentTimeMillis() + INVALIDATION_TIMEOUT_MILLIS;
+		while (productCache.getCatalogVersion() < nextVersion
+			&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(50L);
+		}
+
+		assertEquals(nextVersion, productCache.getCatalogVersion());
+	}
+
+	@Test
+	@DisplayName("Redis 에 연결할 수 없어도 무효화는 실패하지 않고, 1차 캐시를 비우고 이 서버의 버전을 올린다")
+	public void testInvalidateSurvivesRedisOutage() {
+		LettuceConnectionFactory unreachable = new LettuceConnectionFactory(
+			new RedisStandaloneConfiguration("localhost", UNREACHABLE_PORT));
+		unreachable.afterPropertiesSet();
+
+		try {
+			RedisTemplate<String, List<Product>> unreachableTemplate = new RedisTemplate<>();
+			unreachableTemplate.setConnectionFactory(unreachable);
+			unreachableTemplate.setKeySerializer(new StringRedisSerializer());
+			unreachableTemplate.setValueSerializer(new ProductRedisSerializer());
+			unreachableTemplate.afterPropertiesSet();
+
+			ProductMapper productMapper = mock(ProductMapper.class);
+			when(productMapper.selectProductById(VALID_PRODUCT_ID))
+				.thenReturn(Optional.of(Product.builder().id(VALID_PRODUCT_ID).build()));
+			ProductCache isolatedNodeCache = new ProductCache(productMapper,
+				new RedisProductRemoteCache(unreachableTemplate, new StringRedisTemplate(unreachable),
+					ANOTHER_NODE_ID),
+				productCacheProperties);
+
+			isolatedNodeCache.get(VALID_PRODUCT_ID);
+			long version = isolatedNodeCache.getCatalogVersion();
+
+			isolatedNodeCache.invalidate(VALID_PRODUCT_ID);
+			isolatedNodeCache.get(VALID_PRODUCT_ID);
+
+			assertEquals(version + 1, isolatedNodeCache.getCatalogVersion());
+			verify(productMapper, times(2)).selectProductById(VALID_PRODUCT_ID);
+		} finally {
+			unreachable.destroy();
+		}
+	}
+}
@@ -0,0 +1,168 @@
+package com.flab.sooldama.domain.product.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flab.sooldama.domain.product.dao.ProductMapper;
+import com.flab.sooldama.domain.product.domain.Product;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCacheTest {
+
+	@Mock
+	private ProductMapper productMapper;
+
+	private ProductCache productCache;
+
+	private Product product;
+
+	private static final Long VALID_PRODUCT_ID = 1L;
+
+	private static final Long INVALID_PRODUCT_ID = 1000L;
+
+	@BeforeEach
+	public void setUp() {
+		this.productCache = new ProductCache(this.productMapper, new NoOpProductRemoteCache(),
+			new ProductCacheProperties());
+		this.productCache.afterSingletonsInstantiated();
+
+		this.product = Product.builder()
+			.id(VALID_PRODUCT_ID)
+			.productCategoryId(1L)
+			.name("백련 미스티 살균 막걸리")
+			.price(4500)
+			.imageUrl("https://www.sooldamhwa.com/images/common/mainLogo.png")
+			.description("연꽃이 들어간 살균 막걸리")
+			.abv(7.0)
+			.capacity(375)
+			.build();
+	}
+
+	@Test
+	@DisplayName("캐시에 있는 제품은 DB 를 조회하지 않고 반환한다")
+	public void testGetReturnsCachedProduct() {
+		when(productMapper.selectProductById(VALID_PRODUCT_ID)).thenReturn(Optional.of(product));
+
+		productCache.get(VALID_PRODUCT_ID);
+		Optional<Product> cached = productCache.get(VALID_PRODUCT_ID);
+
+		assertTrue(cached.isPresent());
+		verify(productMapper, times(1)).selectProductById(VALID_PRODUCT_ID);
+		assertEquals(1L, productCache.stats().hitCount());
+		assertEquals(1L, productCache.stats().missCount());
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 제품 조회 결과도 캐시한다")
+	public void testGetCachesNotFoundResult() {
+		when(productMapper.selectProductById(INVALID_PRODUCT_ID)).thenReturn(Optional.empty());
+
+		productCache.get(INVALID_PRODUCT_ID);
+		Optional<Product> cached = productCache.get(INVALID_PRODUCT_ID);
+
+		assertTrue(cached.isEmpty());
+		verify(productMapper, times(1)).selectProductById(INVALID_PRODUCT_ID);
+	}
+
+	@Test
+	@DisplayName("무효화한 제품은 다시 DB 에서 조회한다")
+	public void testInvalidateReloadsProduct() {
+		when(productMapper.selectProductById(VALID_PRODUCT_ID)).thenReturn(Optional.of(product));
+
+		productCache.get(VALID_PRODUCT_ID);
+		productCache.invalidate(VALID_PRODUCT_ID);
+		productCache.get(VALID_PRODUCT_ID);
+		productCache.invalidateAll();
+		productCache.get(VALID_PRODUCT_ID);
+
+		verify(productMapper, times(3)).selectProductById(VALID_PRODUCT_ID);
+	}
+
+	@Test
+	@DisplayName("제품 크기는 문자열 길이에 비례해서 계산한다")
+	public void testWeighGrowsWithStringLength() {
+		int notFoundWeight = ProductCache.weigh(Optional.empty());
+		int productWeight = ProductCache.weigh(Optional.of(product));
+
+		assertTrue(productWeight > notFoundWeight);
+	}
+
+	@Test
+	@DisplayName("같은 조건의 제품 목록 페이지는 DB 를 한 번만 조회한다")
+	public void testGetPageReturnsCachedPage() {
+		when(productMapper.selectProducts(0, 20, null)).thenReturn(List.of(product));
+
+		List<Product> page = productCache.getPage(0, 20, null);
+
+		assertSame(page, productCache.getPage(0, 20, null));
+		verify(productMapper, times(1)).selectProducts(0, 20, null);
+		assertEquals(1L, productCache.pageStats().hitCount());
+	}
+
+	@Test
+	@DisplayName("제품이 바뀌면 카탈로그 버전이 올라가고 목록 페이지를 다시 조회한다")
+	public void testInvalidateBumpsCatalogVersionAndEvictsPages() {
+		when(productMapper.selectProductsAfter(null, 21, 1L)).thenReturn(List.of(product));
+		long version = productCache.getCatalogVersion();
+
+		productCache.getPageAfter(null, 21, 1L);
+		productCache.invalidate(List.of(VALID_PRODUCT_ID));
+		productCache.getPageAfter(null, 21, 1L);
+
+		assertTrue(productCache.getCatalogVersion() > version);
+		verify(productMapper, times(2)).selectProductsAfter(null, 21, 1L);
+	}
+
+	@Test
+	@DisplayName("다른 서버의 무효화 메시지를 받으면 1차 캐시를 비우고 버전을 맞춘다")
+	public void testOnInvalidationEvictsLocalCache() {
+		when(productMapper.selectProductById(VALID_PRODUCT_ID)).thenReturn(Optional.of(product));
+
+		productCache.get(VALID_PRODUCT_ID);
+		productCache.onInvalidation(42L, List.of(VALID_PRODUCT_ID));
+		productCache.get(VALID_PRODUCT_ID);
+
+		assertEquals(42L, productCache.getCatalogVersion());
+		verify(productMapper, times(2)).selectProductById(VALID_PRODUCT_ID);
+	}
+
+	@Test
+	@DisplayName("2차 캐시의 버전이 이 서버보다 낮아져도(Redis 재시작) 무효화하면 버전이 올라간다")
+	public void testInvalidateAdvancesVersionWhenRemoteVersionIsBehind() {
+		ProductRemoteCache remoteCache = mock(ProductRemoteCache.class);
+		when(remoteCache.evict(anyCollection())).thenReturn(5L, 1L);
+		ProductCache cache = new ProductCache(productMapper, remoteCache,
+			new ProductCacheProperties());
+
+		cache.invalidate(VALID_PRODUCT_ID);
+		assertEquals(5L, cache.getCatalogVersion());
+
+		cache.invalidate(VALID_PRODUCT_ID);
+		assertEquals(6L, cache.getCatalogVersion());
+
+		cache.onInvalidation(2L, List.of(VALID_PRODUCT_ID));
+		assertEquals(7L, cache.getCatalogVersion());
+	}
+
+	@Test
+	@DisplayName("목록 페이지 크기는 포함된 제품 크기의 합보다 크다")
+	public void testWeighPageSumsProductWeights() {
+		int productWeight = ProductCache.weigh(Optional.of(product));
+
+		assertTrue(ProductCache.weigh(List.of(product, product)) > 2 * productWeight);
+	}
+}
@@ -0,0 +1,87 @@
+package com.flab.sooldama.domain.product.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.flab.sooldama.domain.product.domain.Product;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+class ProductRedisSerializerTest {
+
+	private ProductRedisSerializer serializer;
+
+	private Product product;
+
+	@BeforeEach
+	public void setUp() {
+		this.serializer = new ProductRedisSerializer();
+		this.product = Product.builder()
+			.id(1L)
+			.productCategoryId(1L)
+			.name("백련 미스티 살균 막걸리")
+			.price(4500)
+			.imageUrl("https://www.sooldamhwa.com/images/common/mainLogo.png")
+			.description("연꽃이 들어간 살균 막걸리")
+			.abv(7.0)
+			.capacity(375)
+			.createdAt(LocalDateTime.of(2022, 12, 1, 10, 30, 15, 123_000_000))
+			.build();
+	}
+
+	@Test
+	@DisplayName("직렬화한 제품 리스트를 역직렬화하면 같은 값을 가진다")
+	public void testSerializeRoundTrip() {
+		List<Product> products = serializer.deserialize(serializer.serialize(List.of(product)));
+
+		Product restored = products.get(0);
+		assertEquals(1, products.size());
+		assertEquals(product.getId(), restored.getId());
+		assertEquals(product.getName(), restored.getName());
+		assertEquals(product.getDescription(), restored.getDescription());
+		assertEquals(product.getAbv(), restored.getAbv());
+		assertEquals(product.getCapacity(), restored.getCapacity());
+		assertEquals(product.getCreatedAt(), restored.getCreatedAt());
+		assertNull(restored.getUpdatedAt());
+		assertNull(restored.getDeletedAt());
+	}
+
+	@Test
+	@DisplayName("값이 비어있는 필드와 빈 리스트도 직렬화할 수 있다")
+	public void testSerializeNullFieldsAndEmptyList() {
+		Product emptyProduct = Product.builder().id(2L).build();
+
+		Product restored = serializer.deserialize(serializer.serialize(List.of(emptyProduct)))
+			.get(0);
+
+		assertEquals(2L, restored.getId());
+		assertNull(restored.getName());
+		assertNull(restored.getPrice());
+		assertTrue(serializer.deserialize(serializer.serialize(List.of())).isEmpty());
+		assertNull(serializer.serialize(null));
+		assertNull(serializer.deserialize(null));
+	}
+
+	@Test
+	@DisplayName("JDK 직렬화보다 작은 크기로 저장한다")
+	public void testSerializedSizeIsSmallerThanJdkSerialization() {
+		byte[] jdkSerialized = new JdkSerializationRedisSerializer().serialize(
+			List.of(product.getName(), product.getImageUrl(), product.getDescription()));
+
+		assertTrue(serializer.serialize(List.of(product)).length < jdkSerialized.length);
+	}
+
+	@Test
+	@DisplayName("지원하지 않는 형식은 역직렬화할 수 없다")
+	public void testDeserializeFailWithUnknownFormat() {
+		assertThrows(SerializationException.class,
+			() -> serializer.deserialize(new byte[]{99, 0, 0, 0, 0}));
+	}
+}
@@ -1,9 +1,12 @@
 package com.flab.sooldama.domain.product.dao;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.flab.sooldama.domain.product.domain.Product;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
 
 @ActiveProfiles("test")
 @SpringBootTest
@@ -58,4 +62,40 @@ public class ProductMapperTest {
 
 		assertTrue(product.isEmpty());
 	}
+
+	@Test
+	@DisplayName("마지막 아이디 이후의 제품을 아이디 순으로 조회")
+	public void testSelectProductsAfter() {
+		List<Product> products = productMapper.selectProductsAfter(1L, 10, null);
+
+		assertFalse(products.isEmpty());
+		for (Product product : products) {
+			assertTrue(product.getId() > 1L);
+		}
+	}
+
+	@Test
+	@DisplayName("카테고리별로 마지막 아이디 이후의 제품을 조회")
+	public void testSelectProductsAfterWithCategoryId() {
+		List<Product> products = productMapper.selectProductsAfter(null, 10, 1L);
+
+		assertEquals(2, products.size());
+		assertTrue(products.get(0).getId() < products.get(1).getId());
+		for (Product product : products) {
+			assertEquals(1L, product.getProductCategoryId());
+		}
+	}
+
+	@Test
+	@Transactional(readOnly = true)
+	@DisplayName("마지막 아이디 이후에 추가된 제품을 아이디 순으로 읽는다")
+	public void testSelectProductsChangedSince() {
+		LocalDateTime future = LocalDateTime.now().plusYears(1);
+
+		List<Product> products = new ArrayList<>();
+		productMapper.selectProductsChangedSince(1L, future).forEach(products::add);
+
+		assertFalse(products.isEmpty());
+		assertEquals(2L, products.get(0).getId());
+	}
 }
@@ -0,0 +1,70 @@
+package com.flab.sooldama.domain.product.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flab.sooldama.domain.product.domain.Product;
+import com.flab.sooldama.domain.product.exception.InvalidExportRequestException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExportFormatTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("format 파라미터로 파일 형식을 정하고, 지원하지 않는 형식이면 예외 발생")
+	public void testOfName() {
+		assertEquals(ExportFormat.CSV, ExportFormat.of("CSV"));
+		assertEquals(ExportFormat.JSON_LINES, ExportFormat.of("ndjson"));
+		assertThrows(InvalidExportRequestException.class, () -> ExportFormat.of("xlsx"));
+	}
+
+	@Test
+	@DisplayName("CSV 는 쉼표, 줄바꿈, 큰따옴표가 들어 있는 값을 큰따옴표로 감싸서 쓴다")
+	public void testCsvQuotesValues() throws IOException {
+		Product product = Product.builder()
+			.id(1L)
+			.productCategoryId(1L)
+			.name("막걸리, 한 병")
+			.price(4500)
+			.description("첫 줄\n\"둘째\" 줄")
+			.abv(7.0)
+			.capacity(375)
+			.build();
+
+		String csv = write(ExportFormat.CSV, product);
+
+		assertEquals(CsvProductExportWriter.HEADER + "\r\n"
+			+ "1,1,\"막걸리, 한 병\",4500,,\"첫 줄\n\"\"둘째\"\" 줄\",7.0,375\r\n", csv);
+	}
+
+	@Test
+	@DisplayName("JSON lines 는 제품마다 JSON 객체 한 줄을 쓴다")
+	public void testJsonLinesWritesOneObjectPerLine() throws IOException {
+		Product first = Product.builder().id(1L).name("막걸리").build();
+		Product second = Product.builder().id(2L).name("청주").build();
+
+		String lines = write(ExportFormat.JSON_LINES, first, second);
+
+		assertEquals("{\"id\":1,\"productCategoryId\":null,\"name\":\"막걸리\",\"price\":null,"
+			+ "\"imageUrl\":null,\"description\":null,\"abv\":null,\"capacity\":null}\n"
+			+ "{\"id\":2,\"productCategoryId\":null,\"name\":\"청주\",\"price\":null,"
+			+ "\"imageUrl\":null,\"description\":null,\"abv\":null,\"capacity\":null}\n", lines);
+	}
+
+	private String write(ExportFormat format, Product... products) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ProductExportWriter writer = format.writer(outputStream, objectMapper);
+		for (Product product : products) {
+			writer.write(product);
+		}
+		writer.finish();
+
+		return outputStream.toString(StandardCharsets.UTF_8);
+	}
+}
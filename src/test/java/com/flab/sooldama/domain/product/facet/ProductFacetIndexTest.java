@@ -0,0 +1,151 @@
+package com.flab.sooldama.domain.product.facet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.flab.sooldama.domain.product.domain.Product;
+import com.flab.sooldama.domain.product.exception.InvalidProductFilterException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductFacetIndexTest {
+
+	private ProductFacetIndex index;
+
+	@BeforeEach
+	public void setUp() {
+		this.index = new ProductFacetIndex();
+		this.index.index(product(1L, 1L, 7.0, 4500, 375));
+		this.index.index(product(2L, 1L, 6.0, 20000, 500));
+		this.index.index(product(3L, 2L, 16.0, 11000, 500));
+		this.index.index(product(4L, 1L, 8.5, 9000, 750));
+	}
+
+	@Test
+	@DisplayName("카테고리와 여러 패싯 범위를 모두 만족하는 제품을 아이디 순서로 찾는다")
+	public void testFilterIntersectsCategoryAndRanges() {
+		FacetQuery query = new FacetQuery(1L)
+			.with(Facet.ABV, FacetRange.of(6, 8))
+			.with(Facet.PRICE, FacetRange.of(null, 10000));
+
+		FacetResult result = index.filter(query, null, 20);
+
+		assertEquals(List.of(1L), result.getProductIds());
+		assertEquals(1, result.getTotal());
+	}
+
+	@Test
+	@DisplayName("범위가 구간 일부에만 걸치면 실제 값으로 비교한다")
+	public void testFilterChecksValuesInPartialBuckets() {
+		FacetQuery query = new FacetQuery(null).with(Facet.CAPACITY, FacetRange.of(500, 500));
+
+		assertEquals(List.of(2L, 3L), index.filter(query, null, 20).getProductIds());
+	}
+
+	@Test
+	@DisplayName("패싯 개수는 자기 자신을 뺀 나머지 조건으로 센다")
+	public void testFilterCountsFacetsWithoutOwnRange() {
+		FacetQuery query = new FacetQuery(1L).with(Facet.PRICE, FacetRange.of(null, 9999));
+
+		FacetResult result = index.filter(query, null, 20);
+
+		assertArrayEquals(new int[]{1, 1, 0, 1, 0}, result.getCounts().get(Facet.PRICE));
+		assertArrayEquals(new int[]{0, 0, 2, 0, 0, 0}, result.getCounts().get(Facet.ABV));
+	}
+
+	@Test
+	@DisplayName("after 다음 제품부터 limit + 1 개까지 반환한다")
+	public void testFilterPagesAfterProductId() {
+		FacetQuery query = new FacetQuery(null);
+
+		assertEquals(List.of(1L, 2L), index.filter(query, null, 1).getProductIds());
+		assertEquals(List.of(3L, 4L), index.filter(query, 2L, 1).getProductIds());
+		assertEquals(List.of(4L), index.filter(query, 3L, 1).getProductIds());
+	}
+
+	@Test
+	@DisplayName("카테고리가 바뀐 제품은 이전 카테고리에서 찾지 않고, 지운 제품도 찾지 않는다")
+	public void testIndexAndRemoveUpdateBitmaps() {
+		index.index(product(1L, 2L, 40.0, 4500, 375));
+		assertTrue(index.remove(2L));
+		assertFalse(index.remove(2L));
+
+		FacetResult result = index.filter(new FacetQuery(1L), null, 20);
+
+		assertEquals(List.of(4L), result.getProductIds());
+		assertEquals(3, index.size());
+		assertEquals(2, index.deletedCount());
+	}
+
+	@Test
+	@DisplayName("카테고리를 옮긴 제품도 옮긴 카테고리 안에서 아이디 순서를 지키고, 두 카테고리를 걸쳐 빠짐없이 페이지를 넘긴다")
+	public void testFilterPagesAfterCategoryChange() {
+		index.index(product(2L, 2L, 6.0, 20000, 500));
+
+		assertEquals(List.of(2L, 3L), index.filter(new FacetQuery(2L), null, 20).getProductIds());
+		assertEquals(List.of(3L), index.filter(new FacetQuery(2L), 2L, 20).getProductIds());
+		assertEquals(List.of(2L, 3L), index.filter(new FacetQuery(2L), 1L, 20).getProductIds());
+
+		FacetQuery all = new FacetQuery(null);
+		assertEquals(List.of(1L, 2L), index.filter(all, null, 1).getProductIds());
+		assertEquals(List.of(2L, 3L), index.filter(all, 1L, 1).getProductIds());
+		assertEquals(List.of(3L, 4L), index.filter(all, 2L, 1).getProductIds());
+		assertEquals(List.of(4L), index.filter(all, 3L, 1).getProductIds());
+
+		index.index(product(2L, 1L, 6.0, 20000, 500));
+
+		assertEquals(List.of(1L, 2L, 4L), index.filter(new FacetQuery(1L), null, 20).getProductIds());
+		assertEquals(List.of(3L), index.filter(new FacetQuery(2L), null, 20).getProductIds());
+		assertEquals(4, index.size());
+	}
+
+	@Test
+	@DisplayName("최솟값이 최댓값보다 크면 예외가 발생하고, 둘 다 없으면 범위가 없다")
+	public void testFacetRangeValidation() {
+		assertThrows(InvalidProductFilterException.class, () -> FacetRange.of(10, 5));
+		assertNull(FacetRange.of(null, null));
+	}
+
+	@Test
+	@DisplayName("비트맵은 여러 word 에 걸친 비트를 찾고 센다")
+	public void testBitmapAcrossWords() {
+		Bitmap bitmap = new Bitmap();
+		bitmap.set(3);
+		bitmap.set(64);
+		bitmap.set(200);
+		Bitmap other = new Bitmap();
+		other.set(200);
+		other.set(300);
+
+		assertEquals(64, bitmap.nextSetBit(4));
+		assertEquals(200, bitmap.nextSetBit(65));
+		assertEquals(-1, bitmap.nextSetBit(201));
+		assertEquals(1, bitmap.andCardinality(other));
+
+		Bitmap union = bitmap.copy();
+		union.or(other);
+		assertEquals(4, union.cardinality());
+		bitmap.and(other);
+		assertEquals(1, bitmap.cardinality());
+		bitmap.clear(200);
+		assertFalse(bitmap.get(200));
+	}
+
+	private static Product product(Long id, Long categoryId, Double abv, Integer price,
+		Integer capacity) {
+		return Product.builder()
+			.id(id)
+			.productCategoryId(categoryId)
+			.name("제품 " + id)
+			.abv(abv)
+			.price(price)
+			.capacity(capacity)
+			.build();
+	}
+}
@@ -0,0 +1,114 @@
+package com.flab.sooldama.domain.product.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flab.sooldama.domain.product.dto.request.ProductImportRow;
+import com.flab.sooldama.domain.product.exception.InvalidImportRequestException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ImportFormatTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("Content-Type 으로 파일 형식을 정하고, 지원하지 않는 형식이면 예외 발생")
+	public void testOfContentType() {
+		assertEquals(ImportFormat.CSV, ImportFormat.of("text/csv; charset=UTF-8"));
+		assertEquals(ImportFormat.JSON_LINES, ImportFormat.of("application/x-ndjson"));
+		assertThrows(InvalidImportRequestException.class, () -> ImportFormat.of("application/json"));
+		assertThrows(InvalidImportRequestException.class, () -> ImportFormat.of("not a media type"));
+	}
+
+	@Test
+	@DisplayName("CSV 는 큰따옴표 안의 쉼표, 줄바꿈, 큰따옴표를 값으로 읽는다")
+	public void testCsvReadsQuotedValues() {
+		String csv = "productCategoryId,name,price,imageUrl,description,abv,capacity\r\n"
+			+ "1,\"막걸리, 한 병\",4500,https://image,\"첫 줄\n\"\"둘째\"\" 줄\",7.0,375\r\n"
+			+ "\n"
+			+ "2,청주,11000,https://image,맑은 술,16.0,500";
+
+		List<ImportRow<ProductImportRow>> rows = readAll(ImportFormat.CSV, csv);
+
+		assertEquals(2, rows.size());
+		assertEquals(2L, rows.get(0).getLine());
+		assertEquals("막걸리, 한 병", rows.get(0).getValue().getName());
+		assertEquals("첫 줄\n\"둘째\" 줄", rows.get(0).getValue().getDescription());
+		assertEquals(5L, rows.get(1).getLine());
+		assertEquals(16.0, rows.get(1).getValue().getAbv());
+	}
+
+	@Test
+	@DisplayName("CSV 의 컬럼 수가 다르거나 값의 형식이 잘못된 행은 거절하고, 빈 값은 null 로 읽는다")
+	public void testCsvRejectsMalformedRows() {
+		String csv = "productCategoryId,name,price\n"
+			+ "1,막걸리\n"
+			+ "1,막걸리,비쌈\n"
+			+ "1,,4500\n";
+
+		List<ImportRow<ProductImportRow>> rows = readAll(ImportFormat.CSV, csv);
+
+		assertEquals(3, rows.size());
+		assertTrue(rows.get(0).isRejected());
+		assertTrue(rows.get(1).isRejected());
+		assertFalse(rows.get(2).isRejected());
+		assertNull(rows.get(2).getValue().getName());
+	}
+
+	@Test
+	@DisplayName("JSON lines 는 줄마다 따로 읽어서 잘못된 줄만 거절하고 빈 줄은 건너뛴다")
+	public void testJsonLinesRejectsOnlyMalformedLines() {
+		String jsonLines = "{\"productCategoryId\":1,\"name\":\"막걸리\",\"unknown\":true}\n"
+			+ "\n"
+			+ "{not json}\n"
+			+ "null\n"
+			+ "{\"productCategoryId\":2,\"name\":\"청주\"}";
+
+		List<ImportRow<ProductImportRow>> rows = readAll(ImportFormat.JSON_LINES, jsonLines);
+
+		assertEquals(4, rows.size());
+		assertEquals("막걸리", rows.get(0).getValue().getName());
+		assertEquals(3L, rows.get(1).getLine());
+		assertTrue(rows.get(1).isRejected());
+		assertTrue(rows.get(2).isRejected());
+		assertEquals(5L, rows.get(3).getLine());
+		assertEquals("청주", rows.get(3).getValue().getName());
+	}
+
+	@Test
+	@DisplayName("다 읽은 뒤 next 를 호출하면 예외 발생")
+	public void testNextFailWhenExhausted() {
+		for (ImportFormat format : ImportFormat.values()) {
+			ImportRowReader<ProductImportRow> reader = format.reader(
+				new ByteArrayInputStream(new byte[0]), objectMapper, ProductImportRow.class);
+
+			assertFalse(reader.hasNext());
+			assertThrows(NoSuchElementException.class, reader::next);
+			reader.close();
+		}
+	}
+
+	private List<ImportRow<ProductImportRow>> readAll(ImportFormat format, String content) {
+		List<ImportRow<ProductImportRow>> rows = new ArrayList<>();
+
+		try (ImportRowReader<ProductImportRow> reader = format.reader(
+			new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), objectMapper,
+			ProductImportRow.class)) {
+			while (reader.hasNext()) {
+				rows.add(reader.next());
+			}
+		}
+
+		return rows;
+	}
+}
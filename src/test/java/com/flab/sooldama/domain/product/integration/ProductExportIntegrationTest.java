@@ -0,0 +1,102 @@
+package com.flab.sooldama.domain.product.integration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ProductExportIntegrationTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	private MockHttpSession session;
+
+	private static final String SESSION_ATTR_KEY_FOR_AUTH = "USER_EMAIL";
+
+	private static final String SESSION_ATTR_VALUE_FOR_AUTH = "test@tester.com";
+
+	@BeforeEach
+	public void setUp() {
+		this.session = new MockHttpSession();
+		this.session.setAttribute(SESSION_ATTR_KEY_FOR_AUTH, SESSION_ATTR_VALUE_FOR_AUTH);
+	}
+
+	@Test
+	@DisplayName("카테고리의 제품을 JSON lines 로 내보낸다")
+	public void testExportProductsWithJsonLines() throws Exception {
+		MvcResult result = this.mockMvc
+			.perform(get("/products/export")
+				.param("categoryId", "2")
+				.session(this.session))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		this.mockMvc
+			.perform(asyncDispatch(result))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+			.andExpect(content().string(
+				"{\"id\":3,\"productCategoryId\":2,\"name\":\"토박이 한산 소곡주\",\"price\":11000,"
+					+ "\"imageUrl\":\"https://www.sooldamhwa.com/images/common/mainLogo.png\","
+					+ "\"description\":\"한 번 마시면 멈출 수 없는 맛\",\"abv\":16.0,\"capacity\":500}\n"));
+	}
+
+	@Test
+	@DisplayName("카테고리의 제품을 아이디 순서대로 CSV 로 내보낸다")
+	public void testExportProductsWithCsv() throws Exception {
+		MvcResult result = this.mockMvc
+			.perform(get("/products/export")
+				.param("format", "csv")
+				.param("categoryId", "1")
+				.session(this.session))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		this.mockMvc
+			.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andExpect(content().contentTypeCompatibleWith("text/csv"))
+			.andExpect(content().string(
+				"id,productCategoryId,name,price,imageUrl,description,abv,capacity\r\n"
+					+ "1,1,백련 미스티 살균 막걸리,4500,https://www.sooldamhwa.com/images/common/mainLogo.png,"
+					+ "연꽃이 들어간 살균 막걸리,7.0,375\r\n"
+					+ "2,1,구름을 벗삼아,20000,https://www.sooldamhwa.com/images/common/mainLogo.png,"
+					+ "구름처럼 부드럽고 달콤한 막걸리,6.0,500\r\n"));
+	}
+
+	@Test
+	@DisplayName("지원하지 않는 파일 형식이면 내보내기 실패")
+	public void testExportProductsFailWithUnsupportedFormat() throws Exception {
+		this.mockMvc
+			.perform(get("/products/export")
+				.param("format", "xlsx")
+				.session(this.session))
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	@DisplayName("로그인하지 않으면 내보내기 실패")
+	public void testExportProductsFailWithoutLogin() throws Exception {
+		this.mockMvc
+			.perform(get("/products/export"))
+			.andExpect(status().isBadRequest());
+	}
+}
@@ -0,0 +1,78 @@
+package com.flab.sooldama.domain.product.integration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/*
+애플리케이션이 준비될 때 data.sql 의 제품으로 만든 패싯 색인을 사용합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ProductFacetIntegrationTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	private MockHttpSession session;
+
+	private static final String SESSION_ATTR_KEY_FOR_AUTH = "USER_EMAIL";
+
+	private static final String SESSION_ATTR_VALUE_FOR_AUTH = "test@tester.com";
+
+	@BeforeEach
+	public void setUp() {
+		this.session = new MockHttpSession();
+		this.session.setAttribute(SESSION_ATTR_KEY_FOR_AUTH, SESSION_ATTR_VALUE_FOR_AUTH);
+	}
+
+	@Test
+	@DisplayName("도수와 가격 범위에 맞는 제품과 패싯별 제품 수를 조회한다")
+	public void testFilterProducts() throws Exception {
+		this.mockMvc
+			.perform(get("/products/filter")
+				.param("categoryId", "1")
+				.param("abvMin", "6")
+				.param("abvMax", "8")
+				.param("priceMax", "10000")
+				.session(this.session))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.products.length()").value(1))
+			.andExpect(jsonPath("$.products[0].id").value(1))
+			.andExpect(jsonPath("$.total").value(1))
+			.andExpect(jsonPath("$.facets.price[3].min").value(20000))
+			.andExpect(jsonPath("$.facets.price[3].count").value(1));
+	}
+
+	@Test
+	@DisplayName("최솟값이 최댓값보다 크면 필터링 실패")
+	public void testFilterProductsFailWithInvalidRange() throws Exception {
+		this.mockMvc
+			.perform(get("/products/filter")
+				.param("priceMin", "10000")
+				.param("priceMax", "5000")
+				.session(this.session))
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	@DisplayName("음수 범위로는 필터링 실패")
+	public void testFilterProductsFailWithNegativeValue() throws Exception {
+		this.mockMvc
+			.perform(get("/products/filter")
+				.param("capacityMin", "-1")
+				.session(this.session))
+			.andExpect(status().isBadRequest());
+	}
+}
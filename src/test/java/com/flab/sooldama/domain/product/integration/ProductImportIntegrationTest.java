@@ -0,0 +1,183 @@
+package com.flab.sooldama.domain.product.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.flab.sooldama.domain.product.cache.ProductCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/*
+일괄 등록한 제품과 카테고리는 이름이 "일괄 등록" 으로 시작하도록 만들고, 테스트가 끝나면 지워서 다른 테스트에 영향을 주지 않습니다.
+일괄 등록은 관리자만 할 수 있으므로, test 프로필의 auth.admin.emails 에 있는 이메일로 로그인한 세션을 사용합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ProductImportIntegrationTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ProductCache productCache;
+
+	private MockHttpSession session;
+
+	private static final String SESSION_ATTR_KEY_FOR_AUTH = "USER_EMAIL";
+
+	private static final String SESSION_ATTR_VALUE_FOR_AUTH = "admin@tester.com";
+
+	private static final String NOT_ADMIN_EMAIL = "test@tester.com";
+
+	private static final String JSON_LINES = "application/x-ndjson";
+
+	private static final String CSV = "text/csv";
+
+	@BeforeEach
+	public void setUp() {
+		this.session = new MockHttpSession();
+		this.session.setAttribute(SESSION_ATTR_KEY_FOR_AUTH, SESSION_ATTR_VALUE_FOR_AUTH);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		jdbcTemplate.update("DELETE FROM product WHERE name LIKE '일괄 등록%'");
+		jdbcTemplate.update("DELETE FROM product_category WHERE name LIKE '일괄 등록%'");
+	}
+
+	@Test
+	@DisplayName("JSON lines 로 제품을 일괄 등록하면 이름이 같은 제품은 바꾸고, 잘못된 행은 줄 번호와 함께 거절한다")
+	public void testImportProductsWithJsonLines() throws Exception {
+		String body = product("일괄 등록 소주", 3000) + "\n"
+			+ product("일괄 등록 약주", 9000) + "\n"
+			+ "{\"productCategoryId\":4,\"price\":1000}\n"
+			+ "{\"productCategoryId\":99,\"name\":\"일괄 등록 없는 카테고리\",\"price\":1000,"
+			+ "\"imageUrl\":\"https://image\",\"description\":\"설명\",\"abv\":1.0,\"capacity\":100}\n"
+			+ product("일괄 등록 소주", 3500);
+		long version = productCache.getCatalogVersion();
+
+		this.mockMvc
+			.perform(post("/products/import")
+				.param("chunkSize", "2")
+				.contentType(JSON_LINES)
+				.content(body)
+				.session(this.session))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.totalRows").value(5))
+			.andExpect(jsonPath("$.importedRows").value(3))
+			.andExpect(jsonPath("$.rejectedRows").value(2))
+			.andExpect(jsonPath("$.chunks.length()").value(2))
+			.andExpect(jsonPath("$.chunks[0].committed").value(true))
+			.andExpect(jsonPath("$.rejects[0].line").value(3))
+			.andExpect(jsonPath("$.rejects[1].line").value(4));
+
+		assertEquals(3500, jdbcTemplate.queryForObject(
+			"SELECT price FROM product WHERE name = '일괄 등록 소주'", Integer.class));
+		assertEquals(1, jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM product WHERE name = '일괄 등록 소주'", Integer.class));
+		assertTrue(productCache.getCatalogVersion() > version);
+	}
+
+	@Test
+	@DisplayName("CSV 로 제품 카테고리를 일괄 등록한다")
+	public void testImportProductCategoriesWithCsv() throws Exception {
+		String body = "name,description,imageUrl\n"
+			+ "일괄 등록 맥주,\"시원한, 맥주\",https://image\n"
+			+ "일괄 등록 맥주,더 시원한 맥주,https://image\n";
+
+		this.mockMvc
+			.perform(post("/products/categories/import")
+				.contentType(CSV)
+				.content(body)
+				.session(this.session))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.importedRows").value(2))
+			.andExpect(jsonPath("$.rejectedRows").value(0));
+
+		assertEquals("더 시원한 맥주", jdbcTemplate.queryForObject(
+			"SELECT description FROM product_category WHERE name = '일괄 등록 맥주'", String.class));
+	}
+
+	@Test
+	@DisplayName("청크 크기가 범위를 벗어나면 일괄 등록 실패")
+	public void testImportProductsFailWithInvalidChunkSize() throws Exception {
+		this.mockMvc
+			.perform(post("/products/import")
+				.param("chunkSize", "0")
+				.contentType(JSON_LINES)
+				.content(product("일괄 등록 소주", 3000))
+				.session(this.session))
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	@DisplayName("지원하지 않는 파일 형식이면 일괄 등록 실패")
+	public void testImportProductsFailWithUnsupportedContentType() throws Exception {
+		this.mockMvc
+			.perform(post("/products/import")
+				.contentType("application/json")
+				.content(product("일괄 등록 소주", 3000))
+				.session(this.session))
+			.andExpect(status().isUnsupportedMediaType());
+	}
+
+	@Test
+	@DisplayName("로그인하지 않으면 일괄 등록 실패")
+	public void testImportProductsFailWithoutLogin() throws Exception {
+		this.mockMvc
+			.perform(post("/products/import")
+				.contentType(JSON_LINES)
+				.content(product("일괄 등록 소주", 3000)))
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	@DisplayName("관리자가 아닌 사용자는 로그인했어도 일괄 등록 실패")
+	public void testImportFailWhenUserIsNotAdmin() throws Exception {
+		MockHttpSession notAdmin = new MockHttpSession();
+		notAdmin.setAttribute(SESSION_ATTR_KEY_FOR_AUTH, NOT_ADMIN_EMAIL);
+
+		this.mockMvc
+			.perform(post("/products/import")
+				.contentType(JSON_LINES)
+				.content(product("일괄 등록 소주", 3000))
+				.session(notAdmin))
+			.andExpect(status().isForbidden());
+		this.mockMvc
+			.perform(post("/products/categories/import")
+				.contentType(CSV)
+				.content("name,description,imageUrl\n일괄 등록 맥주,맥주,https://image\n")
+				.session(notAdmin))
+			.andExpect(status().isForbidden());
+
+		assertEquals(0, jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM product WHERE name LIKE '일괄 등록%'", Integer.class));
+		assertEquals(0, jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM product_category WHERE name LIKE '일괄 등록%'", Integer.class));
+	}
+
+	private static String product(String name, int price) {
+		return "{\"productCategoryId\":4,\"name\":\"" + name + "\",\"price\":" + price
+			+ ",\"imageUrl\":\"https://image\",\"description\":\"일괄 등록한 제품\","
+			+ "\"abv\":17.0,\"capacity\":360}";
+	}
+}
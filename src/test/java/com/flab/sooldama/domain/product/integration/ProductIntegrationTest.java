@@ -1,6 +1,8 @@
 package com.flab.sooldama.domain.product.integration;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -10,6 +12,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -50,6 +54,42 @@ public class ProductIntegrationTest {
 			.andExpect(status().isOk());
 	}
 
+	@Test
+	@DisplayName("limit 개보다 제품이 많으면 다음 페이지가 있다고 응답")
+	public void testGetProductsReturnsHasNext() throws Exception {
+		this.mockMvc
+			.perform(get("/products")
+				.param("limit", "1")
+				.session(this.session))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.products.length()").value(1))
+			.andExpect(jsonPath("$.limit").value(1))
+			.andExpect(jsonPath("$.hasNext").value(true))
+			.andExpect(jsonPath("$.nextOffset").value(1));
+	}
+
+	@Test
+	@DisplayName("목록 응답의 ETag 로 다시 요청하면 본문 없이 304 로 응답")
+	public void testGetProductsReturnsNotModifiedWithSameEtag() throws Exception {
+		String etag = this.mockMvc
+			.perform(get("/products")
+				.param("limit", "2")
+				.session(this.session))
+			.andExpect(status().isOk())
+			.andExpect(header().exists(HttpHeaders.ETAG))
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+
+		this.mockMvc
+			.perform(get("/products")
+				.param("limit", "2")
+				.header(HttpHeaders.IF_NONE_MATCH, etag)
+				.session(this.session))
+			.andExpect(status().isNotModified())
+			.andExpect(content().string(""));
+	}
+
 	@Test
 	@DisplayName("요청 파라미터 값이 유효하지 않으면 제품 조회 실패")
 	public void testGetProductsFailWithInvalidParameter() throws Exception {
@@ -72,7 +112,7 @@ public class ProductIntegrationTest {
 				.param("categoryId", VALID_CATEGORY_ID.toString())
 				.session(this.session))
 			.andExpect(status().isOk())
-			.andExpect(jsonPath("$[0].productCategoryId").value(1));
+			.andExpect(jsonPath("$.products[0].productCategoryId").value(1));
 	}
 
 	@Test
@@ -87,6 +127,32 @@ public class ProductIntegrationTest {
 			.andExpect(jsonPath("$.id").value(1));
 	}
 
+	@Test
+	@DisplayName("제품이 바뀌지 않았으면 아이디로 조회할 때 본문 없이 304 로 응답")
+	public void testGetProductReturnsNotModifiedWhenUnchanged() throws Exception {
+		Long VALID_PRODUCT_ID = 1L;
+
+		MockHttpServletResponse response = this.mockMvc
+			.perform(get("/products/{PRODUCT_ID}", VALID_PRODUCT_ID)
+				.session(this.session))
+			.andExpect(status().isOk())
+			.andExpect(header().exists(HttpHeaders.CACHE_CONTROL))
+			.andReturn()
+			.getResponse();
+
+		this.mockMvc
+			.perform(get("/products/{PRODUCT_ID}", VALID_PRODUCT_ID)
+				.header(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG))
+				.session(this.session))
+			.andExpect(status().isNotModified())
+			.andExpect(content().string(""));
+		this.mockMvc
+			.perform(get("/products/{PRODUCT_ID}", VALID_PRODUCT_ID)
+				.header(HttpHeaders.IF_MODIFIED_SINCE, response.getHeader(HttpHeaders.LAST_MODIFIED))
+				.session(this.session))
+			.andExpect(status().isNotModified());
+	}
+
 	@Test
 	@DisplayName("아이디로 제품 조회 실패")
 	public void testGetProductFailWithInvalidProductId() throws Exception {
@@ -97,4 +163,28 @@ public class ProductIntegrationTest {
 				.session(this.session))
 			.andExpect(status().isNotFound());
 	}
+
+	@Test
+	@DisplayName("after 파라미터로 조회하면 커서 기반 페이지와 다음 커서를 반환")
+	public void testGetProductsAfter() throws Exception {
+		this.mockMvc
+			.perform(get("/products")
+				.param("after", "")
+				.param("limit", "1")
+				.session(this.session))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.products[0].id").value(1))
+			.andExpect(jsonPath("$.hasNext").value(true))
+			.andExpect(jsonPath("$.nextCursor").isNotEmpty());
+	}
+
+	@Test
+	@DisplayName("유효하지 않은 커서로 조회하면 실패")
+	public void testGetProductsAfterFailWithInvalidCursor() throws Exception {
+		this.mockMvc
+			.perform(get("/products")
+				.param("after", "not-a-cursor")
+				.session(this.session))
+			.andExpect(status().isBadRequest());
+	}
 }
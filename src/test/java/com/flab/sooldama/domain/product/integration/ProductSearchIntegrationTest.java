@@ -0,0 +1,62 @@
+package com.flab.sooldama.domain.product.integration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/*
+애플리케이션이 준비될 때 data.sql 의 제품으로 만든 검색 색인을 사용합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ProductSearchIntegrationTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	private MockHttpSession session;
+
+	private static final String SESSION_ATTR_KEY_FOR_AUTH = "USER_EMAIL";
+
+	private static final String SESSION_ATTR_VALUE_FOR_AUTH = "test@tester.com";
+
+	@BeforeEach
+	public void setUp() {
+		this.session = new MockHttpSession();
+		this.session.setAttribute(SESSION_ATTR_KEY_FOR_AUTH, SESSION_ATTR_VALUE_FOR_AUTH);
+	}
+
+	@Test
+	@DisplayName("이름에 검색어가 있는 제품이 설명에만 있는 제품보다 먼저 검색된다")
+	public void testSearchProducts() throws Exception {
+		this.mockMvc
+			.perform(get("/products/search")
+				.param("q", "막걸리")
+				.session(this.session))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.products[0].id").value(1))
+			.andExpect(jsonPath("$.products[1].id").value(2))
+			.andExpect(jsonPath("$.limit").value(20));
+	}
+
+	@Test
+	@DisplayName("검색어가 비어 있으면 검색 실패")
+	public void testSearchProductsFailWithBlankQuery() throws Exception {
+		this.mockMvc
+			.perform(get("/products/search")
+				.param("q", " ")
+				.session(this.session))
+			.andExpect(status().isBadRequest());
+	}
+}
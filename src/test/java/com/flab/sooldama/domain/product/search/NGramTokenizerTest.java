@@ -0,0 +1,50 @@
+package com.flab.sooldama.domain.product.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NGramTokenizerTest {
+
+	@Test
+	@DisplayName("단어마다 글자 두 개씩 겹쳐 자른다")
+	public void testTokenizeSplitsWordsIntoBigrams() {
+		assertEquals(List.of("살균", "막걸", "걸리"), NGramTokenizer.tokenize("살균 막걸리"));
+	}
+
+	@Test
+	@DisplayName("한 글자 단어는 그 글자를 그대로 사용한다")
+	public void testTokenizeKeepsSingleCharacterWord() {
+		assertEquals(List.of("술", "소주"), NGramTokenizer.tokenize("술, 소주!"));
+	}
+
+	@Test
+	@DisplayName("색인할 때는 bigram 에 더해 글자 하나짜리 조각도 만든다")
+	public void testTokenizeForIndexAddsUnigrams() {
+		assertEquals(List.of("막걸", "걸리", "막", "걸", "리", "술"),
+			NGramTokenizer.tokenizeForIndex("막걸리, 술"));
+	}
+
+	@Test
+	@DisplayName("한 글자 검색어는 색인한 긴 단어의 조각에도 들어 있다")
+	public void testSingleCharacterQueryMatchesIndexedTerms() {
+		assertEquals(List.of("꽃"), NGramTokenizer.tokenize("꽃"));
+		assertTrue(NGramTokenizer.tokenizeForIndex("연꽃이").contains("꽃"));
+	}
+
+	@Test
+	@DisplayName("전각 문자와 대문자는 반각 소문자로 바꾼다")
+	public void testTokenizeNormalizesWidthAndCase() {
+		assertEquals(NGramTokenizer.tokenize("ipa 7.0"), NGramTokenizer.tokenize("ＩＰＡ 7.0"));
+	}
+
+	@Test
+	@DisplayName("null 이나 구분자만 있는 문자열은 조각이 없다")
+	public void testTokenizeReturnsEmptyForBlank() {
+		assertTrue(NGramTokenizer.tokenize(null).isEmpty());
+		assertTrue(NGramTokenizer.tokenize(" ,. ").isEmpty());
+	}
+}
@@ -0,0 +1,119 @@
+package com.flab.sooldama.domain.product.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.flab.sooldama.domain.product.domain.Product;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductSearchIndexTest {
+
+	private ProductSearchIndex index;
+
+	@BeforeEach
+	public void setUp() {
+		this.index = new ProductSearchIndex();
+		this.index.index(product(1L, "백련 미스티 살균 막걸리", "연꽃이 들어간 살균 막걸리"));
+		this.index.index(product(2L, "구름을 벗삼아", "구름처럼 부드럽고 달콤한 막걸리"));
+		this.index.index(product(3L, "토박이 한산 소곡주", "한 번 마시면 멈출 수 없는 맛"));
+	}
+
+	@Test
+	@DisplayName("이름에 검색어가 있는 제품이 설명에만 있는 제품보다 먼저 온다")
+	public void testSearchRanksNameMatchFirst() {
+		assertEquals(List.of(1L, 2L), productIds(index.search("막걸리", 10)));
+	}
+
+	@Test
+	@DisplayName("검색어의 모든 조각이 들어 있는 제품만 찾는다")
+	public void testSearchRequiresEveryTerm() {
+		assertEquals(List.of(1L), productIds(index.search("살균 막걸리", 10)));
+		assertTrue(index.search("막걸리 소곡주", 10).isEmpty());
+		assertTrue(index.search("위스키", 10).isEmpty());
+	}
+
+	@Test
+	@DisplayName("한 글자 검색어로 긴 단어 안의 글자도 찾는다")
+	public void testSearchMatchesSingleCharacterInsideWords() {
+		assertEquals(List.of(1L), productIds(index.search("꽃", 10)));
+		assertEquals(List.of(1L, 2L), productIds(index.search("리", 10)));
+		assertEquals(List.of(3L), productIds(index.search("맛", 10)));
+	}
+
+	@Test
+	@DisplayName("지운 문서는 IDF 계산에 넣지 않는다")
+	public void testSearchIgnoresDeletedDocumentsInIdf() {
+		ProductSearchIndex fresh = new ProductSearchIndex();
+		fresh.index(product(1L, "백련 미스티 살균 막걸리", "연꽃이 들어간 살균 막걸리"));
+		fresh.index(product(3L, "토박이 한산 소곡주", "한 번 마시면 멈출 수 없는 맛"));
+
+		index.index(product(4L, "막걸리", "막걸리"));
+		index.remove(4L);
+		index.remove(2L);
+
+		assertEquals(fresh.search("막걸리", 10).get(0).getScore(),
+			index.search("막걸리", 10).get(0).getScore(), 1e-9);
+	}
+
+	@Test
+	@DisplayName("limit 개까지만 반환한다")
+	public void testSearchHonorsLimit() {
+		assertEquals(List.of(1L), productIds(index.search("막걸리", 1)));
+		assertTrue(index.search("막걸리", 0).isEmpty());
+	}
+
+	@Test
+	@DisplayName("다시 색인한 제품은 바뀐 내용으로 검색된다")
+	public void testIndexReplacesPreviousDocument() {
+		index.index(product(2L, "구름을 벗삼아", "구름처럼 부드럽고 달콤한 약주"));
+
+		assertEquals(List.of(1L), productIds(index.search("막걸리", 10)));
+		assertEquals(List.of(2L), productIds(index.search("약주", 10)));
+		assertEquals(3, index.size());
+		assertEquals(1, index.deletedCount());
+	}
+
+	@Test
+	@DisplayName("지운 제품은 검색되지 않는다")
+	public void testRemoveExcludesProduct() {
+		assertTrue(index.remove(1L));
+		assertFalse(index.remove(1L));
+
+		assertEquals(List.of(2L), productIds(index.search("막걸리", 10)));
+		assertEquals(2, index.size());
+	}
+
+	@Test
+	@DisplayName("짧은 posting list 를 기준으로 긴 목록을 건너뛰며 교집합을 찾는다")
+	public void testSearchIntersectsLongPostingLists() {
+		ProductSearchIndex large = new ProductSearchIndex();
+		for (long id = 1; id <= 5000; id++) {
+			String name = id % 1000 == 0 ? "한정판 막걸리 " + id : "막걸리 " + id;
+			large.index(product(id, name, "쌀로 빚은 술"));
+		}
+
+		assertEquals(List.of(1000L, 2000L, 3000L, 4000L, 5000L),
+			productIds(large.search("한정판 막걸리", 10)).stream().sorted()
+				.collect(Collectors.toList()));
+		assertEquals(10, large.search("막걸리", 10).size());
+	}
+
+	private static List<Long> productIds(List<SearchHit> hits) {
+		return hits.stream().map(SearchHit::getProductId).collect(Collectors.toList());
+	}
+
+	private static Product product(Long id, String name, String description) {
+		return Product.builder()
+			.id(id)
+			.productCategoryId(1L)
+			.name(name)
+			.price(4500)
+			.description(description)
+			.build();
+	}
+}
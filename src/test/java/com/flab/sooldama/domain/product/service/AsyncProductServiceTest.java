@@ -0,0 +1,75 @@
+package com.flab.sooldama.domain.product.service;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.flab.sooldama.domain.product.cache.ProductPageBody;
+import com.flab.sooldama.domain.product.dto.response.ProductResponse;
+import com.flab.sooldama.domain.product.exception.ProductNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpSession;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncProductServiceTest {
+
+	@Mock
+	private ProductService productService;
+
+	private ProductReadExecutor productReadExecutor;
+
+	private AsyncProductService asyncProductService;
+
+	private final MockHttpSession session = new MockHttpSession();
+
+	@BeforeEach
+	public void setUp() {
+		ProductReadProperties properties = new ProductReadProperties();
+		this.productReadExecutor = new ProductReadExecutor(properties.getPoolSize(),
+			properties.getQueueCapacity(), new SimpleMeterRegistry());
+		this.asyncProductService = new AsyncProductService(productService, productReadExecutor);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.productReadExecutor.shutdown();
+	}
+
+	@Test
+	@DisplayName("ProductService 가 만든 응답을 그대로 반환하고, 목록은 캐시된 본문을 사용한다")
+	public void testReturnsProductServiceResponses() {
+		ProductPageBody page = new ProductPageBody(new byte[0], "\"page\"", 0);
+		ProductPageBody pageAfter = new ProductPageBody(new byte[0], "\"page-after\"", 0);
+		ProductDetail product = new ProductDetail(ProductResponse.builder().id(1L).build(), 0L);
+
+		when(productService.getProductsBody(0, 20, null, session)).thenReturn(page);
+		when(productService.getProductsAfterBody("", 20, null, session)).thenReturn(pageAfter);
+		when(productService.getProductById(1L, session)).thenReturn(product);
+
+		assertSame(page, asyncProductService.getProductsBody(0, 20, null, session).join());
+		assertSame(pageAfter,
+			asyncProductService.getProductsAfterBody("", 20, null, session).join());
+		assertSame(product, asyncProductService.getProductById(1L, session).join());
+	}
+
+	@Test
+	@DisplayName("ProductService 가 던진 예외로 CompletableFuture 가 완료된다")
+	public void testCompletesWithProductServiceException() {
+		when(productService.getProductById(1000L, session))
+			.thenThrow(new ProductNotFoundException("제품이 존재하지 않습니다."));
+
+		CompletionException e = assertThrows(CompletionException.class,
+			() -> asyncProductService.getProductById(1000L, session).join());
+
+		assertTrue(e.getCause() instanceof ProductNotFoundException);
+	}
+}
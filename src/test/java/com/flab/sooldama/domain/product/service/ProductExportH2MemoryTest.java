@@ -0,0 +1,118 @@
+package com.flab.sooldama.domain.product.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flab.sooldama.domain.product.dao.ProductMapper;
+import com.flab.sooldama.domain.product.exporter.ExportFormat;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/*
+ProductExportMemoryTest 는 DB 없이 내보내기 코드만 확인하므로, 여기서는 실제 DB 의 제품 100만 개를 내보냅니다.
+MyBatis 매퍼(ProductMapper.xml)의 Cursor, 트랜잭션 매니저, JDBC 드라이버까지 함께 실행해서
+조회 결과를 한 번에 메모리에 올리는 곳이 없는지 확인합니다. memoryTest 태스크(-Xmx64m)에서 실행합니다.
+
+H2 메모리 DB 는 테이블이 힙에 있으므로 파일 DB 를 사용합니다. JdbcDataSource 는 커넥션을 재사용하지 않으므로 마지막 커넥션이 닫힐 때 DB 도 닫힙니다.
+LAZY_QUERY_EXECUTION 으로 조회 결과를 미리 만들지 않고 읽는 만큼 가져옵니다.
+MySQL 에서 같은 동작을 하려면 JDBC URL 에 useCursorFetch=true 가 있어야 합니다. (ProductMapper.xml 참고)
+ */
+@Tag("memory")
+class ProductExportH2MemoryTest {
+
+	private static final int PRODUCT_COUNT = 1_000_000;
+
+	private static final int INSERT_BATCH_SIZE = 100_000;
+
+	private static final int CATEGORY_COUNT = 4;
+
+	private static final long MAX_HEAP_BYTES = 64L * 1024 * 1024;
+
+	@TempDir
+	static Path databaseDirectory;
+
+	private static JdbcDataSource dataSource;
+
+	private static ProductExportService productExportService;
+
+	@BeforeAll
+	public static void setUp() throws Exception {
+		dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:file:" + databaseDirectory.resolve("export")
+			+ ";NON_KEYWORDS=USER;LAZY_QUERY_EXECUTION=TRUE");
+		dataSource.setUser("sa");
+
+		new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		// 제품은 카테고리 4개에 번갈아 배정하므로, 외래 키를 만족하도록 카테고리를 먼저 넣습니다.
+		jdbcTemplate.update("INSERT INTO product_category (name, description, image_url) "
+			+ "SELECT CONCAT('카테고리 ', X), '내보내기 카테고리', "
+			+ "'https://www.sooldamhwa.com/images/common/mainLogo.png' "
+			+ "FROM SYSTEM_RANGE(1, " + CATEGORY_COUNT + ")");
+		for (int start = 1; start <= PRODUCT_COUNT; start += INSERT_BATCH_SIZE) {
+			jdbcTemplate.update("INSERT INTO product (product_category_id, name, price, image_url, "
+					+ "description, abv, capacity) "
+					+ "SELECT MOD(X, " + CATEGORY_COUNT + ") + 1, CONCAT('내보내기 제품 ', X), 1000 + MOD(X, 50000), "
+					+ "'https://www.sooldamhwa.com/images/common/mainLogo.png', "
+					+ "CONCAT('내보내기 메모리 사용량을 확인하기 위한 제품 ', X), 7.0, 375 "
+					+ "FROM SYSTEM_RANGE(?, ?)",
+				start, start + INSERT_BATCH_SIZE - 1);
+		}
+
+		SqlSessionFactoryBean sqlSessionFactoryBean = new SqlSessionFactoryBean();
+		sqlSessionFactoryBean.setDataSource(dataSource);
+		sqlSessionFactoryBean.setMapperLocations(
+			new ClassPathResource("mybatis/mapper/ProductMapper.xml"));
+		SqlSessionFactory sqlSessionFactory = sqlSessionFactoryBean.getObject();
+		ProductMapper productMapper = new SqlSessionTemplate(sqlSessionFactory)
+			.getMapper(ProductMapper.class);
+
+		productExportService = new ProductExportService(productMapper,
+			new DataSourceTransactionManager(dataSource), new ObjectMapper());
+	}
+
+	@ParameterizedTest
+	@EnumSource(ExportFormat.class)
+	@DisplayName("DB 의 제품 100만 개를 작은 힙에서 Cursor 로 읽어 내보낸다")
+	public void testExportMillionRowsFromDatabaseWithSmallHeap(ExportFormat format) {
+		assertTrue(Runtime.getRuntime().maxMemory() <= MAX_HEAP_BYTES,
+			"memoryTest 태스크(-Xmx64m)로 실행해야 합니다.");
+
+		CountingOutputStream outputStream = new CountingOutputStream();
+
+		long exported = productExportService.exportProducts(format, null, outputStream);
+
+		assertEquals(PRODUCT_COUNT, exported);
+		assertTrue(outputStream.count > MAX_HEAP_BYTES);
+	}
+
+	private static class CountingOutputStream extends OutputStream {
+
+		private long count;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.flab.sooldama.domain.product.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flab.sooldama.domain.product.dao.ProductMapper;
+import com.flab.sooldama.domain.product.domain.Product;
+import com.flab.sooldama.domain.product.exporter.ExportFormat;
+import java.io.OutputStream;
+import java.util.Iterator;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/*
+제품 100만 개를 내보내도 힙 사용량이 늘어나지 않는지 검증합니다.
+제품 100만 개를 메모리에 모으면 수백 MB 가 필요하므로, 힙을 64MB 로 제한한 memoryTest 태스크에서 실행합니다.
+./gradlew memoryTest
+
+DB 대신 조회할 때마다 제품을 하나씩 만드는 Cursor 를 사용해서, 내보내기 코드(ProductExportWriter)가 행을 모아 두지 않는지만 확인합니다.
+매퍼, 트랜잭션, JDBC 드라이버까지 포함한 경로는 ProductExportH2MemoryTest 가 확인합니다.
+힙 크기가 작아 다른 테스트와 함께 실행할 수 없으므로 test 태스크에서는 제외합니다.
+ */
+@Tag("memory")
+class ProductExportMemoryTest {
+
+	private static final int PRODUCT_COUNT = 1_000_000;
+
+	private static final long MAX_HEAP_BYTES = 64L * 1024 * 1024;
+
+	@ParameterizedTest
+	@EnumSource(ExportFormat.class)
+	@DisplayName("제품 100만 개를 작은 힙에서 내보낸다")
+	public void testExportMillionProductsWithSmallHeap(ExportFormat format) {
+		assertTrue(Runtime.getRuntime().maxMemory() <= MAX_HEAP_BYTES,
+			"memoryTest 태스크(-Xmx64m)로 실행해야 합니다.");
+
+		ProductMapper productMapper = mock(ProductMapper.class);
+		when(productMapper.selectProductCursor(null)).thenReturn(new GeneratingCursor(PRODUCT_COUNT));
+		ProductExportService productExportService = new ProductExportService(productMapper,
+			mock(PlatformTransactionManager.class), new ObjectMapper());
+		CountingOutputStream outputStream = new CountingOutputStream();
+
+		long exported = productExportService.exportProducts(format, null, outputStream);
+
+		assertEquals(PRODUCT_COUNT, exported);
+		assertTrue(outputStream.count > MAX_HEAP_BYTES);
+	}
+
+	private static class GeneratingCursor implements Cursor<Product> {
+
+		private final int count;
+
+		private int index = -1;
+
+		GeneratingCursor(int count) {
+			this.count = count;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return index < count - 1;
+		}
+
+		@Override
+		public boolean isConsumed() {
+			return index == count - 1;
+		}
+
+		@Override
+		public int getCurrentIndex() {
+			return index;
+		}
+
+		@Override
+		public Iterator<Product> iterator() {
+			return new Iterator<>() {
+
+				@Override
+				public boolean hasNext() {
+					return index < count - 1;
+				}
+
+				@Override
+				public Product next() {
+					index++;
+					return Product.builder()
+						.id((long) index + 1)
+						.productCategoryId((long) index % 4 + 1)
+						.name("내보내기 제품 " + index)
+						.price(1000 + index % 50000)
+						.imageUrl("https://www.sooldamhwa.com/images/common/mainLogo.png")
+						.description("내보내기 메모리 사용량을 확인하기 위한 제품 " + index)
+						.abv(7.0)
+						.capacity(375)
+						.build();
+				}
+			};
+		}
+
+		@Override
+		public void close() {
+			index = count - 1;
+		}
+	}
+
+	private static class CountingOutputStream extends OutputStream {
+
+		private long count;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+	}
+}
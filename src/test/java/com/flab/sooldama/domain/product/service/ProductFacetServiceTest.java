@@ -0,0 +1,148 @@
+package com.flab.sooldama.domain.product.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.flab.sooldama.domain.product.cache.ProductCache;
+import com.flab.sooldama.domain.product.cache.ProductsChangedEvent;
+import com.flab.sooldama.domain.product.dao.ProductMapper;
+import com.flab.sooldama.domain.product.domain.Product;
+import com.flab.sooldama.domain.product.dto.request.ProductCursor;
+import com.flab.sooldama.domain.product.dto.request.ProductFilterRequest;
+import com.flab.sooldama.domain.product.dto.response.ProductFilterResponse;
+import com.flab.sooldama.domain.product.exception.InvalidCursorException;
+import java.util.List;
+import java.util.Optional;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ProductFacetServiceTest {
+
+	@Mock
+	private ProductMapper productMapper;
+
+	@Mock
+	private ProductCache productCache;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private ProductFacetService productFacetService;
+
+	@BeforeEach
+	public void setUp() {
+		this.productFacetService = new ProductFacetService(productMapper, productCache,
+			transactionManager);
+
+		List<Product> products = List.of(
+			product(1L, 7.0, 4500),
+			product(2L, 6.0, 20000),
+			product(3L, 7.5, 9000));
+		Cursor<Product> cursor = cursor(products);
+		when(productMapper.selectProductCursor(null)).thenReturn(cursor);
+
+		this.productFacetService.rebuild();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.productFacetService.shutdown();
+	}
+
+	@Test
+	@DisplayName("조건에 맞는 제품과 패싯별 제품 수를 응답한다")
+	public void testFilterReturnsProductsAndFacets() {
+		when(productCache.get(anyLong())).thenAnswer(invocation ->
+			Optional.of(product(invocation.getArgument(0), 7.0, 4500)));
+		ProductFilterRequest request = ProductFilterRequest.builder()
+			.categoryId(1L)
+			.abvMin(6.5)
+			.priceMax(10000)
+			.build();
+
+		ProductFilterResponse response = productFacetService.filter(request, 20);
+
+		assertEquals(2, response.getTotal());
+		assertEquals(2, response.getProducts().size());
+		assertFalse(response.isHasNext());
+		assertNull(response.getNextCursor());
+		assertEquals(6, response.getFacets().get("abv").size());
+		assertEquals(2, response.getFacets().get("abv").get(2).getCount());
+	}
+
+	@Test
+	@DisplayName("다음 페이지가 있으면 커서를 응답하고, 커서로 이어서 조회한다")
+	public void testFilterPagesWithCursor() {
+		when(productCache.get(anyLong())).thenAnswer(invocation ->
+			Optional.of(product(invocation.getArgument(0), 7.0, 4500)));
+		ProductFilterRequest request = ProductFilterRequest.builder().categoryId(1L).build();
+
+		ProductFilterResponse first = productFacetService.filter(request, 2);
+		request.setAfter(first.getNextCursor());
+		ProductFilterResponse second = productFacetService.filter(request, 2);
+
+		assertTrue(first.isHasNext());
+		assertEquals(2L, ProductCursor.decode(first.getNextCursor(), 1L).getLastId());
+		assertEquals(3L, second.getProducts().get(0).getId());
+		assertFalse(second.isHasNext());
+	}
+
+	@Test
+	@DisplayName("다른 카테고리의 커서로는 조회할 수 없다")
+	public void testFilterFailsWithMismatchedCursor() {
+		ProductFilterRequest request = ProductFilterRequest.builder()
+			.categoryId(2L)
+			.after(ProductCursor.of(1L, 1L).encode())
+			.build();
+
+		assertThrows(InvalidCursorException.class, () -> productFacetService.filter(request, 20));
+	}
+
+	@Test
+	@DisplayName("바뀐 제품은 다시 색인하고, 제품 변경 이벤트는 색인 스레드에서 처리한다")
+	public void testRefreshReindexesChangedProducts() throws InterruptedException {
+		when(productMapper.selectProductById(1L)).thenReturn(Optional.empty());
+		when(productMapper.selectProductById(2L)).thenReturn(Optional.empty());
+
+		productFacetService.refresh(List.of(1L));
+		productFacetService.onProductsChanged(new ProductsChangedEvent(List.of(2L)));
+
+		long deadline = System.currentTimeMillis() + 5000L;
+		while (productFacetService.indexedCount() != 1 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10L);
+		}
+		assertEquals(1, productFacetService.indexedCount());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Cursor<Product> cursor(List<Product> products) {
+		Cursor<Product> cursor = mock(Cursor.class);
+		when(cursor.iterator()).thenAnswer(invocation -> products.iterator());
+		return cursor;
+	}
+
+	private static Product product(Long id, Double abv, Integer price) {
+		return Product.builder()
+			.id(id)
+			.productCategoryId(1L)
+			.name("제품 " + id)
+			.abv(abv)
+			.price(price)
+			.capacity(500)
+			.build();
+	}
+}
@@ -0,0 +1,108 @@
+package com.flab.sooldama.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.flab.sooldama.domain.product.exception.ProductReadRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ProductReadExecutorTest {
+
+	private SimpleMeterRegistry registry;
+
+	private ProductReadExecutor productReadExecutor;
+
+	@BeforeEach
+	public void setUp() {
+		this.registry = new SimpleMeterRegistry();
+		this.productReadExecutor = new ProductReadExecutor(1, 1, registry);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.productReadExecutor.shutdown();
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	@DisplayName("조회는 요청 스레드가 아닌 조회 스레드에서 요청 정보와 함께 실행된다")
+	public void testSubmitRunsOnReadThreadWithRequestAttributes() {
+		RequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+		RequestContextHolder.setRequestAttributes(attributes);
+
+		String threadName = productReadExecutor.submit(() -> Thread.currentThread().getName())
+			.join();
+		RequestAttributes propagated = productReadExecutor
+			.submit(RequestContextHolder::getRequestAttributes).join();
+
+		assertThat(threadName).startsWith("product-read-");
+		assertThat(propagated).isSameAs(attributes);
+		assertThat(registry.get("product.read.wait").timer().count()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("조회 중 던진 예외로 CompletableFuture 가 완료된다")
+	public void testSubmitCompletesExceptionally() {
+		CompletableFuture<Object> future = productReadExecutor.submit(() -> {
+			throw new IllegalStateException("조회 실패");
+		});
+
+		assertThat(future).failsWithin(Duration.ofSeconds(5))
+			.withThrowableOfType(ExecutionException.class)
+			.withCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("스레드와 대기열이 모두 차 있으면 바로 거절한다")
+	public void testSubmitFailWhenSaturated() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		CompletableFuture<Void> running = productReadExecutor.submit(() -> {
+			started.countDown();
+			await(release);
+			return null;
+		});
+		started.await();
+		CompletableFuture<Void> queued = productReadExecutor.submit(() -> null);
+
+		assertThat(productReadExecutor.getQueueSize()).isEqualTo(1);
+		assertThat(registry.get("product.read.queue.size").gauge().value()).isEqualTo(1.0);
+		assertThrows(ProductReadRejectedException.class,
+			() -> productReadExecutor.submit(() -> null));
+		assertThat(registry.get("product.read.rejected").counter().count()).isEqualTo(1.0);
+
+		release.countDown();
+		running.join();
+		queued.join();
+	}
+
+	@Test
+	@DisplayName("잘못된 설정값으로는 생성할 수 없다")
+	public void testConstructorFailWithInvalidParameters() {
+		assertThrows(IllegalArgumentException.class,
+			() -> new ProductReadExecutor(0, 1, registry));
+		assertThrows(IllegalArgumentException.class,
+			() -> new ProductReadExecutor(1, 0, registry));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,168 @@
+package com.flab.sooldama.domain.product.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flab.sooldama.domain.product.cache.ProductCache;
+import com.flab.sooldama.domain.product.cache.ProductsChangedEvent;
+import com.flab.sooldama.domain.product.dao.ProductMapper;
+import com.flab.sooldama.domain.product.domain.Product;
+import com.flab.sooldama.domain.product.dto.response.ProductResponse;
+import com.flab.sooldama.domain.product.dto.response.ProductSearchResponse;
+import com.flab.sooldama.domain.product.index.ProductIndexMaintainer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchServiceTest {
+
+	@Mock
+	private ProductMapper productMapper;
+
+	@Mock
+	private ProductCache productCache;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private ProductSearchService productSearchService;
+
+	private static final LocalDateTime CREATED_AT = LocalDateTime.of(2022, 10, 1, 12, 0);
+
+	@BeforeEach
+	public void setUp() {
+		this.productSearchService = new ProductSearchService(productMapper, productCache,
+			transactionManager);
+
+		List<Product> products = List.of(
+			product(1L, "백련 미스티 살균 막걸리", null),
+			product(2L, "구름을 벗삼아 막걸리", null));
+		Cursor<Product> cursor = cursor(products);
+		when(productMapper.selectProductCursor(null)).thenReturn(cursor);
+
+		this.productSearchService.rebuild();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.productSearchService.shutdown();
+	}
+
+	@Test
+	@DisplayName("검색한 제품은 점수 순서대로 ProductCache 에서 가져온다")
+	public void testSearchReturnsProductsFromCache() {
+		when(productCache.get(anyLong())).thenAnswer(invocation ->
+			Optional.of(product(invocation.getArgument(0), "막걸리", null)));
+
+		ProductSearchResponse response = productSearchService.search("살균 막걸리", 20);
+
+		assertEquals(List.of(1L), productIds(response.getProducts()));
+		assertEquals(20, response.getLimit());
+	}
+
+	@Test
+	@DisplayName("캐시에 없는 제품은 검색 결과에서 뺀다")
+	public void testSearchSkipsProductsMissingFromCache() {
+		when(productCache.get(anyLong())).thenReturn(Optional.empty());
+
+		assertTrue(productSearchService.search("막걸리", 20).getProducts().isEmpty());
+	}
+
+	@Test
+	@DisplayName("바뀐 제품만 다시 색인하고 없어진 제품은 색인에서 뺀다")
+	public void testRefreshReindexesChangedProducts() {
+		when(productMapper.selectProductById(1L))
+			.thenReturn(Optional.of(product(1L, "백련 미스티 살균 약주", null)));
+		when(productMapper.selectProductById(2L)).thenReturn(Optional.empty());
+
+		productSearchService.refresh(List.of(1L, 2L));
+
+		assertEquals(1, productSearchService.indexedCount());
+		assertTrue(productSearchService.search("막걸리", 20).getProducts().isEmpty());
+	}
+
+	@Test
+	@DisplayName("어떤 제품이 바뀌었는지 모르면 마지막으로 색인한 뒤에 바뀐 제품을 찾아 색인한다")
+	public void testRefreshAllCatchesUpSinceWatermark() {
+		List<Product> changed = List.of(
+			product(2L, "구름을 벗삼아", CREATED_AT.plusDays(1)),
+			product(3L, "토박이 한산 소곡주", null));
+		Cursor<Product> cursor = cursor(changed);
+		when(productMapper.selectProductsChangedSince(2L, CREATED_AT)).thenReturn(cursor);
+
+		productSearchService.refresh(List.of());
+
+		assertEquals(2, productSearchService.indexedCount());
+		verify(productMapper, times(1)).selectProductsChangedSince(2L, CREATED_AT);
+	}
+
+	@Test
+	@DisplayName("지운 문서가 남은 문서보다 많아지면 색인을 새로 만든다")
+	public void testRefreshRebuildsWhenTooManyDeletedDocuments() {
+		when(productMapper.selectProductById(1L))
+			.thenReturn(Optional.of(product(1L, "백련 미스티 살균 막걸리", null)));
+
+		List<Long> productIds = new ArrayList<>();
+		for (int i = 0; i <= ProductIndexMaintainer.COMPACTION_THRESHOLD; i++) {
+			productIds.add(1L);
+		}
+		productSearchService.refresh(productIds);
+
+		verify(productMapper, times(2)).selectProductCursor(null);
+		assertEquals(2, productSearchService.indexedCount());
+	}
+
+	@Test
+	@DisplayName("제품 변경 이벤트는 색인 스레드에서 처리한다")
+	public void testOnProductsChangedRefreshesInBackground() throws InterruptedException {
+		when(productMapper.selectProductById(any())).thenReturn(Optional.empty());
+
+		productSearchService.onProductsChanged(new ProductsChangedEvent(List.of(1L)));
+
+		long deadline = System.currentTimeMillis() + 5000L;
+		while (productSearchService.indexedCount() != 1 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10L);
+		}
+		assertEquals(1, productSearchService.indexedCount());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Cursor<Product> cursor(List<Product> products) {
+		Cursor<Product> cursor = mock(Cursor.class);
+		when(cursor.iterator()).thenAnswer(invocation -> products.iterator());
+		return cursor;
+	}
+
+	private static List<Long> productIds(List<ProductResponse> products) {
+		return products.stream().map(ProductResponse::getId).collect(Collectors.toList());
+	}
+
+	private static Product product(Long id, String name, LocalDateTime deletedAt) {
+		return Product.builder()
+			.id(id)
+			.productCategoryId(1L)
+			.name(name)
+			.price(4500)
+			.createdAt(CREATED_AT)
+			.deletedAt(deletedAt)
+			.build();
+	}
+}
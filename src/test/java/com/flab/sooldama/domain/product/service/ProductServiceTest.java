@@ -3,43 +3,83 @@ package com.flab.sooldama.domain.product.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flab.sooldama.domain.product.cache.NoOpProductRemoteCache;
+import com.flab.sooldama.domain.product.cache.ProductCache;
+import com.flab.sooldama.domain.product.cache.ProductCacheProperties;
+import com.flab.sooldama.domain.product.cache.ProductPageBody;
+import com.flab.sooldama.domain.product.cache.ProductPageBodyCache;
+import com.flab.sooldama.domain.product.cache.ProductsChangedEvent;
 import com.flab.sooldama.domain.product.dao.ProductMapper;
 import com.flab.sooldama.domain.product.domain.Product;
+import com.flab.sooldama.domain.product.dto.request.ProductCursor;
 import com.flab.sooldama.domain.product.dto.response.ProductResponse;
+import com.flab.sooldama.domain.product.exception.InvalidCursorException;
 import com.flab.sooldama.domain.product.exception.ProductNotFoundException;
+import com.flab.sooldama.domain.product.snapshot.ProductSnapshotHolder;
+import com.flab.sooldama.domain.product.snapshot.ProductSnapshotProperties;
+import com.flab.sooldama.global.auth.AuthService;
+import com.flab.sooldama.global.auth.SessionAuthenticator;
+import com.flab.sooldama.global.paging.PagingProperties;
+import com.flab.sooldama.global.paging.RowsServedRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ActiveProfiles("test")
 @ExtendWith(MockitoExtension.class)
 public class ProductServiceTest {
 
 	/*
-	@InjectMocks, @Mock 어노테이션
-	@Mock 으로 mock 객체를 생성하여, @InjectMocks 가 붙은 객체에 주입시킵니다.
-	@InjectMocks(Service) @Mock(DAO) 를 활용하여 Service 테스트 목객체에 DAO 목객체를 주입시킵니다.
+	@Mock 어노테이션
+	@Mock 으로 DAO 목객체를 생성합니다.
+	ProductCache 는 목객체가 아닌 실제 객체를 사용해야 캐시 동작까지 검증할 수 있으므로,
+	Service 는 DAO 목객체를 주입한 ProductCache 로 직접 생성합니다. 2차 캐시는 사용하지 않습니다.
+	목록 조회는 다음 페이지가 있는지 알기 위해 limit 보다 한 개 더 조회합니다.
+	카탈로그 스냅샷은 만들지 않은 상태로 시작하고, 스냅샷 테스트에서만 직접 만듭니다.
 	 */
-	@InjectMocks
 	private ProductService productService;
 
 	@Mock
 	private ProductMapper productMapper;
 
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private ProductSnapshotHolder productSnapshotHolder;
+
+	private ProductPageBodyCache productPageBodyCache;
+
 	private MockHttpSession session;
 
 	private Product product;
@@ -60,6 +100,19 @@ public class ProductServiceTest {
 
 	@BeforeEach
 	public void setUp() {
+		ProductCache productCache = new ProductCache(this.productMapper,
+			new NoOpProductRemoteCache(), new ProductCacheProperties());
+		AuthService authService = new AuthService();
+		RowsServedRecorder rowsServedRecorder = new RowsServedRecorder(authService,
+			new SessionAuthenticator(authService), new SimpleMeterRegistry(),
+			new PagingProperties());
+		this.productSnapshotHolder = new ProductSnapshotHolder(this.productMapper,
+			this.transactionManager, new ProductSnapshotProperties());
+		this.productPageBodyCache = new ProductPageBodyCache(new ObjectMapper(),
+			new ProductCacheProperties());
+		this.productService = new ProductService(productCache, rowsServedRecorder,
+			this.productSnapshotHolder, this.productPageBodyCache);
+
 		this.product = Product.builder()
 			.id(VALID_PRODUCT_ID)
 			.productCategoryId(VALID_CATEGORY_ID)
@@ -75,6 +128,11 @@ public class ProductServiceTest {
 		this.session.setAttribute(SESSION_ATTR_KEY_FOR_AUTH, SESSION_ATTR_VALUE_FOR_AUTH);
 	}
 
+	@AfterEach
+	public void tearDown() {
+		this.productSnapshotHolder.shutdown();
+	}
+
 	@Test
 	@DisplayName("제품이 존재할 때 전체 제품 조회 성공 테스트 - offeet, limit에 알맞는 리스트를 반환")
 	public void testGetProducts() {
@@ -85,17 +143,42 @@ public class ProductServiceTest {
 			products.add(this.product);
 		}
 
-		when(productMapper.selectProducts(DEFAULT_OFFSET, VALID_LIMIT, DEFAULT_CATEGORY_ID))
+		when(productMapper.selectProducts(DEFAULT_OFFSET, VALID_LIMIT + 1, DEFAULT_CATEGORY_ID))
+			.thenReturn(products);
+
+		// when
+		JsonNode pageResponse = pageOf(productService
+			.getProductsBody(DEFAULT_OFFSET, VALID_LIMIT, DEFAULT_CATEGORY_ID, this.session));
+
+		// then
+		verify(productMapper).selectProducts(DEFAULT_OFFSET, VALID_LIMIT + 1, DEFAULT_CATEGORY_ID);
+		assertEquals(VALID_LIMIT - DEFAULT_OFFSET, pageResponse.get("products").size());
+		assertFalse(pageResponse.get("hasNext").asBoolean());
+		assertFalse(pageResponse.hasNonNull("nextOffset"));
+	}
+
+	@Test
+	@DisplayName("limit 보다 많은 제품이 조회되면 limit 개만 반환하고 다음 페이지 offset 을 알려준다")
+	public void testGetProductsReturnsNextOffsetWhenMoreProductsExist() {
+
+		// given
+		List<Product> products = new ArrayList<>();
+		for (int i = 0; i <= VALID_LIMIT; i++) {
+			products.add(this.product);
+		}
+
+		when(productMapper.selectProducts(DEFAULT_OFFSET, VALID_LIMIT + 1, DEFAULT_CATEGORY_ID))
 			.thenReturn(products);
 
 		// when
-		List<ProductResponse> productsResponse = productService
-			.getProducts(DEFAULT_OFFSET, VALID_LIMIT, DEFAULT_CATEGORY_ID, this.session);
+		JsonNode pageResponse = pageOf(productService
+			.getProductsBody(DEFAULT_OFFSET, VALID_LIMIT, DEFAULT_CATEGORY_ID, this.session));
 
 		// then
-		verify(productMapper).selectProducts(DEFAULT_OFFSET, VALID_LIMIT, DEFAULT_CATEGORY_ID);
-		assertEquals(VALID_LIMIT - DEFAULT_OFFSET, productsResponse.size());
-		assertFalse(productsResponse.isEmpty());
+		assertEquals(VALID_LIMIT, pageResponse.get("products").size());
+		assertEquals(VALID_LIMIT, pageResponse.get("limit").asInt());
+		assertTrue(pageResponse.get("hasNext").asBoolean());
+		assertEquals(DEFAULT_OFFSET + VALID_LIMIT, pageResponse.get("nextOffset").asInt());
 	}
 
 	@Test
@@ -104,16 +187,16 @@ public class ProductServiceTest {
 
 		// given
 		List<Product> products = new ArrayList<>();
-		when(productMapper.selectProducts(DEFAULT_OFFSET, VALID_LIMIT, DEFAULT_CATEGORY_ID))
+		when(productMapper.selectProducts(DEFAULT_OFFSET, VALID_LIMIT + 1, DEFAULT_CATEGORY_ID))
 			.thenReturn(products);
 
 		// when
-		List<ProductResponse> productsResponse = productService
-			.getProducts(DEFAULT_OFFSET, VALID_LIMIT, DEFAULT_CATEGORY_ID, this.session);
+		JsonNode pageResponse = pageOf(productService
+			.getProductsBody(DEFAULT_OFFSET, VALID_LIMIT, DEFAULT_CATEGORY_ID, this.session));
 
 		// then
-		verify(productMapper).selectProducts(DEFAULT_OFFSET, VALID_LIMIT, DEFAULT_CATEGORY_ID);
-		assertTrue(productsResponse.isEmpty());
+		verify(productMapper).selectProducts(DEFAULT_OFFSET, VALID_LIMIT + 1, DEFAULT_CATEGORY_ID);
+		assertTrue(pageResponse.get("products").isEmpty());
 	}
 
 	@Test
@@ -126,18 +209,18 @@ public class ProductServiceTest {
 			products.add(this.product);
 		}
 
-		when(productMapper.selectProducts(DEFAULT_OFFSET, VALID_LIMIT, VALID_CATEGORY_ID))
+		when(productMapper.selectProducts(DEFAULT_OFFSET, VALID_LIMIT + 1, VALID_CATEGORY_ID))
 			.thenReturn(products);
 
 		// when
-		List<ProductResponse> productsResponse =
-			productService.getProducts(DEFAULT_OFFSET, VALID_LIMIT, VALID_CATEGORY_ID,
-				this.session);
+		JsonNode pageResponse =
+			pageOf(productService.getProductsBody(DEFAULT_OFFSET, VALID_LIMIT, VALID_CATEGORY_ID,
+				this.session));
 
 		// then
-		verify(productMapper).selectProducts(DEFAULT_OFFSET, VALID_LIMIT, VALID_CATEGORY_ID);
-		assertEquals(VALID_LIMIT - DEFAULT_OFFSET, productsResponse.size());
-		assertFalse(productsResponse.isEmpty());
+		verify(productMapper).selectProducts(DEFAULT_OFFSET, VALID_LIMIT + 1, VALID_CATEGORY_ID);
+		assertEquals(VALID_LIMIT - DEFAULT_OFFSET, pageResponse.get("products").size());
+		assertFalse(pageResponse.get("products").isEmpty());
 
 		for (Product product : products) {
 			assertEquals(VALID_CATEGORY_ID, product.getProductCategoryId());
@@ -150,17 +233,17 @@ public class ProductServiceTest {
 
 		// given
 		List<Product> products = new ArrayList<>();
-		when(productMapper.selectProducts(DEFAULT_OFFSET, VALID_LIMIT,
+		when(productMapper.selectProducts(DEFAULT_OFFSET, VALID_LIMIT + 1,
 			VALID_CATEGORY_ID)).thenReturn(products);
 
 		// when
-		List<ProductResponse> productsResponse =
-			productService.getProducts(DEFAULT_OFFSET, VALID_LIMIT, VALID_CATEGORY_ID,
-				this.session);
+		JsonNode pageResponse =
+			pageOf(productService.getProductsBody(DEFAULT_OFFSET, VALID_LIMIT, VALID_CATEGORY_ID,
+				this.session));
 
 		// then
-		verify(productMapper).selectProducts(DEFAULT_OFFSET, VALID_LIMIT, VALID_CATEGORY_ID);
-		assertTrue(productsResponse.isEmpty());
+		verify(productMapper).selectProducts(DEFAULT_OFFSET, VALID_LIMIT + 1, VALID_CATEGORY_ID);
+		assertTrue(pageResponse.get("products").isEmpty());
 	}
 
 	@Test
@@ -173,7 +256,7 @@ public class ProductServiceTest {
 
 		// when
 		ProductResponse productResponse = productService.getProductById(VALID_PRODUCT_ID,
-			this.session);
+			this.session).getProduct();
 
 		// then
 		verify(productMapper).selectProductById(VALID_PRODUCT_ID);
@@ -195,4 +278,252 @@ public class ProductServiceTest {
 			// when
 			() -> productService.getProductById(INVALID_PRODUCT_ID, this.session));
 	}
+
+	@Test
+	@DisplayName("같은 아이디로 여러 번 조회하면 DB 는 한 번만 조회한다")
+	public void testGetProductByIdLoadsFromMapperOnlyOnce() {
+
+		// given
+		when(productMapper.selectProductById(VALID_PRODUCT_ID))
+			.thenReturn(Optional.of(this.product));
+
+		// when
+		productService.getProductById(VALID_PRODUCT_ID, this.session);
+		ProductResponse productResponse = productService.getProductById(VALID_PRODUCT_ID,
+			this.session).getProduct();
+
+		// then
+		verify(productMapper, times(1)).selectProductById(VALID_PRODUCT_ID);
+		assertEquals(VALID_PRODUCT_ID, productResponse.getId());
+	}
+
+	@Test
+	@DisplayName("커서 없이 조회하면 첫 페이지와 다음 페이지 커서를 반환")
+	public void testGetProductsAfterReturnsFirstPageWithNextCursor() {
+
+		// given
+		List<Product> products = new ArrayList<>();
+		for (long id = 1; id <= VALID_LIMIT + 1; id++) {
+			products.add(Product.builder().id(id).productCategoryId(VALID_CATEGORY_ID).build());
+		}
+
+		when(productMapper.selectProductsAfter(null, VALID_LIMIT + 1, DEFAULT_CATEGORY_ID))
+			.thenReturn(products);
+
+		// when
+		JsonNode pageResponse = pageOf(productService
+			.getProductsAfterBody("", VALID_LIMIT, DEFAULT_CATEGORY_ID, this.session));
+
+		// then
+		verify(productMapper).selectProductsAfter(null, VALID_LIMIT + 1, DEFAULT_CATEGORY_ID);
+		assertEquals(VALID_LIMIT, pageResponse.get("products").size());
+		assertTrue(pageResponse.get("hasNext").asBoolean());
+		assertEquals((long) VALID_LIMIT,
+			ProductCursor.decode(pageResponse.get("nextCursor").asText(), DEFAULT_CATEGORY_ID).getLastId());
+	}
+
+	@Test
+	@DisplayName("커서 이후 제품이 limit 이하로 남으면 다음 페이지 커서가 없다")
+	public void testGetProductsAfterReturnsNullCursorOnLastPage() {
+
+		// given
+		String after = ProductCursor.of(VALID_PRODUCT_ID, VALID_CATEGORY_ID).encode();
+		List<Product> products = new ArrayList<>();
+		products.add(this.product);
+
+		when(productMapper.selectProductsAfter(VALID_PRODUCT_ID, VALID_LIMIT + 1, VALID_CATEGORY_ID))
+			.thenReturn(products);
+
+		// when
+		JsonNode pageResponse = pageOf(productService
+			.getProductsAfterBody(after, VALID_LIMIT, VALID_CATEGORY_ID, this.session));
+
+		// then
+		verify(productMapper).selectProductsAfter(VALID_PRODUCT_ID, VALID_LIMIT + 1,
+			VALID_CATEGORY_ID);
+		assertEquals(1, pageResponse.get("products").size());
+		assertFalse(pageResponse.hasNonNull("nextCursor"));
+	}
+
+	@Test
+	@DisplayName("다른 카테고리에서 발급된 커서로는 조회할 수 없다")
+	public void testGetProductsAfterFailWhenCursorCategoryMismatch() {
+
+		// given
+		String after = ProductCursor.of(VALID_PRODUCT_ID, VALID_CATEGORY_ID).encode();
+
+		// then
+		assertThrows(InvalidCursorException.class,
+
+			// when
+			() -> productService.getProductsAfterBody(after, VALID_LIMIT, 2L, this.session));
+	}
+
+	@Test
+	@DisplayName("해석할 수 없는 커서로는 조회할 수 없다")
+	public void testGetProductsAfterFailWithMalformedCursor() {
+
+		// then
+		assertThrows(InvalidCursorException.class,
+
+			// when
+			() -> productService.getProductsAfterBody("not-a-cursor", VALID_LIMIT,
+				DEFAULT_CATEGORY_ID, this.session));
+	}
+
+	@Test
+	@DisplayName("카탈로그 스냅샷이 있으면 DB 를 조회하지 않고 스냅샷에서 목록을 반환한다")
+	public void testGetProductsFromSnapshot() {
+
+		// given
+		List<Product> products = new ArrayList<>();
+		for (long id = 1; id <= VALID_LIMIT + 1; id++) {
+			products.add(Product.builder().id(id).productCategoryId(VALID_CATEGORY_ID).build());
+		}
+		Cursor<Product> cursor = cursor(products);
+		when(productMapper.selectProductCursor(null)).thenReturn(cursor);
+		productSnapshotHolder.rebuild();
+
+		// when
+		JsonNode pageResponse = pageOf(productService
+			.getProductsAfterBody(null, VALID_LIMIT, VALID_CATEGORY_ID, this.session));
+		JsonNode offsetResponse = pageOf(productService
+			.getProductsBody(DEFAULT_OFFSET, VALID_LIMIT, DEFAULT_CATEGORY_ID, this.session));
+
+		// then
+		verify(productMapper, never()).selectProductsAfter(any(), anyInt(), any());
+		verify(productMapper, never()).selectProducts(anyInt(), anyInt(), any());
+		assertEquals(VALID_LIMIT, pageResponse.get("products").size());
+		assertTrue(pageResponse.get("hasNext").asBoolean());
+		assertEquals(VALID_LIMIT, offsetResponse.get("products").size());
+		assertEquals(DEFAULT_OFFSET + VALID_LIMIT, offsetResponse.get("nextOffset").asInt());
+	}
+
+	@Test
+	@DisplayName("카탈로그 스냅샷에 아직 없는 제품은 캐시에서 찾는다")
+	public void testGetProductByIdFallsBackToCacheWhenMissingFromSnapshot() {
+
+		// given
+		Long NEW_PRODUCT_ID = 2L;
+		Cursor<Product> cursor = cursor(List.of(this.product));
+		when(productMapper.selectProductCursor(null)).thenReturn(cursor);
+		when(productMapper.selectProductById(NEW_PRODUCT_ID))
+			.thenReturn(Optional.of(Product.builder().id(NEW_PRODUCT_ID).build()));
+		productSnapshotHolder.rebuild();
+
+		// when
+		ProductResponse fromSnapshot = productService.getProductById(VALID_PRODUCT_ID,
+			this.session).getProduct();
+		ProductResponse fromCache = productService.getProductById(NEW_PRODUCT_ID, this.session)
+			.getProduct();
+
+		// then
+		verify(productMapper, never()).selectProductById(VALID_PRODUCT_ID);
+		assertEquals(this.product.getName(), fromSnapshot.getName());
+		assertEquals(NEW_PRODUCT_ID, fromCache.getId());
+	}
+
+	@Test
+	@DisplayName("같은 목록 페이지는 한 번만 직렬화하고 같은 본문과 ETag 를 반환한다")
+	public void testGetProductsBodyReturnsCachedBody() {
+
+		// given
+		when(productMapper.selectProducts(DEFAULT_OFFSET, VALID_LIMIT + 1, DEFAULT_CATEGORY_ID))
+			.thenReturn(List.of(this.product));
+
+		// when
+		ProductPageBody body = productService
+			.getProductsBody(DEFAULT_OFFSET, VALID_LIMIT, DEFAULT_CATEGORY_ID, this.session);
+		ProductPageBody cached = productService
+			.getProductsBody(DEFAULT_OFFSET, VALID_LIMIT, DEFAULT_CATEGORY_ID, this.session);
+
+		// then
+		assertSame(body, cached);
+		assertEquals(1, body.getProductCount());
+		assertTrue(body.getEtag().startsWith("\"0"));
+		assertTrue(new String(body.getJson(), StandardCharsets.UTF_8)
+			.contains("\"name\":\"test\""));
+		assertEquals(1L, productPageBodyCache.stats().hitCount());
+	}
+
+	@Test
+	@DisplayName("제품이 바뀌면 목록 본문을 다시 직렬화한다")
+	public void testGetProductsAfterBodyReserializesAfterInvalidation() {
+
+		// given
+		when(productMapper.selectProductsAfter(null, VALID_LIMIT + 1, VALID_CATEGORY_ID))
+			.thenReturn(List.of(this.product));
+
+		// when
+		ProductPageBody body = productService
+			.getProductsAfterBody(null, VALID_LIMIT, VALID_CATEGORY_ID, this.session);
+		productService.getProductsAfterBody(null, VALID_LIMIT, VALID_CATEGORY_ID, this.session);
+		productPageBodyCache.onProductsChanged(new ProductsChangedEvent(List.of(VALID_PRODUCT_ID)));
+		ProductPageBody reserialized = productService
+			.getProductsAfterBody(null, VALID_LIMIT, VALID_CATEGORY_ID, this.session);
+
+		// then
+		assertEquals(2L, productPageBodyCache.stats().missCount());
+		assertEquals(body.getEtag(), reserialized.getEtag());
+	}
+
+	@Test
+	@DisplayName("제품의 마지막 수정 시각은 수정 시각이 없으면 등록 시각을 사용한다")
+	public void testGetLastModifiedUsesUpdatedAtOrCreatedAt() {
+
+		// given
+		LocalDateTime createdAt = LocalDateTime.of(2022, 10, 1, 12, 0);
+		LocalDateTime updatedAt = createdAt.plusDays(1);
+		Long NEW_PRODUCT_ID = 2L;
+		when(productMapper.selectProductById(VALID_PRODUCT_ID)).thenReturn(Optional.of(
+			Product.builder().id(VALID_PRODUCT_ID).createdAt(createdAt).updatedAt(updatedAt).build()));
+		when(productMapper.selectProductById(NEW_PRODUCT_ID)).thenReturn(Optional.of(
+			Product.builder().id(NEW_PRODUCT_ID).createdAt(createdAt).build()));
+
+		// when
+		long updated = productService.getProductById(VALID_PRODUCT_ID, this.session)
+			.getLastModified();
+		long created = productService.getProductById(NEW_PRODUCT_ID, this.session)
+			.getLastModified();
+
+		// then
+		assertEquals(updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), updated);
+		assertEquals(createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), created);
+	}
+
+	@Test
+	@DisplayName("카탈로그 스냅샷에 있는 제품은 DB 를 조회하지 않고 제품과 마지막 수정 시각을 함께 반환한다")
+	public void testGetLastModifiedFromSnapshot() {
+
+		// given
+		LocalDateTime updatedAt = LocalDateTime.of(2022, 10, 2, 12, 0);
+		Cursor<Product> cursor = cursor(List.of(
+			Product.builder().id(VALID_PRODUCT_ID).updatedAt(updatedAt).build()));
+		when(productMapper.selectProductCursor(null)).thenReturn(cursor);
+		productSnapshotHolder.rebuild();
+
+		// when
+		ProductDetail detail = productService.getProductById(VALID_PRODUCT_ID, this.session);
+
+		// then
+		verify(productMapper, never()).selectProductById(VALID_PRODUCT_ID);
+		assertEquals(VALID_PRODUCT_ID, detail.getProduct().getId());
+		assertEquals(updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+			detail.getLastModified());
+	}
+
+	private static JsonNode pageOf(ProductPageBody body) {
+		try {
+			return new ObjectMapper().readTree(body.getJson());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Cursor<Product> cursor(List<Product> products) {
+		Cursor<Product> cursor = mock(Cursor.class);
+		when(cursor.iterator()).thenAnswer(invocation -> products.iterator());
+		return cursor;
+	}
 }
@@ -0,0 +1,127 @@
+package com.flab.sooldama.domain.product.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flab.sooldama.domain.product.cache.ProductsChangedEvent;
+import com.flab.sooldama.domain.product.dao.ProductMapper;
+import com.flab.sooldama.domain.product.domain.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSnapshotHolderTest {
+
+	private static final long REFRESH_TIMEOUT_MILLIS = 5000L;
+
+	@Mock
+	private ProductMapper productMapper;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private ProductSnapshotProperties properties;
+
+	private ProductSnapshotHolder holder;
+
+	private List<Product> products;
+
+	@BeforeEach
+	public void setUp() {
+		this.properties = new ProductSnapshotProperties();
+		this.properties.setEnabled(true);
+		this.properties.setRefreshDelay(Duration.ofMillis(10));
+		this.holder = new ProductSnapshotHolder(productMapper, transactionManager, properties);
+
+		this.products = new ArrayList<>();
+		this.products.add(Product.builder().id(1L).productCategoryId(1L).name("막걸리").build());
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.holder.shutdown();
+	}
+
+	@Test
+	@DisplayName("애플리케이션이 준비되면 모든 제품으로 스냅샷을 만든다")
+	public void testOnApplicationReadyBuildsSnapshot() {
+		Cursor<Product> cursor = cursor(products);
+		when(productMapper.selectProductCursor(null)).thenReturn(cursor);
+
+		holder.onApplicationReady();
+
+		assertNotNull(holder.current());
+		assertEquals("막걸리", holder.current().find(1L).getName());
+	}
+
+	@Test
+	@DisplayName("스냅샷을 사용하지 않으면 만들지 않는다")
+	public void testDisabledHolderNeverBuildsSnapshot() {
+		properties.setEnabled(false);
+
+		holder.onApplicationReady();
+		holder.onProductsChanged(new ProductsChangedEvent(List.of(1L)));
+
+		assertNull(holder.current());
+		verify(productMapper, never()).selectProductCursor(null);
+	}
+
+	@Test
+	@DisplayName("제품이 바뀌면 잠시 뒤 새 스냅샷으로 바꿔 끼운다")
+	public void testOnProductsChangedSwapsSnapshot() throws InterruptedException {
+		Cursor<Product> cursor = cursor(products);
+		when(productMapper.selectProductCursor(null)).thenReturn(cursor);
+		holder.rebuild();
+		ProductSnapshot before = holder.current();
+
+		products.add(Product.builder().id(2L).productCategoryId(1L).name("약주").build());
+		holder.onProductsChanged(new ProductsChangedEvent(List.of(2L)));
+
+		long deadline = System.currentTimeMillis() + REFRESH_TIMEOUT_MILLIS;
+		while (holder.current() == before && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10L);
+		}
+
+		assertEquals(1, before.size());
+		assertEquals("약주", holder.current().find(2L).getName());
+	}
+
+	@Test
+	@DisplayName("스냅샷의 제품 수와 크기를 지표로 등록한다")
+	public void testBindToRegistersGauges() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		holder.bindTo(registry);
+		assertEquals(0.0, registry.get("product.snapshot.products").gauge().value());
+
+		Cursor<Product> cursor = cursor(products);
+		when(productMapper.selectProductCursor(null)).thenReturn(cursor);
+		holder.rebuild();
+
+		assertEquals(1.0, registry.get("product.snapshot.products").gauge().value());
+		assertEquals((double) holder.current().estimatedBytes(),
+			registry.get("product.snapshot.bytes").gauge().value());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Cursor<Product> cursor(List<Product> products) {
+		Cursor<Product> cursor = mock(Cursor.class);
+		when(cursor.iterator()).thenAnswer(invocation -> products.iterator());
+		return cursor;
+	}
+}
@@ -0,0 +1,140 @@
+package com.flab.sooldama.domain.product.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.flab.sooldama.domain.product.domain.Product;
+import com.flab.sooldama.domain.product.dto.response.ProductResponse;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductSnapshotTest {
+
+	private static final String IMAGE_URL = "https://www.sooldamhwa.com/images/common/mainLogo.png";
+
+	private ProductSnapshot snapshot;
+
+	@BeforeEach
+	public void setUp() {
+		this.snapshot = ProductSnapshot.builder()
+			.add(product(1L, 1L, "백련 미스티 살균 막걸리"))
+			.add(product(2L, 2L, "구름을 벗삼아"))
+			.add(product(4L, 1L, "복순도가 손 막걸리"))
+			.add(product(7L, 1L, "해창 막걸리"))
+			.build();
+	}
+
+	@Test
+	@DisplayName("아이디로 찾은 제품은 원래 제품과 같은 값을 가진다")
+	public void testFindReturnsSameValues() {
+		ProductResponse response = snapshot.find(4L);
+
+		assertEquals(4L, response.getId());
+		assertEquals(1L, response.getProductCategoryId());
+		assertEquals("복순도가 손 막걸리", response.getName());
+		assertEquals(4500, response.getPrice());
+		assertEquals(IMAGE_URL, response.getImageUrl());
+		assertEquals(7.0, response.getAbv());
+		assertEquals(375, response.getCapacity());
+		assertNull(snapshot.find(3L));
+	}
+
+	@Test
+	@DisplayName("비어 있는 값은 null 로 돌려준다")
+	public void testFindKeepsNullValues() {
+		ProductSnapshot withNulls = ProductSnapshot.builder()
+			.add(Product.builder().id(1L).build())
+			.build();
+
+		ProductResponse response = withNulls.find(1L);
+
+		assertNull(response.getProductCategoryId());
+		assertNull(response.getName());
+		assertNull(response.getPrice());
+		assertNull(response.getAbv());
+		assertNull(response.getCapacity());
+	}
+
+	@Test
+	@DisplayName("제품의 마지막 수정 시각을 들고 있고 없는 제품은 -1 을 반환한다")
+	public void testLastModified() {
+		LocalDateTime updatedAt = LocalDateTime.of(2022, 10, 2, 12, 0);
+		ProductSnapshot withTimestamps = ProductSnapshot.builder()
+			.add(Product.builder().id(1L).updatedAt(updatedAt).build())
+			.add(Product.builder().id(2L).build())
+			.build();
+
+		assertTrue(withTimestamps.contains(1L));
+		assertFalse(withTimestamps.contains(3L));
+		assertEquals(updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+			withTimestamps.lastModified(1L));
+		assertEquals(-1L, withTimestamps.lastModified(2L));
+		assertEquals(-1L, withTimestamps.lastModified(3L));
+	}
+
+	@Test
+	@DisplayName("offset 으로 조회하면 카테고리 안에서 아이디 순서로 건너뛴다")
+	public void testPageSkipsOffsetWithinCategory() {
+		assertEquals(List.of(2L, 4L), productIds(snapshot.page(1, 2, null)));
+		assertEquals(List.of(4L, 7L), productIds(snapshot.page(1, 20, 1L)));
+		assertTrue(snapshot.page(10, 20, null).isEmpty());
+		assertTrue(snapshot.page(0, 20, 3L).isEmpty());
+	}
+
+	@Test
+	@DisplayName("커서로 조회하면 마지막 아이디보다 큰 제품부터 반환한다")
+	public void testPageAfterStartsAfterLastId() {
+		assertEquals(List.of(1L, 2L), productIds(snapshot.pageAfter(null, 2, null)));
+		assertEquals(List.of(4L, 7L), productIds(snapshot.pageAfter(3L, 20, null)));
+		assertEquals(List.of(7L), productIds(snapshot.pageAfter(4L, 20, 1L)));
+		assertTrue(snapshot.pageAfter(7L, 20, 1L).isEmpty());
+	}
+
+	@Test
+	@DisplayName("같은 문자열은 사전에 한 번만 담는다")
+	public void testEstimatedBytesSharesRepeatedStrings() {
+		ProductSnapshot.Builder builder = ProductSnapshot.builder();
+		for (long id = 1; id <= 100; id++) {
+			builder.add(product(id, 1L, "막걸리"));
+		}
+
+		ProductSnapshot repeated = builder.build();
+
+		assertEquals(100, repeated.size());
+		assertTrue(repeated.estimatedBytes() < 100L * 64);
+	}
+
+	@Test
+	@DisplayName("아이디 순서가 어긋나면 추가할 수 없다")
+	public void testAddRejectsOutOfOrderIds() {
+		ProductSnapshot.Builder builder = ProductSnapshot.builder().add(product(2L, 1L, "막걸리"));
+
+		assertThrows(IllegalArgumentException.class,
+			() -> builder.add(product(1L, 1L, "막걸리")));
+	}
+
+	private static List<Long> productIds(List<ProductResponse> products) {
+		return products.stream().map(ProductResponse::getId).collect(Collectors.toList());
+	}
+
+	private static Product product(Long id, Long categoryId, String name) {
+		return Product.builder()
+			.id(id)
+			.productCategoryId(categoryId)
+			.name(name)
+			.price(4500)
+			.imageUrl(IMAGE_URL)
+			.description("연꽃이 들어간 살균 막걸리")
+			.abv(7.0)
+			.capacity(375)
+			.build();
+	}
+}
@@ -8,20 +8,27 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flab.sooldama.domain.user.dto.request.JoinUserRequest;
 import com.flab.sooldama.domain.user.dto.request.LoginUserRequest;
+import com.flab.sooldama.domain.user.dto.response.JoinUserResponse;
 import com.flab.sooldama.domain.user.exception.DuplicateEmailExistsException;
 import com.flab.sooldama.domain.user.exception.NoSuchUserException;
+import com.flab.sooldama.domain.user.exception.PasswordHashingRejectedException;
 import com.flab.sooldama.domain.user.exception.PasswordNotMatchException;
 import com.flab.sooldama.domain.user.service.UserService;
+import com.flab.sooldama.domain.user.service.VerifiedLogin;
 import java.util.Iterator;
 import java.util.Set;
-import javax.servlet.http.HttpSession;
+import java.util.concurrent.CompletableFuture;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.ConstraintViolation;
 import javax.validation.Validator;
 import org.assertj.core.api.Assertions;
@@ -35,6 +42,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 /**
  * AutoConfigureMockMvc 어노테이션은 Mock 테스트시 필요한 의존성을 제공해주는 어노테이션 입니다. DisplayName 은 테스트의 이름을 표시하는
@@ -87,15 +95,48 @@ public class UserApiTest {
 		String content = objectMapper.writeValueAsString(
 			this.request);
 
+		when(userService.insertUser(any(JoinUserRequest.class))).thenReturn(
+			CompletableFuture.completedFuture(JoinUserResponse.builder()
+				.id(1L)
+				.email(this.request.getEmail())
+				.build()));
+
 		//Then 회원가입 api에 content를 넣고 호출했을 때
-		mockMvc.perform(post("/users")
+		/*
+		비동기로 응답하는 api 는 요청 스레드에서 응답을 만들지 않으므로, asyncDispatch 로 한 번 더 디스패치해야
+		CompletableFuture 의 결과로 만든 응답을 검증할 수 있습니다.
+		 */
+		MvcResult result = mockMvc.perform(post("/users")
 				.content(content)
 				.contentType(MediaType.APPLICATION_JSON)
 				.accept(MediaType.APPLICATION_JSON))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
 			.andDo(print())
 			.andExpect(status().isCreated());
 	}
 
+	@Test
+	@DisplayName("비밀번호 해시 대기열이 가득 차면 503 으로 바로 응답한다")
+	public void testJoinUserFailWhenPasswordHashingRejected() throws Exception {
+		// 테스트 데이터 및 동작 정의
+		String content = objectMapper.writeValueAsString(this.request);
+
+		when(userService.insertUser(any(JoinUserRequest.class))).thenThrow(
+			new PasswordHashingRejectedException("요청이 많아 잠시 후 다시 시도해주세요"));
+
+		// 실행
+		mockMvc.perform(post("/users")
+				.content(content)
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON))
+			.andDo(print())
+			.andExpect(status().isServiceUnavailable())
+			.andExpect(header().exists("Retry-After"));
+	}
+
 	@Test
 	@DisplayName("필수 정보를 입력하지 않으면 회원가입 처리 불가")
 	public void testJoinUserFail() throws Exception {
@@ -174,7 +215,7 @@ public class UserApiTest {
 		MockHttpSession session = new MockHttpSession();
 
 		doThrow(NoSuchUserException.class).when(userService)
-			.loginUser(any(LoginUserRequest.class), any(HttpSession.class));
+			.loginUser(any(LoginUserRequest.class));
 
 		// 실행
 		mockMvc.perform(post("/users/login")
@@ -187,11 +228,10 @@ public class UserApiTest {
 
 		// 행위 검증
 		assertThrows(NoSuchUserException.class, () -> {
-			userService.loginUser(invalidRequest, session);
+			userService.loginUser(invalidRequest);
 		});
 
-		verify(userService, times(2)).loginUser(any(LoginUserRequest.class),
-			any(HttpSession.class));
+		verify(userService, times(2)).loginUser(any(LoginUserRequest.class));
 	}
 
 	@Test
@@ -209,7 +249,7 @@ public class UserApiTest {
 		MockHttpSession session = new MockHttpSession();
 
 		doThrow(PasswordNotMatchException.class).when(userService)
-			.loginUser(any(LoginUserRequest.class), any(HttpSession.class));
+			.loginUser(any(LoginUserRequest.class));
 
 		// 실행
 		mockMvc.perform(post("/users/login")
@@ -222,11 +262,42 @@ public class UserApiTest {
 
 		// 행위 검증
 		assertThrows(PasswordNotMatchException.class, () -> {
-			userService.loginUser(invalidRequest, session);
+			userService.loginUser(invalidRequest);
 		});
 
-		verify(userService, times(2)).loginUser(any(LoginUserRequest.class),
-			any(HttpSession.class));
+		verify(userService, times(2)).loginUser(any(LoginUserRequest.class));
+	}
+
+	@Test
+	@DisplayName("해시 스레드에서 비밀번호가 다르다고 판단하면 Controller Advice 가 처리")
+	public void testLoginUserFailWhenPasswordNotMatchAsynchronously() throws Exception {
+		// 테스트 데이터 및 동작 정의
+		LoginUserRequest invalidRequest = LoginUserRequest.builder()
+			.email(this.request.getEmail())
+			.password("q1w2e3!")
+			.build();
+
+		String content = objectMapper.writeValueAsString(invalidRequest);
+
+		when(userService.loginUser(any(LoginUserRequest.class)))
+			.thenReturn(CompletableFuture.failedFuture(
+				new PasswordNotMatchException("비밀번호가 다릅니다")));
+
+		// 실행
+		MvcResult result = mockMvc.perform(post("/users/login")
+				.content(content)
+				.session(new MockHttpSession())
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+			.andDo(print())
+			.andExpect(status().isBadRequest());
+
+		// 행위 검증
+		verify(userService, times(1)).loginUser(any(LoginUserRequest.class));
 	}
 
 	@Test
@@ -252,7 +323,7 @@ public class UserApiTest {
 			.andExpect(status().isBadRequest());
 
 		// 행위 검증
-		verify(userService, never()).loginUser(any(LoginUserRequest.class), any(HttpSession.class));
+		verify(userService, never()).loginUser(any(LoginUserRequest.class));
 	}
 
 	@Test
@@ -267,21 +338,56 @@ public class UserApiTest {
 		String content = objectMapper.writeValueAsString(validRequest);
 		MockHttpSession session = new MockHttpSession();
 
-		doNothing().when(userService)
-			.loginUser(any(LoginUserRequest.class), any(HttpSession.class));
+		when(userService.loginUser(any(LoginUserRequest.class)))
+			.thenReturn(CompletableFuture.completedFuture(
+				new VerifiedLogin(1L, validRequest.getEmail(), null)));
 
 		// 실행
-		mockMvc.perform(post("/users/login")
+		MvcResult result = mockMvc.perform(post("/users/login")
 				.content(content)
 				.session(session)
 				.contentType(MediaType.APPLICATION_JSON)
 				.accept(MediaType.APPLICATION_JSON))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
 			.andDo(print())
 			.andExpect(status().isOk());
 
 		// 행위 검증
-		verify(userService, times(1)).loginUser(any(LoginUserRequest.class),
-			any(HttpSession.class));
+		verify(userService, times(1)).loginUser(any(LoginUserRequest.class));
+		verify(userService, times(1)).completeLogin(any(VerifiedLogin.class),
+			any(HttpServletRequest.class));
+	}
+
+	@Test
+	@DisplayName("비밀번호 확인 뒤 로그인 처리가 실패하면 성공으로 응답하지 않는다")
+	public void testLoginUserFailWhenCompleteLoginFails() throws Exception {
+		// 테스트 데이터 및 동작 정의
+		LoginUserRequest validRequest = LoginUserRequest.builder()
+			.email(this.request.getEmail())
+			.password(this.request.getPassword())
+			.build();
+
+		when(userService.loginUser(any(LoginUserRequest.class)))
+			.thenReturn(CompletableFuture.completedFuture(
+				new VerifiedLogin(1L, validRequest.getEmail(), null)));
+		when(userService.completeLogin(any(VerifiedLogin.class), any(HttpServletRequest.class)))
+			.thenThrow(new NoSuchUserException("사용자를 찾을 수 없습니다"));
+
+		// 실행
+		MvcResult result = mockMvc.perform(post("/users/login")
+				.content(objectMapper.writeValueAsString(validRequest))
+				.session(new MockHttpSession())
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+			.andDo(print())
+			.andExpect(status().isBadRequest());
 	}
 
 	@Test
@@ -300,7 +406,7 @@ public class UserApiTest {
 			.andExpect(status().isBadRequest());
 
 		// 행위 검증
-		verify(userService, never()).logoutUser(any(HttpSession.class));
+		verify(userService, never()).logoutUser(any(HttpServletRequest.class));
 	}
 
 	@Test
@@ -316,7 +422,7 @@ public class UserApiTest {
 		session.setAttribute("USER_EMAIL", validRequest.getEmail());
 
 		doNothing().when(userService)
-			.logoutUser(any(HttpSession.class));
+			.logoutUser(any(HttpServletRequest.class));
 
 		// 실행
 		mockMvc.perform(post("/users/logout")
@@ -327,6 +433,6 @@ public class UserApiTest {
 			.andExpect(status().isOk());
 
 		// 행위 검증
-		verify(userService, times(1)).logoutUser(any(HttpSession.class));
+		verify(userService, times(1)).logoutUser(any(HttpServletRequest.class));
 	}
 }
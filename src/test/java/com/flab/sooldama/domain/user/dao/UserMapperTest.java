@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.test.context.ActiveProfiles;
 
 @ActiveProfiles("test")
@@ -67,4 +68,46 @@ public class UserMapperTest {
 
 		userMapper.insertUser(user);
 	}
+
+	@Test
+	@DisplayName("insertUser 는 생성된 아이디를 채워주고, 가입 시각을 넘기지 않으면 DB 의 현재 시각으로 저장한다")
+	public void testInsertUserFillsGeneratedIdAndDefaultCreatedAt() {
+		User user = User.builder()
+			.email("sehoon@fmail.com")
+			.password("abracadabra")
+			.name("sehoon gim")
+			.phoneNumber("010-1010-1010")
+			.isAdult(true)
+			.build();
+
+		userMapper.insertUser(user);
+
+		Assertions.assertThat(user.getId()).isNotNull();
+		Assertions.assertThat(userMapper.findUserById(user.getId()).get().getCreatedAt())
+			.isNotNull();
+	}
+
+	@Test
+	@DisplayName("이미 가입된 이메일로 insertUser 하면 UNIQUE 제약 때문에 DuplicateKeyException 발생")
+	public void testInsertUserFailWhenEmailAlreadyExists() {
+		User user = User.builder()
+			.email("sehoon@fmail.com")
+			.password("abracadabra")
+			.name("sehoon gim")
+			.phoneNumber("010-1010-1010")
+			.isAdult(true)
+			.build();
+		userMapper.insertUser(user);
+
+		User sameEmailUser = User.builder()
+			.email("sehoon@fmail.com")
+			.password("cant-remember")
+			.name("another sehoon")
+			.phoneNumber("010-2020-2020")
+			.isAdult(true)
+			.build();
+
+		org.junit.jupiter.api.Assertions.assertThrows(DuplicateKeyException.class,
+			() -> userMapper.insertUser(sameEmailUser));
+	}
 }
@@ -1,17 +1,24 @@
 package com.flab.sooldama.domain.user.integration;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flab.sooldama.domain.user.dao.UserMapper;
 import com.flab.sooldama.domain.user.domain.User;
+import com.flab.sooldama.domain.user.dto.request.JoinUserRequest;
 import com.flab.sooldama.domain.user.dto.request.LoginUserRequest;
+import com.flab.sooldama.domain.user.password.LegacySha256PasswordHasher;
+import com.flab.sooldama.domain.user.password.PasswordHasher;
+import com.flab.sooldama.domain.user.password.Pbkdf2PasswordHasher;
 import com.flab.sooldama.domain.user.service.UserService;
 import com.flab.sooldama.global.auth.AuthService;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +29,7 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @ActiveProfiles("test")
 @SpringBootTest
@@ -46,17 +54,15 @@ public class UserIntegrationTest {
 	@Autowired
 	private MockHttpSession session;
 
+	@Autowired
+	private PasswordHasher passwordHasher;
+
 	@BeforeEach
-	public void setUp()
-		throws InvocationTargetException, IllegalAccessException, NoSuchMethodException {
+	public void setUp() {
 		userMapper.deleteAllUsers();
 		String validPassword = "q1w2e3!";
 
-		UserService passwordEncryptor = new UserService(userMapper, authService);
-		Method method = passwordEncryptor.getClass().getDeclaredMethod("encryptPassword", String.class);
-		method.setAccessible(true);
-
-		String encryptedValidPassword = (String) method.invoke(passwordEncryptor, validPassword);
+		String encryptedValidPassword = passwordHasher.hash(validPassword);
 
 		User user = User.builder()
 			.email("joined@fmail.com")
@@ -69,6 +75,63 @@ public class UserIntegrationTest {
 		userMapper.insertUser(user);
 	}
 
+	@Test
+	@DisplayName("회원가입하면 다시 조회하지 않고 생성된 아이디와 가입 시각으로 응답한다")
+	public void testJoinUser() throws Exception {
+		// 테스트 데이터
+		JoinUserRequest joinRequest = JoinUserRequest.builder()
+			.email("newuser@fmail.com")
+			.password("abracadabra")
+			.name("new user")
+			.phoneNumber("010-2020-2020")
+			.nickname("newbie")
+			.isAdult(true)
+			.build();
+
+		// 실행
+		MvcResult result = mockMvc.perform(post("/users")
+				.content(objectMapper.writeValueAsString(joinRequest))
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+			.andDo(print())
+			.andExpect(status().isCreated())
+			.andExpect(jsonPath("$.id").isNumber())
+			.andExpect(jsonPath("$.createdAt").exists());
+
+		// 검증
+		User joinedUser = userMapper.findUserByEmail("newuser@fmail.com").get();
+		assertThat(passwordHasher.matches("abracadabra", joinedUser.getPassword())).isTrue();
+	}
+
+	@Test
+	@DisplayName("이미 가입된 이메일로 회원가입하면 UNIQUE 제약으로 중복을 확인해 실패한다")
+	public void testJoinUserFailWithDuplicatedEmail() throws Exception {
+		// 테스트 데이터
+		JoinUserRequest joinRequest = JoinUserRequest.builder()
+			.email("joined@fmail.com")
+			.password("abracadabra")
+			.name("joined again")
+			.phoneNumber("010-2020-2020")
+			.isAdult(true)
+			.build();
+
+		// 실행
+		MvcResult result = mockMvc.perform(post("/users")
+				.content(objectMapper.writeValueAsString(joinRequest))
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+			.andDo(print())
+			.andExpect(status().isBadRequest());
+	}
+
 	@Test
 	@DisplayName("회원가입되지 않은 이메일로 로그인 시 로그인 실패")
 	public void testLoginUserFailWithUnregisteredEmail() throws Exception {
@@ -82,15 +145,47 @@ public class UserIntegrationTest {
 		MockHttpSession session = new MockHttpSession();
 
 		// 실행
-		mockMvc.perform(post("/users/login")
+		MvcResult result = mockMvc.perform(post("/users/login")
 				.content(content)
 				.session(session)
 				.contentType(MediaType.APPLICATION_JSON)
 				.accept(MediaType.APPLICATION_JSON))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
 			.andDo(print())
 			.andExpect(status().isBadRequest());
 	}
 
+	@Test
+	@DisplayName("한 이메일로 제한 횟수를 넘겨 로그인을 시도하면 429 와 Retry-After 로 응답한다")
+	public void testLoginUserThrottledPerEmail() throws Exception {
+		// 테스트 데이터
+		String content = objectMapper.writeValueAsString(LoginUserRequest.builder()
+			.email("credential-stuffing@fmail.com")
+			.password("guess")
+			.build());
+
+		// 실행
+		for (int i = 0; i < 5; i++) {
+			MvcResult result = mockMvc.perform(post("/users/login")
+					.content(content)
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+			mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isBadRequest());
+		}
+
+		mockMvc.perform(post("/users/login")
+				.content(content)
+				.contentType(MediaType.APPLICATION_JSON))
+			.andDo(print())
+			.andExpect(status().isTooManyRequests())
+			.andExpect(header().exists("Retry-After"));
+	}
+
 	@Test
 	@DisplayName("등록된 사용자이더라도 비밀번호 틀리면 로그인 불가")
 	public void testLoginUserFailWhenPasswordNotMatch() throws Exception {
@@ -104,11 +199,15 @@ public class UserIntegrationTest {
 		MockHttpSession session = new MockHttpSession();
 
 		// 실행
-		mockMvc.perform(post("/users/login")
+		MvcResult result = mockMvc.perform(post("/users/login")
 				.content(content)
 				.session(session)
 				.contentType(MediaType.APPLICATION_JSON)
 				.accept(MediaType.APPLICATION_JSON))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
 			.andDo(print())
 			.andExpect(status().isBadRequest());
 	}
@@ -126,13 +225,55 @@ public class UserIntegrationTest {
 		MockHttpSession session = new MockHttpSession();
 
 		// 실행
-		mockMvc.perform(post("/users/login")
+		MvcResult result = mockMvc.perform(post("/users/login")
 				.content(content)
 				.session(session)
 				.contentType(MediaType.APPLICATION_JSON)
 				.accept(MediaType.APPLICATION_JSON))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+			.andDo(print())
+			.andExpect(status().isOk());
+	}
+
+	@Test
+	@DisplayName("이전 방식으로 저장된 비밀번호는 로그인에 성공하면 현재 방식으로 다시 저장된다")
+	public void testLoginUserRehashesLegacyPassword() throws Exception {
+		// 테스트 데이터
+		String legacyPassword = new LegacySha256PasswordHasher().hash("legacy-password!");
+		User legacyUser = User.builder()
+			.email("legacy@fmail.com")
+			.password(legacyPassword)
+			.name("legacy user")
+			.phoneNumber("010-1010-1010")
+			.isAdult(true)
+			.build();
+		userMapper.insertUser(legacyUser);
+
+		LoginUserRequest validRequest = LoginUserRequest.builder()
+			.email("legacy@fmail.com")
+			.password("legacy-password!")
+			.build();
+
+		// 실행
+		MvcResult result = mockMvc.perform(post("/users/login")
+				.content(objectMapper.writeValueAsString(validRequest))
+				.session(new MockHttpSession())
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
 			.andDo(print())
 			.andExpect(status().isOk());
+
+		// 검증
+		String storedPassword = userMapper.findUserByEmail("legacy@fmail.com").get().getPassword();
+		assertThat(storedPassword).startsWith("$" + Pbkdf2PasswordHasher.ID + "$");
+		assertThat(passwordHasher.matches("legacy-password!", storedPassword)).isTrue();
 	}
 
 	@Test
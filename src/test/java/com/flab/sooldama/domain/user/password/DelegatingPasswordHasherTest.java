@@ -0,0 +1,66 @@
+package com.flab.sooldama.domain.user.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DelegatingPasswordHasherTest {
+
+	private DelegatingPasswordHasher passwordHasher;
+
+	private LegacySha256PasswordHasher legacyPasswordHasher;
+
+	@BeforeEach
+	public void setUp() {
+		this.legacyPasswordHasher = new LegacySha256PasswordHasher();
+		this.passwordHasher = new DelegatingPasswordHasher(new Pbkdf2PasswordHasher(1000, 16, 32),
+			List.of(legacyPasswordHasher));
+	}
+
+	@Test
+	@DisplayName("새 비밀번호는 현재 방식으로 해시한다")
+	public void testHashUsesCurrentHasher() {
+		String hash = passwordHasher.hash("abracadabra");
+
+		assertThat(hash).startsWith("$" + Pbkdf2PasswordHasher.ID + "$");
+		assertThat(passwordHasher.supports(hash)).isTrue();
+		assertThat(passwordHasher.matches("abracadabra", hash)).isTrue();
+		assertThat(passwordHasher.needsRehash(hash)).isFalse();
+	}
+
+	@Test
+	@DisplayName("이전 방식의 해시도 검증하고, 다시 해시해야 한다고 알려준다")
+	public void testMatchesLegacyHash() {
+		String legacyHash = legacyPasswordHasher.hash("abracadabra");
+
+		assertThat(legacyHash).hasSize(64);
+		assertThat(passwordHasher.supports(legacyHash)).isTrue();
+		assertThat(passwordHasher.matches("abracadabra", legacyHash)).isTrue();
+		assertThat(passwordHasher.matches("cant-remember", legacyHash)).isFalse();
+		assertThat(passwordHasher.needsRehash(legacyHash)).isTrue();
+	}
+
+	@Test
+	@DisplayName("어떤 방식으로도 만들 수 없는 해시는 일치하지 않는다")
+	public void testMatchesFailWithUnknownFormat() {
+		assertThat(passwordHasher.supports("plain-text")).isFalse();
+		assertThat(passwordHasher.matches("plain-text", "plain-text")).isFalse();
+		assertThat(legacyPasswordHasher.matches("plain-text", "plain-text")).isFalse();
+		assertThat(legacyPasswordHasher.supports("z".repeat(64))).isFalse();
+	}
+
+	@Test
+	@DisplayName("16진수 변환은 표를 사용해 바이트를 두 글자로 바꾼다")
+	public void testHexEncoding() {
+		byte[] bytes = new byte[]{0, 15, 16, (byte) 0xab, (byte) 0xff};
+
+		assertThat(PasswordEncoding.toHex(bytes)).isEqualTo("000f10abff");
+		assertThat(PasswordEncoding.fromHex("000f10abff")).isEqualTo(bytes);
+		assertThrows(IllegalArgumentException.class, () -> PasswordEncoding.fromHex("abc"));
+		assertThrows(IllegalArgumentException.class, () -> PasswordEncoding.fromHex("zz"));
+	}
+}
@@ -0,0 +1,83 @@
+package com.flab.sooldama.domain.user.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.flab.sooldama.domain.user.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PasswordHashingExecutorTest {
+
+	private SimpleMeterRegistry registry;
+
+	private PasswordHashingExecutor passwordHashingExecutor;
+
+	@BeforeEach
+	public void setUp() {
+		this.registry = new SimpleMeterRegistry();
+		this.passwordHashingExecutor = new PasswordHashingExecutor(1, 1, registry);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.passwordHashingExecutor.shutdown();
+	}
+
+	@Test
+	@DisplayName("작업은 요청 스레드가 아닌 해시 스레드에서 실행되고 대기 시간이 기록된다")
+	public void testSubmitRunsOnHashingThread() {
+		String threadName = passwordHashingExecutor.submit(() -> Thread.currentThread().getName())
+			.join();
+
+		assertThat(threadName).startsWith("password-hashing-");
+		assertThat(registry.get("password.hashing.wait").timer().count()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("스레드와 대기열이 모두 차 있으면 바로 거절한다")
+	public void testSubmitFailWhenSaturated() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		CompletableFuture<Void> running = passwordHashingExecutor.submit(() -> {
+			started.countDown();
+			await(release);
+			return null;
+		});
+		started.await();
+		CompletableFuture<Void> queued = passwordHashingExecutor.submit(() -> null);
+
+		assertThat(passwordHashingExecutor.getQueueSize()).isEqualTo(1);
+		assertThat(registry.get("password.hashing.queue.size").gauge().value()).isEqualTo(1.0);
+		assertThrows(PasswordHashingRejectedException.class,
+			() -> passwordHashingExecutor.submit(() -> null));
+		assertThat(registry.get("password.hashing.rejected").counter().count()).isEqualTo(1.0);
+
+		release.countDown();
+		running.join();
+		queued.join();
+	}
+
+	@Test
+	@DisplayName("잘못된 설정값으로는 생성할 수 없다")
+	public void testConstructorFailWithInvalidParameters() {
+		assertThrows(IllegalArgumentException.class,
+			() -> new PasswordHashingExecutor(0, 1, registry));
+		assertThrows(IllegalArgumentException.class,
+			() -> new PasswordHashingExecutor(1, 0, registry));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package com.flab.sooldama.domain.user.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class Pbkdf2PasswordHasherTest {
+
+	private Pbkdf2PasswordHasher passwordHasher;
+
+	private static final int ITERATIONS = 1000;
+
+	@BeforeEach
+	public void setUp() {
+		this.passwordHasher = new Pbkdf2PasswordHasher(ITERATIONS, 16, 32);
+	}
+
+	@Test
+	@DisplayName("직접 계산한 PBKDF2 결과는 JDK 의 PBKDF2WithHmacSHA256 결과와 같다")
+	public void testDeriveMatchesJdkImplementation() throws Exception {
+		byte[] salt = "salt".getBytes(StandardCharsets.UTF_8);
+		SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
+
+		for (String password : new String[]{"password", "막걸리한잔"}) {
+			byte[] expected = factory.generateSecret(
+				new PBEKeySpec(password.toCharArray(), salt, 4096, 256)).getEncoded();
+
+			assertThat(Pbkdf2PasswordHasher.derive(password, salt, 4096, 32)).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	@DisplayName("해시에는 알고리즘과 반복 횟수가 기록되고, 같은 비밀번호라도 솔트가 달라 해시가 다르다")
+	public void testHashIsSaltedAndSelfDescribing() {
+		String first = passwordHasher.hash("abracadabra");
+		String second = passwordHasher.hash("abracadabra");
+
+		assertThat(first).startsWith("$pbkdf2-sha256$i=" + ITERATIONS + "$");
+		assertThat(first).isNotEqualTo(second);
+		assertThat(passwordHasher.matches("abracadabra", first)).isTrue();
+		assertThat(passwordHasher.matches("abracadabra", second)).isTrue();
+		assertThat(passwordHasher.matches("cant-remember", first)).isFalse();
+	}
+
+	@Test
+	@DisplayName("빈 비밀번호도 해시할 수 있다")
+	public void testHashEmptyPassword() {
+		String hash = passwordHasher.hash("");
+
+		assertThat(passwordHasher.matches("", hash)).isTrue();
+		assertThat(passwordHasher.matches("a", hash)).isFalse();
+	}
+
+	@Test
+	@DisplayName("현재 설정보다 반복 횟수가 적은 해시는 다시 해시해야 한다")
+	public void testNeedsRehashWhenIterationsIncreased() {
+		String weakHash = new Pbkdf2PasswordHasher(ITERATIONS / 2, 16, 32).hash("abracadabra");
+
+		assertThat(passwordHasher.matches("abracadabra", weakHash)).isTrue();
+		assertThat(passwordHasher.needsRehash(weakHash)).isTrue();
+		assertThat(passwordHasher.needsRehash(passwordHasher.hash("abracadabra"))).isFalse();
+	}
+
+	@Test
+	@DisplayName("형식이 다른 해시는 지원하지 않는다")
+	public void testSupportsOnlyPbkdf2Format() {
+		assertThat(passwordHasher.supports(null)).isFalse();
+		assertThat(passwordHasher.supports(new LegacySha256PasswordHasher().hash("abracadabra")))
+			.isFalse();
+		assertThat(passwordHasher.supports("$pbkdf2-sha256$i=abc$c2FsdA$aGFzaA")).isFalse();
+		assertThat(passwordHasher.matches("abracadabra", "$pbkdf2-sha256$broken")).isFalse();
+		assertThat(passwordHasher.needsRehash("$pbkdf2-sha256$broken")).isTrue();
+	}
+
+	@Test
+	@DisplayName("잘못된 설정값으로는 생성할 수 없다")
+	public void testConstructorFailWithInvalidParameters() {
+		assertThrows(IllegalArgumentException.class, () -> new Pbkdf2PasswordHasher(0, 16, 32));
+		assertThrows(IllegalArgumentException.class, () -> new Pbkdf2PasswordHasher(1000, 16, 64));
+	}
+}
@@ -3,7 +3,11 @@ package com.flab.sooldama.domain.user.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -16,21 +20,34 @@ import com.flab.sooldama.domain.user.dto.response.JoinUserResponse;
 import com.flab.sooldama.domain.user.exception.DuplicateEmailExistsException;
 import com.flab.sooldama.domain.user.exception.NoSuchUserException;
 import com.flab.sooldama.domain.user.exception.PasswordNotMatchException;
+import com.flab.sooldama.domain.user.password.DelegatingPasswordHasher;
+import com.flab.sooldama.domain.user.password.LegacySha256PasswordHasher;
+import com.flab.sooldama.domain.user.password.PasswordHasher;
+import com.flab.sooldama.domain.user.password.PasswordHashingExecutor;
+import com.flab.sooldama.domain.user.password.Pbkdf2PasswordHasher;
 import com.flab.sooldama.global.auth.AuthService;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import com.flab.sooldama.global.auth.Authenticator;
+import com.flab.sooldama.global.auth.SessionAuthenticator;
+import com.flab.sooldama.global.ratelimit.LoginRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.invocation.InvocationOnMock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.mockito.stubbing.Answer;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /*
  * @ExtendWith
@@ -50,16 +67,30 @@ class UserServiceTest {
 	private UserMapper userMapper;
 
 	@Mock
-	private AuthService authService;
+	private LoginRateLimiter loginRateLimiter;
+
+	/*
+	로그인 정보는 실제 세션 방식(SessionAuthenticator)으로 저장해야 세션에 저장된 값을 검증할 수 있습니다.
+	 */
+	@Spy
+	private Authenticator authenticator = new SessionAuthenticator(new AuthService());
+
+	/*
+	@Spy 어노테이션은 실제 객체를 감싼 객체를 만들어 @InjectMocks 가 붙은 객체에 주입시킵니다.
+	비밀번호 해시는 실제로 계산되어야 검증할 수 있으므로 목객체 대신 사용합니다.
+	 */
+	@Spy
+	private PasswordHasher passwordHasher = new DelegatingPasswordHasher(
+		new Pbkdf2PasswordHasher(1000, 16, 32), List.of(new LegacySha256PasswordHasher()));
+
+	@Spy
+	private PasswordHashingExecutor passwordHashingExecutor = new PasswordHashingExecutor(1, 10,
+		new SimpleMeterRegistry());
 
 	private JoinUserRequest request;
 
-	private UserService passwordEncryptor;
-
-	private Method passwordEncryptMethod;
-
 	@BeforeEach
-	public void setUp() throws NoSuchMethodException {
+	public void setUp() {
 		this.request = JoinUserRequest.builder()
 			.email("sehoon@fmail.com")
 			.password("abracadabra")
@@ -68,12 +99,11 @@ class UserServiceTest {
 			.nickname("sesoon")
 			.isAdult(true)
 			.build();
+	}
 
-		this.passwordEncryptor = new UserService(userMapper, authService);
-		this.passwordEncryptMethod = passwordEncryptor.getClass()
-			.getDeclaredMethod("encryptPassword", String.class);
-		this.passwordEncryptMethod.setAccessible(true);
-
+	@AfterEach
+	public void tearDown() {
+		this.passwordHashingExecutor.shutdown();
 	}
 
 	@Test
@@ -91,28 +121,25 @@ class UserServiceTest {
 			.createdAt(LocalDateTime.now())
 			.build();
 
-		doNothing().when(userMapper).insertUser(any(User.class));
+		/*
+		useGeneratedKeys 로 아이디가 채워지는 동작을 흉내냅니다.
+		 */
+		doAnswer(invocation -> {
+			ReflectionTestUtils.setField(invocation.<User>getArgument(0), "id", 1L);
+			return null;
+		}).when(userMapper).insertUser(any(User.class));
 		when(userMapper.findUserById(any(Long.class))).thenReturn((Optional.of(user)));
-		when(userMapper.findUserByEmail(any(String.class))).thenAnswer(new Answer() {
-			private int count = 0;
-
-			public Object answer(InvocationOnMock invocation) {
-				if (++count == 1) {
-					return Optional.ofNullable(null);
-				} else {
-					return Optional.of(user);
-				}
-			}
-		});
 
 		// 실행
-		JoinUserResponse response = userService.insertUser(this.request);
+		JoinUserResponse response = userService.insertUser(this.request).join();
 		JoinUserResponse joinedUserResponse = userService.findUserById(response.getId());
 
 		// 행위 검증
+		assertThat(response.getId()).isEqualTo(1L);
+		assertThat(response.getCreatedAt()).isNotNull();
 		assertThat(joinedUserResponse.getId()).isEqualTo(1L);
 		verify(userMapper).insertUser(any(User.class));
-		verify(userMapper, times(2)).findUserByEmail(any(String.class));
+		verify(userMapper, never()).findUserByEmail(any(String.class));
 		verify(userMapper).findUserById(any(Long.TYPE));
 	}
 
@@ -136,60 +163,38 @@ class UserServiceTest {
 	@DisplayName("입력된 이메일 주소가 이미 있을 경우")
 	public void testInsertUserChecksIfEmailAlreadyExists() {
 		// 테스트 데이터 및 동작 정의
-		when(userMapper.findUserByEmail(any(String.class))).thenReturn(
-			Optional.of(this.request.toUser()));
+		doThrow(DuplicateKeyException.class).when(userMapper).insertUser(any(User.class));
 
 		// 실행
-		assertThrows(DuplicateEmailExistsException.class, () -> {
-			userService.insertUser(this.request);
+		CompletionException exception = assertThrows(CompletionException.class, () -> {
+			userService.insertUser(this.request).join();
 		});
 
 		// 행위 검증
-		verify(userMapper).findUserByEmail(any(String.class));
+		assertThat(exception.getCause()).isInstanceOf(DuplicateEmailExistsException.class);
+		verify(userMapper).insertUser(any(User.class));
+		verify(userMapper, never()).findUserByEmail(any(String.class));
 	}
 
 	@Test
 	@DisplayName("회원가입 시 입력한 비밀번호는 암호화되어 입력 당시와 달라진다")
-	public void testInsertUserDoesEncryptPassword()
-		throws InvocationTargetException, IllegalAccessException {
+	public void testInsertUserDoesEncryptPassword() {
 		// 테스트 데이터 및 동작 정의
-		String encryptedPassword = (String) this.passwordEncryptMethod.invoke(
-			this.passwordEncryptor, this.request.getPassword());
-
-		User userWithEncryptedPassword = JoinUserRequest.builder()
-			.email(this.request.getEmail())
-			.password(encryptedPassword)
-			.name(this.request.getName())
-			.phoneNumber(this.request.getPhoneNumber())
-			.nickname(this.request.getNickname())
-			.isAdult(this.request.getIsAdult())
-			.build()
-			.toUser();
+		String encryptedPassword = passwordHasher.hash(this.request.getPassword());
 
 		doNothing().when(userMapper).insertUser(any(User.class));
-		when(userMapper.findUserByEmail(any(String.class))).thenAnswer(new Answer() {
-			private int count = 0;
-
-			public Object answer(InvocationOnMock invocation) {
-				if (++count == 1) {
-					return Optional.ofNullable(null);
-				} else {
-					return Optional.of(userWithEncryptedPassword);
-				}
-			}
-		});
 
 		// 실행
-		userService.insertUser(request);
+		userService.insertUser(request).join();
 
 		// 행위 검증
-		assertThat(encryptedPassword).isNotEqualTo(this.request.getPassword());
-		assertThat(encryptedPassword).isEqualTo(
-			(String) this.passwordEncryptMethod.invoke(this.passwordEncryptor,
-				this.request.getPassword()));
+		ArgumentCaptor<User> insertedUser = ArgumentCaptor.forClass(User.class);
+		verify(userMapper).insertUser(insertedUser.capture());
 
-		verify(userMapper).insertUser(any(User.class));
-		verify(userMapper, times(2)).findUserByEmail(any(String.class));
+		assertThat(encryptedPassword).isNotEqualTo(this.request.getPassword());
+		assertThat(insertedUser.getValue().getPassword()).isNotEqualTo(this.request.getPassword());
+		assertThat(passwordHasher.matches(this.request.getPassword(),
+			insertedUser.getValue().getPassword())).isTrue();
 	}
 
 	@Test
@@ -200,19 +205,40 @@ class UserServiceTest {
 			.email("yet-joined@fmail.com")
 			.password("q1w2e3!")
 			.build();
-		MockHttpSession session = new MockHttpSession();
-
 		when(userMapper.findUserByEmail(any(String.class))).thenReturn(Optional.ofNullable(null));
 
 		// 실행
-		assertThrows(NoSuchUserException.class, () -> {
-			userService.loginUser(invalidRequest, session);
+		CompletionException exception = assertThrows(CompletionException.class, () -> {
+			userService.loginUser(invalidRequest).join();
 		});
 
+		assertThat(exception.getCause()).isInstanceOf(NoSuchUserException.class);
+
 		// 행위 검증
 		verify(userMapper).findUserByEmail(any(String.class));
 	}
 
+	@Test
+	@DisplayName("가입하지 않은 이메일도 가입한 이메일처럼 해시를 비교해서 응답 시간으로 구분할 수 없다")
+	public void testLoginUserComparesHashEvenWhenEmailNotFound() throws Exception {
+		// 테스트 데이터 및 동작 정의
+		LoginUserRequest invalidRequest = LoginUserRequest.builder()
+			.email("yet-joined@fmail.com")
+			.password("q1w2e3!")
+			.build();
+		when(userMapper.findUserByEmail(any(String.class))).thenReturn(Optional.empty());
+
+		// 실행
+		for (int i = 0; i < 2; i++) {
+			assertThrows(CompletionException.class,
+				() -> userService.loginUser(invalidRequest).join());
+		}
+
+		// 행위 검증
+		verify(passwordHasher, times(2)).matches(eq("q1w2e3!"), any(String.class));
+		verify(passwordHasher, times(1)).hash(any(String.class));
+	}
+
 	@Test
 	@DisplayName("등록된 사용자이더라도 로그인 시 입력한 비밀번호를 암호화했을 때 DB에 저장된 값과 일치하지 않으면 로그인 불가")
 	public void testLoginUserFailWithInvalidPassword() throws Exception {
@@ -224,8 +250,7 @@ class UserServiceTest {
 
 		String validPassword = this.request.getPassword();
 
-		String encryptedValidPassword = (String) this.passwordEncryptMethod.invoke(
-			this.passwordEncryptor, validPassword);
+		String encryptedValidPassword = passwordHasher.hash(validPassword);
 
 		User validUser = User.builder()
 			.email(this.request.getEmail())
@@ -237,28 +262,29 @@ class UserServiceTest {
 			.createdAt(LocalDateTime.now())
 			.build();
 
-		MockHttpSession session = new MockHttpSession();
-
 		when(userMapper.findUserByEmail(any(String.class))).thenReturn(Optional.of(validUser));
 
 		// 실행
-		assertThrows(PasswordNotMatchException.class, () -> {
-			userService.loginUser(invalidRequest, session);
+		/*
+		비밀번호 검증은 해시 스레드에서 실행되므로, 예외는 CompletionException 에 감싸져서 전달됩니다.
+		 */
+		CompletionException exception = assertThrows(CompletionException.class, () -> {
+			userService.loginUser(invalidRequest).join();
 		});
 
+		assertThat(exception.getCause()).isInstanceOf(PasswordNotMatchException.class);
+
 		// 행위 검증
 		verify(userMapper, times(1)).findUserByEmail(any(String.class));
 	}
 
 	@Test
 	@DisplayName("로그인 성공 테스트")
-	public void testLoginUser()
-		throws InvocationTargetException, IllegalAccessException {
+	public void testLoginUser() {
 		// 테스트 데이터 및 동작 정의
 		String validPassword = this.request.getPassword();
 
-		String encryptedValidPassword = (String) this.passwordEncryptMethod.invoke(
-			this.passwordEncryptor, this.request.getPassword());
+		String encryptedValidPassword = passwordHasher.hash(this.request.getPassword());
 
 		LoginUserRequest validRequest = LoginUserRequest.builder()
 			.email(this.request.getEmail())
@@ -275,16 +301,60 @@ class UserServiceTest {
 			.createdAt(LocalDateTime.now())
 			.build();
 
-		MockHttpSession session = new MockHttpSession();
+		MockHttpServletRequest httpRequest = new MockHttpServletRequest();
 
 		when(userMapper.findUserByEmail(any(String.class))).thenReturn(Optional.of(validUser));
-		when(authService.getAuthSessionKey()).thenReturn("USER_EMAIL");
 
 		// 실행
-		userService.loginUser(validRequest, session);
+		VerifiedLogin login = userService.loginUser(validRequest).join();
+
+		// 비밀번호만 확인했을 때는 세션을 만들지 않고, 요청 스레드에서 로그인을 마치면 만든다
+		assertThat(httpRequest.getSession(false)).isNull();
+		assertThat(userService.completeLogin(login, httpRequest)).isNull();
 
 		// 행위 검증
+		assertThat(httpRequest.getSession(false).getAttribute("USER_EMAIL"))
+			.isEqualTo(validRequest.getEmail());
 		verify(userMapper).findUserByEmail(any(String.class));
+		verify(userMapper, never()).updatePassword(any(), any());
+	}
+
+	@Test
+	@DisplayName("이전 방식(SHA-256)으로 저장된 비밀번호로 로그인하면 현재 방식으로 다시 해시해서 저장한다")
+	public void testLoginUserRehashesLegacyPassword() {
+		// 테스트 데이터 및 동작 정의
+		String legacyPassword = new LegacySha256PasswordHasher().hash(this.request.getPassword());
+
+		LoginUserRequest validRequest = LoginUserRequest.builder()
+			.email(this.request.getEmail())
+			.password(this.request.getPassword())
+			.build();
+
+		User legacyUser = User.builder()
+			.id(1L)
+			.email(this.request.getEmail())
+			.password(legacyPassword)
+			.name(this.request.getName())
+			.phoneNumber(this.request.getPhoneNumber())
+			.isAdult(this.request.getIsAdult())
+			.build();
+
+		when(userMapper.findUserByEmail(any(String.class))).thenReturn(Optional.of(legacyUser));
+
+		// 실행
+		VerifiedLogin login = userService.loginUser(validRequest).join();
+
+		// 다시 해시한 비밀번호는 해시 스레드에서 계산하고, 저장은 요청 스레드에서 로그인을 마칠 때 한다
+		verify(userMapper, never()).updatePassword(any(), any());
+		userService.completeLogin(login, new MockHttpServletRequest());
+
+		// 행위 검증
+		ArgumentCaptor<String> rehashedPassword = ArgumentCaptor.forClass(String.class);
+		verify(userMapper).updatePassword(eq(1L), rehashedPassword.capture());
+
+		assertThat(rehashedPassword.getValue()).startsWith("$" + Pbkdf2PasswordHasher.ID + "$");
+		assertThat(passwordHasher.matches(this.request.getPassword(),
+			rehashedPassword.getValue())).isTrue();
 	}
 
 	@Test
@@ -293,9 +363,11 @@ class UserServiceTest {
 		// 테스트 데이터 및 동작 정의
 		MockHttpSession session = new MockHttpSession();
 		session.setAttribute("USER_EMAIL", this.request.getEmail());
+		MockHttpServletRequest httpRequest = new MockHttpServletRequest();
+		httpRequest.setSession(session);
 
 		// 실행
-		userService.logoutUser(session);
+		userService.logoutUser(httpRequest);
 
 		// 행위 검증
 		assertThrows(IllegalStateException.class, () -> session.invalidate());
@@ -0,0 +1,114 @@
+package com.flab.sooldama.global.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+	private static final long FAST = Duration.ofMillis(10).toNanos();
+
+	private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+	private AdmissionProperties.Route route;
+
+	@BeforeEach
+	public void setUp() {
+		this.route = new AdmissionProperties.Route();
+		this.route.setInitialLimit(10);
+		this.route.setMinLimit(2);
+		this.route.setMaxLimit(11);
+		this.route.setLatencyThreshold(Duration.ofMillis(100));
+		this.route.setBackoffRatio(0.5);
+		this.route.setAnonymousShare(0.5);
+	}
+
+	@Test
+	@DisplayName("로그인하지 않은 요청은 한도의 일부까지만, 로그인한 요청은 한도까지 허용한다")
+	public void testPriority() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(route);
+
+		for (int i = 0; i < 5; i++) {
+			assertTrue(limit.tryAcquire(false));
+		}
+		assertFalse(limit.tryAcquire(false));
+
+		for (int i = 0; i < 5; i++) {
+			assertTrue(limit.tryAcquire(true));
+		}
+		assertFalse(limit.tryAcquire(true));
+		assertEquals(10, limit.getInflight());
+	}
+
+	@Test
+	@DisplayName("처리 시간이 기준을 넘으면 한도를 줄이고, 한도를 충분히 사용하면서 빠른 요청이 한도만큼 끝나면 최대 한도까지 1씩 늘린다")
+	public void testAdditiveIncreaseMultiplicativeDecrease() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(route);
+
+		limit.tryAcquire(true);
+		limit.release(SLOW);
+		assertEquals(5, limit.getLimit());
+
+		for (int i = 0; i < 3; i++) {
+			limit.tryAcquire(true);
+			limit.release(SLOW);
+		}
+		assertEquals(2, limit.getLimit());
+
+		limit.tryAcquire(true);
+		limit.release(FAST);
+		assertEquals(2, limit.getLimit());
+
+		limit.tryAcquire(true);
+		limit.release(FAST);
+		assertEquals(3, limit.getLimit());
+
+		for (int i = 0; i < 50; i++) {
+			fillAndReleaseFast(limit);
+		}
+		assertEquals(11, limit.getLimit());
+		assertEquals(0, limit.getInflight());
+	}
+
+	@Test
+	@DisplayName("한도만큼의 요청이 끝나는 한 주기 안에서는 한도를 한 번보다 많이 늘리지 않는다")
+	public void testIncreasesAtMostOncePerWindow() {
+		route.setMaxLimit(100);
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(route);
+
+		fillAndReleaseFast(limit);
+		assertEquals(10, limit.getLimit());
+
+		fillAndReleaseFast(limit);
+		assertEquals(11, limit.getLimit());
+	}
+
+	@Test
+	@DisplayName("한도를 조금만 사용하고 있으면 빨라도 한도를 늘리지 않는다")
+	public void testDoesNotGrowWhenIdle() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(route);
+
+		for (int i = 0; i < 10; i++) {
+			limit.tryAcquire(true);
+			limit.release(FAST);
+		}
+
+		assertEquals(10, limit.getLimit());
+	}
+
+	/*
+	한도까지 요청을 받은 뒤 모두 빠르게 끝냅니다.
+	 */
+	private static void fillAndReleaseFast(AdaptiveConcurrencyLimit limit) {
+		while (limit.tryAcquire(true)) {
+		}
+		for (int inflight = limit.getInflight(); inflight > 0; inflight--) {
+			limit.release(FAST);
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package com.flab.sooldama.global.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.flab.sooldama.global.auth.AuthService;
+import com.flab.sooldama.global.auth.SessionAuthenticator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+
+class AdmissionControlFilterTest {
+
+	private MeterRegistry meterRegistry;
+
+	private AdmissionControlFilter filter;
+
+	@BeforeEach
+	public void setUp() {
+		AdmissionProperties.Route route = new AdmissionProperties.Route();
+		route.setPatterns(List.of("/products", "/products/*"));
+		route.setInitialLimit(2);
+		route.setMaxLimit(2);
+		route.setAnonymousShare(0.5);
+
+		AdmissionProperties properties = new AdmissionProperties();
+		properties.getRoutes().put("products", route);
+
+		this.meterRegistry = new SimpleMeterRegistry();
+		this.filter = new AdmissionControlFilter(properties,
+			new SessionAuthenticator(new AuthService()), meterRegistry);
+	}
+
+	@Test
+	@DisplayName("한도를 넘은 요청은 컨트롤러를 실행하지 않고 503 과 Retry-After 로 응답하고, 로그인한 사용자는 남은 자리로 받는다")
+	public void testShedsWhenLimitExceeded() throws Exception {
+		MockHttpServletRequest first = startAsync(anonymous());
+		filter.doFilter(first, new MockHttpServletResponse(), new MockFilterChain());
+
+		MockHttpServletResponse shedResponse = new MockHttpServletResponse();
+		MockFilterChain shedChain = new MockFilterChain();
+		filter.doFilter(anonymous(), shedResponse, shedChain);
+
+		MockHttpServletResponse priorityResponse = new MockHttpServletResponse();
+		filter.doFilter(authenticated(), priorityResponse, new MockFilterChain());
+
+		assertEquals(503, shedResponse.getStatus());
+		assertEquals("1", shedResponse.getHeader(HttpHeaders.RETRY_AFTER));
+		assertNull(shedChain.getRequest());
+		assertEquals(200, priorityResponse.getStatus());
+		assertEquals(1.0, requests("shed"));
+		assertEquals(2.0, requests("admitted"));
+		assertEquals(1.0, meterRegistry.get("admission.inflight").gauge().value());
+	}
+
+	@Test
+	@DisplayName("비동기 요청은 비동기 처리가 끝날 때 자리를 반납한다")
+	public void testAsyncRequestReleasesOnComplete() throws Exception {
+		MockHttpServletRequest request = startAsync(anonymous());
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		assertEquals(1.0, meterRegistry.get("admission.inflight").gauge().value());
+
+		request.getAsyncContext().complete();
+
+		assertEquals(0.0, meterRegistry.get("admission.inflight").gauge().value());
+	}
+
+	@Test
+	@DisplayName("설정하지 않은 경로는 제한하지 않는다")
+	public void testUnmatchedPathPassesThrough() throws Exception {
+		for (int i = 0; i < 5; i++) {
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/healthcheck");
+			MockHttpServletResponse response = new MockHttpServletResponse();
+
+			filter.doFilter(request, response, new MockFilterChain());
+
+			assertEquals(200, response.getStatus());
+		}
+		assertEquals(0.0, requests("admitted"));
+	}
+
+	private double requests(String outcome) {
+		return meterRegistry.get("admission.requests").tag("outcome", outcome).counter().count();
+	}
+
+	private static MockHttpServletRequest anonymous() {
+		return new MockHttpServletRequest("GET", "/products/1");
+	}
+
+	private static MockHttpServletRequest authenticated() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products");
+		MockHttpSession session = new MockHttpSession();
+		session.setAttribute(new AuthService().getAuthSessionKey(), "test@tester.com");
+		request.setSession(session);
+		return request;
+	}
+
+	/*
+	컨트롤러가 비동기 처리를 시작한 것처럼 요청을 비동기 상태로 바꿉니다.
+	 */
+	private static MockHttpServletRequest startAsync(MockHttpServletRequest request) {
+		request.setAsyncSupported(true);
+		request.startAsync();
+		return request;
+	}
+}
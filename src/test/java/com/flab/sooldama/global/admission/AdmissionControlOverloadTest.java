@@ -0,0 +1,137 @@
+package com.flab.sooldama.global.admission;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.flab.sooldama.global.auth.AuthService;
+import com.flab.sooldama.global.auth.SessionAuthenticator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/*
+처리 용량의 10배인 동시 요청을 보내서, 동시 처리 한도가 있을 때 받은 요청의 응답 시간(p99)이 제한되는지 확인합니다.
+서버는 크기가 CAPACITY 인 DB 커넥션 풀을 흉내내서, 커넥션을 얻은 요청만 SERVICE_TIME 동안 처리하고 나머지는 기다립니다.
+한도가 없으면 모든 요청이 커넥션 풀에서 기다리므로 응답 시간이 동시 요청 수에 비례해서 늘어납니다.
+
+실제 시간으로 측정하므로 절대값 대신 한도가 없을 때와 비교하고, ./gradlew loadTest 로 따로 실행합니다.
+ */
+@Tag("load")
+class AdmissionControlOverloadTest {
+
+	private static final int CAPACITY = 4;
+
+	private static final int CLIENTS = CAPACITY * 10;
+
+	private static final long SERVICE_TIME_MILLIS = 20L;
+
+	private static final Duration RUN_TIME = Duration.ofMillis(1500);
+
+	// 한도가 있을 때 p99 가 한도가 없을 때보다 이 배수 이상 짧아야 합니다.
+	private static final int P99_IMPROVEMENT_FACTOR = 2;
+
+	@Test
+	@DisplayName("10배 과부하에서 받은 요청의 p99 응답 시간은 한도가 없을 때보다 짧고 나머지는 바로 거절한다")
+	public void testTailLatencyStaysBoundedUnderOverload() throws Exception {
+		AdmissionProperties.Route route = new AdmissionProperties.Route();
+		route.setPatterns(List.of("/products/*"));
+		route.setInitialLimit(CAPACITY * 2);
+		route.setMinLimit(1);
+		route.setMaxLimit(CAPACITY * 4);
+		route.setLatencyThreshold(Duration.ofMillis(SERVICE_TIME_MILLIS * 3));
+		route.setAnonymousShare(1.0);
+		AdmissionProperties properties = new AdmissionProperties();
+		properties.getRoutes().put("products", route);
+		AdmissionControlFilter filter = new AdmissionControlFilter(properties,
+			new SessionAuthenticator(new AuthService()), new SimpleMeterRegistry());
+
+		LoadResult baseline = run((request, response, chain) -> chain.doFilter(request, response));
+		LoadResult admitted = run(filter::doFilter);
+
+		assertTrue(admitted.shed.get() > 0);
+		assertTrue(admitted.p99() * P99_IMPROVEMENT_FACTOR < baseline.p99(),
+			"한도가 없을 때 p99 " + baseline.p99() + "ms, 있을 때 p99 " + admitted.p99() + "ms");
+	}
+
+	private LoadResult run(Handler handler) throws InterruptedException {
+		Semaphore connections = new Semaphore(CAPACITY, true);
+		FilterChain server = (request, response) -> {
+			connections.acquireUninterruptibly();
+			try {
+				sleep(SERVICE_TIME_MILLIS);
+			} finally {
+				connections.release();
+			}
+		};
+
+		LoadResult result = new LoadResult();
+		long deadline = System.nanoTime() + RUN_TIME.toNanos();
+		ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+		for (int i = 0; i < CLIENTS; i++) {
+			clients.execute(() -> {
+				while (System.nanoTime() < deadline) {
+					MockHttpServletResponse response = new MockHttpServletResponse();
+					long start = System.nanoTime();
+					try {
+						handler.handle(new MockHttpServletRequest("GET", "/products/1"), response,
+							server);
+					} catch (Exception e) {
+						throw new IllegalStateException(e);
+					}
+
+					// 거절된 클라이언트는 잠시 기다렸다가 다시 요청합니다.
+					if (response.getStatus() == 503) {
+						result.shed.incrementAndGet();
+						sleep(SERVICE_TIME_MILLIS);
+					} else {
+						result.latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+					}
+				}
+			});
+		}
+		clients.shutdown();
+		clients.awaitTermination(RUN_TIME.toMillis() * 10, TimeUnit.MILLISECONDS);
+
+		return result;
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@FunctionalInterface
+	private interface Handler {
+
+		void handle(MockHttpServletRequest request, MockHttpServletResponse response,
+			FilterChain chain) throws Exception;
+	}
+
+	private static class LoadResult {
+
+		private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+
+		private final AtomicInteger shed = new AtomicInteger();
+
+		long p99() {
+			List<Long> sorted = new ArrayList<>(latencies);
+			Collections.sort(sorted);
+			return sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package com.flab.sooldama.global.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.http.MediaType;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+import org.springframework.session.web.http.SessionRepositoryFilter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/*
+EmbeddedRedisConfig 가 띄운 내장 Redis 에 세션을 저장하도록 SessionRepositoryFilter 를 직접 만들어 MockMvc 에 등록합니다.
+test 프로필은 세션 저장소를 사용하지 않으므로(spring.session.store-type: none), 다른 테스트와 같은 스프링 컨텍스트를 그대로 사용하면서
+이 테스트에서만 dev 프로필처럼 Redis 세션을 사용합니다. 다른 데이터와 섞이지 않도록 세션 키 접두어를 따로 정합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+public class AnonymousSessionIntegrationTest {
+
+	private static final String SESSION_KEY_NAMESPACE = "sooldama:test:session";
+
+	private static final String SESSION_KEY_PATTERN = SESSION_KEY_NAMESPACE + ":*";
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private RedisConnectionFactory redisConnectionFactory;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private RedisTemplate<Object, Object> sessionRedisTemplate;
+
+	private RedisIndexedSessionRepository sessionRepository;
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	public void setUp() {
+		this.sessionRedisTemplate = new RedisTemplate<>();
+		this.sessionRedisTemplate.setConnectionFactory(redisConnectionFactory);
+		this.sessionRedisTemplate.setKeySerializer(new StringRedisSerializer());
+		this.sessionRedisTemplate.setHashKeySerializer(new StringRedisSerializer());
+		this.sessionRedisTemplate.afterPropertiesSet();
+
+		this.sessionRepository = new RedisIndexedSessionRepository(sessionRedisTemplate);
+		this.sessionRepository.setRedisKeyNamespace(SESSION_KEY_NAMESPACE);
+
+		this.mockMvc = MockMvcBuilders.webAppContextSetup(context)
+			.addFilters(new SessionRepositoryFilter<>(sessionRepository),
+				new SessionMetricsFilter(meterRegistry))
+			.build();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		Set<Object> keys = sessionRedisTemplate.keys(SESSION_KEY_PATTERN);
+		if (keys != null && !keys.isEmpty()) {
+			sessionRedisTemplate.delete(keys);
+		}
+	}
+
+	@Test
+	@DisplayName("로그인하지 않은 요청은 Redis 에 세션을 만들지 않는다")
+	public void testAnonymousTrafficCreatesNoSession() throws Exception {
+		double requests = meterRegistry.get("session.requests").counter().count();
+		double created = meterRegistry.get("session.created").counter().count();
+
+		this.mockMvc.perform(get("/products"))
+			.andExpect(status().isOk());
+		this.mockMvc.perform(get("/products/{productId}", 1L))
+			.andExpect(status().isBadRequest());
+		this.mockMvc.perform(get("/products/export"))
+			.andExpect(status().isBadRequest());
+		this.mockMvc.perform(post("/users/logout"))
+			.andExpect(status().isBadRequest());
+		MvcResult loginResult = this.mockMvc.perform(post("/users/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"email\":\"yet-joined@fmail.com\",\"password\":\"q1w2e3!\"}"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		this.mockMvc.perform(asyncDispatch(loginResult))
+			.andExpect(status().isBadRequest());
+
+		assertEquals(Set.of(), sessionRedisTemplate.keys(SESSION_KEY_PATTERN));
+		assertEquals(requests + 5, meterRegistry.get("session.requests").counter().count());
+		assertEquals(created, meterRegistry.get("session.created").counter().count());
+	}
+
+	@Test
+	@DisplayName("세션을 저장하면 같은 키 접두어로 Redis 에 저장된다")
+	public void testSavedSessionIsVisibleInRedis() {
+		String sessionId = saveNewSession(sessionRepository);
+
+		Set<Object> keys = sessionRedisTemplate.keys(SESSION_KEY_PATTERN);
+
+		assertTrue(keys != null && !keys.isEmpty());
+		assertNotNull(sessionRepository.findById(sessionId));
+	}
+
+	/*
+	RedisIndexedSessionRepository 의 세션 타입(RedisSession)은 공개되어 있지 않아서, 타입 변수로 받아 저장합니다.
+	 */
+	private static <S extends Session> String saveNewSession(SessionRepository<S> sessionRepository) {
+		S session = sessionRepository.createSession();
+		sessionRepository.save(session);
+		return session.getId();
+	}
+}
@@ -0,0 +1,91 @@
+package com.flab.sooldama.global.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AuthTokenCodecTest {
+
+	private static final byte[] OLD_KEY = "old-signing-key-that-is-32-bytes!".getBytes(
+		StandardCharsets.UTF_8);
+
+	private static final byte[] NEW_KEY = "new-signing-key-that-is-32-bytes!".getBytes(
+		StandardCharsets.UTF_8);
+
+	private static final Duration TTL = Duration.ofHours(1);
+
+	private static final Instant NOW = Instant.parse("2022-10-01T00:00:00Z");
+
+	private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+	@Test
+	@DisplayName("발급한 토큰을 검증하면 사용자 아이디, 이메일, 만료 시각을 얻는다")
+	public void testIssueAndVerify() {
+		AuthTokenCodec codec = new AuthTokenCodec(Map.of("k1", OLD_KEY), "k1", TTL, clock);
+
+		AuthToken issued = codec.issue(1L, "test:user@tester.com");
+		AuthToken verified = codec.verify(issued.getValue()).orElseThrow();
+
+		assertEquals(1L, verified.getUserId());
+		assertEquals("test:user@tester.com", verified.getEmail());
+		assertEquals(issued.getTokenId(), verified.getTokenId());
+		assertEquals(NOW.plus(TTL), verified.getExpiresAt());
+	}
+
+	@Test
+	@DisplayName("내용이나 서명을 바꾼 토큰, 모르는 키로 서명한 토큰은 거절한다")
+	public void testVerifyRejectsTamperedToken() {
+		AuthTokenCodec codec = new AuthTokenCodec(Map.of("k1", OLD_KEY), "k1", TTL, clock);
+		AuthTokenCodec otherCodec = new AuthTokenCodec(Map.of("k2", NEW_KEY), "k2", TTL, clock);
+		String value = codec.issue(1L, "test@tester.com").getValue();
+		String[] parts = value.split("\\.");
+		String otherPayload = codec.issue(2L, "admin@tester.com").getValue().split("\\.")[1];
+
+		assertTrue(codec.verify(parts[0] + "." + otherPayload + "." + parts[2]).isEmpty());
+		assertTrue(codec.verify(value + "A").isEmpty());
+		assertTrue(codec.verify(otherCodec.issue(1L, "test@tester.com").getValue()).isEmpty());
+		assertTrue(codec.verify("not-a-token").isEmpty());
+	}
+
+	@Test
+	@DisplayName("만료된 토큰은 거절한다")
+	public void testVerifyRejectsExpiredToken() {
+		AuthTokenCodec codec = new AuthTokenCodec(Map.of("k1", OLD_KEY), "k1", TTL, clock);
+		AuthTokenCodec later = new AuthTokenCodec(Map.of("k1", OLD_KEY), "k1", TTL,
+			Clock.offset(clock, TTL));
+
+		assertTrue(later.verify(codec.issue(1L, "test@tester.com").getValue()).isEmpty());
+	}
+
+	@Test
+	@DisplayName("서명 키를 바꿔도 이전 키로 서명한 토큰은 키를 지울 때까지 검증된다")
+	public void testKeyRotation() {
+		AuthTokenCodec before = new AuthTokenCodec(Map.of("k1", OLD_KEY), "k1", TTL, clock);
+		AuthTokenCodec rotated = new AuthTokenCodec(Map.of("k1", OLD_KEY, "k2", NEW_KEY), "k2",
+			TTL, clock);
+		AuthTokenCodec retired = new AuthTokenCodec(Map.of("k2", NEW_KEY), "k2", TTL, clock);
+		String oldToken = before.issue(1L, "test@tester.com").getValue();
+
+		assertTrue(rotated.verify(oldToken).isPresent());
+		assertTrue(rotated.issue(1L, "test@tester.com").getValue().startsWith("k2."));
+		assertTrue(retired.verify(oldToken).isEmpty());
+	}
+
+	@Test
+	@DisplayName("서명 키가 없거나 짧으면 만들 수 없다")
+	public void testRejectsInvalidKeys() {
+		assertThrows(IllegalStateException.class,
+			() -> new AuthTokenCodec(Map.of("k1", OLD_KEY), "k2", TTL, clock));
+		assertThrows(IllegalStateException.class,
+			() -> new AuthTokenCodec(Map.of("k1", new byte[16]), "k1", TTL, clock));
+	}
+}
@@ -0,0 +1,137 @@
+package com.flab.sooldama.global.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.flab.sooldama.domain.user.dao.UserMapper;
+import com.flab.sooldama.domain.user.domain.User;
+import com.flab.sooldama.domain.user.password.PasswordHasher;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+import javax.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.http.MediaType;
+import org.springframework.session.Session;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+import org.springframework.session.web.http.SessionRepositoryFilter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/*
+AnonymousSessionIntegrationTest 와 같이 내장 Redis 에 세션을 저장하는 SessionRepositoryFilter 를 MockMvc 에 등록하고 로그인합니다.
+비밀번호는 해시 스레드에서 확인하고 세션은 그 뒤 applicationTaskExecutor 에서 만들지만, 세션은 ASYNC 디스패치가 끝날 때 Redis 에 저장되고
+같은 응답으로 세션 쿠키를 보내야 합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+public class LoginSessionIntegrationTest {
+
+	private static final String SESSION_KEY_NAMESPACE = "sooldama:test:login-session";
+
+	private static final String SESSION_COOKIE = "SESSION";
+
+	private static final String EMAIL = "redis-session@fmail.com";
+
+	private static final String PASSWORD = "q1w2e3!";
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private RedisConnectionFactory redisConnectionFactory;
+
+	@Autowired
+	private UserMapper userMapper;
+
+	@Autowired
+	private PasswordHasher passwordHasher;
+
+	@Autowired
+	private AuthService authService;
+
+	private RedisTemplate<Object, Object> sessionRedisTemplate;
+
+	private RedisIndexedSessionRepository sessionRepository;
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	public void setUp() {
+		this.sessionRedisTemplate = new RedisTemplate<>();
+		this.sessionRedisTemplate.setConnectionFactory(redisConnectionFactory);
+		this.sessionRedisTemplate.setKeySerializer(new StringRedisSerializer());
+		this.sessionRedisTemplate.setHashKeySerializer(new StringRedisSerializer());
+		this.sessionRedisTemplate.afterPropertiesSet();
+
+		this.sessionRepository = new RedisIndexedSessionRepository(sessionRedisTemplate);
+		this.sessionRepository.setRedisKeyNamespace(SESSION_KEY_NAMESPACE);
+
+		this.mockMvc = MockMvcBuilders.webAppContextSetup(context)
+			.addFilters(new SessionRepositoryFilter<>(sessionRepository))
+			.build();
+
+		userMapper.deleteAllUsers();
+		userMapper.insertUser(User.builder()
+			.email(EMAIL)
+			.password(passwordHasher.hash(PASSWORD))
+			.name("redis session user")
+			.phoneNumber("010-3030-3030")
+			.isAdult(true)
+			.build());
+	}
+
+	@AfterEach
+	public void tearDown() {
+		Set<Object> keys = sessionRedisTemplate.keys(SESSION_KEY_NAMESPACE + ":*");
+		if (keys != null && !keys.isEmpty()) {
+			sessionRedisTemplate.delete(keys);
+		}
+	}
+
+	@Test
+	@DisplayName("로그인하면 ASYNC 디스패치에서 Redis 에 세션을 저장하고, 그 세션으로 로그아웃할 수 있다")
+	public void testLoginStoresSessionInRedis() throws Exception {
+		MvcResult result = mockMvc.perform(post("/users/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		assertNull(result.getResponse().getCookie(SESSION_COOKIE));
+
+		Cookie cookie = mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andReturn()
+			.getResponse()
+			.getCookie(SESSION_COOKIE);
+
+		assertNotNull(cookie);
+		String sessionId = new String(Base64.getDecoder().decode(cookie.getValue()),
+			StandardCharsets.UTF_8);
+		Session session = sessionRepository.findById(sessionId);
+		assertNotNull(session);
+		assertEquals(EMAIL, session.getAttribute(authService.getAuthSessionKey()));
+
+		mockMvc.perform(post("/users/logout").cookie(cookie))
+			.andExpect(status().isOk());
+
+		assertNull(sessionRepository.findById(sessionId));
+	}
+}
@@ -0,0 +1,72 @@
+package com.flab.sooldama.global.auth;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class RedisTokenRevocationListTest {
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	private RedisTokenRevocationList revocationList;
+
+	private AuthToken token;
+
+	@BeforeEach
+	public void setUp() {
+		this.revocationList = new RedisTokenRevocationList(100, Clock.systemUTC(),
+			stringRedisTemplate);
+		this.token = new AuthToken("k1.payload.signature", 1L, "test@tester.com", "token-id",
+			Instant.now().plus(30, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.MILLIS));
+	}
+
+	@Test
+	@DisplayName("로그아웃하면 다른 서버에 알리고, 메시지를 받은 서버도 같은 토큰을 거절한다")
+	public void testRevokeIsBroadcastToEveryNode() {
+		TokenRevocationList anotherNode = new TokenRevocationList(100, Clock.systemUTC());
+		assertFalse(anotherNode.isRevoked(token));
+
+		revocationList.revoke(token);
+
+		ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+		verify(stringRedisTemplate).convertAndSend(eq(RedisTokenRevocationList.REVOCATION_CHANNEL),
+			message.capture());
+		new TokenRevocationListener(anotherNode).onMessage(
+			new DefaultMessage(RedisTokenRevocationList.REVOCATION_CHANNEL.getBytes(
+				StandardCharsets.UTF_8), message.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+		assertTrue(revocationList.isRevoked(token));
+		assertTrue(anotherNode.isRevoked(token));
+	}
+
+	@Test
+	@DisplayName("Redis 에 알리지 못해도 이 서버에서는 토큰을 거절한다")
+	public void testRevokeSurvivesRedisFailure() {
+		doThrow(new RedisConnectionFailureException("down")).when(stringRedisTemplate)
+			.convertAndSend(eq(RedisTokenRevocationList.REVOCATION_CHANNEL), anyString());
+
+		revocationList.revoke(token);
+
+		assertTrue(revocationList.isRevoked(token));
+	}
+}
@@ -0,0 +1,68 @@
+package com.flab.sooldama.global.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class TokenAuthenticatorTest {
+
+	private static final byte[] KEY = "signing-key-that-is-at-least-32-bytes".getBytes(
+		StandardCharsets.UTF_8);
+
+	private TokenAuthenticator authenticator;
+
+	@BeforeEach
+	public void setUp() {
+		Clock clock = Clock.systemUTC();
+		this.authenticator = new TokenAuthenticator(
+			new AuthTokenCodec(Map.of("k1", KEY), "k1", Duration.ofMinutes(30), clock),
+			new TokenRevocationList(100, clock));
+	}
+
+	@Test
+	@DisplayName("로그인하면 발급한 토큰으로 인증되고, 세션은 만들지 않는다")
+	public void testSignInIssuesToken() {
+		MockHttpServletRequest loginRequest = new MockHttpServletRequest();
+		AuthToken token = authenticator.signIn(loginRequest, 1L, "test@tester.com");
+
+		assertNull(loginRequest.getSession(false));
+		assertTrue(authenticator.isAuthenticated(withToken(token.getValue())));
+		assertFalse(authenticator.isAuthenticated(new MockHttpServletRequest()));
+		assertFalse(authenticator.isAuthenticated(withToken("k1.forged.token")));
+		assertEquals(Optional.of("test@tester.com"),
+			authenticator.currentEmail(withToken(token.getValue())));
+		assertEquals(Optional.empty(), authenticator.currentEmail(new MockHttpServletRequest()));
+	}
+
+	@Test
+	@DisplayName("로그아웃한 토큰은 만료 전이라도 거절한다")
+	public void testSignOutRevokesToken() {
+		AuthToken token = authenticator.signIn(new MockHttpServletRequest(), 1L,
+			"test@tester.com");
+		AuthToken otherToken = authenticator.signIn(new MockHttpServletRequest(), 1L,
+			"test@tester.com");
+
+		authenticator.signOut(withToken(token.getValue()));
+
+		assertFalse(authenticator.isAuthenticated(withToken(token.getValue())));
+		assertTrue(authenticator.isAuthenticated(withToken(otherToken.getValue())));
+	}
+
+	private static MockHttpServletRequest withToken(String token) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+		return request;
+	}
+}
@@ -0,0 +1,118 @@
+package com.flab.sooldama.global.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/*
+스케줄러가 기록하지 않도록 기록 주기를 길게 잡고 sample() 을 직접 호출합니다. window 동안 10개까지 기록합니다.
+ */
+class PoolSizeAdvisorTest {
+
+	private static final int CONFIGURED_POOL_SIZE = 10;
+
+	private final HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+
+	private PoolAdvisorProperties properties;
+
+	private PoolSizeAdvisor advisor;
+
+	@BeforeEach
+	public void setUp() {
+		this.properties = new PoolAdvisorProperties();
+		this.properties.setSampleInterval(Duration.ofHours(1));
+		this.properties.setWindow(Duration.ofHours(10));
+		this.properties.setMaxPoolSize(30);
+
+		this.advisor = new PoolSizeAdvisor(() -> pool, CONFIGURED_POOL_SIZE, properties);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		advisor.shutdown();
+	}
+
+	@Test
+	@DisplayName("기록이 없으면 지금 풀 크기를 그대로 추천한다")
+	public void testAdviseWithoutSamples() {
+		PoolSizeAdvisor notStarted = new PoolSizeAdvisor(() -> null, CONFIGURED_POOL_SIZE,
+			properties);
+		notStarted.sample();
+
+		PoolSizeAdvice advice = notStarted.advise();
+		notStarted.shutdown();
+
+		assertEquals(0, advice.getSamples());
+		assertEquals(CONFIGURED_POOL_SIZE, advice.getRecommendedMaximumPoolSize());
+	}
+
+	@Test
+	@DisplayName("동시 사용량의 95 번째 백분위수에 여유분을 곱한 크기를 추천한다")
+	public void testAdviseFromP95Demand() {
+		record(10, 5, 0);
+		record(1, 10, 5);
+
+		PoolSizeAdvice advice = advisor.advise();
+
+		assertEquals(10, advice.getSamples());
+		assertEquals(15, advice.getPeakDemand());
+		assertEquals(15, advice.getP95Demand());
+		assertEquals(0.1, advice.getPendingRatio(), 0.0001);
+		assertEquals(18, advice.getRecommendedMaximumPoolSize());
+		assertEquals(CONFIGURED_POOL_SIZE, advice.getConfiguredMaximumPoolSize());
+	}
+
+	@Test
+	@DisplayName("window 를 넘은 오래된 기록은 버린다")
+	public void testOldSamplesLeaveWindow() {
+		record(5, 10, 10);
+		record(10, 2, 0);
+
+		PoolSizeAdvice advice = advisor.advise();
+
+		assertEquals(10, advice.getSamples());
+		assertEquals(2, advice.getPeakDemand());
+		assertEquals(0.0, advice.getPendingRatio());
+		assertEquals(3, advice.getRecommendedMaximumPoolSize());
+	}
+
+	@Test
+	@DisplayName("max-pool-size 보다 크게 추천하지 않고, 추천값을 지표로 등록한다")
+	public void testRecommendationIsCapped() {
+		record(10, 10, 90);
+
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		advisor.bindTo(registry);
+
+		assertEquals(30, advisor.advise().getRecommendedMaximumPoolSize());
+		assertEquals(30.0, registry.get("datasource.pool.recommended").gauge().value());
+		assertEquals(30, new PoolSizeEndpoint(advisor).poolSize().getRecommendedMaximumPoolSize());
+	}
+
+	@Test
+	@DisplayName("잘못된 설정값으로는 생성할 수 없다")
+	public void testConstructorFailWithInvalidProperties() {
+		properties.setWindow(Duration.ofMinutes(1));
+
+		assertThrows(IllegalArgumentException.class,
+			() -> new PoolSizeAdvisor(() -> pool, CONFIGURED_POOL_SIZE, properties));
+	}
+
+	private void record(int count, int active, int pending) {
+		when(pool.getActiveConnections()).thenReturn(active);
+		when(pool.getThreadsAwaitingConnection()).thenReturn(pending);
+
+		for (int i = 0; i < count; i++) {
+			advisor.sample();
+		}
+	}
+}
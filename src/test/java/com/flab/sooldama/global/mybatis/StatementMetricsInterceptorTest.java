@@ -0,0 +1,162 @@
+package com.flab.sooldama.global.mybatis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.flab.sooldama.domain.product.dao.ProductMapper;
+import com.flab.sooldama.global.mybatis.StatementMetricsEndpoint.StatementReport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class StatementMetricsInterceptorTest {
+
+	private static final String SELECT_ID =
+		"com.flab.sooldama.domain.product.dao.ProductMapper.selectProducts";
+
+	private static final String INSERT_ID = "com.flab.sooldama.domain.user.dao.UserMapper.insertUser";
+
+	@Autowired
+	private ProductMapper productMapper;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private StatementMetricsEndpoint statementMetricsEndpoint;
+
+	@Test
+	@DisplayName("매퍼 구문을 실행하면 구문 이름으로 실행 시간과 조회한 행 수가 기록된다")
+	public void testMapperStatementIsTimed() {
+		long before = count(meterRegistry, "ProductMapper.selectProductById");
+
+		productMapper.selectProductById(1L);
+
+		assertEquals(before + 1, count(meterRegistry, "ProductMapper.selectProductById"));
+		StatementReport report = statementMetricsEndpoint.statements()
+			.get("ProductMapper.selectProductById");
+		assertEquals("select", report.getType());
+		assertEquals(before + 1, report.getCount());
+	}
+
+	@Test
+	@DisplayName("select 는 조회한 행 수를, update 는 변경한 행 수를 기록한다")
+	public void testRowsAreRecorded() throws Throwable {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		StatementMetricsInterceptor interceptor = new StatementMetricsInterceptor(registry,
+			new StatementMetricsProperties());
+
+		interceptor.intercept(invocation(SELECT_ID, SqlCommandType.SELECT, List.of(1, 2, 3)));
+		interceptor.intercept(invocation(INSERT_ID, SqlCommandType.INSERT, 1));
+
+		assertEquals(3.0, registry.get("mybatis.statement.rows")
+			.tag("statement", "ProductMapper.selectProducts").summary().totalAmount());
+		assertEquals(1.0, registry.get("mybatis.statement.rows")
+			.tag("statement", "UserMapper.insertUser").tag("type", "insert").summary().totalAmount());
+		assertEquals(0.0, registry.get("mybatis.statement.slow")
+			.tag("statement", "UserMapper.insertUser").counter().count());
+	}
+
+	@Test
+	@DisplayName("구문이 실패해도 실행 시간을 기록하고 예외를 그대로 던진다")
+	public void testFailedStatementIsTimed() throws Throwable {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		StatementMetricsInterceptor interceptor = new StatementMetricsInterceptor(registry,
+			new StatementMetricsProperties());
+		Invocation invocation = invocation(SELECT_ID, SqlCommandType.SELECT, List.of());
+		when(invocation.proceed()).thenReturn(List.of()).thenThrow(new IllegalStateException());
+
+		interceptor.intercept(invocation);
+		assertThrows(IllegalStateException.class, () -> interceptor.intercept(invocation));
+
+		assertEquals(2L, count(registry, "ProductMapper.selectProducts"));
+		assertEquals(1L, registry.get("mybatis.statement.rows").summary().count());
+	}
+
+	@Test
+	@DisplayName("slow-threshold 보다 오래 걸린 구문은 느린 실행으로 세고, 꼬리 지연 시간이 큰 구문부터 보여준다")
+	public void testSlowStatementIsCounted() throws Throwable {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		StatementMetricsProperties properties = new StatementMetricsProperties();
+		properties.setSlowThreshold(Duration.ZERO);
+		StatementMetricsInterceptor interceptor = new StatementMetricsInterceptor(registry,
+			properties);
+
+		Invocation fast = invocation(INSERT_ID, SqlCommandType.INSERT, 1);
+		Invocation slow = invocation(SELECT_ID, SqlCommandType.SELECT, List.of());
+		when(slow.proceed()).thenAnswer(ignored -> {
+			Thread.sleep(20L);
+			return List.of();
+		});
+
+		interceptor.intercept(fast);
+		interceptor.intercept(slow);
+
+		assertEquals(1.0, registry.get("mybatis.statement.slow")
+			.tag("statement", "ProductMapper.selectProducts").counter().count());
+		Map<String, StatementReport> reports = new StatementMetricsEndpoint(interceptor)
+			.statements();
+		assertEquals(List.of("ProductMapper.selectProducts", "UserMapper.insertUser"),
+			new ArrayList<>(reports.keySet()));
+		assertEquals(1L, reports.get("ProductMapper.selectProducts").getSlowCount());
+	}
+
+	@Test
+	@DisplayName("느린 구문 로그에는 바인딩한 값 대신 파라미터 이름만 남긴다")
+	public void testRedactParameters() {
+		Configuration configuration = new Configuration();
+		List<ParameterMapping> mappings = List.of(
+			new ParameterMapping.Builder(configuration, "email", String.class).build(),
+			new ParameterMapping.Builder(configuration, "offset", Integer.class).build());
+
+		assertEquals("[email=?, offset=?]", StatementMetricsInterceptor.redact(mappings));
+	}
+
+	@Test
+	@DisplayName("구문 아이디는 매퍼 이름과 메서드 이름만 남긴다")
+	public void testShortName() {
+		assertEquals("ProductMapper.selectProducts",
+			StatementMetricsInterceptor.shortName(SELECT_ID));
+		assertEquals("selectProducts", StatementMetricsInterceptor.shortName("selectProducts"));
+	}
+
+	private static Invocation invocation(String statementId, SqlCommandType type, Object result)
+		throws Throwable {
+		SqlSource sqlSource = parameter -> new BoundSql(
+			new Configuration(), "select * from product where id = ?", List.of(), parameter);
+		MappedStatement statement = new MappedStatement.Builder(new Configuration(), statementId,
+			sqlSource, type).build();
+		Invocation invocation = mock(Invocation.class);
+		when(invocation.getArgs()).thenReturn(new Object[]{statement, null});
+		when(invocation.proceed()).thenReturn(result);
+
+		return invocation;
+	}
+
+	private static long count(MeterRegistry registry, String statement) {
+		return registry.find(StatementMetricsInterceptor.METRIC_NAME)
+			.tag("statement", statement)
+			.timers().stream()
+			.mapToLong(timer -> timer.count())
+			.sum();
+	}
+}
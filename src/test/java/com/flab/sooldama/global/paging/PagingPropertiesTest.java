@@ -0,0 +1,48 @@
+package com.flab.sooldama.global.paging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.flab.sooldama.global.exception.InvalidPageSizeException;
+import com.flab.sooldama.global.paging.PagingProperties.Overflow;
+import com.flab.sooldama.global.paging.PagingProperties.Policy;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PagingPropertiesTest {
+
+	@Test
+	@DisplayName("페이지 크기를 요청하지 않으면 기본 크기를, 최대 크기를 넘으면 최대 크기를 사용한다")
+	public void testClampPolicy() {
+		Policy policy = new Policy();
+
+		assertEquals(20, policy.resolve(null));
+		assertEquals(50, policy.resolve(50));
+		assertEquals(100, policy.resolve(10000000));
+		assertThrows(InvalidPageSizeException.class, () -> policy.resolve(0));
+	}
+
+	@Test
+	@DisplayName("reject 정책은 최대 크기를 넘는 페이지 크기를 거절한다")
+	public void testRejectPolicy() {
+		Policy policy = new Policy();
+		policy.setMaxSize(10);
+		policy.setOverflow(Overflow.REJECT);
+
+		assertEquals(10, policy.resolve(10));
+		assertThrows(InvalidPageSizeException.class, () -> policy.resolve(11));
+	}
+
+	@Test
+	@DisplayName("정의하지 않은 엔드포인트에는 기본 정책을 적용한다")
+	public void testPolicyOfFallsBackToDefaults() {
+		PagingProperties properties = new PagingProperties();
+		Policy products = new Policy();
+		properties.setEndpoints(Map.of("products", products));
+
+		assertSame(products, properties.policyOf("products"));
+		assertSame(properties.getDefaults(), properties.policyOf("unknown"));
+	}
+}
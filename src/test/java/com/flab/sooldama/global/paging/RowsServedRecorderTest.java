@@ -0,0 +1,105 @@
+package com.flab.sooldama.global.paging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.flab.sooldama.global.auth.AuthService;
+import com.flab.sooldama.global.auth.AuthToken;
+import com.flab.sooldama.global.auth.AuthTokenCodec;
+import com.flab.sooldama.global.auth.SessionAuthenticator;
+import com.flab.sooldama.global.auth.TokenAuthenticator;
+import com.flab.sooldama.global.auth.TokenRevocationList;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class RowsServedRecorderTest {
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private RowsServedRecorder rowsServedRecorder;
+
+	private static final String SESSION_ATTR_KEY_FOR_AUTH = "USER_EMAIL";
+
+	@BeforeEach
+	public void setUp() {
+		this.meterRegistry = new SimpleMeterRegistry();
+		AuthService authService = new AuthService();
+		this.rowsServedRecorder = new RowsServedRecorder(authService,
+			new SessionAuthenticator(authService), meterRegistry, new PagingProperties());
+	}
+
+	@AfterEach
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	@DisplayName("로그인한 사용자별로 가져간 행 수를 세고, 많이 가져간 순서대로 반환한다")
+	public void testRecordCountsRowsPerClient() {
+		rowsServedRecorder.record(session("light@tester.com"), "products", 5);
+		rowsServedRecorder.record(session("heavy@tester.com"), "products", 100);
+		rowsServedRecorder.record(session("heavy@tester.com"), "products-after", 20);
+
+		Map<String, Long> top = rowsServedRecorder.top(1);
+
+		assertEquals(Map.of("heavy@tester.com", 120L), top);
+		assertEquals(105.0, meterRegistry.get("paging.rows.served")
+			.tag("endpoint", "products").counter().count());
+	}
+
+	@Test
+	@DisplayName("로그인하지 않은 사용자는 anonymous 로 센다")
+	public void testRecordCountsAnonymousClient() {
+		rowsServedRecorder.record(new MockHttpSession(), "products", 3);
+		rowsServedRecorder.record(null, "products", 4);
+
+		RowsServedEndpoint endpoint = new RowsServedEndpoint(rowsServedRecorder);
+
+		assertEquals(List.of(RowsServedRecorder.ANONYMOUS),
+			List.copyOf(endpoint.topClients(null).keySet()));
+		assertEquals(7L, endpoint.topClients(10).get(RowsServedRecorder.ANONYMOUS));
+	}
+
+	@Test
+	@DisplayName("토큰으로 로그인한 사용자는 세션이 없어도 이메일로 센다")
+	public void testRecordCountsTokenClientByEmail() {
+		Clock clock = Clock.systemUTC();
+		TokenAuthenticator authenticator = new TokenAuthenticator(new AuthTokenCodec(
+			Map.of("k1", "signing-key-that-is-at-least-32-bytes".getBytes(StandardCharsets.UTF_8)),
+			"k1", Duration.ofMinutes(30), clock), new TokenRevocationList(100, clock));
+		RowsServedRecorder tokenRecorder = new RowsServedRecorder(new AuthService(),
+			authenticator, meterRegistry, new PagingProperties());
+		AuthToken token = authenticator.signIn(new MockHttpServletRequest(), 1L,
+			"token@tester.com");
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token.getValue());
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+		tokenRecorder.record(null, "products", 5);
+
+		RequestContextHolder.setRequestAttributes(
+			new ServletRequestAttributes(new MockHttpServletRequest()));
+		tokenRecorder.record(null, "products", 2);
+
+		assertEquals(Map.of("token@tester.com", 5L,
+			RowsServedRecorder.ANONYMOUS + ":127.0.0.1", 2L), tokenRecorder.top(10));
+	}
+
+	private static MockHttpSession session(String email) {
+		MockHttpSession session = new MockHttpSession();
+		session.setAttribute(SESSION_ATTR_KEY_FOR_AUTH, email);
+		return session;
+	}
+}
@@ -0,0 +1,41 @@
+package com.flab.sooldama.global.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRateLimiterTest {
+
+	private static final Duration WINDOW = Duration.ofSeconds(60);
+
+	private final Clock clock = mock(Clock.class);
+
+	private InMemoryRateLimiter rateLimiter;
+
+	@BeforeEach
+	public void setUp() {
+		this.rateLimiter = new InMemoryRateLimiter(100, WINDOW, clock);
+	}
+
+	@Test
+	@DisplayName("윈도 안에서 limit 번까지 허용하고, 가장 오래된 시도가 윈도를 벗어나면 다시 허용한다")
+	public void testSlidingWindow() {
+		when(clock.millis()).thenReturn(0L);
+		assertEquals(0L, rateLimiter.tryAcquire("key", 2, WINDOW));
+
+		when(clock.millis()).thenReturn(10_000L);
+		assertEquals(0L, rateLimiter.tryAcquire("key", 2, WINDOW));
+		assertEquals(50_000L, rateLimiter.tryAcquire("key", 2, WINDOW));
+		assertEquals(0L, rateLimiter.tryAcquire("other-key", 2, WINDOW));
+
+		when(clock.millis()).thenReturn(60_000L);
+		assertEquals(0L, rateLimiter.tryAcquire("key", 2, WINDOW));
+		assertEquals(10_000L, rateLimiter.tryAcquire("key", 2, WINDOW));
+	}
+}
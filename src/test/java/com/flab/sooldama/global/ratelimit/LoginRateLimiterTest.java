@@ -0,0 +1,90 @@
+package com.flab.sooldama.global.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.flab.sooldama.global.exception.LoginThrottledException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import javax.servlet.DispatcherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class LoginRateLimiterTest {
+
+	private LoginRateLimitProperties properties;
+
+	private MeterRegistry meterRegistry;
+
+	private LoginRateLimiter loginRateLimiter;
+
+	@BeforeEach
+	public void setUp() {
+		this.properties = new LoginRateLimitProperties();
+		this.properties.setPerIp(new LoginRateLimitProperties.Limit(2, Duration.ofMinutes(1)));
+		this.properties.setPerEmail(new LoginRateLimitProperties.Limit(1, Duration.ofMinutes(1)));
+		this.meterRegistry = new SimpleMeterRegistry();
+		this.loginRateLimiter = new LoginRateLimiter(
+			new InMemoryRateLimiter(100, Duration.ofMinutes(1), Clock.systemUTC()), properties,
+			meterRegistry);
+	}
+
+	@Test
+	@DisplayName("대소문자만 다른 이메일도 같은 이메일로 세고, 제한을 넘으면 다시 시도할 수 있는 시간과 함께 거절한다")
+	public void testEmailLimit() {
+		loginRateLimiter.acquireForEmail("Test@Tester.com");
+
+		LoginThrottledException e = assertThrows(LoginThrottledException.class,
+			() -> loginRateLimiter.acquireForEmail("test@tester.com"));
+
+		assertEquals(60L, e.getRetryAfterSeconds());
+		assertEquals(1.0, attempts("email", "allowed"));
+		assertEquals(1.0, attempts("email", "throttled"));
+	}
+
+	@Test
+	@DisplayName("IP 마다 세고, ASYNC 로 다시 디스패치된 요청은 세지 않는다")
+	public void testInterceptorLimitsPerClientIp() {
+		LoginRateLimitInterceptor interceptor = new LoginRateLimitInterceptor(loginRateLimiter);
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setRemoteAddr("10.0.0.1");
+		MockHttpServletRequest asyncRequest = new MockHttpServletRequest();
+		asyncRequest.setRemoteAddr("10.0.0.1");
+		asyncRequest.setDispatcherType(DispatcherType.ASYNC);
+		MockHttpServletRequest anotherClient = new MockHttpServletRequest();
+		anotherClient.setRemoteAddr("10.0.0.2");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		interceptor.preHandle(request, response, null);
+		interceptor.preHandle(asyncRequest, response, null);
+		interceptor.preHandle(request, response, null);
+		interceptor.preHandle(anotherClient, response, null);
+
+		assertThrows(LoginThrottledException.class,
+			() -> interceptor.preHandle(request, response, null));
+		assertEquals(3.0, attempts("ip", "allowed"));
+		assertEquals(1.0, attempts("ip", "throttled"));
+	}
+
+	@Test
+	@DisplayName("제한을 끄면 세지 않는다")
+	public void testDisabled() {
+		properties.setEnabled(false);
+
+		for (int i = 0; i < 10; i++) {
+			assertDoesNotThrow(() -> loginRateLimiter.acquireForEmail("test@tester.com"));
+		}
+		assertEquals(0.0, attempts("email", "allowed"));
+	}
+
+	private double attempts(String scope, String outcome) {
+		return meterRegistry.get("login.attempts").tag("scope", scope).tag("outcome", outcome)
+			.counter().count();
+	}
+}
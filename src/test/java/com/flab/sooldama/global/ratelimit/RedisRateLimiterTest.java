@@ -0,0 +1,74 @@
+package com.flab.sooldama.global.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/*
+EmbeddedRedisConfig 가 띄운 내장 Redis 에서 Lua 스크립트로 시도 횟수를 셉니다.
+여러 서버는 같은 Redis 를 바라보는 RedisRateLimiter 를 하나 더 생성해서 흉내냅니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class RedisRateLimiterTest {
+
+	private static final String KEY = LoginRateLimiter.KEY_PREFIX + "test:redis";
+
+	private static final Duration WINDOW = Duration.ofMinutes(1);
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	@AfterEach
+	public void tearDown() {
+		stringRedisTemplate.delete(KEY);
+	}
+
+	@Test
+	@DisplayName("여러 서버가 함께 세서 limit 번을 넘으면 거절하고, 다시 시도할 때까지 남은 시간을 반환한다")
+	public void testNodesShareWindow() {
+		RedisRateLimiter node = new RedisRateLimiter(stringRedisTemplate, failingFallback());
+		RedisRateLimiter anotherNode = new RedisRateLimiter(stringRedisTemplate,
+			failingFallback());
+
+		assertEquals(0L, node.tryAcquire(KEY, 2, WINDOW));
+		assertEquals(0L, anotherNode.tryAcquire(KEY, 2, WINDOW));
+
+		long waitMillis = node.tryAcquire(KEY, 2, WINDOW);
+		assertTrue(waitMillis > 0 && waitMillis <= WINDOW.toMillis());
+		assertEquals(2L, stringRedisTemplate.opsForZSet().zCard(KEY));
+		assertTrue(stringRedisTemplate.getExpire(KEY) > 0);
+	}
+
+	@Test
+	@DisplayName("Redis 에 연결할 수 없으면 서버 메모리로 센다")
+	public void testFallsBackToMemoryWhenRedisFails() {
+		LettuceConnectionFactory unreachable = new LettuceConnectionFactory("localhost", 1);
+		unreachable.afterPropertiesSet();
+		RedisRateLimiter rateLimiter = new RedisRateLimiter(new StringRedisTemplate(unreachable),
+			new InMemoryRateLimiter(100, WINDOW, Clock.systemUTC()));
+
+		try {
+			assertEquals(0L, rateLimiter.tryAcquire(KEY, 1, WINDOW));
+			assertTrue(rateLimiter.tryAcquire(KEY, 1, WINDOW) > 0);
+		} finally {
+			unreachable.destroy();
+		}
+	}
+
+	private static RateLimiter failingFallback() {
+		return (key, limit, window) -> {
+			throw new AssertionError("Redis 가 정상이면 fallback 을 사용하지 않습니다");
+		};
+	}
+}
@@ -0,0 +1,212 @@
+package com.flab.sooldama.global.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.session.MapSession;
+import org.springframework.session.MapSessionRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CachingSessionRepositoryTest {
+
+	private static final String USER_EMAIL = "USER_EMAIL";
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	private MapSessionRepository delegate;
+
+	private CachingSessionRepository<MapSession> sessionRepository;
+
+	@BeforeEach
+	public void setUp() {
+		SessionCacheProperties properties = new SessionCacheProperties();
+		properties.setFlushInterval(Duration.ofHours(1));
+
+		this.delegate = spy(new MapSessionRepository(new ConcurrentHashMap<>()));
+		this.sessionRepository = new CachingSessionRepository<>(delegate, stringRedisTemplate,
+			properties, new SessionExpiryProperties());
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sessionRepository.shutdown();
+	}
+
+	@Test
+	@DisplayName("저장한 세션은 세션 저장소를 조회하지 않고 캐시에서 가져온다")
+	public void testFindByIdReturnsCachedSession() {
+		String id = login("test@tester.com");
+
+		CachedSession<MapSession> session = sessionRepository.findById(id);
+
+		assertEquals("test@tester.com", session.getAttribute(USER_EMAIL));
+		assertEquals(Set.of(USER_EMAIL), session.getAttributeNames());
+		assertFalse(session.isExpired());
+		verify(delegate, never()).findById(anyString());
+		verify(stringRedisTemplate, never()).convertAndSend(anyString(), any());
+	}
+
+	@Test
+	@DisplayName("마지막 접근 시각만 바뀐 세션은 모아두었다가 세션마다 한 번 저장한다")
+	public void testAccessTimeIsFlushedOncePerSession() {
+		String id = login("test@tester.com");
+		clearInvocations(delegate);
+		Instant lastAccessedTime = Instant.now().plusSeconds(5);
+
+		for (int i = 0; i < 10; i++) {
+			CachedSession<MapSession> session = sessionRepository.findById(id);
+			session.setLastAccessedTime(lastAccessedTime.minusSeconds(i));
+			sessionRepository.save(session);
+		}
+
+		verify(delegate, never()).save(any());
+		assertEquals(1, sessionRepository.pendingCount());
+		assertEquals(lastAccessedTime, sessionRepository.findById(id).getLastAccessedTime());
+
+		sessionRepository.flush();
+
+		verify(delegate, times(1)).save(any());
+		assertEquals(0, sessionRepository.pendingCount());
+		assertEquals(lastAccessedTime, delegate.findById(id).getLastAccessedTime());
+	}
+
+	@Test
+	@DisplayName("만료 시각을 늘리지 않는 정책이면 마지막 접근 시각을 저장하지 않는다")
+	public void testFixedExpiryDoesNotTouchSession() {
+		SessionExpiryProperties expiryProperties = new SessionExpiryProperties();
+		expiryProperties.setPolicy(SessionExpiryProperties.Policy.FIXED);
+		CachingSessionRepository<MapSession> fixedRepository = new CachingSessionRepository<>(
+			delegate, stringRedisTemplate, new SessionCacheProperties(), expiryProperties);
+
+		CachedSession<MapSession> created = fixedRepository.createSession();
+		Instant createdAt = created.getLastAccessedTime();
+		fixedRepository.save(created);
+
+		CachedSession<MapSession> session = fixedRepository.findById(created.getId());
+		session.setLastAccessedTime(createdAt.plusSeconds(60));
+		session.setAttribute(USER_EMAIL, "test@tester.com");
+		fixedRepository.save(session);
+		fixedRepository.flush();
+
+		assertEquals(0, fixedRepository.pendingCount());
+		assertEquals(createdAt, delegate.findById(created.getId()).getLastAccessedTime());
+		assertEquals("test@tester.com", delegate.findById(created.getId()).getAttribute(USER_EMAIL));
+		fixedRepository.shutdown();
+	}
+
+	@Test
+	@DisplayName("속성을 바꾸면 바로 저장하고 다른 서버에 알린다")
+	public void testAttributeChangeIsSavedAndPublished() {
+		String id = login("test@tester.com");
+		sessionRepository.evictLocal(id);
+
+		CachedSession<MapSession> session = sessionRepository.findById(id);
+		session.setMaxInactiveInterval(Duration.ofMinutes(5));
+		session.removeAttribute(USER_EMAIL);
+		sessionRepository.save(session);
+
+		MapSession saved = delegate.findById(id);
+		assertNull(saved.getAttribute(USER_EMAIL));
+		assertEquals(Duration.ofMinutes(5), saved.getMaxInactiveInterval());
+		assertEquals(Duration.ofMinutes(5), session.getMaxInactiveInterval());
+		assertTrue(publishedMessage().endsWith("@" + id));
+	}
+
+	@Test
+	@DisplayName("자신이 보낸 무효화 메시지를 받으면 방금 캐시한 세션을 지우지 않는다")
+	public void testOwnInvalidationIsSkipped() {
+		String id = login("test@tester.com");
+		CachedSession<MapSession> session = sessionRepository.findById(id);
+		session.setAttribute(USER_EMAIL, "changed@tester.com");
+		sessionRepository.save(session);
+		clearInvocations(delegate);
+
+		new SessionCacheInvalidationListener(sessionRepository).onMessage(
+			messageOf(publishedMessage()), null);
+
+		assertEquals("changed@tester.com", sessionRepository.findById(id).getAttribute(USER_EMAIL));
+		verify(delegate, never()).findById(id);
+	}
+
+	@Test
+	@DisplayName("세션 아이디를 바꾸면 이전 아이디로는 조회되지 않는다")
+	public void testChangeSessionId() {
+		String id = login("test@tester.com");
+
+		CachedSession<MapSession> session = sessionRepository.findById(id);
+		String newId = session.changeSessionId();
+		sessionRepository.save(session);
+
+		assertNotEquals(id, newId);
+		assertNull(sessionRepository.findById(id));
+		assertEquals("test@tester.com", sessionRepository.findById(newId).getAttribute(USER_EMAIL));
+		assertEquals(session.getCreationTime(),
+			sessionRepository.findById(newId).getCreationTime());
+	}
+
+	@Test
+	@DisplayName("로그아웃하면 세션을 지우고 모든 서버의 캐시에서 지우도록 알린다")
+	public void testDeleteByIdEvictsEveryNode() {
+		String id = login("test@tester.com");
+		CachingSessionRepository<MapSession> anotherNode = new CachingSessionRepository<>(delegate,
+			stringRedisTemplate, new SessionCacheProperties(), new SessionExpiryProperties());
+		assertTrue(anotherNode.findById(id) != null);
+
+		sessionRepository.deleteById(id);
+		new SessionCacheInvalidationListener(anotherNode).onMessage(
+			messageOf(publishedMessage()), null);
+
+		assertNull(sessionRepository.findById(id));
+		assertNull(anotherNode.findById(id));
+		anotherNode.shutdown();
+	}
+
+	private String publishedMessage() {
+		ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+		verify(stringRedisTemplate).convertAndSend(
+			eq(CachingSessionRepository.INVALIDATION_CHANNEL), message.capture());
+
+		return message.getValue();
+	}
+
+	private DefaultMessage messageOf(String body) {
+		return new DefaultMessage(
+			CachingSessionRepository.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+			body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String login(String email) {
+		CachedSession<MapSession> session = sessionRepository.createSession();
+		session.setAttribute(USER_EMAIL, email);
+		sessionRepository.save(session);
+
+		return session.getId();
+	}
+}
@@ -0,0 +1,54 @@
+package com.flab.sooldama.global.session;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+class CompactSessionSerializerTest {
+
+	private final CompactSessionSerializer serializer = new CompactSessionSerializer();
+
+	@Test
+	@DisplayName("세션에 저장하는 값은 직렬화한 뒤 같은 값으로 읽는다")
+	public void testRoundTrip() {
+		for (Object value : new Object[]{"test@tester.com", "한글 이메일", 1664582400000L, 1800,
+			true, false, Instant.parse("2022-10-01T00:00:00Z")}) {
+			assertEquals(value, serializer.deserialize(serializer.serialize(value)));
+		}
+
+		assertEquals(0, serializer.serialize(null).length);
+		assertNull(serializer.deserialize(new byte[0]));
+		assertNull(serializer.deserialize(null));
+	}
+
+	@Test
+	@DisplayName("JDK 직렬화보다 작게 저장하고, JDK 직렬화로 저장된 값도 읽는다")
+	public void testSmallerThanAndCompatibleWithJdkSerialization() {
+		JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer();
+
+		assertEquals(9, serializer.serialize(1664582400000L).length);
+		assertTrue(serializer.serialize("test@tester.com").length
+			< jdk.serialize("test@tester.com").length);
+		assertEquals(1664582400000L, serializer.deserialize(jdk.serialize(1664582400000L)));
+		assertEquals("test@tester.com", serializer.deserialize(jdk.serialize("test@tester.com")));
+	}
+
+	@Test
+	@DisplayName("압축 형식으로 쓰지 않으면 JDK 직렬화로 쓰고, 압축 형식으로 저장된 값은 계속 읽는다")
+	public void testWritesJdkSerializationUntilWriteCompactIsEnabled() {
+		CompactSessionSerializer readOnly = new CompactSessionSerializer(false);
+		JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer();
+
+		assertArrayEquals(jdk.serialize(1664582400000L), readOnly.serialize(1664582400000L));
+		assertEquals(1664582400000L, jdk.deserialize(readOnly.serialize(1664582400000L)));
+		assertEquals(1664582400000L, readOnly.deserialize(serializer.serialize(1664582400000L)));
+		assertEquals("test@tester.com",
+			readOnly.deserialize(serializer.serialize("test@tester.com")));
+	}
+}
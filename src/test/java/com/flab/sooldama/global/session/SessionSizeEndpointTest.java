@@ -0,0 +1,111 @@
+package com.flab.sooldama.global.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.flab.sooldama.global.session.SessionSizeEndpoint.SessionSizeReport;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+import org.springframework.test.context.ActiveProfiles;
+
+/*
+EmbeddedRedisConfig 가 띄운 내장 Redis 에 세션을 저장하고 크기를 확인합니다.
+다른 데이터와 섞이지 않도록 세션 키 접두어를 따로 정합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class SessionSizeEndpointTest {
+
+	private static final String SESSION_KEY_NAMESPACE = "sooldama:test:session-size";
+
+	@Autowired
+	private RedisConnectionFactory redisConnectionFactory;
+
+	private RedisTemplate<Object, Object> keyTemplate;
+
+	private SessionSizeEndpoint endpoint;
+
+	@BeforeEach
+	public void setUp() {
+		this.keyTemplate = new RedisTemplate<>();
+		this.keyTemplate.setConnectionFactory(redisConnectionFactory);
+		this.keyTemplate.setKeySerializer(new StringRedisSerializer());
+		this.keyTemplate.afterPropertiesSet();
+
+		this.endpoint = new SessionSizeEndpoint(redisConnectionFactory, SESSION_KEY_NAMESPACE);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		Set<Object> keys = keyTemplate.keys(SESSION_KEY_NAMESPACE + ":*");
+		if (keys != null && !keys.isEmpty()) {
+			keyTemplate.delete(keys);
+		}
+	}
+
+	@Test
+	@DisplayName("압축 직렬화로 저장한 세션은 JDK 직렬화로 저장한 세션보다 작다")
+	public void testCompactSessionIsSmaller() {
+		saveSession(new JdkSerializationRedisSerializer());
+		SessionSizeReport jdk = endpoint.sessionSize(null, null);
+		tearDown();
+
+		saveSession(new CompactSessionSerializer());
+		SessionSizeReport compact = endpoint.sessionSize(null, 10_000L);
+
+		assertEquals(1, jdk.getSampledSessions());
+		assertNull(jdk.getEstimatedBytes());
+		assertEquals(1, compact.getSampledSessions());
+		assertEquals(compact.getAverageBytes(), compact.getMaxBytes());
+		assertEquals(compact.getAverageBytes() * 10_000L, compact.getEstimatedBytes());
+		assertTrue(compact.getAverageBytes() < jdk.getAverageBytes());
+	}
+
+	@Test
+	@DisplayName("세션이 없으면 크기는 0 이다")
+	public void testNoSessions() {
+		SessionSizeReport report = endpoint.sessionSize(10, 100L);
+
+		assertEquals(0, report.getSampledSessions());
+		assertEquals(0L, report.getEstimatedBytes());
+	}
+
+	private void saveSession(RedisSerializer<Object> serializer) {
+		RedisTemplate<Object, Object> sessionRedisTemplate = new RedisTemplate<>();
+		sessionRedisTemplate.setConnectionFactory(redisConnectionFactory);
+		sessionRedisTemplate.setKeySerializer(new StringRedisSerializer());
+		sessionRedisTemplate.setHashKeySerializer(new StringRedisSerializer());
+		sessionRedisTemplate.setHashValueSerializer(serializer);
+		sessionRedisTemplate.afterPropertiesSet();
+
+		RedisIndexedSessionRepository sessionRepository = new RedisIndexedSessionRepository(
+			sessionRedisTemplate);
+		sessionRepository.setRedisKeyNamespace(SESSION_KEY_NAMESPACE);
+		sessionRepository.setDefaultSerializer(serializer);
+
+		saveSession(sessionRepository);
+	}
+
+	/*
+	RedisIndexedSessionRepository 의 세션 타입(RedisSession)은 공개되어 있지 않아서, 타입 변수로 받아 저장합니다.
+	 */
+	private static <S extends Session> void saveSession(SessionRepository<S> sessionRepository) {
+		S session = sessionRepository.createSession();
+		session.setAttribute("USER_EMAIL", "test@tester.com");
+		sessionRepository.save(session);
+	}
+}
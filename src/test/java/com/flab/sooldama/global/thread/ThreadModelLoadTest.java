@@ -0,0 +1,150 @@
+package com.flab.sooldama.global.thread;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.flab.sooldama.SoolDamAApplication;
+import com.flab.sooldama.domain.product.service.ProductReadExecutor;
+import com.flab.sooldama.domain.user.password.PasswordHashingExecutor;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/*
+애플리케이션을 임의의 포트에 띄우고, 기본 설정(플랫폼 스레드)과 virtual-threads 프로필에서 같은 부하를 보내 결과를 비교합니다.
+CLIENTS 개의 클라이언트가 RUN_TIME 동안 제품 목록을 번갈아 요청하고, 처리량과 p99 응답 시간을 표준 출력에 남깁니다.
+제품 조회는 async 모드로 띄워서 요청 스레드와 조회 스레드 풀(ProductReadExecutor)을 모두 거치게 합니다.
+동시 처리 한도(AdmissionControlFilter)는 스레드 모델의 차이를 가리므로 끕니다.
+
+virtual-threads 프로필은 Java 21 이상에서만 실행하고, 그보다 낮은 버전에서는 건너뜁니다.
+실제 시간으로 측정하므로 ./gradlew loadTest 로 따로 실행합니다.
+ */
+@Tag("load")
+class ThreadModelLoadTest {
+
+	private static final int CLIENTS = 400;
+
+	private static final Duration RUN_TIME = Duration.ofSeconds(5);
+
+	private static final Duration WARM_UP_TIME = Duration.ofSeconds(2);
+
+	// 로그인하지 않고 요청할 수 있는 제품 목록 조회만 보냅니다.
+	private static final String[] PATHS = {"/products?offset=0&limit=10", "/products?offset=1&limit=10",
+		"/products?limit=10&categoryId=1"};
+
+	@Test
+	@DisplayName("기본 설정에서는 요청과 조회, 해시를 플랫폼 스레드에서 처리하고 모든 요청에 성공한다")
+	public void testPlatformThreads() throws Exception {
+		run("platform", false);
+	}
+
+	@Test
+	@DisplayName("virtual-threads 프로필에서는 요청과 조회, 해시를 가상 스레드에서 처리하고 모든 요청에 성공한다")
+	public void testVirtualThreads() throws Exception {
+		assumeTrue(VirtualThreads.isSupported());
+
+		run("virtual", true);
+	}
+
+	private void run(String threadModel, boolean virtualThreads) throws Exception {
+		SpringApplicationBuilder builder = new SpringApplicationBuilder(SoolDamAApplication.class)
+			.profiles("test");
+		if (virtualThreads) {
+			builder.profiles("virtual-threads");
+		}
+
+		// properties 로 넘기면 기본값으로만 쓰여서 application.yml 의 값을 덮어쓰지 못하므로 명령행 인자로 넘깁니다.
+		try (ConfigurableApplicationContext context = builder.run(
+			"--server.port=0",
+			"--product.read.mode=async",
+			"--product.cache.redis.enabled=false",
+			"--admission.enabled=false",
+			"--logging.level.root=WARN")) {
+			assertEquals(virtualThreads,
+				runsOnVirtualThread(context.getBean(ProductReadExecutor.class)));
+			assertEquals(virtualThreads,
+				runsOnVirtualThread(context.getBean(PasswordHashingExecutor.class)));
+
+			String baseUrl = "http://localhost:"
+				+ context.getEnvironment().getRequiredProperty("local.server.port");
+			load(baseUrl, WARM_UP_TIME);
+			LoadResult result = load(baseUrl, RUN_TIME);
+
+			System.out.printf("%s: %d requests, %.0f req/s, p50 %dms, p99 %dms, failed %d%n",
+				threadModel, result.latencies.size(),
+				result.latencies.size() / (double) RUN_TIME.toSeconds(),
+				result.percentile(0.50), result.percentile(0.99), result.failed.get());
+
+			assertTrue(result.latencies.size() > 0);
+			assertEquals(0, result.failed.get(), threadModel + " 에서 실패한 요청 수");
+		}
+	}
+
+	private static boolean runsOnVirtualThread(BoundedExecutor executor) throws Exception {
+		return VirtualThreads.isVirtual(
+			executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS));
+	}
+
+	private LoadResult load(String baseUrl, Duration duration) throws InterruptedException {
+		HttpClient client = HttpClient.newHttpClient();
+		LoadResult result = new LoadResult();
+		long deadline = System.nanoTime() + duration.toNanos();
+
+		ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+		for (int i = 0; i < CLIENTS; i++) {
+			int clientId = i;
+			clients.execute(() -> {
+				int sent = clientId;
+				while (System.nanoTime() < deadline) {
+					HttpRequest request = HttpRequest.newBuilder(
+						URI.create(baseUrl + PATHS[sent++ % PATHS.length])).build();
+					long start = System.nanoTime();
+					try {
+						HttpResponse<Void> response = client.send(request,
+							HttpResponse.BodyHandlers.discarding());
+						if (response.statusCode() != 200) {
+							result.failed.incrementAndGet();
+							continue;
+						}
+					} catch (Exception e) {
+						result.failed.incrementAndGet();
+						continue;
+					}
+					result.latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+				}
+			});
+		}
+		clients.shutdown();
+		clients.awaitTermination(duration.toMillis() * 10, TimeUnit.MILLISECONDS);
+
+		return result;
+	}
+
+	private static class LoadResult {
+
+		private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+
+		private final AtomicInteger failed = new AtomicInteger();
+
+		long percentile(double rank) {
+			List<Long> sorted = new ArrayList<>(latencies);
+			Collections.sort(sorted);
+			return sorted.get((int) Math.ceil(sorted.size() * rank) - 1);
+		}
+	}
+}
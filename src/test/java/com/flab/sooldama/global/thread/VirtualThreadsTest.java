@@ -0,0 +1,66 @@
+package com.flab.sooldama.global.thread;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/*
+실행 중인 JDK 버전에 따라 둘 중 하나의 테스트만 실행됩니다.
+ */
+class VirtualThreadsTest {
+
+	@Test
+	@DisplayName("Java 21 미만에서는 가상 스레드 실행기를 만들지 않고 예외를 던진다")
+	public void testUnsupportedRuntimeFailsFast() {
+		assumeFalse(VirtualThreads.isSupported());
+
+		assertThrows(IllegalStateException.class,
+			() -> VirtualThreads.newThreadPerTaskExecutor("test-virtual-"));
+		assertThrows(IllegalStateException.class,
+			() -> new BoundedExecutor("test.virtual", 1, 1, true, IllegalStateException::new,
+				new SimpleMeterRegistry()));
+		assertFalse(VirtualThreads.isVirtual(Thread.currentThread()));
+	}
+
+	@Test
+	@DisplayName("작업은 이름이 붙은 가상 스레드에서 실행된다")
+	public void testTaskRunsOnVirtualThread() throws Exception {
+		assumeTrue(VirtualThreads.isSupported());
+
+		ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("test-virtual-");
+		try {
+			Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+
+			assertTrue(VirtualThreads.isVirtual(thread));
+			assertTrue(thread.getName().startsWith("test-virtual-"));
+			assertFalse(VirtualThreads.isVirtual(Thread.currentThread()));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("virtualThreads 가 true 이면 크기가 정해진 풀의 작업도 가상 스레드에서 실행된다")
+	public void testBoundedExecutorRunsOnVirtualThread() throws Exception {
+		assumeTrue(VirtualThreads.isSupported());
+
+		BoundedExecutor executor = new BoundedExecutor("test.virtual", 1, 1, true,
+			IllegalStateException::new, new SimpleMeterRegistry());
+		try {
+			Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+
+			assertTrue(VirtualThreads.isVirtual(thread));
+			assertTrue(thread.getName().startsWith("test-virtual-"));
+		} finally {
+			executor.shutdown();
+		}
+	}
+}